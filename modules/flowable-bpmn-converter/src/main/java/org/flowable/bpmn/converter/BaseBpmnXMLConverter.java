@@ -483,6 +483,7 @@ public abstract class BaseBpmnXMLConverter implements BpmnXMLConstants {
             }
         }
         writeDefaultAttribute(ATTRIBUTE_MESSAGE_REF, messageRef, xtw);
+        writeQualifiedAttribute(ATTRIBUTE_MESSAGE_CORRELATION_KEY, messageDefinition.getCorrelationKey(), xtw);
         boolean didWriteExtensionStartElement = BpmnXMLUtil.writeExtensionElements(messageDefinition, false, xtw);
         if (didWriteExtensionStartElement) {
             xtw.writeEndElement();
@@ -38,6 +38,7 @@ public class MessageEventDefinitionParser extends BaseChildElementParser {
         BpmnXMLUtil.addXMLLocation(eventDefinition, xtr);
         eventDefinition.setMessageRef(xtr.getAttributeValue(null, ATTRIBUTE_MESSAGE_REF));
         eventDefinition.setMessageExpression(BpmnXMLUtil.getAttributeValue(ATTRIBUTE_MESSAGE_EXPRESSION, xtr));
+        eventDefinition.setCorrelationKey(BpmnXMLUtil.getAttributeValue(ATTRIBUTE_MESSAGE_CORRELATION_KEY, xtr));
 
         if (!StringUtils.isEmpty(eventDefinition.getMessageRef())) {
 
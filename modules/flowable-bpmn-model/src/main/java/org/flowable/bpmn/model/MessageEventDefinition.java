@@ -19,6 +19,7 @@ public class MessageEventDefinition extends EventDefinition {
 
     protected String messageRef;
     protected String messageExpression;
+    protected String correlationKey;
 
     public String getMessageRef() {
         return messageRef;
@@ -36,6 +37,18 @@ public class MessageEventDefinition extends EventDefinition {
         this.messageExpression = messageExpression;
     }
 
+    /**
+     * Expression evaluated when the message subscription is created. The resulting value is stored on the subscription so that a message can
+     * be delivered to it directly by name and correlation key.
+     */
+    public String getCorrelationKey() {
+        return correlationKey;
+    }
+
+    public void setCorrelationKey(String correlationKey) {
+        this.correlationKey = correlationKey;
+    }
+
     public MessageEventDefinition clone() {
         MessageEventDefinition clone = new MessageEventDefinition();
         clone.setValues(this);
@@ -46,5 +59,6 @@ public class MessageEventDefinition extends EventDefinition {
         super.setValues(otherDefinition);
         setMessageRef(otherDefinition.getMessageRef());
         setMessageExpression(otherDefinition.getMessageExpression());
+        setCorrelationKey(otherDefinition.getCorrelationKey());
     }
 }
@@ -0,0 +1,236 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.rest.api;
+
+import java.io.ByteArrayInputStream;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.Date;
+import java.util.List;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.flowable.engine.common.api.FlowableException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+
+/**
+ * Writes binary content directly to the servlet response, without buffering the content in memory. Supports a single byte range through
+ * the Range header and conditional requests through the ETag and Last-Modified headers.
+ * 
+ * When the content is read from a {@link FileInputStream}, the data is transferred with {@link FileChannel#transferTo(long, long, WritableByteChannel)}.
+ */
+public class ContentStreamUtil {
+
+    private static final int BUFFER_SIZE = 8192;
+
+    /**
+     * Writes the content to the response. The content type should already be set on the response. The content stream is always closed.
+     * 
+     * @param contentLength
+     *            the length of the content in bytes, or -1 when unknown. When unknown, the length is taken from the stream for file and byte
+     *            array streams, otherwise the content is written without range support.
+     * @param eTag
+     *            the entity tag of the content (without quotes), or null
+     * @param lastModified
+     *            the last modification time of the content, or null
+     */
+    public static void writeContent(HttpServletRequest request, HttpServletResponse response, InputStream contentStream,
+            long contentLength, String eTag, Date lastModified) {
+
+        try {
+            if (contentLength < 0) {
+                contentLength = getContentLength(contentStream);
+            }
+
+            String quotedETag = eTag != null ? "\"" + eTag + "\"" : null;
+            if (quotedETag != null) {
+                response.setHeader(HttpHeaders.ETAG, quotedETag);
+            }
+            if (lastModified != null) {
+                response.setDateHeader(HttpHeaders.LAST_MODIFIED, lastModified.getTime());
+            }
+
+            if (isNotModified(request, quotedETag, lastModified)) {
+                response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+                return;
+            }
+
+            if (contentLength < 0) {
+                copy(contentStream, response.getOutputStream(), 0, Long.MAX_VALUE);
+                return;
+            }
+
+            response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+
+            long start = 0;
+            long end = contentLength - 1;
+            HttpRange range = getRequestedRange(request, quotedETag, lastModified);
+            if (range != null) {
+                start = range.getRangeStart(contentLength);
+                end = range.getRangeEnd(contentLength);
+                if (start >= contentLength || start > end) {
+                    response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + contentLength);
+                    response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                    return;
+                }
+
+                response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + contentLength);
+            }
+
+            long length = end - start + 1;
+            response.setHeader(HttpHeaders.CONTENT_LENGTH, Long.toString(length));
+            if (length > 0) {
+                copy(contentStream, response.getOutputStream(), start, length);
+            }
+
+        } catch (IOException e) {
+            throw new FlowableException("Error writing content to the response", e);
+
+        } finally {
+            try {
+                contentStream.close();
+            } catch (IOException e) {
+                // ignore, the content has been written already
+            }
+        }
+    }
+
+    protected static long getContentLength(InputStream contentStream) throws IOException {
+        if (contentStream instanceof FileInputStream) {
+            FileChannel channel = ((FileInputStream) contentStream).getChannel();
+            return channel.size() - channel.position();
+
+        } else if (contentStream instanceof ByteArrayInputStream) {
+            // available() is exact for byte array streams
+            return contentStream.available();
+        }
+        return -1;
+    }
+
+    protected static boolean isNotModified(HttpServletRequest request, String quotedETag, Date lastModified) {
+        String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch != null) {
+            return quotedETag != null && matchesETag(ifNoneMatch, quotedETag);
+        }
+
+        if (lastModified != null) {
+            long ifModifiedSince = getDateHeader(request, HttpHeaders.IF_MODIFIED_SINCE);
+            // HTTP dates have a precision of seconds
+            return ifModifiedSince != -1 && lastModified.getTime() / 1000 <= ifModifiedSince / 1000;
+        }
+        return false;
+    }
+
+    protected static HttpRange getRequestedRange(HttpServletRequest request, String quotedETag, Date lastModified) {
+        String rangeHeader = request.getHeader(HttpHeaders.RANGE);
+        if (rangeHeader == null) {
+            return null;
+        }
+
+        // a range is only served when the content didn't change since the client got its part of it
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange != null) {
+            if (ifRange.startsWith("\"") || ifRange.startsWith("W/")) {
+                if (!ifRange.equals(quotedETag)) {
+                    return null;
+                }
+            } else {
+                long ifRangeDate = getDateHeader(request, HttpHeaders.IF_RANGE);
+                if (ifRangeDate == -1 || lastModified == null || lastModified.getTime() / 1000 != ifRangeDate / 1000) {
+                    return null;
+                }
+            }
+        }
+
+        try {
+            List<HttpRange> ranges = HttpRange.parseRanges(rangeHeader);
+            // multiple ranges are not supported, the full content is returned instead
+            if (ranges.size() == 1) {
+                return ranges.get(0);
+            }
+        } catch (IllegalArgumentException e) {
+            // an invalid range header is ignored
+        }
+        return null;
+    }
+
+    protected static boolean matchesETag(String headerValue, String quotedETag) {
+        for (String value : headerValue.split(",")) {
+            value = value.trim();
+            if (value.startsWith("W/")) {
+                value = value.substring(2);
+            }
+            if ("*".equals(value) || value.equals(quotedETag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    protected static long getDateHeader(HttpServletRequest request, String headerName) {
+        try {
+            return request.getDateHeader(headerName);
+        } catch (IllegalArgumentException e) {
+            return -1;
+        }
+    }
+
+    protected static void copy(InputStream input, OutputStream output, long start, long length) throws IOException {
+        if (input instanceof FileInputStream) {
+            FileChannel channel = ((FileInputStream) input).getChannel();
+            WritableByteChannel target = Channels.newChannel(output);
+            long position = channel.position() + start;
+            long remaining = Math.min(length, channel.size() - position);
+            while (remaining > 0) {
+                long transferred = channel.transferTo(position, remaining, target);
+                if (transferred <= 0) {
+                    break;
+                }
+                position += transferred;
+                remaining -= transferred;
+            }
+            return;
+        }
+
+        long toSkip = start;
+        while (toSkip > 0) {
+            long skipped = input.skip(toSkip);
+            if (skipped <= 0) {
+                if (input.read() == -1) {
+                    return;
+                }
+                skipped = 1;
+            }
+            toSkip -= skipped;
+        }
+
+        byte[] buffer = new byte[BUFFER_SIZE];
+        long remaining = length;
+        while (remaining > 0) {
+            int read = input.read(buffer, 0, (int) Math.min(buffer.length, remaining));
+            if (read == -1) {
+                break;
+            }
+            output.write(buffer, 0, read);
+            remaining -= read;
+        }
+    }
+}
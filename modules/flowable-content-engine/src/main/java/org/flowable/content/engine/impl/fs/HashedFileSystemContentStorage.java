@@ -0,0 +1,344 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.content.engine.impl.fs;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Map;
+
+import org.flowable.content.api.ContentNotFoundException;
+import org.flowable.content.api.ContentObject;
+import org.flowable.content.api.ContentStorage;
+import org.flowable.content.api.ContentStorageException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.uuid.EthernetAddress;
+import com.fasterxml.uuid.Generators;
+import com.fasterxml.uuid.impl.TimeBasedGenerator;
+
+/**
+ * Implementation of the {@link ContentStorage} that stores content addressed by the SHA-256 digest of its bytes.
+ * 
+ * The content files are spread over a multi-level folder structure, using the first characters of the digest as folder names (eg.
+ * 'hashed-content/3a/7f/3a7f...'), so no single folder grows beyond a few thousand entries. Identical content is only stored once: every
+ * {@link ContentObject} created for it gets its own id and is registered as a reference next to the content file. The content file is
+ * removed when its last reference is deleted.
+ * 
+ * Ids of content created by the {@link SimpleFileSystemContentStorage} in the same root folder are resolved through that storage, so
+ * existing content stays available after switching.
+ * 
+ * The references of a content file are guarded by a lock within this storage instance. Multiple engines sharing the same root folder
+ * should not delete and create the same content at the same time.
+ */
+public class HashedFileSystemContentStorage implements ContentStorage {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(HashedFileSystemContentStorage.class);
+
+    private static final TimeBasedGenerator UUID_GENERATOR = Generators.timeBasedGenerator(EthernetAddress.fromInterface());
+
+    private static final char[] HEX_CHARACTERS = "0123456789abcdef".toCharArray();
+
+    private static final int BUFFER_SIZE = 8192;
+    private static final int LOCK_STRIPES = 64;
+
+    public static final String HASHED_CONTENT_FOLDER = "hashed-content";
+    public static final String TEMP_FOLDER = "temp";
+    public static final String REFERENCES_SUFFIX = ".refs";
+
+    public static final String HASH_PREFIX = "hash";
+
+    protected File contentFolderRoot;
+    protected File hashedContentFolder;
+    protected File tempFolder;
+
+    /**
+     * Number of folder levels between the hashed content folder and the content files. Every level uses two characters of the digest, so
+     * it holds at most 256 folders.
+     */
+    protected int folderLevels;
+
+    /**
+     * When true, content and references are forced to the storage device before the content object is returned.
+     */
+    protected boolean forceWrites;
+
+    protected ContentStorage compatibilityStorage;
+
+    protected Object[] locks = new Object[LOCK_STRIPES];
+
+    public HashedFileSystemContentStorage(File contentFolderRoot) {
+        this(contentFolderRoot, 2, false);
+    }
+
+    public HashedFileSystemContentStorage(File contentFolderRoot, int folderLevels, boolean forceWrites) {
+        if (folderLevels < 0 || folderLevels > 16) {
+            throw new ContentStorageException("The number of folder levels should be between 0 and 16");
+        }
+
+        this.contentFolderRoot = contentFolderRoot;
+        this.folderLevels = folderLevels;
+        this.forceWrites = forceWrites;
+        for (int i = 0; i < locks.length; i++) {
+            locks[i] = new Object();
+        }
+
+        this.hashedContentFolder = validateOrCreateFolder(new File(contentFolderRoot, HASHED_CONTENT_FOLDER));
+        this.tempFolder = validateOrCreateFolder(new File(hashedContentFolder, TEMP_FOLDER));
+        this.compatibilityStorage = new SimpleFileSystemContentStorage(contentFolderRoot);
+    }
+
+    protected File validateOrCreateFolder(File folder) {
+        if (!folder.exists()) {
+            if (folder.mkdirs()) {
+                LOGGER.info("Created content folder in {}", folder.getAbsolutePath());
+            } else {
+                LOGGER.warn("Could not create content folder {}. This might impact the storage of related content", folder.getAbsolutePath());
+            }
+        }
+        return folder;
+    }
+
+    @Override
+    public ContentObject createContentObject(InputStream contentStream, Map<String, Object> metaData) {
+        File tempFile = new File(tempFolder, UUID_GENERATOR.generate().toString());
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            long length = writeContent(contentStream, tempFile, digest);
+            String hash = toHex(digest.digest());
+            String reference = UUID_GENERATOR.generate().toString();
+
+            File contentFile = getContentFile(hash);
+            synchronized (getLock(hash)) {
+                File referencesFolder = getReferencesFolder(contentFile);
+                if (!referencesFolder.exists() && !referencesFolder.mkdirs()) {
+                    throw new ContentStorageException("Could not create folder " + referencesFolder.getAbsolutePath());
+                }
+                File referenceFile = new File(referencesFolder, reference);
+                createReference(referenceFile);
+
+                if (contentFile.exists()) {
+                    LOGGER.debug("Content with hash {} already stored, adding reference {}", hash, reference);
+                } else {
+                    try {
+                        moveFile(tempFile, contentFile);
+                    } catch (IOException e) {
+                        referenceFile.delete();
+                        throw e;
+                    }
+                }
+            }
+
+            return new FileSystemContentObject(contentFile, generateContentId(hash, reference), length);
+
+        } catch (IOException e) {
+            throw new ContentStorageException("Could not write content to " + hashedContentFolder.getAbsolutePath(), e);
+
+        } catch (NoSuchAlgorithmException e) {
+            throw new ContentStorageException("SHA-256 is not supported by the JVM", e);
+
+        } finally {
+            if (tempFile.exists()) {
+                tempFile.delete();
+            }
+        }
+    }
+
+    /**
+     * Content can be shared with other content objects, so it can't be updated in place. Only content stored before switching to this
+     * storage can still be updated.
+     */
+    @Override
+    public ContentObject updateContentObject(String id, InputStream contentStream, Map<String, Object> metaData) {
+        if (!isHashedContentId(id)) {
+            return compatibilityStorage.updateContentObject(id, contentStream, metaData);
+        }
+        throw new ContentStorageException("Cannot update content with id " + id + ", hashed content can be shared and is never updated");
+    }
+
+    @Override
+    public ContentObject getContentObject(String id) {
+        if (!isHashedContentId(id)) {
+            return compatibilityStorage.getContentObject(id);
+        }
+
+        getExistingReferenceFile(id);
+        return new FileSystemContentObject(getContentFile(getHash(id)), id);
+    }
+
+    @Override
+    public Map<String, Object> getMetaData() {
+        // Currently not yet supported
+        return null;
+    }
+
+    @Override
+    public void deleteContentObject(String id) {
+        if (!isHashedContentId(id)) {
+            compatibilityStorage.deleteContentObject(id);
+            return;
+        }
+
+        String hash = getHash(id);
+        File contentFile = getContentFile(hash);
+        File referencesFolder = getReferencesFolder(contentFile);
+        synchronized (getLock(hash)) {
+            File referenceFile = getExistingReferenceFile(id);
+            if (!referenceFile.delete()) {
+                throw new ContentStorageException("Error while deleting content reference " + referenceFile.getAbsolutePath());
+            }
+
+            String[] remainingReferences = referencesFolder.list();
+            if (remainingReferences == null || remainingReferences.length == 0) {
+                contentFile.delete();
+                referencesFolder.delete();
+            }
+        }
+    }
+
+    @Override
+    public String getContentStoreName() {
+        return "file";
+    }
+
+    /**
+     * @return the number of content objects sharing the content with the given SHA-256 digest.
+     */
+    public int getReferenceCount(String hash) {
+        String[] references = getReferencesFolder(getContentFile(hash)).list();
+        return references != null ? references.length : 0;
+    }
+
+    protected long writeContent(InputStream contentStream, File file, MessageDigest digest) throws IOException {
+        long length = 0;
+        FileOutputStream outputStream = new FileOutputStream(file, false);
+        try {
+            FileChannel channel = outputStream.getChannel();
+            byte[] buffer = new byte[BUFFER_SIZE];
+            int read;
+            while ((read = contentStream.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+                ByteBuffer byteBuffer = ByteBuffer.wrap(buffer, 0, read);
+                while (byteBuffer.hasRemaining()) {
+                    channel.write(byteBuffer);
+                }
+                length += read;
+            }
+
+            if (forceWrites) {
+                channel.force(true);
+            }
+
+        } finally {
+            outputStream.close();
+        }
+        return length;
+    }
+
+    protected void createReference(File referenceFile) throws IOException {
+        FileOutputStream outputStream = new FileOutputStream(referenceFile, false);
+        try {
+            if (forceWrites) {
+                outputStream.getChannel().force(true);
+            }
+        } finally {
+            outputStream.close();
+        }
+    }
+
+    protected void moveFile(File source, File target) throws IOException {
+        File parentFolder = target.getParentFile();
+        if (!parentFolder.exists() && !parentFolder.mkdirs() && !parentFolder.exists()) {
+            throw new ContentStorageException("Could not create folder " + parentFolder.getAbsolutePath());
+        }
+
+        try {
+            Files.move(source.toPath(), target.toPath(), StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source.toPath(), target.toPath());
+        }
+    }
+
+    protected String generateContentId(String hash, String reference) {
+        return HASH_PREFIX + "." + hash + "." + reference;
+    }
+
+    protected boolean isHashedContentId(String id) {
+        return id != null && id.startsWith(HASH_PREFIX + ".");
+    }
+
+    protected String getHash(String id) {
+        String[] ids = id.split("\\.");
+        if (ids.length != 3 || !isHash(ids[1])) {
+            throw new ContentNotFoundException("No content found for id " + id);
+        }
+        return ids[1];
+    }
+
+    protected boolean isHash(String value) {
+        if (value.length() != 64) {
+            return false;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if ((c < '0' || c > '9') && (c < 'a' || c > 'f')) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    protected File getExistingReferenceFile(String id) {
+        String reference = id.substring(id.lastIndexOf('.') + 1);
+        File referenceFile = new File(getReferencesFolder(getContentFile(getHash(id))), reference);
+        if (!referenceFile.exists()) {
+            throw new ContentNotFoundException("No content found for id " + id);
+        }
+        return referenceFile;
+    }
+
+    protected File getContentFile(String hash) {
+        File folder = hashedContentFolder;
+        for (int level = 0; level < folderLevels; level++) {
+            folder = new File(folder, hash.substring(level * 2, level * 2 + 2));
+        }
+        return new File(folder, hash);
+    }
+
+    protected File getReferencesFolder(File contentFile) {
+        return new File(contentFile.getParentFile(), contentFile.getName() + REFERENCES_SUFFIX);
+    }
+
+    protected Object getLock(String hash) {
+        return locks[(hash.hashCode() & Integer.MAX_VALUE) % locks.length];
+    }
+
+    protected String toHex(byte[] bytes) {
+        char[] hex = new char[bytes.length * 2];
+        for (int i = 0; i < bytes.length; i++) {
+            hex[i * 2] = HEX_CHARACTERS[(bytes[i] >> 4) & 0x0f];
+            hex[i * 2 + 1] = HEX_CHARACTERS[bytes[i] & 0x0f];
+        }
+        return new String(hex);
+    }
+
+}
@@ -0,0 +1,142 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.content.engine.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.IOUtils;
+import org.flowable.content.api.ContentMetaDataKeys;
+import org.flowable.content.api.ContentNotFoundException;
+import org.flowable.content.api.ContentObject;
+import org.flowable.content.api.ContentStorageException;
+import org.flowable.content.engine.impl.fs.HashedFileSystemContentStorage;
+import org.flowable.content.engine.impl.fs.SimpleFileSystemContentStorage;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class HashedFileSystemContentStorageTest {
+
+    protected File rootFolder;
+    protected HashedFileSystemContentStorage contentStorage;
+
+    @Before
+    public void createStorage() throws Exception {
+        rootFolder = new File(System.getProperty("java.io.tmpdir"), "flowable-hashed-content-" + System.nanoTime());
+        rootFolder.mkdirs();
+        contentStorage = new HashedFileSystemContentStorage(rootFolder, 2, true);
+    }
+
+    @After
+    public void deleteStorage() throws Exception {
+        FileUtils.deleteDirectory(rootFolder);
+    }
+
+    @Test
+    public void identicalContentIsStoredOnce() throws Exception {
+        ContentObject first = contentStorage.createContentObject(stream("hello"), new HashMap<String, Object>());
+        ContentObject second = contentStorage.createContentObject(stream("hello"), new HashMap<String, Object>());
+        assertNotEquals(first.getId(), second.getId());
+        assertEquals(5, first.getContentLength());
+
+        // sha-256 of 'hello', sharded on the first two pairs of characters
+        String hash = "2cf24dba5fb0a30e26e83b2ac5b9e29e1b161e5c1fa7425e73043362938b9824";
+        File contentFile = new File(rootFolder, "hashed-content/2c/f2/" + hash);
+        assertTrue(contentFile.exists());
+        assertEquals(2, contentStorage.getReferenceCount(hash));
+        assertEquals("hello", read(contentStorage.getContentObject(second.getId())));
+
+        contentStorage.deleteContentObject(first.getId());
+        assertEquals(1, contentStorage.getReferenceCount(hash));
+        assertTrue(contentFile.exists());
+        assertEquals("hello", read(contentStorage.getContentObject(second.getId())));
+
+        try {
+            contentStorage.getContentObject(first.getId());
+            fail("Expected content not found exception");
+        } catch (ContentNotFoundException e) {
+            // expected
+        }
+
+        contentStorage.deleteContentObject(second.getId());
+        assertEquals(0, contentStorage.getReferenceCount(hash));
+        assertFalse(contentFile.exists());
+    }
+
+    @Test
+    public void updateContentObject() throws Exception {
+        ContentObject contentObject = contentStorage.createContentObject(stream("hello"), new HashMap<String, Object>());
+        try {
+            contentStorage.updateContentObject(contentObject.getId(), stream("hello world"), new HashMap<String, Object>());
+            fail("Expected content storage exception");
+        } catch (ContentStorageException e) {
+            // expected
+        }
+
+        assertEquals("hello", read(contentStorage.getContentObject(contentObject.getId())));
+    }
+
+    @Test
+    public void getContentObjectWithInvalidHash() throws Exception {
+        ContentObject contentObject = contentStorage.createContentObject(stream("hello"), new HashMap<String, Object>());
+        String[] ids = contentObject.getId().split("\\.");
+        try {
+            contentStorage.getContentObject(ids[0] + "." + ids[1].toUpperCase() + "." + ids[2]);
+            fail("Expected content not found exception");
+        } catch (ContentNotFoundException e) {
+            // expected
+        }
+        try {
+            contentStorage.getContentObject(ids[0] + ".zz" + ids[1].substring(2) + "." + ids[2]);
+            fail("Expected content not found exception");
+        } catch (ContentNotFoundException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void resolveSimpleFileSystemContent() throws Exception {
+        Map<String, Object> metaData = new HashMap<String, Object>();
+        metaData.put(ContentMetaDataKeys.TASK_ID, "123");
+        ContentObject contentObject = new SimpleFileSystemContentStorage(rootFolder).createContentObject(stream("hello"), metaData);
+
+        assertEquals("hello", read(contentStorage.getContentObject(contentObject.getId())));
+
+        contentStorage.deleteContentObject(contentObject.getId());
+        assertFalse(new File(rootFolder, "task-content/123").exists());
+    }
+
+    protected InputStream stream(String content) {
+        return new ByteArrayInputStream(content.getBytes());
+    }
+
+    protected String read(ContentObject contentObject) throws Exception {
+        InputStream contentStream = contentObject.getContent();
+        try {
+            return IOUtils.toString(contentStream);
+        } finally {
+            contentStream.close();
+        }
+    }
+}
@@ -19,17 +19,15 @@ import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
 import io.swagger.annotations.Authorization;
-import org.apache.commons.io.IOUtils;
 import org.flowable.content.api.ContentItem;
 import org.flowable.engine.common.api.FlowableException;
 import org.flowable.engine.common.api.FlowableIllegalArgumentException;
 import org.flowable.engine.common.api.FlowableObjectNotFoundException;
+import org.flowable.rest.api.ContentStreamUtil;
 import org.flowable.rest.content.ContentRestResponseFactory;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
-import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
@@ -57,10 +55,13 @@ public class ContentItemDataResource extends ContentItemBaseResource {
             "Content item" }, notes = "The response body contains the binary content. By default, the content-type of the response is set to application/octet-stream unless the content item type contains a valid mime type.")
     @ApiResponses(value = {
             @ApiResponse(code = 200, message = "Indicates the content item was found and the requested content is returned."),
+            @ApiResponse(code = 206, message = "Indicates the content item was found and the requested range of the content is returned."),
+            @ApiResponse(code = 304, message = "Indicates the content item data didn't change since the version known to the client."),
             @ApiResponse(code = 404, message = "Indicates the content item was not found or the content item doesn’t have a binary stream available. Status message provides additional information.")
     })
     @RequestMapping(value = "/content-service/content-items/{contentItemId}/data", method = RequestMethod.GET)
-    public ResponseEntity<byte[]> getContentItemData(@ApiParam(name = "contentItemId") @PathVariable("contentItemId") String contentItemId, HttpServletResponse response) {
+    public void getContentItemData(@ApiParam(name = "contentItemId") @PathVariable("contentItemId") String contentItemId,
+            HttpServletRequest request, HttpServletResponse response) {
 
         ContentItem contentItem = getContentItemFromRequest(contentItemId);
         if (!contentItem.isContentAvailable()) {
@@ -72,26 +73,26 @@ public class ContentItemDataResource extends ContentItemBaseResource {
             throw new FlowableObjectNotFoundException("Content item with id '" + contentItemId + "' doesn't have content associated with it.");
         }
 
-        HttpHeaders responseHeaders = new HttpHeaders();
         MediaType mediaType = null;
         if (contentItem.getMimeType() != null) {
             try {
                 mediaType = MediaType.valueOf(contentItem.getMimeType());
-                responseHeaders.set("Content-Type", contentItem.getMimeType());
+                response.setContentType(contentItem.getMimeType());
             } catch (Exception e) {
                 // ignore if unknown media type
             }
         }
 
         if (mediaType == null) {
-            responseHeaders.set("Content-Type", "application/octet-stream");
+            response.setContentType("application/octet-stream");
         }
 
-        try {
-            return new ResponseEntity<byte[]>(IOUtils.toByteArray(dataStream), responseHeaders, HttpStatus.OK);
-        } catch (Exception e) {
-            throw new FlowableException("Error getting content item data " + contentItemId, e);
+        long contentLength = contentItem.getContentSize() != null ? contentItem.getContentSize() : -1;
+        String eTag = contentItem.getId();
+        if (contentItem.getLastModified() != null) {
+            eTag += "-" + contentItem.getLastModified().getTime();
         }
+        ContentStreamUtil.writeContent(request, response, dataStream, contentLength, eTag, contentItem.getLastModified());
     }
 
     @ApiOperation(value = "Save the content item data", tags = { "Content item" }, notes = "## Save the content item data with an attached file\n\n"
@@ -0,0 +1,129 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.crystalball.simulator;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+import org.flowable.engine.common.api.FlowableException;
+import org.flowable.engine.common.runtime.ClockReader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@link EventCalendar} keeping the events in a binary heap: adding and removing an event takes O(log n) instead of the O(n) of the
+ * {@link SimpleEventCalendar}, which makes a difference for simulations with a large number of events.
+ * 
+ * Events that are equal according to the event comparator are returned in the order in which they were added, just like with the
+ * {@link SimpleEventCalendar}.
+ */
+public class HeapEventCalendar implements EventCalendar {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(HeapEventCalendar.class.getName());
+
+    protected PriorityQueue<ScheduledEvent> eventQueue;
+    protected Comparator<SimulationEvent> eventComparator;
+    protected final ClockReader clockReader;
+    protected long sequence;
+
+    public HeapEventCalendar(ClockReader clockReader, final Comparator<SimulationEvent> eventComparator) {
+        this.clockReader = clockReader;
+        this.eventComparator = eventComparator;
+        this.eventQueue = new PriorityQueue<ScheduledEvent>(11, new Comparator<ScheduledEvent>() {
+
+            @Override
+            public int compare(ScheduledEvent o1, ScheduledEvent o2) {
+                int result = eventComparator.compare(o1.event, o2.event);
+                if (result != 0) {
+                    return result;
+                }
+                return o1.sequence < o2.sequence ? -1 : (o1.sequence == o2.sequence ? 0 : 1);
+            }
+        });
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return eventQueue.isEmpty();
+    }
+
+    @Override
+    public SimulationEvent peekFirstEvent() {
+        ScheduledEvent first = eventQueue.peek();
+        return first != null ? first.event : null;
+    }
+
+    @Override
+    public SimulationEvent removeFirstEvent() {
+        ScheduledEvent first = eventQueue.poll();
+        if (first == null)
+            return null;
+
+        SimulationEvent minEvent = first.event;
+        if (minEvent.hasSimulationTime() && minEvent.getSimulationTime() < this.clockReader.getCurrentTime().getTime()) {
+            throw new FlowableException("Unable to execute event from the past");
+        }
+        return minEvent;
+    }
+
+    /**
+     * @return a copy of the scheduled events, in the order in which they will be removed from the calendar
+     */
+    @Override
+    public List<SimulationEvent> getEvents() {
+        List<ScheduledEvent> scheduledEvents = new ArrayList<ScheduledEvent>(eventQueue);
+        Collections.sort(scheduledEvents, eventQueue.comparator());
+
+        List<SimulationEvent> events = new ArrayList<SimulationEvent>(scheduledEvents.size());
+        for (ScheduledEvent scheduledEvent : scheduledEvents) {
+            events.add(scheduledEvent.event);
+        }
+        return events;
+    }
+
+    @Override
+    public void addEvent(SimulationEvent event) {
+        LOGGER.debug("Scheduling new event [{}]", event);
+        if (event == null)
+            throw new FlowableException("Unable to schedule a null event");
+
+        eventQueue.add(new ScheduledEvent(event, sequence++));
+    }
+
+    @Override
+    public void clear() {
+        eventQueue.clear();
+    }
+
+    public void addEvents(Collection<SimulationEvent> simulationEvents) {
+        for (SimulationEvent event : simulationEvents) {
+            addEvent(event);
+        }
+    }
+
+    protected static class ScheduledEvent {
+
+        protected final SimulationEvent event;
+        protected final long sequence;
+
+        public ScheduledEvent(SimulationEvent event, long sequence) {
+            this.event = event;
+            this.sequence = sequence;
+        }
+    }
+
+}
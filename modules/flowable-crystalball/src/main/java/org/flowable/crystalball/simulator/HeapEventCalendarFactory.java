@@ -0,0 +1,60 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.crystalball.simulator;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+
+import org.flowable.engine.common.runtime.ClockReader;
+import org.springframework.beans.factory.FactoryBean;
+
+/**
+ * Creates {@link HeapEventCalendar}s, the counterpart of the {@link SimpleEventCalendarFactory} for simulations with many events.
+ */
+public class HeapEventCalendarFactory implements FactoryBean<EventCalendar> {
+
+    protected final Collection<SimulationEvent> simulationEvents;
+    protected Comparator<SimulationEvent> eventComparator;
+    protected final ClockReader clockReader;
+
+    public HeapEventCalendarFactory(ClockReader clockReader, Comparator<SimulationEvent> eventComparator, Collection<SimulationEvent> simulationEvents) {
+        this.clockReader = clockReader;
+        this.eventComparator = eventComparator;
+        this.simulationEvents = simulationEvents;
+    }
+
+    public HeapEventCalendarFactory(ClockReader clockReader, Comparator<SimulationEvent> eventComparator) {
+        this.eventComparator = eventComparator;
+        this.clockReader = clockReader;
+        this.simulationEvents = Collections.emptyList();
+    }
+
+    @Override
+    public HeapEventCalendar getObject() {
+        HeapEventCalendar heapEventCalendar = new HeapEventCalendar(clockReader, eventComparator);
+        heapEventCalendar.addEvents(simulationEvents);
+        return heapEventCalendar;
+    }
+
+    @Override
+    public Class<?> getObjectType() {
+        return HeapEventCalendar.class;
+    }
+
+    @Override
+    public boolean isSingleton() {
+        return false;
+    }
+
+}
@@ -0,0 +1,87 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.crystalball.simulator.impl.clock;
+
+import java.util.Calendar;
+import java.util.Date;
+import java.util.GregorianCalendar;
+import java.util.TimeZone;
+
+import org.flowable.engine.common.impl.util.TimeZoneUtil;
+import org.flowable.engine.common.runtime.Clock;
+
+/**
+ * {@link Clock} keeping its current time in the instance, unlike the {@link org.flowable.engine.common.impl.util.DefaultClockImpl} which
+ * shares it between all instances. Needed when simulation runs with their own clocks are executed at the same time.
+ */
+public class SimulationClockImpl implements Clock {
+
+    protected TimeZone timeZone;
+    protected volatile Calendar currentTime;
+
+    public SimulationClockImpl() {
+    }
+
+    public SimulationClockImpl(TimeZone timeZone) {
+        this.timeZone = timeZone;
+    }
+
+    @Override
+    public void setCurrentTime(Date currentTime) {
+        Calendar time = null;
+
+        if (currentTime != null) {
+            time = (timeZone == null) ? new GregorianCalendar() : new GregorianCalendar(timeZone);
+            time.setTime(currentTime);
+        }
+
+        setCurrentCalendar(time);
+    }
+
+    @Override
+    public void setCurrentCalendar(Calendar currentTime) {
+        this.currentTime = currentTime;
+    }
+
+    @Override
+    public void reset() {
+        currentTime = null;
+    }
+
+    @Override
+    public Date getCurrentTime() {
+        Calendar time = currentTime;
+        return time == null ? new Date() : time.getTime();
+    }
+
+    @Override
+    public Calendar getCurrentCalendar() {
+        Calendar time = currentTime;
+        if (time == null) {
+            return (timeZone == null) ? new GregorianCalendar() : new GregorianCalendar(timeZone);
+        }
+
+        return (Calendar) time.clone();
+    }
+
+    @Override
+    public Calendar getCurrentCalendar(TimeZone timeZone) {
+        return TimeZoneUtil.convertToTimeZone(getCurrentCalendar(), timeZone);
+    }
+
+    @Override
+    public TimeZone getCurrentTimeZone() {
+        return getCurrentCalendar().getTimeZone();
+    }
+
+}
@@ -0,0 +1,274 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.crystalball.simulator.parallel;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.apache.ibatis.datasource.pooled.PooledDataSource;
+import org.flowable.crystalball.simulator.EventCalendar;
+import org.flowable.crystalball.simulator.HeapEventCalendar;
+import org.flowable.crystalball.simulator.SimUtils;
+import org.flowable.crystalball.simulator.SimpleSimulationRun;
+import org.flowable.crystalball.simulator.SimulationEvent;
+import org.flowable.crystalball.simulator.SimulationEventComparator;
+import org.flowable.crystalball.simulator.SimulationRunContext;
+import org.flowable.crystalball.simulator.impl.clock.SimulationClockImpl;
+import org.flowable.engine.HistoryService;
+import org.flowable.engine.common.api.FlowableException;
+import org.flowable.engine.common.runtime.Clock;
+import org.flowable.engine.history.HistoricProcessInstance;
+import org.flowable.engine.history.HistoricTaskInstance;
+import org.flowable.engine.impl.ProcessEngineImpl;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.cfg.StandaloneInMemProcessEngineConfiguration;
+import org.flowable.engine.impl.el.NoExecutionVariableScope;
+import org.flowable.engine.impl.history.HistoryLevel;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Executes many independent simulation runs of the same {@link SimulationScenario} in parallel, e.g. to compare different staffing levels
+ * or arrival rates, and aggregates their results in a {@link SimulationSummaryReport}.
+ * 
+ * Every run is executed by one thread from start to end, with its own in memory process engine, clock and event calendar. The random number
+ * generator of {@link SimUtils} is seeded with the seed of the run, so a run with the same parameters and seed gives the same results.
+ */
+public class ParallelSimulationRunner {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ParallelSimulationRunner.class);
+
+    /** the process engine registry is not thread safe, so engines are built and closed one at a time */
+    protected static final Object PROCESS_ENGINE_LIFECYCLE_LOCK = new Object();
+
+    protected SimulationScenario scenario;
+    protected int parallelism;
+
+    public ParallelSimulationRunner(SimulationScenario scenario) {
+        this(scenario, Runtime.getRuntime().availableProcessors());
+    }
+
+    public ParallelSimulationRunner(SimulationScenario scenario, int parallelism) {
+        this.scenario = scenario;
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Creates the parameters for a number of runs that only differ in their seed, derived from the given seed.
+     */
+    public static List<SimulationRunParameters> createRunParameters(String idPrefix, int numberOfRuns, long seed, Map<String, Object> parameters) {
+        List<SimulationRunParameters> runParameters = new ArrayList<SimulationRunParameters>(numberOfRuns);
+        for (int i = 0; i < numberOfRuns; i++) {
+            runParameters.add(new SimulationRunParameters(idPrefix + "-" + i, seed + i, parameters));
+        }
+        return runParameters;
+    }
+
+    /**
+     * Executes the simulation runs and waits until all of them are done.
+     * 
+     * @throws FlowableException
+     *             when one of the runs failed
+     */
+    public SimulationSummaryReport execute(List<SimulationRunParameters> runParameters) {
+        ExecutorService executorService = Executors.newFixedThreadPool(Math.max(1, Math.min(parallelism, runParameters.size())));
+        try {
+            List<Future<SimulationRunResult>> futures = new ArrayList<Future<SimulationRunResult>>(runParameters.size());
+            for (final SimulationRunParameters parameters : runParameters) {
+                futures.add(executorService.submit(new Callable<SimulationRunResult>() {
+
+                    @Override
+                    public SimulationRunResult call() throws Exception {
+                        return executeRun(parameters);
+                    }
+                }));
+            }
+
+            List<SimulationRunResult> runResults = new ArrayList<SimulationRunResult>(runParameters.size());
+            for (int i = 0; i < futures.size(); i++) {
+                try {
+                    runResults.add(futures.get(i).get());
+                } catch (ExecutionException e) {
+                    throw new FlowableException("Simulation run " + runParameters.get(i).getId() + " failed", e.getCause());
+                }
+            }
+            return new SimulationSummaryReport(runResults);
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new FlowableException("Interrupted while waiting for the simulation runs", e);
+
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    protected SimulationRunResult executeRun(SimulationRunParameters parameters) {
+        LOGGER.debug("Starting simulation run {}", parameters);
+
+        SimUtils.setSeed(parameters.getSeed());
+
+        Clock clock = new SimulationClockImpl();
+
+        ProcessEngineConfigurationImpl processEngineConfiguration = createProcessEngineConfiguration(parameters, clock);
+        ProcessEngineImpl processEngine;
+        synchronized (PROCESS_ENGINE_LIFECYCLE_LOCK) {
+            processEngine = (ProcessEngineImpl) processEngineConfiguration.buildProcessEngine();
+        }
+
+        EventCalendar eventCalendar = new HeapEventCalendar(clock, new SimulationEventComparator());
+        SimpleSimulationRun simulationRun = new SimpleSimulationRun.Builder()
+                .processEngine(processEngine)
+                .eventCalendar(eventCalendar)
+                .eventHandlers(scenario.getEventHandlers(parameters))
+                .build();
+
+        try {
+            simulationRun.init(new NoExecutionVariableScope());
+            long simulationStartTime = clock.getCurrentTime().getTime();
+
+            for (SimulationEvent event : scenario.getInitialEvents(parameters)) {
+                eventCalendar.addEvent(event);
+            }
+            simulationRun.runContinue();
+
+            SimulationRunResult result = createRunResult(parameters, processEngine.getHistoryService(), simulationStartTime, clock.getCurrentTime().getTime());
+            LOGGER.debug("Simulation run {} done", parameters.getId());
+            return result;
+
+        } finally {
+            synchronized (PROCESS_ENGINE_LIFECYCLE_LOCK) {
+                if (SimulationRunContext.getEventCalendar() == eventCalendar) {
+                    simulationRun.close();
+                } else {
+                    processEngine.close();
+                }
+            }
+            if (processEngineConfiguration.getDataSource() instanceof PooledDataSource) {
+                ((PooledDataSource) processEngineConfiguration.getDataSource()).forceCloseAll();
+            }
+        }
+    }
+
+    /**
+     * Creates the configuration of the process engine of a simulation run. Every run needs its own database.
+     */
+    protected ProcessEngineConfigurationImpl createProcessEngineConfiguration(SimulationRunParameters parameters, Clock clock) {
+        String engineName = "simulation-run-" + parameters.getId();
+
+        ProcessEngineConfigurationImpl processEngineConfiguration = new StandaloneInMemProcessEngineConfiguration();
+        processEngineConfiguration.setEngineName(engineName);
+        processEngineConfiguration.setJdbcUrl("jdbc:h2:mem:" + engineName);
+        processEngineConfiguration.setClock(clock);
+        processEngineConfiguration.setHistory(HistoryLevel.FULL.getKey());
+        processEngineConfiguration.setDisableIdmEngine(true);
+        return processEngineConfiguration;
+    }
+
+    protected SimulationRunResult createRunResult(SimulationRunParameters parameters, HistoryService historyService, long simulationStartTime, long simulationEndTime) {
+        List<HistoricProcessInstance> processInstances = historyService.createHistoricProcessInstanceQuery().list();
+        SimulationStatistics cycleTimes = new SimulationStatistics();
+        for (HistoricProcessInstance processInstance : processInstances) {
+            if (processInstance.getDurationInMillis() != null) {
+                cycleTimes.addValue(processInstance.getDurationInMillis());
+            }
+        }
+
+        Map<String, List<HistoricTaskInstance>> tasksByKey = new TreeMap<String, List<HistoricTaskInstance>>();
+        for (HistoricTaskInstance task : historyService.createHistoricTaskInstanceQuery().list()) {
+            List<HistoricTaskInstance> tasks = tasksByKey.get(task.getTaskDefinitionKey());
+            if (tasks == null) {
+                tasks = new ArrayList<HistoricTaskInstance>();
+                tasksByKey.put(task.getTaskDefinitionKey(), tasks);
+            }
+            tasks.add(task);
+        }
+
+        Map<String, UserTaskStatistics> userTaskStatistics = new LinkedHashMap<String, UserTaskStatistics>();
+        for (Map.Entry<String, List<HistoricTaskInstance>> entry : tasksByKey.entrySet()) {
+            userTaskStatistics.put(entry.getKey(), createUserTaskStatistics(entry.getKey(), entry.getValue(), simulationStartTime, simulationEndTime));
+        }
+
+        return new SimulationRunResult(parameters, simulationStartTime, simulationEndTime, processInstances.size(), cycleTimes, userTaskStatistics);
+    }
+
+    /**
+     * The queue length is the number of tasks that are created, but not yet completed. Tasks that are still open at the end of the simulation
+     * count as open until the simulation end time.
+     */
+    protected UserTaskStatistics createUserTaskStatistics(String taskDefinitionKey, List<HistoricTaskInstance> tasks, long simulationStartTime, long simulationEndTime) {
+        SimulationStatistics durations = new SimulationStatistics();
+
+        // queue length changes: +1 when a task is created, -1 when it is completed
+        Map<Long, Integer> queueLengthChanges = new HashMap<Long, Integer>();
+        for (HistoricTaskInstance task : tasks) {
+            addQueueLengthChange(queueLengthChanges, task.getStartTime().getTime(), 1);
+            if (task.getEndTime() != null) {
+                addQueueLengthChange(queueLengthChanges, task.getEndTime().getTime(), -1);
+                durations.addValue(task.getDurationInMillis());
+            }
+        }
+
+        List<Long> times = new ArrayList<Long>(queueLengthChanges.keySet());
+        Collections.sort(times);
+
+        int queueLength = 0;
+        int maxQueueLength = 0;
+        double queueLengthTimeIntegral = 0.0;
+        long previousTime = simulationStartTime;
+        for (Long time : times) {
+            queueLengthTimeIntegral += (double) queueLength * (time - previousTime);
+            queueLength += queueLengthChanges.get(time);
+            maxQueueLength = Math.max(maxQueueLength, queueLength);
+            previousTime = time;
+        }
+        queueLengthTimeIntegral += (double) queueLength * Math.max(0L, simulationEndTime - previousTime);
+
+        long simulatedTime = simulationEndTime - simulationStartTime;
+        double averageQueueLength = simulatedTime > 0 ? queueLengthTimeIntegral / simulatedTime : queueLength;
+
+        return new UserTaskStatistics(taskDefinitionKey, tasks.size(), durations, averageQueueLength, maxQueueLength);
+    }
+
+    protected void addQueueLengthChange(Map<Long, Integer> queueLengthChanges, long time, int change) {
+        Integer currentChange = queueLengthChanges.get(time);
+        queueLengthChanges.put(time, currentChange != null ? currentChange + change : change);
+    }
+
+    public SimulationScenario getScenario() {
+        return scenario;
+    }
+
+    public void setScenario(SimulationScenario scenario) {
+        this.scenario = scenario;
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    public void setParallelism(int parallelism) {
+        this.parallelism = parallelism;
+    }
+
+}
@@ -0,0 +1,60 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.crystalball.simulator.parallel;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Parameters of one simulation run executed by the {@link ParallelSimulationRunner}: a unique id, the seed of the random number generator
+ * and the scenario specific parameters (e.g. number of users, arrival rate).
+ */
+public class SimulationRunParameters {
+
+    protected final String id;
+    protected final long seed;
+    protected final Map<String, Object> parameters;
+
+    public SimulationRunParameters(String id, long seed) {
+        this(id, seed, Collections.<String, Object> emptyMap());
+    }
+
+    public SimulationRunParameters(String id, long seed, Map<String, Object> parameters) {
+        this.id = id;
+        this.seed = seed;
+        this.parameters = Collections.unmodifiableMap(new HashMap<String, Object>(parameters));
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public Map<String, Object> getParameters() {
+        return parameters;
+    }
+
+    public Object getParameter(String name) {
+        return parameters.get(name);
+    }
+
+    @Override
+    public String toString() {
+        return id + "[seed=" + seed + ", " + parameters + "]";
+    }
+
+}
@@ -0,0 +1,86 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.crystalball.simulator.parallel;
+
+import java.util.Map;
+
+/**
+ * The results of one simulation run executed by the {@link ParallelSimulationRunner}.
+ */
+public class SimulationRunResult {
+
+    protected final SimulationRunParameters parameters;
+    protected final long simulationStartTime;
+    protected final long simulationEndTime;
+    protected final long processInstanceCount;
+    protected final SimulationStatistics cycleTimes;
+    protected final Map<String, UserTaskStatistics> userTaskStatistics;
+
+    public SimulationRunResult(SimulationRunParameters parameters, long simulationStartTime, long simulationEndTime, long processInstanceCount,
+            SimulationStatistics cycleTimes, Map<String, UserTaskStatistics> userTaskStatistics) {
+
+        this.parameters = parameters;
+        this.simulationStartTime = simulationStartTime;
+        this.simulationEndTime = simulationEndTime;
+        this.processInstanceCount = processInstanceCount;
+        this.cycleTimes = cycleTimes;
+        this.userTaskStatistics = userTaskStatistics;
+    }
+
+    public SimulationRunParameters getParameters() {
+        return parameters;
+    }
+
+    public long getSimulationStartTime() {
+        return simulationStartTime;
+    }
+
+    /**
+     * @return the simulation time at which the last event of the run was executed
+     */
+    public long getSimulationEndTime() {
+        return simulationEndTime;
+    }
+
+    /**
+     * @return the number of process instances started during the simulation run
+     */
+    public long getProcessInstanceCount() {
+        return processInstanceCount;
+    }
+
+    /**
+     * @return the time in milliseconds between the start and the end of the finished process instances
+     */
+    public SimulationStatistics getCycleTimes() {
+        return cycleTimes;
+    }
+
+    /**
+     * @return the statistics of the user tasks, by task definition key
+     */
+    public Map<String, UserTaskStatistics> getUserTaskStatistics() {
+        return userTaskStatistics;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        builder.append(parameters).append(": processInstances=").append(processInstanceCount).append(", cycleTime[").append(cycleTimes).append("]");
+        for (UserTaskStatistics taskStatistics : userTaskStatistics.values()) {
+            builder.append("\n  ").append(taskStatistics);
+        }
+        return builder.toString();
+    }
+
+}
@@ -0,0 +1,37 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.crystalball.simulator.parallel;
+
+import java.util.Collection;
+import java.util.Map;
+
+import org.flowable.crystalball.simulator.SimulationEvent;
+import org.flowable.crystalball.simulator.SimulationEventHandler;
+
+/**
+ * Describes the simulation runs executed by the {@link ParallelSimulationRunner}. The scenario is called for every run, possibly from
+ * different threads at the same time, so it must not share mutable state between runs: every run gets its own event handlers.
+ */
+public interface SimulationScenario {
+
+    /**
+     * @return the events scheduled in the event calendar when the simulation run starts
+     */
+    Collection<SimulationEvent> getInitialEvents(SimulationRunParameters parameters);
+
+    /**
+     * @return new event handler instances for the simulation run, by event type
+     */
+    Map<String, SimulationEventHandler> getEventHandlers(SimulationRunParameters parameters);
+
+}
@@ -0,0 +1,68 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.crystalball.simulator.parallel;
+
+/**
+ * Count, minimum, maximum, mean and standard deviation of a series of values.
+ */
+public class SimulationStatistics {
+
+    protected long count;
+    protected double sum;
+    protected double sumOfSquares;
+    protected double min = Double.NaN;
+    protected double max = Double.NaN;
+
+    public void addValue(double value) {
+        if (count == 0) {
+            min = value;
+            max = value;
+        } else {
+            min = Math.min(min, value);
+            max = Math.max(max, value);
+        }
+        count++;
+        sum += value;
+        sumOfSquares += value * value;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public double getMin() {
+        return min;
+    }
+
+    public double getMax() {
+        return max;
+    }
+
+    public double getMean() {
+        return count > 0 ? sum / count : Double.NaN;
+    }
+
+    public double getStandardDeviation() {
+        if (count == 0) {
+            return Double.NaN;
+        }
+        double mean = getMean();
+        return Math.sqrt(Math.max(0.0, sumOfSquares / count - mean * mean));
+    }
+
+    @Override
+    public String toString() {
+        return String.format("count=%d, mean=%.2f, min=%.2f, max=%.2f, stdDev=%.2f", count, getMean(), min, max, getStandardDeviation());
+    }
+
+}
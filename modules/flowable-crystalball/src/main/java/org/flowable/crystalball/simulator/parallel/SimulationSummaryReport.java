@@ -0,0 +1,97 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.crystalball.simulator.parallel;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Aggregates the results of the simulation runs executed by the {@link ParallelSimulationRunner}. Every run counts once, whatever the number
+ * of process instances or tasks it contains.
+ */
+public class SimulationSummaryReport {
+
+    protected final List<SimulationRunResult> runResults;
+
+    protected SimulationStatistics averageCycleTimes = new SimulationStatistics();
+    protected Map<String, SimulationStatistics> averageQueueLengths = new TreeMap<String, SimulationStatistics>();
+    protected Map<String, SimulationStatistics> maxQueueLengths = new TreeMap<String, SimulationStatistics>();
+
+    public SimulationSummaryReport(List<SimulationRunResult> runResults) {
+        this.runResults = Collections.unmodifiableList(runResults);
+
+        for (SimulationRunResult runResult : runResults) {
+            if (runResult.getCycleTimes().getCount() > 0) {
+                averageCycleTimes.addValue(runResult.getCycleTimes().getMean());
+            }
+
+            for (UserTaskStatistics taskStatistics : runResult.getUserTaskStatistics().values()) {
+                getStatistics(averageQueueLengths, taskStatistics.getTaskDefinitionKey()).addValue(taskStatistics.getAverageQueueLength());
+                getStatistics(maxQueueLengths, taskStatistics.getTaskDefinitionKey()).addValue(taskStatistics.getMaxQueueLength());
+            }
+        }
+    }
+
+    protected SimulationStatistics getStatistics(Map<String, SimulationStatistics> statisticsMap, String taskDefinitionKey) {
+        SimulationStatistics statistics = statisticsMap.get(taskDefinitionKey);
+        if (statistics == null) {
+            statistics = new SimulationStatistics();
+            statisticsMap.put(taskDefinitionKey, statistics);
+        }
+        return statistics;
+    }
+
+    /**
+     * @return the results of the individual simulation runs, in the order in which the runs were passed to the runner
+     */
+    public List<SimulationRunResult> getRunResults() {
+        return runResults;
+    }
+
+    /**
+     * @return the statistics of the mean process instance cycle time of the runs
+     */
+    public SimulationStatistics getAverageCycleTimes() {
+        return averageCycleTimes;
+    }
+
+    /**
+     * @return the statistics of the average queue length of the runs, by task definition key
+     */
+    public Map<String, SimulationStatistics> getAverageQueueLengths() {
+        return averageQueueLengths;
+    }
+
+    /**
+     * @return the statistics of the maximum queue length of the runs, by task definition key
+     */
+    public Map<String, SimulationStatistics> getMaxQueueLengths() {
+        return maxQueueLengths;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        builder.append("Simulation runs: ").append(runResults.size());
+        builder.append("\nAverage cycle time: ").append(averageCycleTimes);
+        for (Map.Entry<String, SimulationStatistics> entry : averageQueueLengths.entrySet()) {
+            builder.append("\nUser task ").append(entry.getKey());
+            builder.append("\n  average queue length: ").append(entry.getValue());
+            builder.append("\n  max queue length: ").append(maxQueueLengths.get(entry.getKey()));
+        }
+        return builder.toString();
+    }
+
+}
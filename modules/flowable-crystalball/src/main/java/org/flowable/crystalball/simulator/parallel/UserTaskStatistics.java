@@ -0,0 +1,71 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.crystalball.simulator.parallel;
+
+/**
+ * Statistics of the user tasks with the same task definition key in one simulation run.
+ */
+public class UserTaskStatistics {
+
+    protected final String taskDefinitionKey;
+    protected final long taskCount;
+    protected final SimulationStatistics durations;
+    protected final double averageQueueLength;
+    protected final int maxQueueLength;
+
+    public UserTaskStatistics(String taskDefinitionKey, long taskCount, SimulationStatistics durations, double averageQueueLength, int maxQueueLength) {
+        this.taskDefinitionKey = taskDefinitionKey;
+        this.taskCount = taskCount;
+        this.durations = durations;
+        this.averageQueueLength = averageQueueLength;
+        this.maxQueueLength = maxQueueLength;
+    }
+
+    public String getTaskDefinitionKey() {
+        return taskDefinitionKey;
+    }
+
+    /**
+     * @return the number of tasks created during the simulation run
+     */
+    public long getTaskCount() {
+        return taskCount;
+    }
+
+    /**
+     * @return the time in milliseconds between the creation and the completion of the completed tasks
+     */
+    public SimulationStatistics getDurations() {
+        return durations;
+    }
+
+    /**
+     * @return the number of open tasks, averaged over the simulated time
+     */
+    public double getAverageQueueLength() {
+        return averageQueueLength;
+    }
+
+    /**
+     * @return the highest number of tasks that were open at the same time
+     */
+    public int getMaxQueueLength() {
+        return maxQueueLength;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s: tasks=%d, averageQueueLength=%.2f, maxQueueLength=%d, duration[%s]", taskDefinitionKey, taskCount, averageQueueLength, maxQueueLength, durations);
+    }
+
+}
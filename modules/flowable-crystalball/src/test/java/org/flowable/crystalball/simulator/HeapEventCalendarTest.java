@@ -0,0 +1,147 @@
+package org.flowable.crystalball.simulator;
+
+import org.flowable.engine.common.impl.util.DefaultClockImpl;
+import org.flowable.engine.common.runtime.Clock;
+import org.junit.Before;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class HeapEventCalendarTest {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(HeapEventCalendarTest.class);
+
+    protected Comparator<SimulationEvent> comparator = new SimulationEventComparator();
+    protected Clock clock = new DefaultClockImpl();
+
+    @Before
+    public void setUp() {
+        this.clock.setCurrentTime(new Date(0));
+    }
+
+    @Test
+    public void testIsEmpty() throws Exception {
+        EventCalendar calendar = new HeapEventCalendar(clock, comparator);
+        assertTrue(calendar.isEmpty());
+        assertNull(calendar.peekFirstEvent());
+        assertNull(calendar.removeFirstEvent());
+    }
+
+    @Test
+    public void testAddEventsAndRemoveFirst() throws Exception {
+        SimulationEvent event1 = new SimulationEvent.Builder("any type").simulationTime(1).build();
+        SimulationEvent event2 = new SimulationEvent.Builder("any type").simulationTime(2).build();
+        EventCalendar calendar = new HeapEventCalendar(clock, comparator);
+
+        calendar.addEvent(event2);
+        calendar.addEvent(event1);
+        calendar.addEvent(event1);
+
+        assertEquals(Arrays.asList(event1, event1, event2), calendar.getEvents());
+        assertEquals(event1, calendar.peekFirstEvent());
+        assertEquals(event1, calendar.removeFirstEvent());
+        assertEquals(event1, calendar.removeFirstEvent());
+        assertEquals(event2, calendar.removeFirstEvent());
+        assertTrue(calendar.isEmpty());
+    }
+
+    @Test
+    public void testEqualEventsKeepInsertionOrder() throws Exception {
+        SimulationEvent first = new SimulationEvent.Builder("first").simulationTime(5).priority(1).build();
+        SimulationEvent second = new SimulationEvent.Builder("second").simulationTime(5).priority(1).build();
+        SimulationEvent third = new SimulationEvent.Builder("third").simulationTime(5).priority(1).build();
+        SimulationEvent higherPriority = new SimulationEvent.Builder("higher priority").simulationTime(5).priority(0).build();
+        EventCalendar calendar = new HeapEventCalendar(clock, comparator);
+
+        calendar.addEvent(first);
+        calendar.addEvent(second);
+        calendar.addEvent(higherPriority);
+        calendar.addEvent(third);
+
+        assertEquals(higherPriority, calendar.removeFirstEvent());
+        assertEquals(first, calendar.removeFirstEvent());
+        assertEquals(second, calendar.removeFirstEvent());
+        assertEquals(third, calendar.removeFirstEvent());
+    }
+
+    @Test
+    public void testSameOrderAsSimpleEventCalendar() throws Exception {
+        Random random = new Random(42);
+        EventCalendar simpleCalendar = new SimpleEventCalendar(clock, comparator);
+        EventCalendar heapCalendar = new HeapEventCalendar(clock, comparator);
+
+        for (int i = 0; i < 2000; i++) {
+            SimulationEvent event = new SimulationEvent.Builder("event " + i).simulationTime(random.nextInt(100)).priority(random.nextInt(3)).build();
+            simpleCalendar.addEvent(event);
+            heapCalendar.addEvent(event);
+        }
+
+        while (!simpleCalendar.isEmpty()) {
+            SimulationEvent expected = simpleCalendar.removeFirstEvent();
+            assertSame(expected, heapCalendar.removeFirstEvent());
+            clock.setCurrentTime(new Date(expected.getSimulationTime()));
+        }
+        assertTrue(heapCalendar.isEmpty());
+    }
+
+    @Test
+    public void testClear() throws Exception {
+        SimulationEvent event1 = new SimulationEvent.Builder("any type").simulationTime(1).build();
+        EventCalendar calendar = new HeapEventCalendar(clock, comparator);
+
+        calendar.addEvent(event1);
+
+        calendar.clear();
+        assertTrue(calendar.isEmpty());
+        assertNull(calendar.removeFirstEvent());
+    }
+
+    @Test(expected = RuntimeException.class)
+    public void testRunEventFromPast() throws Exception {
+        SimulationEvent event1 = new SimulationEvent.Builder("any type").simulationTime(1).build();
+        EventCalendar calendar = new HeapEventCalendar(clock, comparator);
+
+        calendar.addEvent(event1);
+        this.clock.setCurrentTime(new Date(2));
+        calendar.removeFirstEvent();
+        fail("RuntimeException expected");
+    }
+
+    @Test
+    public void testMillionEvents() throws Exception {
+        int numberOfEvents = 1000000;
+        Random random = new Random(42);
+        EventCalendar calendar = new HeapEventCalendarFactory(clock, comparator).getObject();
+
+        long start = System.currentTimeMillis();
+
+        // half of the events is scheduled upfront, the other half while simulating, like event handlers do
+        for (int i = 0; i < numberOfEvents / 2; i++) {
+            calendar.addEvent(new SimulationEvent.Builder("any type").simulationTime(random.nextInt(numberOfEvents)).build());
+        }
+
+        int removed = 0;
+        long lastTime = 0;
+        while (!calendar.isEmpty()) {
+            SimulationEvent event = calendar.removeFirstEvent();
+            assertTrue(event.getSimulationTime() >= lastTime);
+            lastTime = event.getSimulationTime();
+            clock.setCurrentTime(new Date(lastTime));
+            removed++;
+
+            if (removed % 2 == 1 && removed < numberOfEvents) {
+                calendar.addEvent(new SimulationEvent.Builder("any type").simulationTime(lastTime + random.nextInt(1000)).build());
+            }
+        }
+
+        assertEquals(numberOfEvents, removed);
+        LOGGER.info("Simulated {} events in {} ms", numberOfEvents, System.currentTimeMillis() - start);
+    }
+}
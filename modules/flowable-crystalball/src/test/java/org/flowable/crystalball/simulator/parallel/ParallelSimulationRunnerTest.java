@@ -0,0 +1,150 @@
+package org.flowable.crystalball.simulator.parallel;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.flowable.crystalball.simulator.SimUtils;
+import org.flowable.crystalball.simulator.SimulationConstants;
+import org.flowable.crystalball.simulator.SimulationEvent;
+import org.flowable.crystalball.simulator.SimulationEventHandler;
+import org.flowable.crystalball.simulator.SimulationRunContext;
+import org.flowable.crystalball.simulator.impl.DeployClasspathResourcesEventHandler;
+import org.flowable.crystalball.simulator.impl.StartProcessByKeyEventHandler;
+import org.flowable.engine.task.Task;
+import org.junit.Test;
+
+public class ParallelSimulationRunnerTest {
+
+    private static final String USERTASK_PROCESS = "org/flowable/crystalball/simulator/impl/playback/PlaybackProcessStartTest.testUserTask.bpmn20.xml";
+
+    private static final String DEPLOY_EVENT_TYPE = "DEPLOY";
+    private static final String START_PROCESS_EVENT_TYPE = "START_PROCESS";
+    private static final String WORKER_READY_EVENT_TYPE = "WORKER_READY";
+
+    private static final int ARRIVALS = 20;
+
+    @Test
+    public void testParallelRuns() {
+        List<SimulationRunParameters> runParameters = new ArrayList<SimulationRunParameters>();
+        runParameters.addAll(ParallelSimulationRunner.createRunParameters("oneWorker", 2, 1L, Collections.<String, Object> singletonMap("workers", 1)));
+        runParameters.addAll(ParallelSimulationRunner.createRunParameters("threeWorkers", 2, 1L, Collections.<String, Object> singletonMap("workers", 3)));
+
+        SimulationSummaryReport report = new ParallelSimulationRunner(new UserTaskScenario(), 4).execute(runParameters);
+
+        assertEquals(4, report.getRunResults().size());
+        for (int i = 0; i < 4; i++) {
+            SimulationRunResult result = report.getRunResults().get(i);
+            assertEquals(runParameters.get(i), result.getParameters());
+            assertEquals(ARRIVALS, result.getProcessInstanceCount());
+            assertEquals(ARRIVALS, result.getCycleTimes().getCount());
+
+            UserTaskStatistics taskStatistics = result.getUserTaskStatistics().get("userTask");
+            assertNotNull(taskStatistics);
+            assertEquals(ARRIVALS, taskStatistics.getTaskCount());
+            assertEquals(ARRIVALS, taskStatistics.getDurations().getCount());
+            assertTrue(taskStatistics.getMaxQueueLength() >= 1);
+        }
+
+        // same seeds, more workers -> shorter queues
+        for (int i = 0; i < 2; i++) {
+            UserTaskStatistics oneWorker = report.getRunResults().get(i).getUserTaskStatistics().get("userTask");
+            UserTaskStatistics threeWorkers = report.getRunResults().get(i + 2).getUserTaskStatistics().get("userTask");
+            assertTrue(threeWorkers.getAverageQueueLength() < oneWorker.getAverageQueueLength());
+        }
+
+        assertEquals(4, report.getAverageCycleTimes().getCount());
+        assertEquals(4, report.getAverageQueueLengths().get("userTask").getCount());
+        assertEquals(4, report.getMaxQueueLengths().get("userTask").getCount());
+    }
+
+    @Test
+    public void testRunsAreReproducible() {
+        ParallelSimulationRunner runner = new ParallelSimulationRunner(new UserTaskScenario(), 2);
+        List<SimulationRunParameters> runParameters = ParallelSimulationRunner.createRunParameters("run", 2, 42L, Collections.<String, Object> singletonMap("workers", 2));
+
+        SimulationSummaryReport report = runner.execute(runParameters);
+        SimulationSummaryReport repeatedReport = runner.execute(runParameters);
+
+        for (int i = 0; i < 2; i++) {
+            SimulationRunResult result = report.getRunResults().get(i);
+            SimulationRunResult repeatedResult = repeatedReport.getRunResults().get(i);
+            assertEquals(result.getSimulationEndTime(), repeatedResult.getSimulationEndTime());
+            assertEquals(result.getCycleTimes().getMean(), repeatedResult.getCycleTimes().getMean(), 0.0);
+            assertEquals(result.getUserTaskStatistics().get("userTask").getAverageQueueLength(),
+                    repeatedResult.getUserTaskStatistics().get("userTask").getAverageQueueLength(), 0.0);
+        }
+    }
+
+    /**
+     * Process instances arrive at random times, the user tasks are completed by a number of workers with random service times.
+     */
+    protected static class UserTaskScenario implements SimulationScenario {
+
+        @Override
+        public Collection<SimulationEvent> getInitialEvents(SimulationRunParameters parameters) {
+            List<SimulationEvent> events = new ArrayList<SimulationEvent>();
+            events.add(new SimulationEvent.Builder(DEPLOY_EVENT_TYPE).simulationTime(0).priority(SimulationConstants.PRIORITY_SYSTEM)
+                    .properties(Collections.<String, Object> singletonMap("resources", Collections.singletonList(USERTASK_PROCESS))).build());
+
+            Random random = new Random(parameters.getSeed());
+            long arrivalTime = 0;
+            for (int i = 0; i < ARRIVALS; i++) {
+                arrivalTime += 1000 + random.nextInt(1000);
+                Map<String, Object> properties = new HashMap<String, Object>();
+                properties.put("processDefinitionKey", "oneTaskProcess");
+                properties.put("businessKey", "arrival-" + i);
+                events.add(new SimulationEvent.Builder(START_PROCESS_EVENT_TYPE).simulationTime(arrivalTime).properties(properties).build());
+            }
+
+            int workers = (Integer) parameters.getParameter("workers");
+            for (int i = 0; i < workers; i++) {
+                events.add(new SimulationEvent.Builder(WORKER_READY_EVENT_TYPE).simulationTime(1000).build());
+            }
+            return events;
+        }
+
+        @Override
+        public Map<String, SimulationEventHandler> getEventHandlers(SimulationRunParameters parameters) {
+            Map<String, SimulationEventHandler> handlers = new HashMap<String, SimulationEventHandler>();
+            handlers.put(DEPLOY_EVENT_TYPE, new DeployClasspathResourcesEventHandler("resources"));
+            handlers.put(START_PROCESS_EVENT_TYPE, new StartProcessByKeyEventHandler("processDefinitionKey", "businessKey", "variables"));
+            handlers.put(WORKER_READY_EVENT_TYPE, new WorkerReadyEventHandler());
+            return handlers;
+        }
+    }
+
+    /**
+     * Completes the oldest open task, if any, and schedules the next moment the worker is ready.
+     */
+    protected static class WorkerReadyEventHandler implements SimulationEventHandler {
+
+        @Override
+        public void init() {
+        }
+
+        @Override
+        public void handle(SimulationEvent event) {
+            List<Task> tasks = SimulationRunContext.getTaskService().createTaskQuery().orderByTaskCreateTime().asc().listPage(0, 1);
+            if (!tasks.isEmpty()) {
+                SimulationRunContext.getTaskService().complete(tasks.get(0).getId());
+            }
+
+            long startedProcessInstances = SimulationRunContext.getHistoryService().createHistoricProcessInstanceQuery().count();
+            if (startedProcessInstances < ARRIVALS || SimulationRunContext.getTaskService().createTaskQuery().count() > 0) {
+                long serviceTime = 1000 + SimUtils.getRandomInt(3000);
+                long now = SimulationRunContext.getClock().getCurrentTime().getTime();
+                SimulationRunContext.getEventCalendar().addEvent(new SimulationEvent.Builder(WORKER_READY_EVENT_TYPE).simulationTime(now + serviceTime).build());
+            }
+        }
+    }
+
+}
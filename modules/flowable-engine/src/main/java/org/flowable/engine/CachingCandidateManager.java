@@ -0,0 +1,140 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.flowable.engine.common.runtime.ClockReader;
+
+/**
+ * {@link CandidateManager} that keeps the groups of a candidate user for a limited time, so task queries for a candidate user
+ * (eg. an inbox that is refreshed continuously) don't need to query the group memberships every time.
+ * 
+ * The groups are fetched through the wrapped candidate manager, which means the cache works for the IDM engine as well as for
+ * an LDAP backed identity service. Membership changes done through the {@link IdentityService} invalidate the cached groups
+ * of the user. Changes done in another way (directly in the IDM engine, in LDAP, on another node) become visible when the cached entry expires.
+ * 
+ * Enabled by setting a positive candidateGroupsCacheTimeToLive on the process engine configuration.
+ */
+public class CachingCandidateManager implements CandidateManager {
+
+    protected CandidateManager candidateManager;
+    protected ClockReader clockReader;
+    protected int cacheLimit;
+    protected long timeToLive;
+
+    protected Map<String, CacheEntry> cache = new ConcurrentHashMap<String, CacheEntry>();
+
+    public CachingCandidateManager(CandidateManager candidateManager, ClockReader clockReader, int cacheLimit, long timeToLive) {
+        this.candidateManager = candidateManager;
+        this.clockReader = clockReader;
+        this.cacheLimit = cacheLimit;
+        this.timeToLive = timeToLive;
+    }
+
+    @Override
+    public List<String> getGroupsForCandidateUser(String candidateUser) {
+        if (candidateUser == null) {
+            return candidateManager.getGroupsForCandidateUser(candidateUser);
+        }
+
+        long now = clockReader.getCurrentTime().getTime();
+        CacheEntry cacheEntry = cache.get(candidateUser);
+        if (cacheEntry == null || cacheEntry.isExpired(now)) {
+            List<String> groupIds = candidateManager.getGroupsForCandidateUser(candidateUser);
+            cacheEntry = new CacheEntry(groupIds != null ? new ArrayList<String>(groupIds) : new ArrayList<String>(), now + timeToLive);
+            cache.put(candidateUser, cacheEntry);
+            evictIfNeeded(now);
+        }
+
+        // A copy, as the queries are free to change the list they get
+        return new ArrayList<String>(cacheEntry.getGroupIds());
+    }
+
+    /**
+     * Removes the cached groups of the given user, eg. because a membership of the user was created or deleted.
+     */
+    public void invalidate(String userId) {
+        if (userId != null) {
+            cache.remove(userId);
+        }
+    }
+
+    /**
+     * Removes all cached groups, eg. because a group was deleted.
+     */
+    public void clear() {
+        cache.clear();
+    }
+
+    public int size() {
+        return cache.size();
+    }
+
+    protected void evictIfNeeded(long now) {
+        if (cacheLimit <= 0 || cache.size() <= cacheLimit) {
+            return;
+        }
+
+        // First get rid of the expired entries, when that is not enough remove arbitrary ones
+        Iterator<CacheEntry> expiredIterator = cache.values().iterator();
+        while (expiredIterator.hasNext()) {
+            if (expiredIterator.next().isExpired(now)) {
+                expiredIterator.remove();
+            }
+        }
+
+        Iterator<String> iterator = cache.keySet().iterator();
+        while (cache.size() > cacheLimit && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+
+    public CandidateManager getCandidateManager() {
+        return candidateManager;
+    }
+
+    public int getCacheLimit() {
+        return cacheLimit;
+    }
+
+    public long getTimeToLive() {
+        return timeToLive;
+    }
+
+    protected static class CacheEntry {
+
+        protected List<String> groupIds;
+        protected long expirationTime;
+
+        public CacheEntry(List<String> groupIds, long expirationTime) {
+            this.groupIds = groupIds;
+            this.expirationTime = expirationTime;
+        }
+
+        public List<String> getGroupIds() {
+            return groupIds;
+        }
+
+        public boolean isExpired(long now) {
+            return now >= expirationTime;
+        }
+
+    }
+
+}
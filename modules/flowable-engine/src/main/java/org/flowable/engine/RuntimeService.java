@@ -12,6 +12,7 @@
  */
 package org.flowable.engine;
 
+import java.io.InputStream;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
@@ -27,6 +28,7 @@ import org.flowable.engine.common.api.delegate.event.FlowableEventListener;
 import org.flowable.engine.delegate.VariableScope;
 import org.flowable.engine.delegate.event.FlowableEngineEventType;
 import org.flowable.engine.impl.persistence.entity.VariableInstance;
+import org.flowable.engine.runtime.BulkProcessInstanceBuilder;
 import org.flowable.engine.runtime.ChangeActivityStateBuilder;
 import org.flowable.engine.runtime.DataObject;
 import org.flowable.engine.runtime.EventSubscriptionQuery;
@@ -55,6 +57,11 @@ public interface RuntimeService {
      */
     ProcessInstanceBuilder createProcessInstanceBuilder();
 
+    /**
+     * Create a {@link BulkProcessInstanceBuilder}, that allows to start many process instances of the same process definition in chunks, each chunk in one transaction.
+     */
+    BulkProcessInstanceBuilder createBulkProcessInstanceBuilder();
+
     /**
      * Starts a new process instance in the latest version of the process definition with the given key.
      * 
@@ -651,6 +658,22 @@ public interface RuntimeService {
      */
     <T> T getVariable(String executionId, String variableName, Class<T> variableClass);
 
+    /**
+     * The stored payload of a variable that is kept in a byte array (bytes, serializable, long string and long json variables), without deserializing it.
+     * Searching for the variable is done in all scopes that are visible to the given execution (including parent scopes). Only the requested variable is fetched.
+     * 
+     * @param executionId
+     *            id of execution, cannot be null.
+     * @param variableName
+     *            name of variable, cannot be null.
+     * @return a stream over the stored bytes or null if the variable is undefined or the value of the variable is null.
+     * @throws FlowableObjectNotFoundException
+     *             when no execution is found for the given executionId.
+     * @throws FlowableIllegalArgumentException
+     *             when the value of the variable is not stored in a byte array.
+     */
+    InputStream getVariableAsStream(String executionId, String variableName);
+
     /**
      * Check whether or not this execution has variable set with the given name, Searching for the variable is done in all scopes that are visible to the given execution (including parent scopes).
      */
@@ -1178,6 +1201,29 @@ public interface RuntimeService {
      */
     void messageEventReceivedAsync(String messageName, String executionId);
 
+    /**
+     * Notifies all executions that are waiting for the message with the given name and whose subscription was created with the given correlation key
+     * (the <code>flowable:correlationKey</code> expression of the message event definition). The subscriptions are found directly, without querying
+     * executions and their variables first.
+     * 
+     * The waiting executions are notified synchronously.
+     * 
+     * @param messageName
+     *            the name of the message event
+     * @param correlationKey
+     *            the correlation key the subscriptions were created with
+     * @param processVariables
+     *            a map of variables added to the executions
+     * @throws FlowableException
+     *             if no execution is waiting for the message with the given correlation key
+     */
+    void messageEventReceivedByCorrelationKey(String messageName, String correlationKey, Map<String, Object> processVariables);
+
+    /**
+     * Similar to {@link #messageEventReceivedByCorrelationKey(String, String, Map)}, but within the context of one tenant.
+     */
+    void messageEventReceivedByCorrelationKeyWithTenantId(String messageName, String correlationKey, Map<String, Object> processVariables, String tenantId);
+
     /**
      * Adds an event-listener which will be notified of ALL events by the dispatcher.
      * 
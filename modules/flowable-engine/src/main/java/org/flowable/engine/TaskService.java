@@ -25,6 +25,7 @@ import org.flowable.engine.common.api.query.NativeQuery;
 import org.flowable.engine.impl.persistence.entity.VariableInstance;
 import org.flowable.engine.runtime.DataObject;
 import org.flowable.engine.task.Attachment;
+import org.flowable.engine.task.BatchTaskResult;
 import org.flowable.engine.task.Comment;
 import org.flowable.engine.task.DelegationState;
 import org.flowable.engine.task.Event;
@@ -167,6 +168,18 @@ public interface TaskService {
      */
     void unclaim(String taskId);
 
+    /**
+     * Claims all given tasks for the given user, see {@link #claim(String, String)}. The tasks are processed in chunks, each chunk in one transaction.
+     * When the operation fails for a task, the other tasks of its chunk are still claimed.
+     * 
+     * @param taskIds
+     *            tasks to claim, cannot be null.
+     * @param userId
+     *            user that claims the tasks. When userId is null the tasks are unclaimed.
+     * @return the ids of the claimed tasks and the exceptions of the tasks that could not be claimed.
+     */
+    BatchTaskResult claimTasks(Collection<String> taskIds, String userId);
+
     /**
      * Called when the task is successfully executed.
      * 
@@ -250,6 +263,18 @@ public interface TaskService {
      */
     void complete(String taskId, Map<String, Object> variables, boolean localScope);
 
+    /**
+     * Completes all given tasks with the same variables, see {@link #complete(String, Map)}. The tasks are processed in chunks, each chunk in one transaction.
+     * When the operation fails for a task, the other tasks of its chunk are still completed.
+     * 
+     * @param taskIds
+     *            the ids of the tasks to complete, cannot be null.
+     * @param variables
+     *            task parameters. May be null or empty.
+     * @return the ids of the completed tasks and the exceptions of the tasks that could not be completed.
+     */
+    BatchTaskResult completeTasks(Collection<String> taskIds, Map<String, Object> variables);
+
     /**
      * Called when the task is successfully executed, and the task form has been submitted.
      * 
@@ -326,6 +351,18 @@ public interface TaskService {
      */
     void setAssignee(String taskId, String userId);
 
+    /**
+     * Changes the assignee of all given tasks to the given userId, see {@link #setAssignee(String, String)}. The tasks are processed in chunks, each chunk in one transaction.
+     * When the operation fails for a task, the other tasks of its chunk are still assigned.
+     * 
+     * @param taskIds
+     *            ids of the tasks, cannot be null.
+     * @param userId
+     *            id of the user to use as assignee.
+     * @return the ids of the assigned tasks and the exceptions of the tasks that could not be assigned.
+     */
+    BatchTaskResult setAssigneeForTasks(Collection<String> taskIds, String userId);
+
     /**
      * Transfers ownership of this task to another user. No check is done whether the user is known by the identity component.
      * 
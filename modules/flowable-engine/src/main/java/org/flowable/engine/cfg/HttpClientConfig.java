@@ -12,11 +12,18 @@
  */
 package org.flowable.engine.cfg;
 
+import java.io.Closeable;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
 /**
  * @author Harsha Teja Kanna
  */
 public class HttpClientConfig {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(HttpClientConfig.class);
+
     // request settings
     protected int connectTimeout = 5000;
     protected int socketTimeout = 5000;
@@ -24,6 +31,16 @@ public class HttpClientConfig {
     protected int requestRetryLimit = 3;
     // https settings
     protected boolean disableCertVerify;
+    // connection pool settings
+    protected int maxConnectionsTotal = 50;
+    protected int maxConnectionsPerRoute = 20;
+    // time in milliseconds an idle connection is kept alive, -1 to use the keep alive time sent by the server
+    protected long connectionKeepAliveTime = -1;
+    // number of threads sending requests for non-blocking http tasks
+    protected int nonBlockingThreadPoolSize = 10;
+
+    // the http client shared by the http tasks of the process engine, closed when the process engine is closed
+    protected Closeable httpClient;
 
     public int getConnectTimeout() {
         return connectTimeout;
@@ -65,6 +82,60 @@ public class HttpClientConfig {
         this.disableCertVerify = disableCertVerify;
     }
 
+    public int getMaxConnectionsTotal() {
+        return maxConnectionsTotal;
+    }
+
+    public void setMaxConnectionsTotal(int maxConnectionsTotal) {
+        this.maxConnectionsTotal = maxConnectionsTotal;
+    }
+
+    public int getMaxConnectionsPerRoute() {
+        return maxConnectionsPerRoute;
+    }
+
+    public void setMaxConnectionsPerRoute(int maxConnectionsPerRoute) {
+        this.maxConnectionsPerRoute = maxConnectionsPerRoute;
+    }
+
+    public long getConnectionKeepAliveTime() {
+        return connectionKeepAliveTime;
+    }
+
+    public void setConnectionKeepAliveTime(long connectionKeepAliveTime) {
+        this.connectionKeepAliveTime = connectionKeepAliveTime;
+    }
+
+    public int getNonBlockingThreadPoolSize() {
+        return nonBlockingThreadPoolSize;
+    }
+
+    public void setNonBlockingThreadPoolSize(int nonBlockingThreadPoolSize) {
+        this.nonBlockingThreadPoolSize = nonBlockingThreadPoolSize;
+    }
+
+    public synchronized Closeable getHttpClient() {
+        return httpClient;
+    }
+
+    public synchronized void setHttpClient(Closeable httpClient) {
+        this.httpClient = httpClient;
+    }
+
+    /**
+     * Closes the shared http client, if it was created. Called when the process engine is closed.
+     */
+    public synchronized void closeHttpClient() {
+        if (httpClient != null) {
+            try {
+                httpClient.close();
+            } catch (Exception e) {
+                LOGGER.error("Could not close http client", e);
+            }
+            httpClient = null;
+        }
+    }
+
     public void merge(HttpClientConfig other) {
         if (this.connectTimeout != other.getConnectTimeout()) {
             setConnectTimeout(other.getConnectTimeout());
@@ -85,5 +156,21 @@ public class HttpClientConfig {
         if (this.disableCertVerify != other.isDisableCertVerify()) {
             setDisableCertVerify(other.isDisableCertVerify());
         }
+
+        if (this.maxConnectionsTotal != other.getMaxConnectionsTotal()) {
+            setMaxConnectionsTotal(other.getMaxConnectionsTotal());
+        }
+
+        if (this.maxConnectionsPerRoute != other.getMaxConnectionsPerRoute()) {
+            setMaxConnectionsPerRoute(other.getMaxConnectionsPerRoute());
+        }
+
+        if (this.connectionKeepAliveTime != other.getConnectionKeepAliveTime()) {
+            setConnectionKeepAliveTime(other.getConnectionKeepAliveTime());
+        }
+
+        if (this.nonBlockingThreadPoolSize != other.getNonBlockingThreadPoolSize()) {
+            setNonBlockingThreadPoolSize(other.getNonBlockingThreadPoolSize());
+        }
     }
 }
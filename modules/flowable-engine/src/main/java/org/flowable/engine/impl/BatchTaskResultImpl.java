@@ -0,0 +1,48 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.flowable.engine.task.BatchTaskResult;
+
+public class BatchTaskResultImpl implements BatchTaskResult {
+
+    protected List<String> succeededTaskIds = new ArrayList<>();
+    protected Map<String, RuntimeException> failures = new LinkedHashMap<>();
+
+    public void addSucceededTaskId(String taskId) {
+        succeededTaskIds.add(taskId);
+    }
+
+    public void addFailure(String taskId, RuntimeException exception) {
+        failures.put(taskId, exception);
+    }
+
+    public void addAll(BatchTaskResultImpl batchTaskResult) {
+        succeededTaskIds.addAll(batchTaskResult.getSucceededTaskIds());
+        failures.putAll(batchTaskResult.getFailures());
+    }
+
+    public List<String> getSucceededTaskIds() {
+        return succeededTaskIds;
+    }
+
+    public Map<String, RuntimeException> getFailures() {
+        return failures;
+    }
+
+}
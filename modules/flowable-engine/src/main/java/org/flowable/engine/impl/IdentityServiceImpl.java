@@ -12,6 +12,8 @@
  */
 package org.flowable.engine.impl;
 
+import org.flowable.engine.CachingCandidateManager;
+import org.flowable.engine.CandidateManager;
 import org.flowable.engine.IdentityService;
 import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.flowable.engine.impl.cmd.GetPotentialStarterGroupsCmd;
@@ -88,14 +90,17 @@ public class IdentityServiceImpl extends ServiceImpl implements IdentityService
 
     public void createMembership(String userId, String groupId) {
         processEngineConfiguration.getIdmIdentityService().createMembership(userId, groupId);
+        invalidateCandidateGroups(userId);
     }
 
     public void deleteGroup(String groupId) {
         processEngineConfiguration.getIdmIdentityService().deleteGroup(groupId);
+        invalidateCandidateGroups(null);
     }
 
     public void deleteMembership(String userId, String groupId) {
         processEngineConfiguration.getIdmIdentityService().deleteMembership(userId, groupId);
+        invalidateCandidateGroups(userId);
     }
 
     public boolean checkPassword(String userId, String password) {
@@ -104,6 +109,7 @@ public class IdentityServiceImpl extends ServiceImpl implements IdentityService
 
     public void deleteUser(String userId) {
         processEngineConfiguration.getIdmIdentityService().deleteUser(userId);
+        invalidateCandidateGroups(userId);
     }
 
     public void setUserPicture(String userId, Picture picture) {
@@ -133,4 +139,19 @@ public class IdentityServiceImpl extends ServiceImpl implements IdentityService
     public void deleteUserInfo(String userId, String key) {
         processEngineConfiguration.getIdmIdentityService().deleteUserInfo(userId, key);
     }
+
+    /**
+     * Removes the cached candidate groups of the given user, or of all users when no user id is given.
+     */
+    protected void invalidateCandidateGroups(String userId) {
+        CandidateManager candidateManager = processEngineConfiguration.getCandidateManager();
+        if (candidateManager instanceof CachingCandidateManager) {
+            if (userId != null) {
+                ((CachingCandidateManager) candidateManager).invalidate(userId);
+            } else {
+                ((CachingCandidateManager) candidateManager).clear();
+            }
+        }
+    }
+
 }
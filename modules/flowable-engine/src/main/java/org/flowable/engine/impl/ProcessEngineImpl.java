@@ -127,6 +127,9 @@ public class ProcessEngineImpl implements ProcessEngine {
         if (asyncHistoryExecutor != null && asyncHistoryExecutor.isActive()) {
             asyncHistoryExecutor.shutdown();
         }
+        if (processEngineConfiguration.getHttpClientConfig() != null) {
+            processEngineConfiguration.getHttpClientConfig().closeHttpClient();
+        }
 
         Runnable closeRunnable = processEngineConfiguration.getProcessEngineCloseRunnable();
         if (closeRunnable != null) {
@@ -12,6 +12,7 @@
  */
 package org.flowable.engine.impl;
 
+import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
@@ -31,6 +32,7 @@ import org.flowable.engine.impl.cmd.AddEventListenerCommand;
 import org.flowable.engine.impl.cmd.AddIdentityLinkForProcessInstanceCmd;
 import org.flowable.engine.impl.cmd.ChangeActivityStateCmd;
 import org.flowable.engine.impl.cmd.CompleteAdhocSubProcessCmd;
+import org.flowable.engine.impl.cmd.CorrelateMessageCmd;
 import org.flowable.engine.impl.cmd.DeleteIdentityLinkForProcessInstanceCmd;
 import org.flowable.engine.impl.cmd.DeleteProcessInstanceCmd;
 import org.flowable.engine.impl.cmd.DispatchEventCommand;
@@ -40,6 +42,7 @@ import org.flowable.engine.impl.cmd.GetActiveAdhocSubProcessesCmd;
 import org.flowable.engine.impl.cmd.GetDataObjectCmd;
 import org.flowable.engine.impl.cmd.GetDataObjectsCmd;
 import org.flowable.engine.impl.cmd.GetEnabledActivitiesForAdhocSubProcessCmd;
+import org.flowable.engine.impl.cmd.GetExecutionVariableAsStreamCmd;
 import org.flowable.engine.impl.cmd.GetExecutionVariableCmd;
 import org.flowable.engine.impl.cmd.GetExecutionVariableInstanceCmd;
 import org.flowable.engine.impl.cmd.GetExecutionVariableInstancesCmd;
@@ -60,11 +63,17 @@ import org.flowable.engine.impl.cmd.SignalEventReceivedCmd;
 import org.flowable.engine.impl.cmd.StartProcessInstanceByMessageCmd;
 import org.flowable.engine.impl.cmd.StartProcessInstanceCmd;
 import org.flowable.engine.impl.cmd.StartProcessInstanceWithFormCmd;
+import org.flowable.engine.impl.cmd.StartProcessInstancesCmd;
 import org.flowable.engine.impl.cmd.SuspendProcessInstanceCmd;
 import org.flowable.engine.impl.cmd.TriggerCmd;
 import org.flowable.engine.impl.persistence.entity.VariableInstance;
+import org.flowable.engine.impl.runtime.BulkProcessInstanceBuilderImpl;
+import org.flowable.engine.impl.runtime.BulkProcessInstanceBuilderImpl.ProcessInstanceStartData;
+import org.flowable.engine.impl.runtime.BulkProcessInstanceResultImpl;
 import org.flowable.engine.impl.runtime.ChangeActivityStateBuilderImpl;
 import org.flowable.engine.impl.runtime.ProcessInstanceBuilderImpl;
+import org.flowable.engine.runtime.BulkProcessInstanceBuilder;
+import org.flowable.engine.runtime.BulkProcessInstanceResult;
 import org.flowable.engine.runtime.ChangeActivityStateBuilder;
 import org.flowable.engine.runtime.DataObject;
 import org.flowable.engine.runtime.EventSubscriptionQuery;
@@ -206,6 +215,10 @@ public class RuntimeServiceImpl extends ServiceImpl implements RuntimeService {
         return commandExecutor.execute(new GetExecutionVariableCmd(executionId, variableName, false));
     }
 
+    public InputStream getVariableAsStream(String executionId, String variableName) {
+        return commandExecutor.execute(new GetExecutionVariableAsStreamCmd(executionId, variableName));
+    }
+
     public VariableInstance getVariableInstance(String executionId, String variableName) {
         return commandExecutor.execute(new GetExecutionVariableInstanceCmd(executionId, variableName, false));
     }
@@ -498,6 +511,16 @@ public class RuntimeServiceImpl extends ServiceImpl implements RuntimeService {
         commandExecutor.execute(new MessageEventReceivedCmd(messageName, executionId, true));
     }
 
+    @Override
+    public void messageEventReceivedByCorrelationKey(String messageName, String correlationKey, Map<String, Object> processVariables) {
+        commandExecutor.execute(new CorrelateMessageCmd(messageName, correlationKey, null, processVariables));
+    }
+
+    @Override
+    public void messageEventReceivedByCorrelationKeyWithTenantId(String messageName, String correlationKey, Map<String, Object> processVariables, String tenantId) {
+        commandExecutor.execute(new CorrelateMessageCmd(messageName, correlationKey, tenantId, processVariables));
+    }
+
     @Override
     public void addEventListener(FlowableEventListener listenerToAdd) {
         commandExecutor.execute(new AddEventListenerCommand(listenerToAdd));
@@ -553,6 +576,11 @@ public class RuntimeServiceImpl extends ServiceImpl implements RuntimeService {
         return new ProcessInstanceBuilderImpl(this);
     }
 
+    @Override
+    public BulkProcessInstanceBuilder createBulkProcessInstanceBuilder() {
+        return new BulkProcessInstanceBuilderImpl(this);
+    }
+
     @Override
     public ChangeActivityStateBuilder createChangeActivityStateBuilder() {
         return new ChangeActivityStateBuilderImpl(this);
@@ -568,6 +596,49 @@ public class RuntimeServiceImpl extends ServiceImpl implements RuntimeService {
         }
     }
 
+    public BulkProcessInstanceResult startProcessInstances(BulkProcessInstanceBuilderImpl bulkProcessInstanceBuilder) {
+        if (bulkProcessInstanceBuilder.getProcessDefinitionId() == null && bulkProcessInstanceBuilder.getProcessDefinitionKey() == null) {
+            throw new FlowableIllegalArgumentException("No processDefinitionId nor processDefinitionKey provided");
+        }
+
+        BulkProcessInstanceResultImpl result = new BulkProcessInstanceResultImpl();
+        List<ProcessInstanceStartData> processInstances = bulkProcessInstanceBuilder.getProcessInstances();
+        String processDefinitionKey = bulkProcessInstanceBuilder.getProcessDefinitionKey();
+        String processDefinitionId = bulkProcessInstanceBuilder.getProcessDefinitionId();
+        String tenantId = bulkProcessInstanceBuilder.getTenantId();
+
+        int chunkSize = bulkProcessInstanceBuilder.getChunkSize();
+        for (int chunkStart = 0; chunkStart < processInstances.size(); chunkStart += chunkSize) {
+            List<ProcessInstanceStartData> chunk = processInstances.subList(chunkStart, Math.min(chunkStart + chunkSize, processInstances.size()));
+            StartProcessInstancesCmd startProcessInstancesCmd = new StartProcessInstancesCmd(processDefinitionKey, processDefinitionId, tenantId, chunk);
+            try {
+                result.addProcessInstances(commandExecutor.execute(startProcessInstancesCmd));
+
+            } catch (RuntimeException e) {
+                if (startProcessInstancesCmd.getProcessDefinition() == null) {
+                    throw e; // The process definition itself could not be resolved
+                }
+
+                // Start the process instances of the chunk one by one, to isolate the failing ones
+                for (int i = 0; i < chunk.size(); i++) {
+                    try {
+                        result.addProcessInstances(commandExecutor.execute(new StartProcessInstancesCmd(null,
+                                startProcessInstancesCmd.getProcessDefinition().getId(), tenantId, chunk.subList(i, i + 1))));
+                    } catch (RuntimeException instanceException) {
+                        result.addFailure(chunkStart + i, instanceException);
+                    }
+                }
+            }
+
+            // The later chunks reuse the process definition resolved by the first one
+            if (startProcessInstancesCmd.getProcessDefinition() != null) {
+                processDefinitionId = startProcessInstancesCmd.getProcessDefinition().getId();
+            }
+        }
+
+        return result;
+    }
+
     public void changeActivityState(ChangeActivityStateBuilderImpl changeActivityStateBuilder) {
         commandExecutor.execute(new ChangeActivityStateCmd(changeActivityStateBuilder));
     }
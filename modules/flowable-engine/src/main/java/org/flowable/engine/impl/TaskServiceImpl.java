@@ -26,6 +26,8 @@ import org.flowable.engine.common.api.FlowableIllegalArgumentException;
 import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.flowable.engine.impl.cmd.AddCommentCmd;
 import org.flowable.engine.impl.cmd.AddIdentityLinkCmd;
+import org.flowable.engine.impl.cmd.BatchTaskCmd;
+import org.flowable.engine.impl.cmd.BatchTaskCmd.TaskCommandFactory;
 import org.flowable.engine.impl.cmd.ClaimTaskCmd;
 import org.flowable.engine.impl.cmd.CompleteTaskCmd;
 import org.flowable.engine.impl.cmd.CompleteTaskWithFormCmd;
@@ -66,10 +68,12 @@ import org.flowable.engine.impl.cmd.SaveTaskCmd;
 import org.flowable.engine.impl.cmd.SetTaskDueDateCmd;
 import org.flowable.engine.impl.cmd.SetTaskPriorityCmd;
 import org.flowable.engine.impl.cmd.SetTaskVariablesCmd;
+import org.flowable.engine.impl.interceptor.Command;
 import org.flowable.engine.impl.persistence.entity.CommentEntity;
 import org.flowable.engine.impl.persistence.entity.VariableInstance;
 import org.flowable.engine.runtime.DataObject;
 import org.flowable.engine.task.Attachment;
+import org.flowable.engine.task.BatchTaskResult;
 import org.flowable.engine.task.Comment;
 import org.flowable.engine.task.Event;
 import org.flowable.engine.task.IdentityLink;
@@ -183,6 +187,59 @@ public class TaskServiceImpl extends ServiceImpl implements TaskService {
         commandExecutor.execute(new ClaimTaskCmd(taskId, null));
     }
 
+    public BatchTaskResult claimTasks(Collection<String> taskIds, final String userId) {
+        return executeBatchTaskOperation(taskIds, new TaskCommandFactory() {
+            public Command<?> createCommand(String taskId) {
+                return new ClaimTaskCmd(taskId, userId);
+            }
+        });
+    }
+
+    public BatchTaskResult completeTasks(Collection<String> taskIds, final Map<String, Object> variables) {
+        return executeBatchTaskOperation(taskIds, new TaskCommandFactory() {
+            public Command<?> createCommand(String taskId) {
+                return new CompleteTaskCmd(taskId, variables);
+            }
+        });
+    }
+
+    public BatchTaskResult setAssigneeForTasks(Collection<String> taskIds, final String userId) {
+        return executeBatchTaskOperation(taskIds, new TaskCommandFactory() {
+            public Command<?> createCommand(String taskId) {
+                return new AddIdentityLinkCmd(taskId, userId, AddIdentityLinkCmd.IDENTITY_USER, IdentityLinkType.ASSIGNEE);
+            }
+        });
+    }
+
+    protected BatchTaskResult executeBatchTaskOperation(Collection<String> taskIds, TaskCommandFactory taskCommandFactory) {
+        if (taskIds == null) {
+            throw new FlowableIllegalArgumentException("taskIds is null");
+        }
+
+        BatchTaskResultImpl result = new BatchTaskResultImpl();
+        List<String> taskIdList = new ArrayList<>(taskIds);
+        int chunkSize = Math.max(1, processEngineConfiguration.getPerformanceSettings().getTaskBatchChunkSize());
+        for (int chunkStart = 0; chunkStart < taskIdList.size(); chunkStart += chunkSize) {
+            List<String> chunk = taskIdList.subList(chunkStart, Math.min(chunkStart + chunkSize, taskIdList.size()));
+            try {
+                result.addAll(commandExecutor.execute(new BatchTaskCmd(chunk, taskCommandFactory)));
+
+            } catch (RuntimeException e) {
+                // Execute the operation for the tasks of the chunk one by one, to isolate the failing ones
+                for (String taskId : chunk) {
+                    try {
+                        commandExecutor.execute(taskCommandFactory.createCommand(taskId));
+                        result.addSucceededTaskId(taskId);
+                    } catch (RuntimeException taskException) {
+                        result.addFailure(taskId, taskException);
+                    }
+                }
+            }
+        }
+
+        return result;
+    }
+
     public void complete(String taskId) {
         commandExecutor.execute(new CompleteTaskCmd(taskId, null));
     }
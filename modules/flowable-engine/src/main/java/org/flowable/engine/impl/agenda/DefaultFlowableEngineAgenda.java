@@ -21,6 +21,7 @@ import org.flowable.engine.impl.delegate.ActivityBehavior;
 import org.flowable.engine.impl.interceptor.Command;
 import org.flowable.engine.impl.interceptor.CommandContext;
 import org.flowable.engine.impl.interceptor.CommandExecutor;
+import org.flowable.engine.impl.metrics.MetricsRegistry;
 import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -81,6 +82,11 @@ public class DefaultFlowableEngineAgenda implements FlowableEngineAgenda {
         operations.add(operation);
         LOGGER.debug("Operation {} added to agenda", operation.getClass());
 
+        MetricsRegistry metricsRegistry = commandContext.getProcessEngineConfiguration().getMetricsRegistry();
+        if (metricsRegistry != null && metricsRegistry.isEnabled()) {
+            metricsRegistry.increment(MetricsRegistry.AGENDA_OPERATIONS, operation.getClass().getName(), 1);
+        }
+
         if (executionEntity != null) {
             commandContext.addInvolvedExecution(executionEntity);
         }
@@ -63,6 +63,11 @@ public abstract class AbstractAsyncExecutor implements AsyncExecutor {
     protected int resetExpiredJobsInterval = 60 * 1000;
     protected int resetExpiredJobsPageSize = 3;
 
+    protected int numberOfShards;
+    protected int shardHeartbeatIntervalInMillis = 30 * 1000;
+    protected int shardNodeExpirationTimeInMillis = 90 * 1000;
+    protected AsyncJobShardManager jobShardManager;
+
     // Job queue used when async executor is not yet started and jobs are
     // already added.
     // This is mainly used for testing purpose.
@@ -140,6 +145,11 @@ public abstract class AbstractAsyncExecutor implements AsyncExecutor {
         if (!isMessageQueueMode && asyncJobsDueRunnable == null) {
             String acquireJobsRunnableName = acquireRunnableThreadName != null ? acquireRunnableThreadName : "flowable-acquire-async-jobs";
             asyncJobsDueRunnable = new AcquireAsyncJobsDueRunnable(acquireJobsRunnableName, this, jobEntityManagerToUse);
+
+            if (numberOfShards > 0) {
+                jobShardManager = new AsyncJobShardManager(this, numberOfShards, shardHeartbeatIntervalInMillis, shardNodeExpirationTimeInMillis);
+                asyncJobsDueRunnable.setJobShardManager(jobShardManager);
+            }
         }
     }
 
@@ -175,10 +185,14 @@ public abstract class AbstractAsyncExecutor implements AsyncExecutor {
         if (resetExpiredJobsRunnable != null) {
             resetExpiredJobsRunnable.stop();
         }
+        if (jobShardManager != null) {
+            jobShardManager.release(processEngineConfiguration.getCommandExecutor());
+        }
 
         timerJobRunnable = null;
         asyncJobsDueRunnable = null;
         resetExpiredJobsRunnable = null;
+        jobShardManager = null;
     }
 
     protected abstract void shutdownAdditionalComponents();
@@ -329,6 +343,30 @@ public abstract class AbstractAsyncExecutor implements AsyncExecutor {
         this.resetExpiredJobsPageSize = resetExpiredJobsPageSize;
     }
 
+    public int getNumberOfShards() {
+        return numberOfShards;
+    }
+
+    public void setNumberOfShards(int numberOfShards) {
+        this.numberOfShards = numberOfShards;
+    }
+
+    public int getShardHeartbeatIntervalInMillis() {
+        return shardHeartbeatIntervalInMillis;
+    }
+
+    public void setShardHeartbeatIntervalInMillis(int shardHeartbeatIntervalInMillis) {
+        this.shardHeartbeatIntervalInMillis = shardHeartbeatIntervalInMillis;
+    }
+
+    public int getShardNodeExpirationTimeInMillis() {
+        return shardNodeExpirationTimeInMillis;
+    }
+
+    public void setShardNodeExpirationTimeInMillis(int shardNodeExpirationTimeInMillis) {
+        this.shardNodeExpirationTimeInMillis = shardNodeExpirationTimeInMillis;
+    }
+
     public ExecuteAsyncRunnableFactory getExecuteAsyncRunnableFactory() {
         return executeAsyncRunnableFactory;
     }
@@ -35,6 +35,7 @@ public class AcquireAsyncJobsDueRunnable implements Runnable {
     protected String name;
     protected final AsyncExecutor asyncExecutor;
     protected final JobInfoEntityManager<? extends JobInfoEntity> jobEntityManager;
+    protected AsyncJobShardManager jobShardManager;
 
     protected volatile boolean isInterrupted;
     protected final Object MONITOR = new Object();
@@ -80,7 +81,8 @@ public class AcquireAsyncJobsDueRunnable implements Runnable {
 
     protected long acquireAndExecuteJobs(CommandExecutor commandExecutor, int remainingCapacity) {
         try {
-            AcquiredJobEntities acquiredJobs = commandExecutor.execute(new AcquireJobsCmd(asyncExecutor, remainingCapacity, jobEntityManager));
+            List<Integer> shards = jobShardManager != null ? jobShardManager.getOwnedShards(commandExecutor) : null;
+            AcquiredJobEntities acquiredJobs = commandExecutor.execute(new AcquireJobsCmd(asyncExecutor, remainingCapacity, jobEntityManager, shards));
 
             List<JobInfoEntity> rejectedJobs = offerJobs(acquiredJobs);
 
@@ -120,6 +122,10 @@ public class AcquireAsyncJobsDueRunnable implements Runnable {
         return rejected;
     }
 
+    public void setJobShardManager(AsyncJobShardManager jobShardManager) {
+        this.jobShardManager = jobShardManager;
+    }
+
     public void stop() {
         synchronized (MONITOR) {
             isInterrupted = true;
@@ -0,0 +1,84 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.asyncexecutor;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.flowable.engine.common.api.FlowableOptimisticLockingException;
+import org.flowable.engine.impl.cmd.HeartbeatJobShardNodeCmd;
+import org.flowable.engine.impl.cmd.ReleaseJobShardNodeCmd;
+import org.flowable.engine.impl.interceptor.CommandExecutor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Keeps track of the shards owned by an {@link AsyncExecutor} when sharded job acquisition is enabled.
+ * 
+ * The owned shards are recalculated with every heartbeat. Between heartbeats the last known shards are used, so during a rebalancing two
+ * nodes can briefly own the same shard. This is harmless, as acquiring a job still locks it.
+ */
+public class AsyncJobShardManager {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(AsyncJobShardManager.class);
+
+    protected final AsyncExecutor asyncExecutor;
+    protected final int numberOfShards;
+    protected final int heartbeatIntervalInMillis;
+    protected final int nodeExpirationTimeInMillis;
+
+    protected List<Integer> ownedShards;
+    protected long lastHeartbeatTime;
+
+    public AsyncJobShardManager(AsyncExecutor asyncExecutor, int numberOfShards, int heartbeatIntervalInMillis, int nodeExpirationTimeInMillis) {
+        this.asyncExecutor = asyncExecutor;
+        this.numberOfShards = numberOfShards;
+        this.heartbeatIntervalInMillis = heartbeatIntervalInMillis;
+        this.nodeExpirationTimeInMillis = nodeExpirationTimeInMillis;
+    }
+
+    /**
+     * Returns the shards currently owned by the async executor, sending a heartbeat first when the heartbeat interval has passed.
+     * As long as no heartbeat has succeeded, no shards are owned.
+     */
+    public synchronized List<Integer> getOwnedShards(CommandExecutor commandExecutor) {
+        long now = asyncExecutor.getProcessEngineConfiguration().getClock().getCurrentTime().getTime();
+        if (ownedShards == null || now - lastHeartbeatTime >= heartbeatIntervalInMillis) {
+            try {
+                ownedShards = commandExecutor.execute(new HeartbeatJobShardNodeCmd(asyncExecutor.getLockOwner(), numberOfShards, nodeExpirationTimeInMillis));
+                lastHeartbeatTime = now;
+                LOGGER.debug("Async executor {} owns shards {}", asyncExecutor.getLockOwner(), ownedShards);
+
+            } catch (FlowableOptimisticLockingException optimisticLockingException) {
+                LOGGER.debug("Optimistic locking exception during shard heartbeat. The node expired and was removed by another node, it will register again on the next heartbeat: {}",
+                        optimisticLockingException.getMessage());
+            } catch (Throwable e) {
+                LOGGER.error("exception during shard heartbeat: {}", e.getMessage(), e);
+            }
+        }
+        return ownedShards != null ? ownedShards : Collections.<Integer>emptyList();
+    }
+
+    /**
+     * Removes the node of the async executor, so the other nodes take over its shards on their next heartbeat.
+     */
+    public synchronized void release(CommandExecutor commandExecutor) {
+        try {
+            commandExecutor.execute(new ReleaseJobShardNodeCmd(asyncExecutor.getLockOwner()));
+        } catch (Throwable e) {
+            LOGGER.warn("Could not release the shards of async executor {}: {}", asyncExecutor.getLockOwner(), e.getMessage());
+        }
+        ownedShards = null;
+    }
+
+}
@@ -16,6 +16,7 @@ import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 
@@ -23,6 +24,8 @@ import org.apache.commons.lang3.concurrent.BasicThreadFactory;
 import org.flowable.engine.impl.context.Context;
 import org.flowable.engine.impl.interceptor.Command;
 import org.flowable.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.metrics.MetricsRegistry;
+import org.flowable.engine.runtime.Job;
 import org.flowable.engine.runtime.JobInfo;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -72,12 +75,38 @@ public class DefaultAsyncJobExecutor extends AbstractAsyncExecutor {
      */
     protected long secondsToWaitOnShutdown = 60L;
 
+    /**
+     * The number of single threaded lanes used for exclusive jobs. Default 0, meaning exclusive jobs are executed by the regular thread pool and
+     * lock their process instance in a separate transaction before and after the job.
+     * 
+     * When set, exclusive jobs are routed to a lane based on a hash of their process instance id. All exclusive jobs of one process instance
+     * thus run one after another on this node, which allows folding the process instance lock and unlock into the transaction of the job.
+     */
+    protected int exclusiveJobLanes;
+
+    /** The executor services of the exclusive job lanes, only created when {@link #exclusiveJobLanes} is set */
+    protected ExecutorService[] exclusiveJobLaneExecutorServices;
+
     protected boolean executeAsyncJob(final JobInfo job, Runnable runnable) {
+        MetricsRegistry metricsRegistry = processEngineConfiguration.getMetricsRegistry();
+        boolean metricsEnabled = metricsRegistry != null && metricsRegistry.isEnabled();
+        if (metricsEnabled && threadPoolQueue != null) {
+            metricsRegistry.recordValue(MetricsRegistry.ASYNC_EXECUTOR_QUEUE_SIZE, getClass().getName(), threadPoolQueue.size());
+        }
+
         try {
-            executorService.execute(runnable);
+            if (exclusiveJobLaneExecutorServices != null && isExclusiveLaneJob(job)) {
+                exclusiveJobLaneExecutorServices[getExclusiveJobLane(((Job) job).getProcessInstanceId())].execute(runnable);
+            } else {
+                executorService.execute(runnable);
+            }
             return true;
         } catch (RejectedExecutionException e) {
 
+            if (metricsEnabled) {
+                metricsRegistry.increment(MetricsRegistry.ASYNC_EXECUTOR_REJECTED_JOBS, getClass().getName(), 1);
+            }
+
             // When a RejectedExecutionException is caught, this means that the queue for holding the jobs
             // that are to be executed is full and can't store more.
             // The job is now 'unlocked', meaning that the lock owner/time is set to null,
@@ -106,9 +135,28 @@ public class DefaultAsyncJobExecutor extends AbstractAsyncExecutor {
         }
     }
 
+    @Override
+    protected Runnable createRunnableForJob(JobInfo job) {
+        Runnable runnable = super.createRunnableForJob(job);
+        if (exclusiveJobLaneExecutorServices != null && runnable instanceof ExecuteAsyncRunnable && isExclusiveLaneJob(job)) {
+            ((ExecuteAsyncRunnable) runnable).setLockInJobTransaction(true);
+        }
+        return runnable;
+    }
+
+    protected boolean isExclusiveLaneJob(JobInfo job) {
+        return job instanceof Job && ((Job) job).isExclusive() && ((Job) job).getProcessInstanceId() != null;
+    }
+
+    protected int getExclusiveJobLane(String processInstanceId) {
+        int lane = processInstanceId.hashCode() % exclusiveJobLaneExecutorServices.length;
+        return lane < 0 ? lane + exclusiveJobLaneExecutorServices.length : lane;
+    }
+
     @Override
     protected void startAdditionalComponents() {
         if (!isMessageQueueMode) {
+            initExclusiveJobLanes();
             initAsyncJobExecutionThreadPool();
             startJobAcquisitionThread();
         }
@@ -129,6 +177,7 @@ public class DefaultAsyncJobExecutor extends AbstractAsyncExecutor {
         stopTimerAcquisitionThread();
         stopJobAcquisitionThread();
         stopExecutingAsyncJobs();
+        stopExclusiveJobLanes();
     }
 
     protected void initAsyncJobExecutionThreadPool() {
@@ -145,6 +194,42 @@ public class DefaultAsyncJobExecutor extends AbstractAsyncExecutor {
         }
     }
 
+    protected void initExclusiveJobLanes() {
+        if (exclusiveJobLanes > 0 && exclusiveJobLaneExecutorServices == null) {
+            LOGGER.info("Creating {} exclusive job lanes with a queue size of {}", exclusiveJobLanes, queueSize);
+
+            ThreadFactory threadFactory = createExclusiveJobLaneThreadFactory();
+            exclusiveJobLaneExecutorServices = new ExecutorService[exclusiveJobLanes];
+            for (int i = 0; i < exclusiveJobLanes; i++) {
+                exclusiveJobLaneExecutorServices[i] = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<Runnable>(queueSize), threadFactory);
+            }
+        }
+    }
+
+    protected ThreadFactory createExclusiveJobLaneThreadFactory() {
+        return new BasicThreadFactory.Builder().namingPattern("flowable-async-job-executor-lane-%d").build();
+    }
+
+    protected void stopExclusiveJobLanes() {
+        if (exclusiveJobLaneExecutorServices != null) {
+            for (ExecutorService laneExecutorService : exclusiveJobLaneExecutorServices) {
+                laneExecutorService.shutdown();
+            }
+
+            try {
+                for (ExecutorService laneExecutorService : exclusiveJobLaneExecutorServices) {
+                    if (!laneExecutorService.awaitTermination(secondsToWaitOnShutdown, TimeUnit.SECONDS)) {
+                        LOGGER.warn("Timeout during shutdown of an exclusive job lane. The current running jobs could not end within {} seconds after shutdown operation.", secondsToWaitOnShutdown);
+                    }
+                }
+            } catch (InterruptedException e) {
+                LOGGER.warn("Interrupted while shutting down the exclusive job lanes. ", e);
+            }
+
+            exclusiveJobLaneExecutorServices = null;
+        }
+    }
+
     protected void stopExecutingAsyncJobs() {
         if (executorService != null) {
 
@@ -305,6 +390,14 @@ public class DefaultAsyncJobExecutor extends AbstractAsyncExecutor {
         this.unlockOwnedJobs = unlockOwnedJobs;
     }
 
+    public int getExclusiveJobLanes() {
+        return exclusiveJobLanes;
+    }
+
+    public void setExclusiveJobLanes(int exclusiveJobLanes) {
+        this.exclusiveJobLanes = exclusiveJobLanes;
+    }
+
     public BlockingQueue<Runnable> getThreadPoolQueue() {
         return threadPoolQueue;
     }
@@ -19,6 +19,7 @@ import org.flowable.engine.delegate.event.FlowableEngineEventType;
 import org.flowable.engine.delegate.event.impl.FlowableEventBuilder;
 import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.flowable.engine.impl.cmd.ExecuteAsyncJobCmd;
+import org.flowable.engine.impl.cmd.ExecuteExclusiveAsyncJobCmd;
 import org.flowable.engine.impl.cmd.LockExclusiveJobCmd;
 import org.flowable.engine.impl.cmd.UnlockExclusiveJobCmd;
 import org.flowable.engine.impl.context.Context;
@@ -48,6 +49,12 @@ public class ExecuteAsyncRunnable implements Runnable {
     protected JobInfoEntityManager<? extends JobInfoEntity> jobEntityManager;
     protected AsyncRunnableExecutionExceptionHandler asyncRunnableExecutionExceptionHandler;
 
+    /**
+     * Whether the process instance lock of an exclusive job is folded into the transaction of the job itself. Only safe when
+     * the caller makes sure exclusive jobs of the same process instance are not executed concurrently on this node.
+     */
+    protected boolean lockInJobTransaction;
+
     public ExecuteAsyncRunnable(String jobId, ProcessEngineConfigurationImpl processEngineConfiguration, 
             JobInfoEntityManager<? extends JobInfoEntity> jobEntityManager,
             AsyncRunnableExecutionExceptionHandler asyncRunnableExecutionExceptionHandler) {
@@ -84,6 +91,11 @@ public class ExecuteAsyncRunnable implements Runnable {
         
         if (job instanceof AbstractRuntimeJobEntity) {
 
+            if (lockInJobTransaction && ((Job) job).isExclusive()) {
+                executeExclusiveJob();
+                return;
+            }
+
             boolean lockNotNeededOrSuccess = lockJobIfNeeded();
     
             if (lockNotNeededOrSuccess) {
@@ -135,6 +147,26 @@ public class ExecuteAsyncRunnable implements Runnable {
         }
     }
 
+    protected void executeExclusiveJob() {
+        ExecuteExclusiveAsyncJobCmd executeExclusiveAsyncJobCmd = new ExecuteExclusiveAsyncJobCmd((Job) job, jobEntityManager);
+        try {
+            processEngineConfiguration.getCommandExecutor().execute(executeExclusiveAsyncJobCmd);
+
+        } catch (Throwable exception) {
+            if (!executeExclusiveAsyncJobCmd.isLocked()) {
+                if (LOGGER.isDebugEnabled()) {
+                    LOGGER.debug("Could not lock exclusive job. Unlocking job so it can be acquired again. Caught exception: {}", exception.getMessage());
+                }
+
+                // Release the job again so it can be acquired later or by another node
+                unacquireJob();
+
+            } else {
+                handleFailedJob(exception);
+            }
+        }
+    }
+
     protected void unlockJobIfNeeded() {
         Job job = (Job) this.job; // This method is only called for a regular Job
         try {
@@ -193,6 +225,14 @@ public class ExecuteAsyncRunnable implements Runnable {
         }
     }
 
+    public boolean isLockInJobTransaction() {
+        return lockInJobTransaction;
+    }
+
+    public void setLockInJobTransaction(boolean lockInJobTransaction) {
+        this.lockInJobTransaction = lockInJobTransaction;
+    }
+
     protected void handleFailedJob(final Throwable exception) {
         AsyncRunnableExecutionExceptionHandler exceptionHandler;
         if (asyncRunnableExecutionExceptionHandler != null) {
@@ -13,6 +13,7 @@
 package org.flowable.engine.impl.asyncexecutor;
 
 import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 
@@ -42,6 +43,14 @@ public class ManagedAsyncJobExecutor extends DefaultAsyncJobExecutor {
         this.threadFactory = threadFactory;
     }
 
+    @Override
+    protected ThreadFactory createExclusiveJobLaneThreadFactory() {
+        if (threadFactory != null) {
+            return threadFactory;
+        }
+        return super.createExclusiveJobLaneThreadFactory();
+    }
+
     protected void initAsyncJobExecutionThreadPool() {
         if (threadFactory == null) {
             LOGGER.warn("A managed thread factory was not found, falling back to self-managed threads");
@@ -0,0 +1,405 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.asyncexecutor.multitenant;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.flowable.engine.common.api.FlowableOptimisticLockingException;
+import org.flowable.engine.impl.asyncexecutor.AcquiredJobEntities;
+import org.flowable.engine.impl.asyncexecutor.AcquiredTimerJobEntities;
+import org.flowable.engine.impl.asyncexecutor.AsyncExecutor;
+import org.flowable.engine.impl.asyncexecutor.DefaultAsyncJobExecutor;
+import org.flowable.engine.impl.asyncexecutor.ExecuteAsyncRunnableFactory;
+import org.flowable.engine.impl.asyncexecutor.FindExpiredJobsCmd;
+import org.flowable.engine.impl.asyncexecutor.ResetExpiredJobsCmd;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.cfg.multitenant.TenantInfoHolder;
+import org.flowable.engine.impl.cmd.AcquireJobsCmd;
+import org.flowable.engine.impl.cmd.AcquireTimerJobsCmd;
+import org.flowable.engine.impl.cmd.UnacquireOwnedJobsCmd;
+import org.flowable.engine.impl.interceptor.Command;
+import org.flowable.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.interceptor.CommandExecutor;
+import org.flowable.engine.impl.persistence.entity.JobInfoEntity;
+import org.flowable.engine.impl.persistence.entity.TimerJobEntity;
+import org.flowable.engine.runtime.JobInfo;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Multi tenant {@link AsyncExecutor} that uses a small, fixed number of acquisition threads for all tenants, next to one shared
+ * {@link java.util.concurrent.ExecutorService} for the job execution.
+ * 
+ * For every tenant, the async job acquisition, the timer job acquisition and the resetting of expired jobs are scheduled as separate tasks.
+ * The acquisition threads always pick the task that is due first, so tenants are served in turn:
+ * 
+ * - A tenant for which an acquisition finds nothing backs off: the wait time doubles for every empty acquisition, up to
+ * {@link #getIdleTenantMaxWaitTimeInMillis()}. Note that timers of an idle tenant can therefore fire up to that wait time late.
+ * 
+ * - A tenant for which an acquisition returns a full page of jobs gets up to its weight (see {@link #setTenantWeight(String, int)}, 1 by
+ * default) acquisitions in a row and is then scheduled again immediately, behind the other tenants that are already due.
+ */
+public class SharedAcquisitionAsyncExecutor extends DefaultAsyncJobExecutor implements TenantAwareAsyncExecutor {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SharedAcquisitionAsyncExecutor.class);
+
+    protected static final int MAX_BACKOFF_SHIFT = 16;
+
+    protected TenantInfoHolder tenantInfoHolder;
+
+    /** The number of threads acquiring jobs for all tenants */
+    protected int acquisitionThreadCount = 2;
+
+    /** The maximum time to wait between two acquisitions for a tenant that had no jobs */
+    protected int idleTenantMaxWaitTimeInMillis = 60 * 1000;
+
+    protected Map<String, TenantAcquisitionState> tenants = new ConcurrentHashMap<String, TenantAcquisitionState>();
+    protected Map<String, Integer> tenantWeights = new ConcurrentHashMap<String, Integer>();
+
+    protected DelayQueue<AcquisitionTask> acquisitionQueue = new DelayQueue<AcquisitionTask>();
+    protected AtomicLong acquisitionTaskSequence = new AtomicLong();
+    protected List<Thread> acquisitionThreads = new ArrayList<Thread>();
+
+    public SharedAcquisitionAsyncExecutor(TenantInfoHolder tenantInfoHolder) {
+        this.tenantInfoHolder = tenantInfoHolder;
+
+        setExecuteAsyncRunnableFactory(new ExecuteAsyncRunnableFactory() {
+
+            @Override
+            public Runnable createExecuteAsyncRunnable(JobInfo job, ProcessEngineConfigurationImpl processEngineConfiguration) {
+
+                // The runnable is created by the acquisition thread, which has set the current tenant id,
+                // but it will be executed later on by the executor service, so the tenant id needs to be set again
+
+                return new TenantAwareExecuteAsyncRunnable(job, processEngineConfiguration,
+                        SharedAcquisitionAsyncExecutor.this.tenantInfoHolder,
+                        SharedAcquisitionAsyncExecutor.this.tenantInfoHolder.getCurrentTenantId());
+            }
+
+        });
+    }
+
+    @Override
+    public Set<String> getTenantIds() {
+        return tenants.keySet();
+    }
+
+    @Override
+    public void addTenantAsyncExecutor(String tenantId, boolean startExecutor) {
+        TenantAcquisitionState tenantState = new TenantAcquisitionState(tenantId);
+        tenants.put(tenantId, tenantState);
+
+        if (isActive) {
+            scheduleTenant(tenantState);
+        }
+    }
+
+    @Override
+    public void removeTenantAsyncExecutor(String tenantId) {
+        // the scheduled tasks of the tenant are dropped when they're taken from the queue
+        tenants.remove(tenantId);
+    }
+
+    public int getTenantWeight(String tenantId) {
+        Integer weight = tenantWeights.get(tenantId);
+        return weight != null ? weight : 1;
+    }
+
+    /**
+     * Sets the number of acquisitions a tenant gets in a row when it has more jobs than fit in one acquisition.
+     */
+    public void setTenantWeight(String tenantId, int weight) {
+        tenantWeights.put(tenantId, Math.max(1, weight));
+    }
+
+    @Override
+    protected void initializeRunnables() {
+        // no single-tenant runnables, all acquisition is done by the shared acquisition threads
+    }
+
+    @Override
+    protected void unlockOwnedJobs() {
+        for (String tenantId : tenants.keySet()) {
+            tenantInfoHolder.setCurrentTenantId(tenantId);
+            processEngineConfiguration.getCommandExecutor().execute(new UnacquireOwnedJobsCmd(lockOwner, tenantId));
+            tenantInfoHolder.clearCurrentTenantId();
+        }
+    }
+
+    @Override
+    protected void startAdditionalComponents() {
+        if (!isMessageQueueMode) {
+            initAsyncJobExecutionThreadPool();
+        }
+
+        if (unlockOwnedJobs) {
+            unlockOwnedJobs();
+        }
+
+        for (TenantAcquisitionState tenantState : tenants.values()) {
+            scheduleTenant(tenantState);
+        }
+
+        for (int i = 0; i < acquisitionThreadCount; i++) {
+            Thread acquisitionThread = new Thread(new AcquisitionRunnable(), "flowable-shared-acquire-jobs-" + i);
+            acquisitionThreads.add(acquisitionThread);
+            acquisitionThread.start();
+        }
+    }
+
+    @Override
+    protected void shutdownAdditionalComponents() {
+        for (int i = 0; i < acquisitionThreads.size(); i++) {
+            acquisitionQueue.put(new AcquisitionTask(null, AcquisitionType.STOP, System.nanoTime(), acquisitionTaskSequence.incrementAndGet()));
+        }
+
+        for (Thread acquisitionThread : acquisitionThreads) {
+            try {
+                acquisitionThread.join();
+            } catch (InterruptedException e) {
+                LOGGER.warn("Interrupted while waiting for the acquisition thread to terminate", e);
+            }
+        }
+        acquisitionThreads.clear();
+        acquisitionQueue.clear();
+
+        stopExecutingAsyncJobs();
+    }
+
+    protected void scheduleTenant(TenantAcquisitionState tenantState) {
+        if (!isMessageQueueMode) {
+            schedule(tenantState, AcquisitionType.ASYNC_JOBS, 0L);
+        }
+        if (timerRunnableNeeded) {
+            schedule(tenantState, AcquisitionType.TIMER_JOBS, 0L);
+        }
+        schedule(tenantState, AcquisitionType.RESET_EXPIRED_JOBS, 0L);
+    }
+
+    protected void schedule(TenantAcquisitionState tenantState, AcquisitionType type, long delayInMillis) {
+        acquisitionQueue.put(new AcquisitionTask(tenantState, type, System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(delayInMillis),
+                acquisitionTaskSequence.incrementAndGet()));
+    }
+
+    protected long executeAcquisitionTask(AcquisitionTask task) {
+        TenantAcquisitionState tenantState = task.tenantState;
+        CommandExecutor commandExecutor = processEngineConfiguration.getCommandExecutor();
+
+        tenantInfoHolder.setCurrentTenantId(tenantState.tenantId);
+        try {
+            switch (task.type) {
+            case ASYNC_JOBS:
+                return acquireAsyncJobs(tenantState, commandExecutor);
+            case TIMER_JOBS:
+                return acquireTimerJobs(tenantState, commandExecutor);
+            default:
+                resetExpiredJobs(commandExecutor);
+                return resetExpiredJobsInterval;
+            }
+
+        } catch (FlowableOptimisticLockingException e) {
+            LOGGER.debug("Optimistic locking exception during job acquisition for tenant {}. Another async executor acquired the same job.", tenantState.tenantId, e);
+
+        } catch (Throwable e) {
+            LOGGER.error("exception during job acquisition for tenant {}: {}", tenantState.tenantId, e.getMessage(), e);
+
+        } finally {
+            tenantInfoHolder.clearCurrentTenantId();
+        }
+
+        return task.type == AcquisitionType.TIMER_JOBS ? defaultTimerJobAcquireWaitTimeInMillis : defaultAsyncJobAcquireWaitTimeInMillis;
+    }
+
+    protected long acquireAsyncJobs(TenantAcquisitionState tenantState, CommandExecutor commandExecutor) {
+        int rounds = getTenantWeight(tenantState.tenantId);
+        for (int round = 0; round < rounds; round++) {
+            int remainingCapacity = getRemainingCapacity();
+            if (remainingCapacity <= 0) {
+                return defaultQueueSizeFullWaitTime;
+            }
+
+            AcquiredJobEntities acquiredJobs = commandExecutor.execute(new AcquireJobsCmd(this, remainingCapacity, jobEntityManager));
+            for (JobInfoEntity job : acquiredJobs.getJobs()) {
+                if (!executeAsyncJob(job)) {
+                    // the queue is full, the job has been unacquired
+                    return defaultQueueSizeFullWaitTime;
+                }
+            }
+
+            if (acquiredJobs.size() == 0) {
+                return getIdleWaitTime(tenantState.asyncJobsIdleCount++, defaultAsyncJobAcquireWaitTimeInMillis);
+            }
+
+            tenantState.asyncJobsIdleCount = 0;
+            if (acquiredJobs.size() < Math.min(remainingCapacity, maxAsyncJobsDuePerAcquisition)) {
+                return defaultAsyncJobAcquireWaitTimeInMillis;
+            }
+        }
+
+        // more jobs can be expected, but other tenants go first
+        return 0L;
+    }
+
+    protected long acquireTimerJobs(TenantAcquisitionState tenantState, CommandExecutor commandExecutor) {
+        int rounds = getTenantWeight(tenantState.tenantId);
+        for (int round = 0; round < rounds; round++) {
+            final AcquiredTimerJobEntities acquiredJobs = commandExecutor.execute(new AcquireTimerJobsCmd(this));
+            if (acquiredJobs.size() == 0) {
+                return getIdleWaitTime(tenantState.timerJobsIdleCount++, defaultTimerJobAcquireWaitTimeInMillis);
+            }
+
+            commandExecutor.execute(new Command<Void>() {
+
+                @Override
+                public Void execute(CommandContext commandContext) {
+                    for (TimerJobEntity job : acquiredJobs.getJobs()) {
+                        commandContext.getJobManager().moveTimerJobToExecutableJob(job);
+                    }
+                    return null;
+                }
+            });
+
+            tenantState.timerJobsIdleCount = 0;
+            if (acquiredJobs.size() < maxTimerJobsPerAcquisition) {
+                return defaultTimerJobAcquireWaitTimeInMillis;
+            }
+        }
+
+        return 0L;
+    }
+
+    protected void resetExpiredJobs(CommandExecutor commandExecutor) {
+        List<? extends JobInfoEntity> expiredJobs = commandExecutor.execute(new FindExpiredJobsCmd(resetExpiredJobsPageSize, jobEntityManager));
+        if (!expiredJobs.isEmpty()) {
+            List<String> expiredJobIds = new ArrayList<String>(expiredJobs.size());
+            for (JobInfoEntity expiredJob : expiredJobs) {
+                expiredJobIds.add(expiredJob.getId());
+            }
+            commandExecutor.execute(new ResetExpiredJobsCmd(expiredJobIds, jobEntityManager));
+        }
+    }
+
+    /**
+     * Doubles the wait time for every consecutive acquisition that didn't find any jobs, up to the idle tenant maximum.
+     */
+    protected long getIdleWaitTime(int idleCount, long waitTimeInMillis) {
+        long idleWaitTime = waitTimeInMillis << Math.min(idleCount, MAX_BACKOFF_SHIFT);
+        return Math.max(waitTimeInMillis, Math.min(idleWaitTime, idleTenantMaxWaitTimeInMillis));
+    }
+
+    protected class AcquisitionRunnable implements Runnable {
+
+        @Override
+        public void run() {
+            LOGGER.info("starting shared job acquisition");
+
+            while (true) {
+                AcquisitionTask task;
+                try {
+                    task = acquisitionQueue.take();
+                } catch (InterruptedException e) {
+                    LOGGER.debug("shared job acquisition wait interrupted");
+                    continue;
+                }
+
+                if (task.type == AcquisitionType.STOP) {
+                    break;
+                }
+
+                // the tenant was removed (or removed and added again) after the task was scheduled
+                if (tenants.get(task.tenantState.tenantId) != task.tenantState) {
+                    continue;
+                }
+
+                long millisToWait = executeAcquisitionTask(task);
+                if (isActive) {
+                    schedule(task.tenantState, task.type, millisToWait);
+                }
+            }
+
+            LOGGER.info("stopped shared job acquisition");
+        }
+    }
+
+    protected enum AcquisitionType {
+        ASYNC_JOBS, TIMER_JOBS, RESET_EXPIRED_JOBS, STOP
+    }
+
+    protected static class TenantAcquisitionState {
+
+        protected final String tenantId;
+
+        // only changed by the acquisition thread executing a task of the tenant, and there is only one task per type scheduled at any time
+        protected volatile int asyncJobsIdleCount;
+        protected volatile int timerJobsIdleCount;
+
+        public TenantAcquisitionState(String tenantId) {
+            this.tenantId = tenantId;
+        }
+    }
+
+    protected static class AcquisitionTask implements Delayed {
+
+        protected final TenantAcquisitionState tenantState;
+        protected final AcquisitionType type;
+        protected final long dueTimeInNanos;
+        protected final long sequence;
+
+        public AcquisitionTask(TenantAcquisitionState tenantState, AcquisitionType type, long dueTimeInNanos, long sequence) {
+            this.tenantState = tenantState;
+            this.type = type;
+            this.dueTimeInNanos = dueTimeInNanos;
+            this.sequence = sequence;
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(dueTimeInNanos - System.nanoTime(), TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            AcquisitionTask otherTask = (AcquisitionTask) other;
+            if (dueTimeInNanos != otherTask.dueTimeInNanos) {
+                // nanoTime values should be compared through their difference
+                return dueTimeInNanos - otherTask.dueTimeInNanos < 0 ? -1 : 1;
+            }
+            return sequence < otherTask.sequence ? -1 : (sequence == otherTask.sequence ? 0 : 1);
+        }
+    }
+
+    public int getAcquisitionThreadCount() {
+        return acquisitionThreadCount;
+    }
+
+    public void setAcquisitionThreadCount(int acquisitionThreadCount) {
+        this.acquisitionThreadCount = acquisitionThreadCount;
+    }
+
+    public int getIdleTenantMaxWaitTimeInMillis() {
+        return idleTenantMaxWaitTimeInMillis;
+    }
+
+    public void setIdleTenantMaxWaitTimeInMillis(int idleTenantMaxWaitTimeInMillis) {
+        this.idleTenantMaxWaitTimeInMillis = idleTenantMaxWaitTimeInMillis;
+    }
+
+}
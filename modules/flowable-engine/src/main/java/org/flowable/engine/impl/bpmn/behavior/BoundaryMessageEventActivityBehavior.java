@@ -27,6 +27,7 @@ import org.flowable.engine.impl.persistence.entity.EventSubscriptionEntity;
 import org.flowable.engine.impl.persistence.entity.EventSubscriptionEntityManager;
 import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
 import org.flowable.engine.impl.persistence.entity.MessageEventSubscriptionEntity;
+import org.flowable.engine.impl.util.EventSubscriptionUtil;
 
 /**
  * @author Tijs Rademakers
@@ -56,7 +57,8 @@ public class BoundaryMessageEventActivityBehavior extends BoundaryEventActivityB
             messageName = messageExpression.getValue(execution).toString();
         }
 
-        commandContext.getEventSubscriptionEntityManager().insertMessageEvent(messageName, executionEntity);
+        String correlationKey = EventSubscriptionUtil.getMessageCorrelationKey(messageEventDefinition, execution);
+        commandContext.getEventSubscriptionEntityManager().insertMessageEvent(messageName, correlationKey, executionEntity);
 
         if (commandContext.getProcessEngineConfiguration().getEventDispatcher().isEnabled()) {
             commandContext.getProcessEngineConfiguration().getEventDispatcher()
@@ -71,6 +71,14 @@ public class IntermediateThrowSignalEventActivityBehavior extends AbstractBpmnAc
         }
 
         EventSubscriptionEntityManager eventSubscriptionEntityManager = commandContext.getEventSubscriptionEntityManager();
+
+        // A global signal can be delivered to the subscriptions in chunks, after this transaction
+        if (!processInstanceScope && commandContext.getProcessEngineConfiguration().getPerformanceSettings().getSignalBroadcastAsyncChunkSize() > 0) {
+            eventSubscriptionEntityManager.scheduleSignalBroadcast(eventSubscriptionName, execution.getTenantId(), false, signalEventDefinition.isAsync());
+            commandContext.getAgenda().planTakeOutgoingSequenceFlowsOperation((ExecutionEntity) execution, true);
+            return;
+        }
+
         List<SignalEventSubscriptionEntity> subscriptionEntities = null;
         if (processInstanceScope) {
             subscriptionEntities = eventSubscriptionEntityManager
@@ -17,6 +17,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
+import java.util.RandomAccess;
 
 import org.flowable.bpmn.model.Activity;
 import org.flowable.bpmn.model.BoundaryEvent;
@@ -231,10 +232,41 @@ public abstract class MultiInstanceActivityBehavior extends FlowNodeActivityBeha
             setLoopVariable(execution, collectionElementVariable, value);
         }
 
+        continueOriginalBehavior(execution, loopCounter);
+    }
+
+    /**
+     * Same as {@link #executeOriginalBehavior(DelegateExecution, int)}, but using collection elements that were resolved up front (see {@link #resolveCollectionElements(DelegateExecution)}).
+     * This avoids evaluating and iterating the collection again for every instance, which is quadratic for large collections.
+     */
+    protected void executeOriginalBehavior(DelegateExecution execution, List<Object> collectionElements, int loopCounter) {
+        if (collectionElements != null) {
+            setLoopVariable(execution, collectionElementVariable, collectionElements.get(loopCounter));
+        }
+
+        continueOriginalBehavior(execution, loopCounter);
+    }
+
+    protected void continueOriginalBehavior(DelegateExecution execution, int loopCounter) {
         execution.setCurrentFlowElement(activity);
         Context.getAgenda().planContinueMultiInstanceOperation((ExecutionEntity) execution, loopCounter);
     }
 
+    /**
+     * @return the elements of the collection as an indexed list, or null if no element variable needs to be set for the instances.
+     */
+    @SuppressWarnings("unchecked")
+    protected List<Object> resolveCollectionElements(DelegateExecution execution) {
+        if (usesCollection() && collectionElementVariable != null) {
+            Collection<Object> collection = (Collection<Object>) resolveCollection(execution);
+            if (collection instanceof List && collection instanceof RandomAccess) {
+                return (List<Object>) collection;
+            }
+            return new ArrayList<Object>(collection);
+        }
+        return null;
+    }
+
     @SuppressWarnings("rawtypes")
     protected Collection resolveAndValidateCollection(DelegateExecution execution) {
         Object obj = resolveCollection(execution);
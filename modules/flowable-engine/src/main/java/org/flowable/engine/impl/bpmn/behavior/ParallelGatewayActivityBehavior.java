@@ -66,22 +66,40 @@ public class ParallelGatewayActivityBehavior extends GatewayActivityBehavior {
             throw new FlowableException("Programmatic error: parallel gateway behaviour can only be applied" + " to a ParallelGateway instance, but got an instance of " + flowElement);
         }
 
-        lockFirstParentScope(execution);
+        int nbrOfExecutionsToJoin = parallelGateway.getIncomingFlows().size();
+        int nbrOfExecutionsCurrentlyJoined = 0;
+        Collection<ExecutionEntity> joinedExecutions = null;
+
+        if (Context.getProcessEngineConfiguration().getPerformanceSettings().isEnableParallelGatewayJoinCounter()) {
+
+            // The counter lives on the scope execution, which is locked anyway.
+            // Only an arrival that could complete the join needs to fetch the joined executions.
+            ExecutionEntity scopeExecution = findFirstParentScope(execution);
+            scopeExecution.forceUpdate();
+
+            nbrOfExecutionsCurrentlyJoined = scopeExecution.getJoinCount(parallelGateway.getId()) + 1;
+            if (nbrOfExecutionsCurrentlyJoined >= nbrOfExecutionsToJoin) {
+
+                // The counter can be too high, when a waiting execution was removed (for example by a boundary event)
+                // without leaving the join. The joined executions decide, and the counter is corrected when the join does not activate.
+                joinedExecutions = findJoinedExecutions(execution, parallelGateway);
+                nbrOfExecutionsCurrentlyJoined = joinedExecutions.size();
+                if (nbrOfExecutionsCurrentlyJoined == nbrOfExecutionsToJoin) {
+                    scopeExecution.setJoinCount(parallelGateway.getId(), 0);
+                } else {
+                    scopeExecution.setJoinCount(parallelGateway.getId(), nbrOfExecutionsCurrentlyJoined);
+                }
 
-        DelegateExecution multiInstanceExecution = null;
-        if (hasMultiInstanceParent(parallelGateway)) {
-            multiInstanceExecution = findMultiInstanceParentExecution(execution);
-        }
+            } else {
+                scopeExecution.setJoinCount(parallelGateway.getId(), nbrOfExecutionsCurrentlyJoined);
+            }
 
-        ExecutionEntityManager executionEntityManager = Context.getCommandContext().getExecutionEntityManager();
-        Collection<ExecutionEntity> joinedExecutions = executionEntityManager.findInactiveExecutionsByActivityIdAndProcessInstanceId(execution.getCurrentActivityId(), execution.getProcessInstanceId());
-        if (multiInstanceExecution != null) {
-            joinedExecutions = cleanJoinedExecutions(joinedExecutions, multiInstanceExecution);
+        } else {
+            lockFirstParentScope(execution);
+            joinedExecutions = findJoinedExecutions(execution, parallelGateway);
+            nbrOfExecutionsCurrentlyJoined = joinedExecutions.size();
         }
 
-        int nbrOfExecutionsToJoin = parallelGateway.getIncomingFlows().size();
-        int nbrOfExecutionsCurrentlyJoined = joinedExecutions.size();
-
         // Fork
 
         // Is needed to set the endTime for all historic activity joins
@@ -89,6 +107,8 @@ public class ParallelGatewayActivityBehavior extends GatewayActivityBehavior {
 
         if (nbrOfExecutionsCurrentlyJoined == nbrOfExecutionsToJoin) {
 
+            ExecutionEntityManager executionEntityManager = Context.getCommandContext().getExecutionEntityManager();
+
             // Fork
             if (LOGGER.isDebugEnabled()) {
                 LOGGER.debug("parallel gateway '{}' activates: {} of {} joined", execution.getCurrentActivityId(), nbrOfExecutionsCurrentlyJoined, nbrOfExecutionsToJoin);
@@ -117,6 +137,20 @@ public class ParallelGatewayActivityBehavior extends GatewayActivityBehavior {
 
     }
 
+    protected Collection<ExecutionEntity> findJoinedExecutions(DelegateExecution execution, ParallelGateway parallelGateway) {
+        DelegateExecution multiInstanceExecution = null;
+        if (hasMultiInstanceParent(parallelGateway)) {
+            multiInstanceExecution = findMultiInstanceParentExecution(execution);
+        }
+
+        ExecutionEntityManager executionEntityManager = Context.getCommandContext().getExecutionEntityManager();
+        Collection<ExecutionEntity> joinedExecutions = executionEntityManager.findInactiveExecutionsByActivityIdAndProcessInstanceId(execution.getCurrentActivityId(), execution.getProcessInstanceId());
+        if (multiInstanceExecution != null) {
+            joinedExecutions = cleanJoinedExecutions(joinedExecutions, multiInstanceExecution);
+        }
+        return joinedExecutions;
+    }
+
     protected Collection<ExecutionEntity> cleanJoinedExecutions(Collection<ExecutionEntity> joinedExecutions, DelegateExecution multiInstanceExecution) {
         List<ExecutionEntity> cleanedExecutions = new ArrayList<ExecutionEntity>();
         for (ExecutionEntity executionEntity : joinedExecutions) {
@@ -25,15 +25,20 @@ import org.flowable.bpmn.model.CompensateEventDefinition;
 import org.flowable.bpmn.model.FlowElement;
 import org.flowable.bpmn.model.SubProcess;
 import org.flowable.bpmn.model.Transaction;
+import org.flowable.engine.common.api.FlowableException;
 import org.flowable.engine.common.api.FlowableIllegalArgumentException;
 import org.flowable.engine.common.impl.util.CollectionUtil;
 import org.flowable.engine.delegate.DelegateExecution;
+import org.flowable.engine.impl.asyncexecutor.JobManager;
 import org.flowable.engine.impl.bpmn.helper.ScopeUtil;
+import org.flowable.engine.impl.cfg.PerformanceSettings;
 import org.flowable.engine.impl.context.Context;
 import org.flowable.engine.impl.delegate.ActivityBehavior;
 import org.flowable.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.jobexecutor.ParallelMultiInstanceChunkJobHandler;
 import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
 import org.flowable.engine.impl.persistence.entity.ExecutionEntityManager;
+import org.flowable.engine.impl.persistence.entity.JobEntity;
 
 /**
  * @author Joram Barrez
@@ -49,6 +54,9 @@ public class ParallelMultiInstanceBehavior extends MultiInstanceActivityBehavior
 
     /**
      * Handles the parallel case of spawning the instances. Will create child executions accordingly for every instance needed.
+     * 
+     * When the number of instances exceeds {@link PerformanceSettings#getParallelMultiInstanceAsyncChunkSize()}, only the first chunk of instances is created here
+     * and the remaining ones are created by chained {@link ParallelMultiInstanceChunkJobHandler} jobs.
      */
     protected int createInstances(DelegateExecution multiInstanceRootExecution) {
         int nrOfInstances = resolveNrOfInstances(multiInstanceRootExecution);
@@ -60,10 +68,37 @@ public class ParallelMultiInstanceBehavior extends MultiInstanceActivityBehavior
         setLoopVariable(multiInstanceRootExecution, NUMBER_OF_COMPLETED_INSTANCES, 0);
         setLoopVariable(multiInstanceRootExecution, NUMBER_OF_ACTIVE_INSTANCES, nrOfInstances);
 
-        List<ExecutionEntity> concurrentExecutions = new ArrayList<>();
-        for (int loopCounter = 0; loopCounter < nrOfInstances; loopCounter++) {
-            ExecutionEntity concurrentExecution = Context.getCommandContext().getExecutionEntityManager()
-                    .createChildExecution((ExecutionEntity) multiInstanceRootExecution);
+        createInstances(multiInstanceRootExecution, 0, nrOfInstances);
+
+        return nrOfInstances;
+    }
+
+    /**
+     * Creates the instances with a loop counter starting at the given index, up to the configured async chunk size.
+     * When instances remain after this chunk, a job is scheduled to create the next chunk.
+     */
+    protected void createInstances(DelegateExecution multiInstanceRootExecution, int fromLoopCounter, int nrOfInstances) {
+        int chunkSize = Context.getProcessEngineConfiguration().getPerformanceSettings().getParallelMultiInstanceAsyncChunkSize();
+        int toLoopCounter = nrOfInstances;
+        if (chunkSize > 0 && nrOfInstances - fromLoopCounter > chunkSize) {
+            toLoopCounter = fromLoopCounter + chunkSize;
+        }
+
+        // The collection is resolved only once, instead of once for every instance.
+        // A chunk job resolves it again, so it must still have the size the number of instances was based on.
+        List<Object> collectionElements = resolveCollectionElements(multiInstanceRootExecution);
+        if (collectionElements != null) {
+            boolean sizeChanged = fromLoopCounter > 0 && loopCardinalityExpression == null && collectionElements.size() != nrOfInstances;
+            if (sizeChanged || collectionElements.size() < toLoopCounter) {
+                throw new FlowableException("The collection of multi instance activity " + activity.getId() + " has " + collectionElements.size()
+                        + " elements, but " + nrOfInstances + " instances are created");
+            }
+        }
+
+        ExecutionEntityManager executionEntityManager = Context.getCommandContext().getExecutionEntityManager();
+        List<ExecutionEntity> concurrentExecutions = new ArrayList<>(toLoopCounter - fromLoopCounter);
+        for (int loopCounter = fromLoopCounter; loopCounter < toLoopCounter; loopCounter++) {
+            ExecutionEntity concurrentExecution = executionEntityManager.createChildExecution((ExecutionEntity) multiInstanceRootExecution);
             concurrentExecution.setCurrentFlowElement(activity);
             concurrentExecution.setActive(true);
             concurrentExecution.setScope(false);
@@ -74,17 +109,21 @@ public class ParallelMultiInstanceBehavior extends MultiInstanceActivityBehavior
             //Context.getCommandContext().getHistoryManager().recordActivityStart(concurrentExecution);
         }
 
+        if (toLoopCounter < nrOfInstances) {
+            scheduleNextChunk((ExecutionEntity) multiInstanceRootExecution, toLoopCounter);
+        }
+
         // Before the activities are executed, all executions MUST be created up front
         // Do not try to merge this loop with the previous one, as it will lead
         // to bugs, due to possible child execution pruning.
-        for (int loopCounter = 0; loopCounter < nrOfInstances; loopCounter++) {
-            ExecutionEntity concurrentExecution = concurrentExecutions.get(loopCounter);
+        for (int i = 0; i < concurrentExecutions.size(); i++) {
+            ExecutionEntity concurrentExecution = concurrentExecutions.get(i);
             // executions can be inactive, if instances are all automatics
             // (no-waitstate) and completionCondition has been met in the meantime
             if (concurrentExecution.isActive() 
                     && !concurrentExecution.isEnded() 
                     && !concurrentExecution.getParent().isEnded()) {
-                executeOriginalBehavior(concurrentExecution, loopCounter);
+                executeOriginalBehavior(concurrentExecution, collectionElements, fromLoopCounter + i);
             } 
         }
 
@@ -95,8 +134,24 @@ public class ParallelMultiInstanceBehavior extends MultiInstanceActivityBehavior
         if (!concurrentExecutions.isEmpty()) {
             multiInstanceRootExecution.setActive(false);
         }
+    }
 
-        return nrOfInstances;
+    /**
+     * Continues the creation of instances that were postponed to an asynchronous job, starting with the given loop counter.
+     */
+    public void createRemainingInstances(DelegateExecution multiInstanceRootExecution, int fromLoopCounter) {
+        Integer nrOfInstances = getLoopVariable(multiInstanceRootExecution, NUMBER_OF_INSTANCES);
+        if (nrOfInstances != null && fromLoopCounter < nrOfInstances) {
+            createInstances(multiInstanceRootExecution, fromLoopCounter, nrOfInstances);
+        }
+    }
+
+    protected void scheduleNextChunk(ExecutionEntity multiInstanceRootExecution, int fromLoopCounter) {
+        JobManager jobManager = Context.getCommandContext().getJobManager();
+        JobEntity job = jobManager.createAsyncJob(multiInstanceRootExecution, true);
+        job.setJobHandlerType(ParallelMultiInstanceChunkJobHandler.TYPE);
+        job.setJobHandlerConfiguration(String.valueOf(fromLoopCounter));
+        jobManager.scheduleAsyncJob(job);
     }
 
     /**
@@ -12,11 +12,19 @@
  */
 package org.flowable.engine.impl.cfg;
 
+import org.flowable.engine.common.api.FlowableIllegalArgumentException;
+
 /**
  * @author Joram Barrez
  */
 public class PerformanceSettings {
 
+    /**
+     * The maximum value of {@link #taskBatchChunkSize}. A chunk fetches the executions and process instances of its tasks with one query, so the ids
+     * of up to twice the chunk size must fit in one IN clause, which is limited to 1000 elements on Oracle.
+     */
+    public static final int MAX_TASK_BATCH_CHUNK_SIZE = 500;
+
     /**
      * Experimental setting: if true, whenever an execution is fetched from the data store, the whole execution tree is fetched in the same roundtrip.
      * 
@@ -53,6 +61,61 @@ public class PerformanceSettings {
      */
     protected boolean enableLocalization = true;
 
+    /**
+     * Experimental setting: when a parallel multi instance activity has more instances than this number, only this number of instances is created in the transaction that reaches the activity.
+     * The remaining instances are created in chunks of the same size by asynchronous jobs, so no single transaction needs to hold all executions, variables and history of a large collection.
+     * 
+     * Zero or a negative number (the default) means all instances are created in the same transaction.
+     */
+    protected int parallelMultiInstanceAsyncChunkSize;
+
+    /**
+     * Experimental setting: if true, every joining parallel gateway keeps a counter of the arrived executions on the first parent scope execution.
+     * Only the arrival that completes the join fetches the joined executions, instead of every arrival querying all inactive executions of the process instance.
+     * 
+     * Note that executions that were already waiting in a join before this setting was enabled are not counted.
+     */
+    protected boolean enableParallelGatewayJoinCounter;
+
+    /**
+     * Experimental setting: when larger than zero, a signal thrown to all subscriptions (a global signal throw event, or signalEventReceived without an execution id
+     * and without variables) is not delivered in the throwing transaction. Instead a job is scheduled that splits the subscriptions into chunks of this size,
+     * which are delivered by parallel jobs, each in its own transaction and with its own retries.
+     * 
+     * Zero or a negative number (the default) delivers the signal to all subscriptions in the throwing transaction.
+     */
+    protected int signalBroadcastAsyncChunkSize;
+
+    /**
+     * The number of tasks processed in one transaction by the batch operations of the TaskService, such as claimTasks. The tasks of a chunk, their identity links
+     * and executions are fetched with one query each. At most {@link #MAX_TASK_BATCH_CHUNK_SIZE}.
+     */
+    protected int taskBatchChunkSize = 100;
+
+    /**
+     * Experimental setting: if true, commands that declare an {@link org.flowable.engine.impl.persistence.ExecutionPrefetchPlan} (such as completing a task or
+     * executing an async job) fetch the declared related entities (variables, tasks, identity links, event subscriptions, jobs, timer jobs) for the whole process
+     * instance up front, with one query per relation. The lookups per execution or task that follow are then answered from the entity cache.
+     */
+    protected boolean enableExecutionRelatedEntityPrefetching;
+
+    /**
+     * Experimental setting: if true, the accessors for a single variable (getVariable, hasVariable, setVariable and their local variants, and thus also the
+     * expression resolution of variables) fetch only the requested variable instead of all variables of the execution or task and its parents.
+     * All variables are then only fetched on explicit bulk access, such as getVariables().
+     */
+    protected boolean enableSelectiveVariableFetching;
+
+    /**
+     * Experimental setting: if true, the byte array holding the value of a variable (serializable, byte array and long string variables) is shared by the
+     * runtime variable and its historic variable and historic details, instead of each of them storing its own copy. Shared byte arrays are reference counted
+     * and deleted once no variable refers to them anymore. A new value replaces the byte array (copy-on-write), unless its content hash matches the current one,
+     * in which case nothing is written at all.
+     * 
+     * Once enabled, this should not be disabled again while byte arrays shared earlier still exist, as the regular delete operations do not respect the reference count.
+     */
+    protected boolean enableVariableByteArraySharing;
+
     public boolean isEnableEagerExecutionTreeFetching() {
         return enableEagerExecutionTreeFetching;
     }
@@ -101,4 +164,63 @@ public class PerformanceSettings {
         this.enableLocalization = enableLocalization;
     }
 
+    public int getParallelMultiInstanceAsyncChunkSize() {
+        return parallelMultiInstanceAsyncChunkSize;
+    }
+
+    public void setParallelMultiInstanceAsyncChunkSize(int parallelMultiInstanceAsyncChunkSize) {
+        this.parallelMultiInstanceAsyncChunkSize = parallelMultiInstanceAsyncChunkSize;
+    }
+
+    public boolean isEnableParallelGatewayJoinCounter() {
+        return enableParallelGatewayJoinCounter;
+    }
+
+    public void setEnableParallelGatewayJoinCounter(boolean enableParallelGatewayJoinCounter) {
+        this.enableParallelGatewayJoinCounter = enableParallelGatewayJoinCounter;
+    }
+
+    public int getSignalBroadcastAsyncChunkSize() {
+        return signalBroadcastAsyncChunkSize;
+    }
+
+    public void setSignalBroadcastAsyncChunkSize(int signalBroadcastAsyncChunkSize) {
+        this.signalBroadcastAsyncChunkSize = signalBroadcastAsyncChunkSize;
+    }
+
+    public int getTaskBatchChunkSize() {
+        return taskBatchChunkSize;
+    }
+
+    public void setTaskBatchChunkSize(int taskBatchChunkSize) {
+        if (taskBatchChunkSize > MAX_TASK_BATCH_CHUNK_SIZE) {
+            throw new FlowableIllegalArgumentException("The task batch chunk size can be at most " + MAX_TASK_BATCH_CHUNK_SIZE);
+        }
+        this.taskBatchChunkSize = taskBatchChunkSize;
+    }
+
+    public boolean isEnableExecutionRelatedEntityPrefetching() {
+        return enableExecutionRelatedEntityPrefetching;
+    }
+
+    public void setEnableExecutionRelatedEntityPrefetching(boolean enableExecutionRelatedEntityPrefetching) {
+        this.enableExecutionRelatedEntityPrefetching = enableExecutionRelatedEntityPrefetching;
+    }
+
+    public boolean isEnableSelectiveVariableFetching() {
+        return enableSelectiveVariableFetching;
+    }
+
+    public void setEnableSelectiveVariableFetching(boolean enableSelectiveVariableFetching) {
+        this.enableSelectiveVariableFetching = enableSelectiveVariableFetching;
+    }
+
+    public boolean isEnableVariableByteArraySharing() {
+        return enableVariableByteArraySharing;
+    }
+
+    public void setEnableVariableByteArraySharing(boolean enableVariableByteArraySharing) {
+        this.enableVariableByteArraySharing = enableVariableByteArraySharing;
+    }
+
 }
@@ -44,6 +44,7 @@ import org.apache.ibatis.type.JdbcType;
 import org.flowable.content.api.ContentService;
 import org.flowable.dmn.api.DmnRepositoryService;
 import org.flowable.dmn.api.DmnRuleService;
+import org.flowable.engine.CachingCandidateManager;
 import org.flowable.engine.CandidateManager;
 import org.flowable.engine.DefaultCandidateManager;
 import org.flowable.engine.DynamicBpmnService;
@@ -194,17 +195,24 @@ import org.flowable.engine.impl.interceptor.CommandInvoker;
 import org.flowable.engine.impl.interceptor.DelegateInterceptor;
 import org.flowable.engine.impl.interceptor.LogInterceptor;
 import org.flowable.engine.impl.interceptor.LoggingExecutionTreeCommandInvoker;
+import org.flowable.engine.impl.interceptor.MetricsInterceptor;
 import org.flowable.engine.impl.interceptor.TransactionContextInterceptor;
 import org.flowable.engine.impl.jobexecutor.AsyncContinuationJobHandler;
 import org.flowable.engine.impl.jobexecutor.DefaultFailedJobCommandFactory;
 import org.flowable.engine.impl.jobexecutor.FailedJobCommandFactory;
 import org.flowable.engine.impl.jobexecutor.HistoryJobHandler;
 import org.flowable.engine.impl.jobexecutor.JobHandler;
+import org.flowable.engine.impl.jobexecutor.ParallelMultiInstanceChunkJobHandler;
 import org.flowable.engine.impl.jobexecutor.ProcessEventJobHandler;
+import org.flowable.engine.impl.jobexecutor.SignalBroadcastChunkJobHandler;
+import org.flowable.engine.impl.jobexecutor.SignalBroadcastJobHandler;
 import org.flowable.engine.impl.jobexecutor.TimerActivateProcessDefinitionHandler;
 import org.flowable.engine.impl.jobexecutor.TimerStartEventJobHandler;
 import org.flowable.engine.impl.jobexecutor.TimerSuspendProcessDefinitionHandler;
 import org.flowable.engine.impl.jobexecutor.TriggerTimerEventJobHandler;
+import org.flowable.engine.impl.metrics.DefaultMetricsRegistry;
+import org.flowable.engine.impl.metrics.MetricsRegistry;
+import org.flowable.engine.impl.metrics.NoOpMetricsRegistry;
 import org.flowable.engine.impl.persistence.GenericManagerFactory;
 import org.flowable.engine.impl.persistence.cache.EntityCache;
 import org.flowable.engine.impl.persistence.cache.EntityCacheImpl;
@@ -248,6 +256,8 @@ import org.flowable.engine.impl.persistence.entity.IdentityLinkEntityManager;
 import org.flowable.engine.impl.persistence.entity.IdentityLinkEntityManagerImpl;
 import org.flowable.engine.impl.persistence.entity.JobEntityManager;
 import org.flowable.engine.impl.persistence.entity.JobEntityManagerImpl;
+import org.flowable.engine.impl.persistence.entity.JobShardNodeEntityManager;
+import org.flowable.engine.impl.persistence.entity.JobShardNodeEntityManagerImpl;
 import org.flowable.engine.impl.persistence.entity.ModelEntityManager;
 import org.flowable.engine.impl.persistence.entity.ModelEntityManagerImpl;
 import org.flowable.engine.impl.persistence.entity.ProcessDefinitionEntityManager;
@@ -285,6 +295,7 @@ import org.flowable.engine.impl.persistence.entity.data.HistoricVariableInstance
 import org.flowable.engine.impl.persistence.entity.data.HistoryJobDataManager;
 import org.flowable.engine.impl.persistence.entity.data.IdentityLinkDataManager;
 import org.flowable.engine.impl.persistence.entity.data.JobDataManager;
+import org.flowable.engine.impl.persistence.entity.data.JobShardNodeDataManager;
 import org.flowable.engine.impl.persistence.entity.data.ModelDataManager;
 import org.flowable.engine.impl.persistence.entity.data.ProcessDefinitionDataManager;
 import org.flowable.engine.impl.persistence.entity.data.ProcessDefinitionInfoDataManager;
@@ -311,6 +322,7 @@ import org.flowable.engine.impl.persistence.entity.data.impl.MybatisHistoricVari
 import org.flowable.engine.impl.persistence.entity.data.impl.MybatisHistoryJobDataManager;
 import org.flowable.engine.impl.persistence.entity.data.impl.MybatisIdentityLinkDataManager;
 import org.flowable.engine.impl.persistence.entity.data.impl.MybatisJobDataManager;
+import org.flowable.engine.impl.persistence.entity.data.impl.MybatisJobShardNodeDataManager;
 import org.flowable.engine.impl.persistence.entity.data.impl.MybatisModelDataManager;
 import org.flowable.engine.impl.persistence.entity.data.impl.MybatisProcessDefinitionDataManager;
 import org.flowable.engine.impl.persistence.entity.data.impl.MybatisProcessDefinitionInfoDataManager;
@@ -354,6 +366,7 @@ import org.flowable.engine.impl.variable.VariableTypes;
 import org.flowable.engine.parse.BpmnParseHandler;
 import org.flowable.form.api.FormRepositoryService;
 import org.flowable.idm.api.IdmIdentityService;
+import org.flowable.image.impl.CachingProcessDiagramGenerator;
 import org.flowable.image.impl.DefaultProcessDiagramGenerator;
 import org.flowable.validation.ProcessValidator;
 import org.flowable.validation.ProcessValidatorFactory;
@@ -443,6 +456,7 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     protected SuspendedJobDataManager suspendedJobDataManager;
     protected DeadLetterJobDataManager deadLetterJobDataManager;
     protected HistoryJobDataManager historyJobDataManager;
+    protected JobShardNodeDataManager jobShardNodeDataManager;
     protected ModelDataManager modelDataManager;
     protected ProcessDefinitionDataManager processDefinitionDataManager;
     protected ProcessDefinitionInfoDataManager processDefinitionInfoDataManager;
@@ -472,6 +486,7 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     protected SuspendedJobEntityManager suspendedJobEntityManager;
     protected DeadLetterJobEntityManager deadLetterJobEntityManager;
     protected HistoryJobEntityManager historyJobEntityManager;
+    protected JobShardNodeEntityManager jobShardNodeEntityManager;
     protected ModelEntityManager modelEntityManager;
     protected ProcessDefinitionEntityManager processDefinitionEntityManager;
     protected ProcessDefinitionInfoEntityManager processDefinitionInfoEntityManager;
@@ -485,6 +500,16 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
 
     protected CandidateManager candidateManager;
 
+    /**
+     * Time in milliseconds the groups of a candidate user are cached by the {@link CachingCandidateManager}. Zero or a negative number (the default) disables the cache.
+     */
+    protected long candidateGroupsCacheTimeToLive;
+
+    /**
+     * Maximum number of users for which the candidate groups are cached.
+     */
+    protected int candidateGroupsCacheLimit = 10000;
+
     // History Manager
 
     protected HistoryManager historyManager;
@@ -533,6 +558,12 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     protected int processDefinitionInfoCacheLimit = -1; // By default, no limit
     protected ProcessDefinitionInfoCache processDefinitionInfoCache;
 
+    /**
+     * Interval in milliseconds at which the process definition info cache polls for changes made by other engines, instead of checking
+     * the revision of an entry each time it is used. Zero or a negative number (the default) checks the revision each time.
+     */
+    protected long processDefinitionInfoCacheRevisionCheckInterval;
+
     protected int knowledgeBaseCacheLimit = -1;
     protected DeploymentCache<Object> knowledgeBaseCache;
 
@@ -604,6 +635,14 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
      */
     protected long asyncExecutorSecondsToWaitOnShutdown = 60L;
 
+    /**
+     * The number of single threaded lanes exclusive jobs are routed to, based on their process instance id. Default value = 0, meaning no lanes are used and
+     * every exclusive job locks and unlocks its process instance in separate transactions. With lanes, the process instance lock is folded into the job's own transaction.
+     *
+     * (This property is only applicable when using the {@link DefaultAsyncJobExecutor}).
+     */
+    protected int asyncExecutorExclusiveJobLanes;
+
     /**
      * The number of timer jobs that are acquired during one query (before a job is executed, an acquirement thread fetches jobs from the database and puts them on the queue).
      *
@@ -700,6 +739,33 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
      */
     protected int asyncExecutorResetExpiredJobsPageSize = 3;
 
+    /**
+     * The number of shards the async jobs are partitioned into. When bigger than 0, every job that belongs to a process instance gets a shard
+     * derived from the process instance id and each {@link AsyncExecutor} only acquires the jobs of the shards it currently owns. The shards are
+     * divided between the executors that have sent a heartbeat recently, so executors joining or leaving the cluster cause a rebalancing.
+     *
+     * By default 0, meaning that sharding is disabled and every executor acquires all jobs.
+     *
+     * (This property is only applicable when using the {@link DefaultAsyncJobExecutor}).
+     */
+    protected int asyncExecutorNumberOfShards;
+
+    /**
+     * The time (in milliseconds) between two heartbeats of an {@link AsyncExecutor} when sharding is enabled. The shards owned by the executor
+     * are recalculated with every heartbeat.
+     *
+     * By default 30 seconds.
+     */
+    protected int asyncExecutorShardHeartbeatInterval = 30 * 1000;
+
+    /**
+     * The time (in milliseconds) after which an {@link AsyncExecutor} that hasn't sent a heartbeat is deemed gone, after which its shards are
+     * divided between the remaining executors. Should be a multiple of the heartbeat interval.
+     *
+     * By default 90 seconds.
+     */
+    protected int asyncExecutorShardNodeExpirationTime = 90 * 1000;
+
     /**
      * Experimental!
      *
@@ -837,6 +903,19 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
      */
     protected boolean enableVerboseExecutionTreeLogging;
 
+    /**
+     * Enables the collection of engine metrics (command durations, statement durations during flush, agenda operations and async executor
+     * queue usage) in a {@link DefaultMetricsRegistry}. Ignored when a custom {@link MetricsRegistry} is set.
+     */
+    protected boolean enableMetrics;
+    protected MetricsRegistry metricsRegistry;
+
+    /**
+     * Uses a {@link CachingProcessDiagramGenerator}, which renders the diagram of a process definition once and only draws the highlighted
+     * activities per request. Ignored when a custom process diagram generator is set.
+     */
+    protected boolean enableProcessDiagramCache;
+
     protected PerformanceSettings performanceSettings = new PerformanceSettings();
 
     // agenda factory
@@ -904,6 +983,7 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         initFormTypes();
         initScriptingEngines();
         initClock();
+        initMetricsRegistry();
         initBusinessCalendarManager();
         initCommandContextFactory();
         initTransactionContextFactory();
@@ -975,6 +1055,16 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         }
     }
 
+    public void initMetricsRegistry() {
+        if (metricsRegistry == null) {
+            if (enableMetrics) {
+                metricsRegistry = new DefaultMetricsRegistry();
+            } else {
+                metricsRegistry = new NoOpMetricsRegistry();
+            }
+        }
+    }
+
     public void initCommandInterceptors() {
         if (commandInterceptors == null) {
             commandInterceptors = new ArrayList<CommandInterceptor>();
@@ -993,6 +1083,10 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         List<CommandInterceptor> interceptors = new ArrayList<CommandInterceptor>();
         interceptors.add(new LogInterceptor());
 
+        if (metricsRegistry != null && metricsRegistry.isEnabled()) {
+            interceptors.add(new MetricsInterceptor(metricsRegistry));
+        }
+
         CommandInterceptor transactionInterceptor = createTransactionInterceptor();
         if (transactionInterceptor != null) {
             interceptors.add(transactionInterceptor);
@@ -1157,6 +1251,9 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         if (historyJobDataManager == null) {
             historyJobDataManager = new MybatisHistoryJobDataManager(this);
         }
+        if (jobShardNodeDataManager == null) {
+            jobShardNodeDataManager = new MybatisJobShardNodeDataManager(this);
+        }
         if (modelDataManager == null) {
             modelDataManager = new MybatisModelDataManager(this);
         }
@@ -1240,6 +1337,9 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         if (historyJobEntityManager == null) {
             historyJobEntityManager = new HistoryJobEntityManagerImpl(this, historyJobDataManager);
         }
+        if (jobShardNodeEntityManager == null) {
+            jobShardNodeEntityManager = new JobShardNodeEntityManagerImpl(this, jobShardNodeDataManager);
+        }
         if (modelEntityManager == null) {
             modelEntityManager = new ModelEntityManagerImpl(this, modelDataManager);
         }
@@ -1272,6 +1372,9 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         if (candidateManager == null) {
             candidateManager = new DefaultCandidateManager(this);
         }
+        if (candidateGroupsCacheTimeToLive > 0 && !(candidateManager instanceof CachingCandidateManager)) {
+            candidateManager = new CachingCandidateManager(candidateManager, getClock(), candidateGroupsCacheLimit, candidateGroupsCacheTimeToLive);
+        }
     }
 
     // History manager ///////////////////////////////////////////////////////////
@@ -1334,6 +1437,7 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         dbSqlSessionFactory.setDatabaseSchema(databaseSchema);
         dbSqlSessionFactory.setBulkInsertEnabled(isBulkInsertEnabled, databaseType);
         dbSqlSessionFactory.setMaxNrOfStatementsInBulkInsert(maxNrOfStatementsInBulkInsert);
+        dbSqlSessionFactory.setMetricsRegistry(metricsRegistry);
         addSessionFactory(dbSqlSessionFactory);
     }
 
@@ -1456,6 +1560,7 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
             } else {
                 processDefinitionInfoCache = new ProcessDefinitionInfoCache(commandExecutor, processDefinitionInfoCacheLimit);
             }
+            processDefinitionInfoCache.setRevisionCheckInterval(processDefinitionInfoCacheRevisionCheckInterval);
         }
     }
 
@@ -1690,7 +1795,11 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
 
     public void initProcessDiagramGenerator() {
         if (processDiagramGenerator == null) {
-            processDiagramGenerator = new DefaultProcessDiagramGenerator();
+            if (enableProcessDiagramCache) {
+                processDiagramGenerator = new CachingProcessDiagramGenerator();
+            } else {
+                processDiagramGenerator = new DefaultProcessDiagramGenerator();
+            }
         }
     }
 
@@ -1715,6 +1824,18 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         ProcessEventJobHandler processEventJobHandler = new ProcessEventJobHandler();
         jobHandlers.put(processEventJobHandler.getType(), processEventJobHandler);
 
+        ParallelMultiInstanceChunkJobHandler parallelMultiInstanceChunkJobHandler = new ParallelMultiInstanceChunkJobHandler();
+        jobHandlers.put(parallelMultiInstanceChunkJobHandler.getType(), parallelMultiInstanceChunkJobHandler);
+
+        SignalBroadcastJobHandler signalBroadcastJobHandler = new SignalBroadcastJobHandler();
+        jobHandlers.put(signalBroadcastJobHandler.getType(), signalBroadcastJobHandler);
+
+        SignalBroadcastChunkJobHandler signalBroadcastChunkJobHandler = new SignalBroadcastChunkJobHandler();
+        jobHandlers.put(signalBroadcastChunkJobHandler.getType(), signalBroadcastChunkJobHandler);
+
+        // Delivers the results of non-blocking http tasks, only available when flowable-http is on the classpath
+        initOptionalJobHandler("org.flowable.http.impl.TriggerNonBlockingHttpTaskJobHandler");
+
         // if we have custom job handlers, register them
         if (getCustomJobHandlers() != null) {
             for (JobHandler customJobHandler : getCustomJobHandlers()) {
@@ -1723,6 +1844,17 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         }
     }
     
+    protected void initOptionalJobHandler(String className) {
+        try {
+            JobHandler jobHandler = (JobHandler) Class.forName(className).newInstance();
+            jobHandlers.put(jobHandler.getType(), jobHandler);
+        } catch (ClassNotFoundException e) {
+            LOGGER.debug("Job handler {} is not on the classpath", className);
+        } catch (Exception e) {
+            throw new FlowableException("Could not instantiate job handler " + className, e);
+        }
+    }
+
     protected void initHistoryJobHandlers() {
         if (isAsyncHistoryEnabled) {
             historyJobHandlers = new HashMap<String, HistoryJobHandler>();
@@ -1769,6 +1901,9 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
             }
             defaultAsyncExecutor.setQueueSize(asyncExecutorThreadPoolQueueSize);
 
+            // Exclusive job lanes
+            defaultAsyncExecutor.setExclusiveJobLanes(asyncExecutorExclusiveJobLanes);
+
             // Acquisition wait time
             defaultAsyncExecutor.setDefaultTimerJobAcquireWaitTimeInMillis(asyncExecutorDefaultTimerJobAcquireWaitTime);
             defaultAsyncExecutor.setDefaultAsyncJobAcquireWaitTimeInMillis(asyncExecutorDefaultAsyncJobAcquireWaitTime);
@@ -1787,6 +1922,11 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
             defaultAsyncExecutor.setResetExpiredJobsInterval(asyncExecutorResetExpiredJobsInterval);
             defaultAsyncExecutor.setResetExpiredJobsPageSize(asyncExecutorResetExpiredJobsPageSize);
 
+            // Sharding
+            defaultAsyncExecutor.setNumberOfShards(asyncExecutorNumberOfShards);
+            defaultAsyncExecutor.setShardHeartbeatIntervalInMillis(asyncExecutorShardHeartbeatInterval);
+            defaultAsyncExecutor.setShardNodeExpirationTimeInMillis(asyncExecutorShardNodeExpirationTime);
+
             // Shutdown
             defaultAsyncExecutor.setSecondsToWaitOnShutdown(asyncExecutorSecondsToWaitOnShutdown);
 
@@ -3007,6 +3147,15 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public long getProcessDefinitionInfoCacheRevisionCheckInterval() {
+        return processDefinitionInfoCacheRevisionCheckInterval;
+    }
+
+    public ProcessEngineConfigurationImpl setProcessDefinitionInfoCacheRevisionCheckInterval(long processDefinitionInfoCacheRevisionCheckInterval) {
+        this.processDefinitionInfoCacheRevisionCheckInterval = processDefinitionInfoCacheRevisionCheckInterval;
+        return this;
+    }
+
     public int getProcessDefinitionCacheLimit() {
         return processDefinitionCacheLimit;
     }
@@ -3181,6 +3330,33 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public boolean isEnableMetrics() {
+        return enableMetrics;
+    }
+
+    public ProcessEngineConfigurationImpl setEnableMetrics(boolean enableMetrics) {
+        this.enableMetrics = enableMetrics;
+        return this;
+    }
+
+    public boolean isEnableProcessDiagramCache() {
+        return enableProcessDiagramCache;
+    }
+
+    public ProcessEngineConfigurationImpl setEnableProcessDiagramCache(boolean enableProcessDiagramCache) {
+        this.enableProcessDiagramCache = enableProcessDiagramCache;
+        return this;
+    }
+
+    public MetricsRegistry getMetricsRegistry() {
+        return metricsRegistry;
+    }
+
+    public ProcessEngineConfigurationImpl setMetricsRegistry(MetricsRegistry metricsRegistry) {
+        this.metricsRegistry = metricsRegistry;
+        return this;
+    }
+
     public ProcessEngineConfigurationImpl setEnableEagerExecutionTreeFetching(boolean enableEagerExecutionTreeFetching) {
         this.performanceSettings.setEnableEagerExecutionTreeFetching(enableEagerExecutionTreeFetching);
         return this;
@@ -3209,6 +3385,26 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public ProcessEngineConfigurationImpl setEnableParallelGatewayJoinCounter(boolean enableParallelGatewayJoinCounter) {
+        this.performanceSettings.setEnableParallelGatewayJoinCounter(enableParallelGatewayJoinCounter);
+        return this;
+    }
+
+    public ProcessEngineConfigurationImpl setEnableExecutionRelatedEntityPrefetching(boolean enableExecutionRelatedEntityPrefetching) {
+        this.performanceSettings.setEnableExecutionRelatedEntityPrefetching(enableExecutionRelatedEntityPrefetching);
+        return this;
+    }
+
+    public ProcessEngineConfigurationImpl setEnableSelectiveVariableFetching(boolean enableSelectiveVariableFetching) {
+        this.performanceSettings.setEnableSelectiveVariableFetching(enableSelectiveVariableFetching);
+        return this;
+    }
+
+    public ProcessEngineConfigurationImpl setEnableVariableByteArraySharing(boolean enableVariableByteArraySharing) {
+        this.performanceSettings.setEnableVariableByteArraySharing(enableVariableByteArraySharing);
+        return this;
+    }
+
     public AttachmentDataManager getAttachmentDataManager() {
         return attachmentDataManager;
     }
@@ -3380,6 +3576,15 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public JobShardNodeDataManager getJobShardNodeDataManager() {
+        return jobShardNodeDataManager;
+    }
+
+    public ProcessEngineConfigurationImpl setJobShardNodeDataManager(JobShardNodeDataManager jobShardNodeDataManager) {
+        this.jobShardNodeDataManager = jobShardNodeDataManager;
+        return this;
+    }
+
     public ModelDataManager getModelDataManager() {
         return modelDataManager;
     }
@@ -3618,6 +3823,15 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public JobShardNodeEntityManager getJobShardNodeEntityManager() {
+        return jobShardNodeEntityManager;
+    }
+
+    public ProcessEngineConfigurationImpl setJobShardNodeEntityManager(JobShardNodeEntityManager jobShardNodeEntityManager) {
+        this.jobShardNodeEntityManager = jobShardNodeEntityManager;
+        return this;
+    }
+
     public ModelEntityManager getModelEntityManager() {
         return modelEntityManager;
     }
@@ -3697,6 +3911,24 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     public void setCandidateManager(CandidateManager candidateManager) {
         this.candidateManager = candidateManager;
     }
+
+    public long getCandidateGroupsCacheTimeToLive() {
+        return candidateGroupsCacheTimeToLive;
+    }
+
+    public ProcessEngineConfigurationImpl setCandidateGroupsCacheTimeToLive(long candidateGroupsCacheTimeToLive) {
+        this.candidateGroupsCacheTimeToLive = candidateGroupsCacheTimeToLive;
+        return this;
+    }
+
+    public int getCandidateGroupsCacheLimit() {
+        return candidateGroupsCacheLimit;
+    }
+
+    public ProcessEngineConfigurationImpl setCandidateGroupsCacheLimit(int candidateGroupsCacheLimit) {
+        this.candidateGroupsCacheLimit = candidateGroupsCacheLimit;
+        return this;
+    }
     
     public AsyncRunnableExecutionExceptionHandler getAsyncRunnableExecutionExceptionHandler() {
         return asyncRunnableExecutionExceptionHandler;
@@ -4008,6 +4240,15 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public int getAsyncExecutorExclusiveJobLanes() {
+        return asyncExecutorExclusiveJobLanes;
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncExecutorExclusiveJobLanes(int asyncExecutorExclusiveJobLanes) {
+        this.asyncExecutorExclusiveJobLanes = asyncExecutorExclusiveJobLanes;
+        return this;
+    }
+
     public int getAsyncExecutorMaxTimerJobsPerAcquisition() {
         return asyncExecutorMaxTimerJobsPerAcquisition;
     }
@@ -4116,6 +4357,33 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public int getAsyncExecutorNumberOfShards() {
+        return asyncExecutorNumberOfShards;
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncExecutorNumberOfShards(int asyncExecutorNumberOfShards) {
+        this.asyncExecutorNumberOfShards = asyncExecutorNumberOfShards;
+        return this;
+    }
+
+    public int getAsyncExecutorShardHeartbeatInterval() {
+        return asyncExecutorShardHeartbeatInterval;
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncExecutorShardHeartbeatInterval(int asyncExecutorShardHeartbeatInterval) {
+        this.asyncExecutorShardHeartbeatInterval = asyncExecutorShardHeartbeatInterval;
+        return this;
+    }
+
+    public int getAsyncExecutorShardNodeExpirationTime() {
+        return asyncExecutorShardNodeExpirationTime;
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncExecutorShardNodeExpirationTime(int asyncExecutorShardNodeExpirationTime) {
+        this.asyncExecutorShardNodeExpirationTime = asyncExecutorShardNodeExpirationTime;
+        return this;
+    }
+
     public boolean isAsyncExecutorIsMessageQueueMode() {
         return asyncExecutorMessageQueueMode;
     }
@@ -22,6 +22,7 @@ import org.flowable.engine.common.impl.persistence.StrongUuidGenerator;
 import org.flowable.engine.impl.SchemaOperationProcessEngineClose;
 import org.flowable.engine.impl.asyncexecutor.AsyncExecutor;
 import org.flowable.engine.impl.asyncexecutor.multitenant.ExecutorPerTenantAsyncExecutor;
+import org.flowable.engine.impl.asyncexecutor.multitenant.SharedAcquisitionAsyncExecutor;
 import org.flowable.engine.impl.asyncexecutor.multitenant.SharedExecutorServiceAsyncExecutor;
 import org.flowable.engine.impl.asyncexecutor.multitenant.TenantAwareAsyncExecutor;
 import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
@@ -47,9 +48,10 @@ import org.slf4j.LoggerFactory;
  * 
  * - Adding tenants (also after boot!) is done using the {@link #registerTenant(String, DataSource)} operations.
  * 
- * - Currently, this config does not work with the 'old' {@link JobExecutor}, but only with the newer {@link AsyncExecutor}. There are two different implementations: - The
+ * - Currently, this config does not work with the 'old' {@link JobExecutor}, but only with the newer {@link AsyncExecutor}. There are three different implementations: - The
  * {@link ExecutorPerTenantAsyncExecutor}: creates one full {@link AsyncExecutor} for each tenant. - The {@link SharedExecutorServiceAsyncExecutor}: created acquisition threads for each tenant, but
- * the job execution is done using a process engine shared {@link ExecutorService}. The {@link AsyncExecutor} needs to be injected using the {@link #setAsyncExecutor(AsyncExecutor)} method on this
+ * the job execution is done using a process engine shared {@link ExecutorService}. - The {@link SharedAcquisitionAsyncExecutor}: a small, fixed number of
+ * acquisition threads that take turns acquiring jobs for all tenants, next to a shared {@link ExecutorService}. The {@link AsyncExecutor} needs to be injected using the {@link #setAsyncExecutor(AsyncExecutor)} method on this
  * class.
  * 
  * databasetype
@@ -32,23 +32,40 @@ public class AcquireJobsCmd implements Command<AcquiredJobEntities> {
     private final AsyncExecutor asyncExecutor;
     private final int remainingCapacity;
     private final JobInfoEntityManager<? extends JobInfoEntity> jobEntityManager;
+    private final List<Integer> shards;
     
     public AcquireJobsCmd(AsyncExecutor asyncExecutor) {
         this.asyncExecutor = asyncExecutor;
         this.remainingCapacity = Integer.MAX_VALUE;
         this.jobEntityManager = asyncExecutor.getProcessEngineConfiguration().getJobEntityManager(); // backwards compatibility
+        this.shards = null;
     }
 
     public AcquireJobsCmd(AsyncExecutor asyncExecutor, int remainingCapacity, JobInfoEntityManager<? extends JobInfoEntity> jobEntityManager) {
+        this(asyncExecutor, remainingCapacity, jobEntityManager, null);
+    }
+
+    /**
+     * @param shards
+     *            the shards owned by the executor, only jobs of these shards (and jobs without a shard) are acquired. When null, all jobs are
+     *            acquired.
+     */
+    public AcquireJobsCmd(AsyncExecutor asyncExecutor, int remainingCapacity, JobInfoEntityManager<? extends JobInfoEntity> jobEntityManager, List<Integer> shards) {
         this.asyncExecutor = asyncExecutor;
         this.remainingCapacity = remainingCapacity;
         this.jobEntityManager = jobEntityManager;
+        this.shards = shards;
     }
 
     public AcquiredJobEntities execute(CommandContext commandContext) {
         int maxResults = Math.min(remainingCapacity, asyncExecutor.getMaxAsyncJobsDuePerAcquisition());
 
-        List<? extends JobInfoEntity> jobs = jobEntityManager.findJobsToExecute(new Page(0, maxResults)); 
+        List<? extends JobInfoEntity> jobs = null;
+        if (shards != null) {
+            jobs = jobEntityManager.findJobsToExecute(shards, new Page(0, maxResults));
+        } else {
+            jobs = jobEntityManager.findJobsToExecute(new Page(0, maxResults));
+        }
         AcquiredJobEntities acquiredJobs = new AcquiredJobEntities();
 
         for (JobInfoEntity job : jobs) {
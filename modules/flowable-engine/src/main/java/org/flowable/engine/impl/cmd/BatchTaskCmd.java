@@ -0,0 +1,110 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.cmd;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.flowable.engine.common.api.FlowableObjectNotFoundException;
+import org.flowable.engine.impl.BatchTaskResultImpl;
+import org.flowable.engine.impl.interceptor.Command;
+import org.flowable.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.persistence.entity.IdentityLinkEntity;
+import org.flowable.engine.impl.persistence.entity.TaskEntity;
+import org.flowable.engine.impl.persistence.entity.TaskEntityImpl;
+import org.flowable.engine.task.Task;
+
+/**
+ * Executes the same operation for a chunk of tasks in one transaction. The tasks, their identity links and their executions are fetched
+ * upfront with one query each, so the command of every single task finds them in the entity cache.
+ * 
+ * Tasks that don't exist are reported as failures. Any other exception aborts the whole chunk.
+ * 
+ * Not serializable, unlike most commands: the {@link TaskCommandFactory} is typically an anonymous class.
+ */
+public class BatchTaskCmd implements Command<BatchTaskResultImpl> {
+
+    protected List<String> taskIds;
+    protected TaskCommandFactory taskCommandFactory;
+
+    public BatchTaskCmd(List<String> taskIds, TaskCommandFactory taskCommandFactory) {
+        this.taskIds = taskIds;
+        this.taskCommandFactory = taskCommandFactory;
+    }
+
+    public BatchTaskResultImpl execute(CommandContext commandContext) {
+        Map<String, TaskEntity> tasks = prefetchTasks(commandContext);
+
+        BatchTaskResultImpl result = new BatchTaskResultImpl();
+        for (String taskId : taskIds) {
+            if (!tasks.containsKey(taskId)) {
+                result.addFailure(taskId, new FlowableObjectNotFoundException("Cannot find task with id " + taskId, Task.class));
+                continue;
+            }
+
+            taskCommandFactory.createCommand(taskId).execute(commandContext);
+            result.addSucceededTaskId(taskId);
+        }
+
+        return result;
+    }
+
+    protected Map<String, TaskEntity> prefetchTasks(CommandContext commandContext) {
+        Map<String, TaskEntity> tasks = new HashMap<>();
+        Set<String> executionIds = new HashSet<>();
+        for (TaskEntity task : commandContext.getTaskEntityManager().findTasksByIds(new HashSet<>(taskIds))) {
+            tasks.put(task.getId(), task);
+            if (task.getExecutionId() != null) {
+                executionIds.add(task.getExecutionId());
+                executionIds.add(task.getProcessInstanceId());
+            }
+        }
+
+        if (tasks.isEmpty()) {
+            return tasks;
+        }
+
+        Map<String, List<IdentityLinkEntity>> identityLinksByTaskId = new HashMap<>();
+        for (String taskId : tasks.keySet()) {
+            identityLinksByTaskId.put(taskId, new ArrayList<IdentityLinkEntity>());
+        }
+        for (IdentityLinkEntity identityLink : commandContext.getIdentityLinkEntityManager().findIdentityLinksByTaskIds(tasks.keySet())) {
+            identityLinksByTaskId.get(identityLink.getTaskId()).add(identityLink);
+        }
+        for (TaskEntity task : tasks.values()) {
+            if (task instanceof TaskEntityImpl) {
+                ((TaskEntityImpl) task).setQueryIdentityLinks(identityLinksByTaskId.get(task.getId()));
+            }
+        }
+
+        if (!executionIds.isEmpty()) {
+            // Only fetched to have them in the entity cache
+            commandContext.getExecutionEntityManager().findExecutionsByIds(executionIds);
+        }
+
+        return tasks;
+    }
+
+    /**
+     * Creates the command executing the operation for one task.
+     */
+    public interface TaskCommandFactory {
+
+        Command<?> createCommand(String taskId);
+
+    }
+}
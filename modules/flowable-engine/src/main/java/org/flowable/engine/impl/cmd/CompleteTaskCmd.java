@@ -16,6 +16,7 @@ import java.util.Map;
 
 import org.flowable.engine.compatibility.Flowable5CompatibilityHandler;
 import org.flowable.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.persistence.ExecutionPrefetchPlan;
 import org.flowable.engine.impl.persistence.entity.TaskEntity;
 import org.flowable.engine.impl.util.Flowable5Util;
 import org.flowable.engine.impl.util.TaskHelper;
@@ -60,6 +61,10 @@ public class CompleteTaskCmd extends NeedsActiveTaskCmd<Void> {
             }
         }
 
+        if (task.getProcessInstanceId() != null) {
+            commandContext.getExecutionEntityManager().prefetchRelatedEntities(task.getProcessInstanceId(), ExecutionPrefetchPlan.TASK_COMPLETION);
+        }
+
         TaskHelper.completeTask(task, variables, transientVariables, localScope, commandContext);
         return null;
     }
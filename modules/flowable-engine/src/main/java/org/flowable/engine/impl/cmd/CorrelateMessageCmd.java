@@ -0,0 +1,87 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.cmd;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.flowable.engine.common.api.FlowableException;
+import org.flowable.engine.common.api.FlowableIllegalArgumentException;
+import org.flowable.engine.impl.interceptor.Command;
+import org.flowable.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.persistence.entity.EventSubscriptionEntityManager;
+import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
+import org.flowable.engine.impl.persistence.entity.MessageEventSubscriptionEntity;
+
+/**
+ * Delivers a message to all executions whose message event subscription was created with the given correlation key. The subscriptions are looked
+ * up directly by message name and correlation key, so no execution query or variable join is needed to find the receiving executions.
+ */
+public class CorrelateMessageCmd implements Command<Void>, Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    protected final String messageName;
+    protected final String correlationKey;
+    protected final String tenantId;
+    protected final Map<String, Object> payload;
+
+    public CorrelateMessageCmd(String messageName, String correlationKey, String tenantId, Map<String, Object> processVariables) {
+        this.messageName = messageName;
+        this.correlationKey = correlationKey;
+        this.tenantId = tenantId;
+
+        if (processVariables != null) {
+            this.payload = new HashMap<String, Object>(processVariables);
+        } else {
+            this.payload = null;
+        }
+    }
+
+    public Void execute(CommandContext commandContext) {
+        if (messageName == null) {
+            throw new FlowableIllegalArgumentException("messageName cannot be null");
+        }
+        if (correlationKey == null) {
+            throw new FlowableIllegalArgumentException("correlationKey cannot be null");
+        }
+
+        EventSubscriptionEntityManager eventSubscriptionEntityManager = commandContext.getEventSubscriptionEntityManager();
+        List<MessageEventSubscriptionEntity> eventSubscriptions = new ArrayList<MessageEventSubscriptionEntity>(
+                eventSubscriptionEntityManager.findMessageEventSubscriptionsByNameAndCorrelationKey(messageName, correlationKey, tenantId));
+
+        if (eventSubscriptions.isEmpty()) {
+            throw new FlowableException("No execution has a subscription to a message event with name '" + messageName + "' and correlation key '" + correlationKey + "'");
+        }
+
+        for (MessageEventSubscriptionEntity eventSubscription : eventSubscriptions) {
+            ExecutionEntity execution = eventSubscription.getExecution();
+            if (execution != null && execution.isSuspended()) {
+                throw new FlowableException("Cannot deliver message '" + messageName + "' because execution '" + execution.getId() + "' is suspended");
+            }
+        }
+
+        for (MessageEventSubscriptionEntity eventSubscription : eventSubscriptions) {
+            // an earlier delivery can remove the subscriptions of the same process instance, e.g. through an interrupting boundary event
+            if (!eventSubscription.isDeleted()) {
+                eventSubscriptionEntityManager.eventReceived(eventSubscription, payload, false);
+            }
+        }
+
+        return null;
+    }
+
+}
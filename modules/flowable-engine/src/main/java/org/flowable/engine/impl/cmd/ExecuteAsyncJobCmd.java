@@ -19,6 +19,8 @@ import org.flowable.engine.delegate.event.FlowableEngineEventType;
 import org.flowable.engine.delegate.event.impl.FlowableEventBuilder;
 import org.flowable.engine.impl.interceptor.Command;
 import org.flowable.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.persistence.ExecutionPrefetchPlan;
+import org.flowable.engine.impl.persistence.entity.JobEntity;
 import org.flowable.engine.impl.persistence.entity.JobInfoEntity;
 import org.flowable.engine.impl.persistence.entity.JobInfoEntityManager;
 import org.slf4j.Logger;
@@ -73,6 +75,10 @@ public class ExecuteAsyncJobCmd implements Command<Object>, Serializable {
             LOGGER.debug("Executing async job {}", job.getId());
         }
 
+        if (job instanceof JobEntity && ((JobEntity) job).getProcessInstanceId() != null) {
+            commandContext.getExecutionEntityManager().prefetchRelatedEntities(((JobEntity) job).getProcessInstanceId(), ExecutionPrefetchPlan.ASYNC_JOB_EXECUTION);
+        }
+
         commandContext.getJobManager().execute(job);
 
         if (commandContext.getEventDispatcher().isEnabled()) {
@@ -0,0 +1,90 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.cmd;
+
+import java.util.Date;
+
+import org.flowable.engine.common.api.FlowableIllegalArgumentException;
+import org.flowable.engine.common.api.FlowableOptimisticLockingException;
+import org.flowable.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
+import org.flowable.engine.impl.persistence.entity.JobInfoEntity;
+import org.flowable.engine.impl.persistence.entity.JobInfoEntityManager;
+import org.flowable.engine.runtime.Job;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Executes an exclusive async job with the process instance lock folded into the transaction of the job itself, instead of running
+ * {@link LockExclusiveJobCmd}, {@link ExecuteAsyncJobCmd} and {@link UnlockExclusiveJobCmd} as three separate transactions.
+ * 
+ * The lock time of the process instance is only checked, so a lock held by an executor running exclusive jobs the classic way is still respected.
+ * Instead of writing the lock time, the revision of the process instance is bumped when the job transaction flushes. Two transactions executing
+ * exclusive jobs of the same process instance concurrently (for example on different nodes) therefore can't both commit: the second one fails
+ * with an optimistic locking exception and its job is retried.
+ *
+ * @see org.flowable.engine.impl.asyncexecutor.DefaultAsyncJobExecutor#setExclusiveJobLanes(int)
+ */
+public class ExecuteExclusiveAsyncJobCmd extends ExecuteAsyncJobCmd {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ExecuteExclusiveAsyncJobCmd.class);
+
+    protected Job job;
+    protected boolean locked;
+
+    public ExecuteExclusiveAsyncJobCmd(Job job, JobInfoEntityManager<? extends JobInfoEntity> jobEntityManager) {
+        super(job != null ? job.getId() : null, jobEntityManager);
+        this.job = job;
+    }
+
+    public Object execute(CommandContext commandContext) {
+
+        if (job == null) {
+            throw new FlowableIllegalArgumentException("job is null");
+        }
+
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("Executing exclusive job {} {} with the process instance lock in the job transaction", job.getId(), job.getExecutionId());
+        }
+
+        ExecutionEntity processInstance = null;
+        if (job.isExclusive() && job.getProcessInstanceId() != null) {
+            processInstance = commandContext.getExecutionEntityManager().findById(job.getProcessInstanceId());
+            if (processInstance != null) {
+                Date lockTime = processInstance.getLockTime();
+                if (lockTime != null && !lockTime.before(commandContext.getProcessEngineConfiguration().getClock().getCurrentTime())) {
+                    throw new FlowableOptimisticLockingException("Could not lock process instance");
+                }
+            }
+        }
+        locked = true;
+
+        super.execute(commandContext);
+
+        if (processInstance != null) {
+            // Forces an update of the process instance, which fails on a concurrent change by another exclusive job
+            commandContext.getDbSqlSession().update(processInstance);
+        }
+
+        return null;
+    }
+
+    /**
+     * Returns true once the process instance was found unlocked, so a failure afterwards comes from the job execution itself.
+     */
+    public boolean isLocked() {
+        return locked;
+    }
+}
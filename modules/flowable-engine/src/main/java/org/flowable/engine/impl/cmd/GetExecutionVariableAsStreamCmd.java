@@ -0,0 +1,72 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.cmd;
+
+import java.io.InputStream;
+import java.io.Serializable;
+
+import org.flowable.engine.common.api.FlowableIllegalArgumentException;
+import org.flowable.engine.common.api.FlowableObjectNotFoundException;
+import org.flowable.engine.impl.interceptor.Command;
+import org.flowable.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.persistence.entity.ByteArrayRef;
+import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
+import org.flowable.engine.impl.persistence.entity.VariableInstance;
+import org.flowable.engine.impl.persistence.entity.VariableInstanceEntity;
+import org.flowable.engine.runtime.Execution;
+
+/**
+ * Returns the stored payload of a variable that is kept in a byte array (such as bytes, serializable and long string variables) as a stream,
+ * without deserializing the value. Only the requested variable is fetched.
+ */
+public class GetExecutionVariableAsStreamCmd implements Command<InputStream>, Serializable {
+
+    private static final long serialVersionUID = 1L;
+    protected String executionId;
+    protected String variableName;
+
+    public GetExecutionVariableAsStreamCmd(String executionId, String variableName) {
+        this.executionId = executionId;
+        this.variableName = variableName;
+    }
+
+    public InputStream execute(CommandContext commandContext) {
+        if (executionId == null) {
+            throw new FlowableIllegalArgumentException("executionId is null");
+        }
+        if (variableName == null) {
+            throw new FlowableIllegalArgumentException("variableName is null");
+        }
+
+        ExecutionEntity execution = commandContext.getExecutionEntityManager().findById(executionId);
+
+        if (execution == null) {
+            throw new FlowableObjectNotFoundException("execution " + executionId + " doesn't exist", Execution.class);
+        }
+
+        VariableInstance variableInstance = execution.getVariableInstance(variableName, false);
+        if (!(variableInstance instanceof VariableInstanceEntity)) {
+            return null;
+        }
+
+        ByteArrayRef byteArrayRef = ((VariableInstanceEntity) variableInstance).getByteArrayRef();
+        if (byteArrayRef == null || byteArrayRef.getId() == null) {
+            if (variableInstance.getValue() != null) {
+                throw new FlowableIllegalArgumentException("variable " + variableName + " of type " + variableInstance.getTypeName() + " is not stored as a byte array");
+            }
+            return null;
+        }
+
+        return byteArrayRef.getInputStream();
+    }
+}
@@ -0,0 +1,78 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.cmd;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+
+import org.flowable.engine.impl.interceptor.Command;
+import org.flowable.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.persistence.entity.JobShardNodeEntity;
+import org.flowable.engine.impl.persistence.entity.JobShardNodeEntityManager;
+
+/**
+ * Registers the heartbeat of an async executor node and returns the shards owned by that node.
+ * 
+ * The shards are divided deterministically over all nodes with a recent heartbeat: the nodes are sorted by id and the node at index i of n
+ * owns every shard s for which s % n == i. Nodes of which the heartbeat has expired are removed.
+ */
+public class HeartbeatJobShardNodeCmd implements Command<List<Integer>> {
+
+    protected String lockOwner;
+    protected int numberOfShards;
+    protected int nodeExpirationTimeInMillis;
+
+    public HeartbeatJobShardNodeCmd(String lockOwner, int numberOfShards, int nodeExpirationTimeInMillis) {
+        this.lockOwner = lockOwner;
+        this.numberOfShards = numberOfShards;
+        this.nodeExpirationTimeInMillis = nodeExpirationTimeInMillis;
+    }
+
+    public List<Integer> execute(CommandContext commandContext) {
+        JobShardNodeEntityManager jobShardNodeEntityManager = commandContext.getJobShardNodeEntityManager();
+        Date now = commandContext.getProcessEngineConfiguration().getClock().getCurrentTime();
+
+        JobShardNodeEntity node = jobShardNodeEntityManager.findById(lockOwner);
+        if (node == null) {
+            node = jobShardNodeEntityManager.create();
+            node.setId(lockOwner);
+            node.setHeartbeatTime(now);
+            jobShardNodeEntityManager.insert(node);
+        } else {
+            node.setHeartbeatTime(now);
+        }
+
+        Date expirationTime = new Date(now.getTime() - nodeExpirationTimeInMillis);
+        List<String> liveNodeIds = new ArrayList<String>();
+        liveNodeIds.add(lockOwner);
+        for (JobShardNodeEntity otherNode : jobShardNodeEntityManager.findAllNodes()) {
+            if (!lockOwner.equals(otherNode.getId()) && otherNode.getHeartbeatTime() != null && !otherNode.getHeartbeatTime().before(expirationTime)) {
+                liveNodeIds.add(otherNode.getId());
+            }
+        }
+        jobShardNodeEntityManager.deleteNodesWithHeartbeatBefore(expirationTime);
+
+        Collections.sort(liveNodeIds);
+        int nodeIndex = liveNodeIds.indexOf(lockOwner);
+        int numberOfNodes = liveNodeIds.size();
+
+        List<Integer> ownedShards = new ArrayList<Integer>();
+        for (int shard = nodeIndex; shard < numberOfShards; shard += numberOfNodes) {
+            ownedShards.add(shard);
+        }
+        return ownedShards;
+    }
+
+}
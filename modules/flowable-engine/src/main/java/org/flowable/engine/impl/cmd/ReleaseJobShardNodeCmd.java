@@ -0,0 +1,40 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.cmd;
+
+import org.flowable.engine.impl.interceptor.Command;
+import org.flowable.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.persistence.entity.JobShardNodeEntity;
+import org.flowable.engine.impl.persistence.entity.JobShardNodeEntityManager;
+
+/**
+ * Removes an async executor node from sharded job acquisition, so its shards are divided over the remaining nodes on their next heartbeat.
+ */
+public class ReleaseJobShardNodeCmd implements Command<Void> {
+
+    protected String lockOwner;
+
+    public ReleaseJobShardNodeCmd(String lockOwner) {
+        this.lockOwner = lockOwner;
+    }
+
+    public Void execute(CommandContext commandContext) {
+        JobShardNodeEntityManager jobShardNodeEntityManager = commandContext.getJobShardNodeEntityManager();
+        JobShardNodeEntity node = jobShardNodeEntityManager.findById(lockOwner);
+        if (node != null) {
+            jobShardNodeEntityManager.delete(node);
+        }
+        return null;
+    }
+
+}
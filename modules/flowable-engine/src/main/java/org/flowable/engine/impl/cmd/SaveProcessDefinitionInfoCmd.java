@@ -16,6 +16,9 @@ import java.io.Serializable;
 
 import org.flowable.engine.common.api.FlowableException;
 import org.flowable.engine.common.api.FlowableIllegalArgumentException;
+import org.flowable.engine.common.impl.cfg.TransactionState;
+import org.flowable.engine.impl.cfg.TransactionListener;
+import org.flowable.engine.impl.context.Context;
 import org.flowable.engine.impl.interceptor.Command;
 import org.flowable.engine.impl.interceptor.CommandContext;
 import org.flowable.engine.impl.persistence.entity.ProcessDefinitionInfoEntity;
@@ -63,6 +66,15 @@ public class SaveProcessDefinitionInfoCmd implements Command<Void>, Serializable
             throw new FlowableException("Unable to serialize info node " + infoNode);
         }
 
+        // The cached info of this engine is refreshed as soon as the new info is committed, other engines notice the new revision
+        Context.getTransactionContext().addTransactionListener(TransactionState.COMMITTED, new TransactionListener() {
+
+            @Override
+            public void execute(CommandContext commandContext) {
+                commandContext.getProcessEngineConfiguration().getDeploymentManager().getProcessDefinitionInfoCache().remove(processDefinitionId);
+            }
+        });
+
         return null;
     }
 
@@ -69,6 +69,14 @@ public class SignalEventReceivedCmd implements Command<Void> {
         List<SignalEventSubscriptionEntity> signalEvents = null;
 
         EventSubscriptionEntityManager eventSubscriptionEntityManager = commandContext.getEventSubscriptionEntityManager();
+
+        // A signal to all subscriptions can be delivered in chunks, after this transaction. Variables can't be passed on to the chunk jobs.
+        if (executionId == null && (payload == null || payload.isEmpty())
+                && commandContext.getProcessEngineConfiguration().getPerformanceSettings().getSignalBroadcastAsyncChunkSize() > 0) {
+            eventSubscriptionEntityManager.scheduleSignalBroadcast(eventName, tenantId, true, async);
+            return null;
+        }
+
         if (executionId == null) {
             signalEvents = eventSubscriptionEntityManager.findSignalEventSubscriptionsByEventName(eventName, tenantId);
         } else {
@@ -72,6 +72,19 @@ public class StartProcessInstanceCmd<T> implements Command<ProcessInstance>, Ser
         DeploymentManager deploymentCache = commandContext.getProcessEngineConfiguration().getDeploymentManager();
 
         // Find the process definition
+        ProcessDefinition processDefinition = findProcessDefinition(deploymentCache, processDefinitionKey, processDefinitionId, tenantId);
+
+        processInstanceHelper = commandContext.getProcessEngineConfiguration().getProcessInstanceHelper();
+        ProcessInstance processInstance = createAndStartProcessInstance(processDefinition, businessKey, processInstanceName, variables, transientVariables);
+
+        return processInstance;
+    }
+
+    /**
+     * Finds the deployed process definition with the given id, or else the latest version of the process definition with the given key
+     * (within the given tenant).
+     */
+    public static ProcessDefinition findProcessDefinition(DeploymentManager deploymentCache, String processDefinitionKey, String processDefinitionId, String tenantId) {
         ProcessDefinition processDefinition = null;
         if (processDefinitionId != null) {
 
@@ -97,11 +110,7 @@ public class StartProcessInstanceCmd<T> implements Command<ProcessInstance>, Ser
         } else {
             throw new FlowableIllegalArgumentException("processDefinitionKey and processDefinitionId are null");
         }
-
-        processInstanceHelper = commandContext.getProcessEngineConfiguration().getProcessInstanceHelper();
-        ProcessInstance processInstance = createAndStartProcessInstance(processDefinition, businessKey, processInstanceName, variables, transientVariables);
-
-        return processInstance;
+        return processDefinition;
     }
 
     protected ProcessInstance createAndStartProcessInstance(ProcessDefinition processDefinition, String businessKey, String processInstanceName,
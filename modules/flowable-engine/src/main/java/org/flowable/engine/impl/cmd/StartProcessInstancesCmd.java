@@ -0,0 +1,68 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.cmd;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.flowable.engine.impl.interceptor.Command;
+import org.flowable.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.runtime.BulkProcessInstanceBuilderImpl.ProcessInstanceStartData;
+import org.flowable.engine.impl.util.ProcessInstanceHelper;
+import org.flowable.engine.repository.ProcessDefinition;
+import org.flowable.engine.runtime.ProcessInstance;
+
+/**
+ * Starts a number of process instances of the same process definition in one transaction. The process definition is resolved once for all of
+ * them, and the entities of all instances are flushed together, which allows the {@link org.flowable.engine.impl.db.DbSqlSession} to use bulk inserts.
+ */
+public class StartProcessInstancesCmd implements Command<List<ProcessInstance>>, Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    protected String processDefinitionKey;
+    protected String processDefinitionId;
+    protected String tenantId;
+    protected List<ProcessInstanceStartData> processInstances;
+
+    protected ProcessDefinition processDefinition;
+
+    public StartProcessInstancesCmd(String processDefinitionKey, String processDefinitionId, String tenantId, List<ProcessInstanceStartData> processInstances) {
+        this.processDefinitionKey = processDefinitionKey;
+        this.processDefinitionId = processDefinitionId;
+        this.tenantId = tenantId;
+        this.processInstances = processInstances;
+    }
+
+    public List<ProcessInstance> execute(CommandContext commandContext) {
+        processDefinition = StartProcessInstanceCmd.findProcessDefinition(commandContext.getProcessEngineConfiguration().getDeploymentManager(),
+                processDefinitionKey, processDefinitionId, tenantId);
+
+        ProcessInstanceHelper processInstanceHelper = commandContext.getProcessEngineConfiguration().getProcessInstanceHelper();
+        List<ProcessInstance> startedProcessInstances = new ArrayList<>(processInstances.size());
+        for (ProcessInstanceStartData processInstance : processInstances) {
+            startedProcessInstances.add(processInstanceHelper.createAndStartProcessInstance(processDefinition,
+                    processInstance.getBusinessKey(), null, processInstance.getVariables(), null));
+        }
+
+        return startedProcessInstances;
+    }
+
+    /**
+     * Returns the resolved process definition, or null when it could not be resolved.
+     */
+    public ProcessDefinition getProcessDefinition() {
+        return processDefinition;
+    }
+}
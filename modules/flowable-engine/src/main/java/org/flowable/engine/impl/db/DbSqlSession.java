@@ -46,6 +46,8 @@ import org.flowable.engine.common.impl.util.IoUtil;
 import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.flowable.engine.impl.context.Context;
 import org.flowable.engine.impl.db.upgrade.DbUpgradeStep;
+import org.flowable.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.metrics.MetricsRegistry;
 import org.flowable.engine.impl.persistence.cache.CachedEntity;
 import org.flowable.engine.impl.persistence.cache.EntityCache;
 import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
@@ -136,17 +138,28 @@ public class DbSqlSession extends AbstractDbSqlSession {
     protected Map<Class<? extends Entity>, Map<String, Entity>> deletedObjects = new HashMap<Class<? extends Entity>, Map<String, Entity>>();
     protected Map<Class<? extends Entity>, List<BulkDeleteOperation>> bulkDeleteOperations = new HashMap<Class<? extends Entity>, List<BulkDeleteOperation>>();
     protected List<Entity> updatedObjects = new ArrayList<Entity>();
+    protected int cachedEntityCount;
+
+    protected MetricsRegistry metricsRegistry;
+    protected boolean metricsEnabled;
     
     public DbSqlSession(DbSqlSessionFactory dbSqlSessionFactory, EntityCache entityCache) {
         super(dbSqlSessionFactory);
         this.processEngineDbSqlSessionFactory = dbSqlSessionFactory;
         this.entityCache = entityCache;
+        initMetricsRegistry();
     }
 
     public DbSqlSession(DbSqlSessionFactory dbSqlSessionFactory, EntityCache entityCache, Connection connection, String catalog, String schema) {
         super(dbSqlSessionFactory, connection, catalog, schema);
         this.processEngineDbSqlSessionFactory = dbSqlSessionFactory;
         this.entityCache = entityCache;
+        initMetricsRegistry();
+    }
+
+    protected void initMetricsRegistry() {
+        this.metricsRegistry = processEngineDbSqlSessionFactory.getMetricsRegistry();
+        this.metricsEnabled = metricsRegistry != null && metricsRegistry.isEnabled();
     }
 
     // insert ///////////////////////////////////////////////////////////////////
@@ -336,6 +349,10 @@ public class DbSqlSession extends AbstractDbSqlSession {
             debugFlush();
         }
 
+        if (metricsEnabled) {
+            recordFlushMetrics();
+        }
+
         flushInserts();
         flushUpdates();
         flushDeletes();
@@ -375,10 +392,12 @@ public class DbSqlSession extends AbstractDbSqlSession {
 
     public void determineUpdatedObjects() {
         updatedObjects = new ArrayList<Entity>();
+        cachedEntityCount = 0;
         Map<Class<?>, Map<String, CachedEntity>> cachedObjects = entityCache.getAllCachedEntities();
         for (Class<?> clazz : cachedObjects.keySet()) {
 
             Map<String, CachedEntity> classCache = cachedObjects.get(clazz);
+            cachedEntityCount += classCache.size();
             for (CachedEntity cachedObject : classCache.values()) {
 
                 Entity cachedEntity = cachedObject.getEntity();
@@ -397,6 +416,35 @@ public class DbSqlSession extends AbstractDbSqlSession {
         }
     }
 
+    protected void recordFlushMetrics() {
+        int insertCount = 0;
+        for (Map<String, Entity> insertedEntities : insertedObjects.values()) {
+            insertCount += insertedEntities.size();
+        }
+        int deleteCount = 0;
+        for (Map<String, Entity> deletedEntities : deletedObjects.values()) {
+            deleteCount += deletedEntities.size();
+        }
+        for (List<BulkDeleteOperation> bulkDeletes : bulkDeleteOperations.values()) {
+            deleteCount += bulkDeletes.size();
+        }
+        metricsRegistry.increment(MetricsRegistry.DB_FLUSH_ENTITIES, "insert", insertCount);
+        metricsRegistry.increment(MetricsRegistry.DB_FLUSH_ENTITIES, "update", updatedObjects.size());
+        metricsRegistry.increment(MetricsRegistry.DB_FLUSH_ENTITIES, "delete", deleteCount);
+
+        // The entity cache size is counted while determining the updated objects, which already visits every cached entity
+        CommandContext commandContext = Context.getCommandContext();
+        String commandName = commandContext != null && commandContext.getCommand() != null ? commandContext.getCommand().getClass().getName() : "unknown";
+        metricsRegistry.recordValue(MetricsRegistry.COMMAND_ENTITY_CACHE_SIZE, commandName, cachedEntityCount);
+        if (commandContext != null) {
+            metricsRegistry.recordValue(MetricsRegistry.COMMAND_LOADED_VARIABLES, commandName, commandContext.getLoadedVariableInstanceCount());
+        }
+    }
+
+    protected void recordStatementDuration(String statement, long startTime) {
+        metricsRegistry.recordDuration(MetricsRegistry.DB_STATEMENT_DURATION, statement, System.nanoTime() - startTime);
+    }
+
     protected void debugFlush() {
         LOGGER.debug("Flushing dbSqlSession");
         int nrOfInserts = 0;
@@ -569,7 +617,11 @@ public class DbSqlSession extends AbstractDbSqlSession {
         }
 
         LOGGER.debug("inserting: {}", entity);
+        long startTime = metricsEnabled ? System.nanoTime() : 0L;
         sqlSession.insert(insertStatement, entity);
+        if (metricsEnabled) {
+            recordStatementDuration(insertStatement, startTime);
+        }
 
         // See https://activiti.atlassian.net/browse/ACT-1290
         if (entity instanceof HasRevision) {
@@ -600,7 +652,11 @@ public class DbSqlSession extends AbstractDbSqlSession {
                 }
                 index++;
             }
+            long startTime = metricsEnabled ? System.nanoTime() : 0L;
             sqlSession.insert(insertStatement, subList);
+            if (metricsEnabled) {
+                recordStatementDuration(insertStatement, startTime);
+            }
         }
 
         if (hasRevision != null && hasRevision) {
@@ -630,7 +686,11 @@ public class DbSqlSession extends AbstractDbSqlSession {
 
             LOGGER.debug("updating: {}", updatedObject);
             
+            long startTime = metricsEnabled ? System.nanoTime() : 0L;
             int updatedRecords = sqlSession.update(updateStatement, updatedObject);
+            if (metricsEnabled) {
+                recordStatementDuration(updateStatement, startTime);
+            }
             if (updatedRecords == 0) {
                 throw new FlowableOptimisticLockingException(updatedObject + " was updated by another transaction concurrently");
             }
@@ -674,7 +734,11 @@ public class DbSqlSession extends AbstractDbSqlSession {
         // Bulk deletes
         if (bulkDeleteOperations.containsKey(entityClass)) {
             for (BulkDeleteOperation bulkDeleteOperation : bulkDeleteOperations.get(entityClass)) {
+                long startTime = metricsEnabled ? System.nanoTime() : 0L;
                 bulkDeleteOperation.execute(sqlSession);
+                if (metricsEnabled) {
+                    recordStatementDuration(bulkDeleteOperation.getStatement(), startTime);
+                }
             }
         }
     }
@@ -689,6 +753,7 @@ public class DbSqlSession extends AbstractDbSqlSession {
 
             // It only makes sense to check for optimistic locking exceptions
             // for objects that actually have a revision
+            long startTime = metricsEnabled ? System.nanoTime() : 0L;
             if (entity instanceof HasRevision) {
                 int nrOfRowsDeleted = sqlSession.delete(deleteStatement, entity);
                 if (nrOfRowsDeleted == 0) {
@@ -697,6 +762,9 @@ public class DbSqlSession extends AbstractDbSqlSession {
             } else {
                 sqlSession.delete(deleteStatement, entity);
             }
+            if (metricsEnabled) {
+                recordStatementDuration(deleteStatement, startTime);
+            }
         }
     }
 
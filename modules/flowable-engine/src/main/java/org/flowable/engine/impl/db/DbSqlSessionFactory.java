@@ -21,6 +21,7 @@ import org.flowable.engine.common.impl.db.AbstractDbSqlSession;
 import org.flowable.engine.common.impl.db.AbstractDbSqlSessionFactory;
 import org.flowable.engine.common.impl.persistence.entity.Entity;
 import org.flowable.engine.impl.context.Context;
+import org.flowable.engine.impl.metrics.MetricsRegistry;
 import org.flowable.engine.impl.persistence.entity.EventLogEntryEntityImpl;
 
 /**
@@ -38,6 +39,7 @@ public class DbSqlSessionFactory extends AbstractDbSqlSessionFactory {
     protected Map<Class<?>, String> bulkDeleteStatements = new ConcurrentHashMap<Class<?>, String>();
     
     protected int maxNrOfStatementsInBulkInsert = 100;
+    protected MetricsRegistry metricsRegistry;
 
     public Class<?> getSessionType() {
         return DbSqlSession.class;
@@ -96,6 +98,14 @@ public class DbSqlSessionFactory extends AbstractDbSqlSessionFactory {
     public void setMaxNrOfStatementsInBulkInsert(int maxNrOfStatementsInBulkInsert) {
         this.maxNrOfStatementsInBulkInsert = maxNrOfStatementsInBulkInsert;
     }
+
+    public MetricsRegistry getMetricsRegistry() {
+        return metricsRegistry;
+    }
+
+    public void setMetricsRegistry(MetricsRegistry metricsRegistry) {
+        this.metricsRegistry = metricsRegistry;
+    }
     
     public Map<Class<?>, String> getBulkInsertStatements() {
         return bulkInsertStatements;
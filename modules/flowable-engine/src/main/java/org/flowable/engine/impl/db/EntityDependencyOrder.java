@@ -40,6 +40,7 @@ import org.flowable.engine.impl.persistence.entity.HistoricVariableInstanceEntit
 import org.flowable.engine.impl.persistence.entity.HistoryJobEntityImpl;
 import org.flowable.engine.impl.persistence.entity.IdentityLinkEntityImpl;
 import org.flowable.engine.impl.persistence.entity.JobEntityImpl;
+import org.flowable.engine.impl.persistence.entity.JobShardNodeEntityImpl;
 import org.flowable.engine.impl.persistence.entity.MessageEventSubscriptionEntityImpl;
 import org.flowable.engine.impl.persistence.entity.ModelEntityImpl;
 import org.flowable.engine.impl.persistence.entity.ProcessDefinitionEntityImpl;
@@ -83,6 +84,9 @@ public class EntityDependencyOrder {
         /* No FK */
         DELETE_ORDER.add(EventLogEntryEntityImpl.class);
 
+        /* No FK */
+        DELETE_ORDER.add(JobShardNodeEntityImpl.class);
+
         /*
          * FK to Deployment FK to ByteArray
          */
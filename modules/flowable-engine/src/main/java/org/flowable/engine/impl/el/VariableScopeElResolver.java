@@ -21,6 +21,7 @@ import org.flowable.engine.delegate.VariableScope;
 import org.flowable.engine.impl.identity.Authentication;
 import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
 import org.flowable.engine.impl.persistence.entity.TaskEntity;
+import org.flowable.engine.impl.persistence.entity.VariableInstance;
 
 /**
  * Implementation of an {@link ELResolver} that resolves expressions with the process variables of a given {@link VariableScope} as context. <br>
@@ -56,9 +57,11 @@ public class VariableScopeElResolver extends ELResolver {
                 context.setPropertyResolved(true);
                 return Authentication.getAuthenticatedUserId();
             } else {
-                if (variableScope.hasVariable(variable)) {
+                // A single lookup, which only fetches the requested variable when selective variable fetching is enabled
+                VariableInstance variableInstance = variableScope.getVariableInstance(variable);
+                if (variableInstance != null) {
                     context.setPropertyResolved(true); // if not set, the next elResolver in the CompositeElResolver will be called
-                    return variableScope.getVariable(variable);
+                    return variableInstance.getValue();
                 }
             }
         }
@@ -185,6 +185,27 @@ public abstract class AbstractHistoryManager extends AbstractManager implements
         return null;
     }
 
+    protected HistoricActivityInstanceEntity getHistoricActivityInstanceById(ExecutionEntity execution, String activityId, boolean endTimeMustBeNull) {
+        String activityInstanceId = execution.getActivityInstanceId();
+        if (activityInstanceId == null) {
+            return null;
+        }
+
+        HistoricActivityInstanceEntity historicActivityInstance = getEntityCache().findInCache(HistoricActivityInstanceEntity.class, activityInstanceId);
+        if (historicActivityInstance == null && !execution.isInserted()) {
+            historicActivityInstance = getHistoricActivityInstanceEntityManager().findById(activityInstanceId);
+        }
+
+        if (historicActivityInstance != null
+                        && activityId.equals(historicActivityInstance.getActivityId())
+                        && execution.getId().equals(historicActivityInstance.getExecutionId())
+                        && (!endTimeMustBeNull || historicActivityInstance.getEndTime() == null)) {
+            return historicActivityInstance;
+        }
+
+        return null;
+    }
+
     @Override
     public HistoricActivityInstanceEntity findActivityInstance(ExecutionEntity execution, boolean createOnNotFound, boolean endTimeMustBeNull) {
         String activityId = getActivityIdForExecution(execution);
@@ -211,6 +232,13 @@ public abstract class AbstractHistoryManager extends AbstractManager implements
 
         String executionId = execution.getId();
 
+        // The execution keeps a reference to the last started activity instance,
+        // which allows to fetch it by id (cache first) instead of querying for it
+        HistoricActivityInstanceEntity historicActivityInstanceEntityById = getHistoricActivityInstanceById(execution, activityId, endTimeMustBeNull);
+        if (historicActivityInstanceEntityById != null) {
+            return historicActivityInstanceEntityById;
+        }
+
         // Check the cache
         HistoricActivityInstanceEntity historicActivityInstanceEntityFromCache = getHistoricActivityInstanceFromCache(executionId, activityId, endTimeMustBeNull);
         if (historicActivityInstanceEntityFromCache != null) {
@@ -263,6 +291,7 @@ public abstract class AbstractHistoryManager extends AbstractManager implements
         }
 
         getHistoricActivityInstanceEntityManager().insert(historicActivityInstance);
+        execution.setActivityInstanceId(historicActivityInstance.getId());
         return historicActivityInstance;
     }
 
@@ -14,9 +14,11 @@ package org.flowable.engine.impl.interceptor;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.Map;
+import java.util.Set;
 
 import org.flowable.engine.FlowableEngineAgenda;
 import org.flowable.engine.FlowableTaskAlreadyClaimedException;
@@ -29,6 +31,7 @@ import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.flowable.engine.impl.db.DbSqlSession;
 import org.flowable.engine.impl.history.HistoryManager;
 import org.flowable.engine.impl.jobexecutor.FailedJobCommandFactory;
+import org.flowable.engine.impl.persistence.ExecutionPrefetchPlan;
 import org.flowable.engine.impl.persistence.cache.EntityCache;
 import org.flowable.engine.impl.persistence.entity.AttachmentEntityManager;
 import org.flowable.engine.impl.persistence.entity.ByteArrayEntityManager;
@@ -48,6 +51,7 @@ import org.flowable.engine.impl.persistence.entity.HistoricVariableInstanceEntit
 import org.flowable.engine.impl.persistence.entity.HistoryJobEntityManager;
 import org.flowable.engine.impl.persistence.entity.IdentityLinkEntityManager;
 import org.flowable.engine.impl.persistence.entity.JobEntityManager;
+import org.flowable.engine.impl.persistence.entity.JobShardNodeEntityManager;
 import org.flowable.engine.impl.persistence.entity.ModelEntityManager;
 import org.flowable.engine.impl.persistence.entity.ProcessDefinitionEntityManager;
 import org.flowable.engine.impl.persistence.entity.ProcessDefinitionInfoEntityManager;
@@ -75,6 +79,8 @@ public class CommandContext extends AbstractCommandContext {
 
     protected FlowableEngineAgenda agenda;
     protected Map<String, ExecutionEntity> involvedExecutions = new HashMap<String, ExecutionEntity>(1); // The executions involved with the command
+    protected Map<String, Set<ExecutionPrefetchPlan.Relation>> prefetchedRelations; // process instance id -> relations fetched for the whole process instance
+    protected long loadedVariableInstanceCount; // variable instances loaded by the variable scopes during this command
     protected LinkedList<Object> resultStack = new LinkedList<Object>(); // needs to be a stack, as JavaDelegates can do api calls again
     protected boolean hideAsyncHistoryExceptions;
     
@@ -202,6 +208,10 @@ public class CommandContext extends AbstractCommandContext {
         return processEngineConfiguration.getHistoryJobEntityManager();
     }
 
+    public JobShardNodeEntityManager getJobShardNodeEntityManager() {
+        return processEngineConfiguration.getJobShardNodeEntityManager();
+    }
+
     public AttachmentEntityManager getAttachmentEntityManager() {
         return processEngineConfiguration.getAttachmentEntityManager();
     }
@@ -246,6 +256,37 @@ public class CommandContext extends AbstractCommandContext {
         return involvedExecutions.values();
     }
 
+    public void addPrefetchedRelation(String processInstanceId, ExecutionPrefetchPlan.Relation relation) {
+        if (prefetchedRelations == null) {
+            prefetchedRelations = new HashMap<String, Set<ExecutionPrefetchPlan.Relation>>(1);
+        }
+        Set<ExecutionPrefetchPlan.Relation> relations = prefetchedRelations.get(processInstanceId);
+        if (relations == null) {
+            relations = EnumSet.noneOf(ExecutionPrefetchPlan.Relation.class);
+            prefetchedRelations.put(processInstanceId, relations);
+        }
+        relations.add(relation);
+    }
+
+    public boolean isRelationPrefetched(String processInstanceId, ExecutionPrefetchPlan.Relation relation) {
+        if (prefetchedRelations == null || processInstanceId == null) {
+            return false;
+        }
+        Set<ExecutionPrefetchPlan.Relation> relations = prefetchedRelations.get(processInstanceId);
+        return relations != null && relations.contains(relation);
+    }
+
+    public void addLoadedVariableInstances(int count) {
+        loadedVariableInstanceCount += count;
+    }
+
+    /**
+     * @return the number of variable instances loaded by executions and tasks during this command, either all variables of a scope or specific ones by name.
+     */
+    public long getLoadedVariableInstanceCount() {
+        return loadedVariableInstanceCount;
+    }
+
     // getters and setters
     // //////////////////////////////////////////////////////
 
@@ -0,0 +1,38 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.interceptor;
+
+import org.flowable.engine.common.impl.interceptor.CommandConfig;
+import org.flowable.engine.impl.metrics.MetricsRegistry;
+
+/**
+ * Records the duration of every command, including the flush of the command context, in the {@link MetricsRegistry}.
+ */
+public class MetricsInterceptor extends AbstractCommandInterceptor {
+
+    protected MetricsRegistry metricsRegistry;
+
+    public MetricsInterceptor(MetricsRegistry metricsRegistry) {
+        this.metricsRegistry = metricsRegistry;
+    }
+
+    public <T> T execute(CommandConfig config, Command<T> command) {
+        long startTime = System.nanoTime();
+        try {
+            return next.execute(config, command);
+        } finally {
+            metricsRegistry.recordDuration(MetricsRegistry.COMMAND_DURATION, command.getClass().getName(), System.nanoTime() - startTime);
+        }
+    }
+
+}
@@ -0,0 +1,48 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.jobexecutor;
+
+import org.flowable.bpmn.model.Activity;
+import org.flowable.bpmn.model.FlowElement;
+import org.flowable.engine.impl.bpmn.behavior.ParallelMultiInstanceBehavior;
+import org.flowable.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
+import org.flowable.engine.impl.persistence.entity.JobEntity;
+
+/**
+ * Creates the next chunk of instances of a parallel multi instance activity. The job is bound to the multi instance root execution and its
+ * configuration holds the loop counter of the first instance to create.
+ *
+ * @see org.flowable.engine.impl.cfg.PerformanceSettings#getParallelMultiInstanceAsyncChunkSize()
+ */
+public class ParallelMultiInstanceChunkJobHandler implements JobHandler {
+
+    public static final String TYPE = "parallel-multi-instance-chunk";
+
+    public String getType() {
+        return TYPE;
+    }
+
+    public void execute(JobEntity job, String configuration, ExecutionEntity execution, CommandContext commandContext) {
+        if (execution == null || execution.isEnded()) {
+            return;
+        }
+
+        FlowElement flowElement = execution.getCurrentFlowElement();
+        if (flowElement instanceof Activity && ((Activity) flowElement).getBehavior() instanceof ParallelMultiInstanceBehavior) {
+            ParallelMultiInstanceBehavior multiInstanceBehavior = (ParallelMultiInstanceBehavior) ((Activity) flowElement).getBehavior();
+            multiInstanceBehavior.createRemainingInstances(execution, Integer.parseInt(configuration));
+        }
+    }
+
+}
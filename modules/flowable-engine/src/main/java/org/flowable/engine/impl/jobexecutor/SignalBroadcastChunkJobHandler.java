@@ -0,0 +1,76 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.jobexecutor;
+
+import java.util.List;
+
+import org.flowable.engine.compatibility.Flowable5CompatibilityHandler;
+import org.flowable.engine.delegate.event.FlowableEngineEventType;
+import org.flowable.engine.delegate.event.impl.FlowableEventBuilder;
+import org.flowable.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.persistence.entity.EventSubscriptionEntityManager;
+import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
+import org.flowable.engine.impl.persistence.entity.JobEntity;
+import org.flowable.engine.impl.persistence.entity.SignalEventSubscriptionEntity;
+import org.flowable.engine.impl.util.Flowable5Util;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Delivers a broadcast signal to the subscriptions of one chunk, see {@link SignalBroadcastJobHandler}.
+ * 
+ * Only subscriptions created before the signal was thrown are part of the broadcast. A subscription that already received the signal
+ * is either gone (the execution continued) or part of a transaction that was rolled back, so retrying a failed chunk does not signal twice.
+ */
+public class SignalBroadcastChunkJobHandler implements JobHandler {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SignalBroadcastChunkJobHandler.class);
+
+    public static final String TYPE = "signal-broadcast-chunk";
+
+    public String getType() {
+        return TYPE;
+    }
+
+    public void execute(JobEntity job, String configuration, ExecutionEntity execution, CommandContext commandContext) {
+        SignalBroadcastConfiguration broadcastConfiguration = SignalBroadcastConfiguration.fromJson(configuration);
+        String eventName = broadcastConfiguration.getEventName();
+
+        EventSubscriptionEntityManager eventSubscriptionEntityManager = commandContext.getEventSubscriptionEntityManager();
+        List<SignalEventSubscriptionEntity> subscriptionEntities = eventSubscriptionEntityManager.findSignalEventSubscriptionsForBroadcast(eventName,
+                broadcastConfiguration.getTenantId(), broadcastConfiguration.getCreatedBefore(), broadcastConfiguration.getAfterId(), broadcastConfiguration.getLastId());
+
+        LOGGER.debug("Delivering signal {} to {} subscriptions after {} up to {}", eventName, subscriptionEntities.size(),
+                broadcastConfiguration.getAfterId(), broadcastConfiguration.getLastId());
+
+        for (SignalEventSubscriptionEntity signalEventSubscriptionEntity : subscriptionEntities) {
+            if (broadcastConfiguration.isGlobalScopedOnly() && !signalEventSubscriptionEntity.isGlobalScoped()) {
+                continue;
+            }
+
+            if (Flowable5Util.isFlowable5ProcessDefinitionId(commandContext, signalEventSubscriptionEntity.getProcessDefinitionId())) {
+                Flowable5CompatibilityHandler compatibilityHandler = Flowable5Util.getFlowable5CompatibilityHandler();
+                compatibilityHandler.signalEventReceived(signalEventSubscriptionEntity, null, broadcastConfiguration.isAsync());
+
+            } else {
+                commandContext.getProcessEngineConfiguration().getEventDispatcher().dispatchEvent(
+                        FlowableEventBuilder.createSignalEvent(FlowableEngineEventType.ACTIVITY_SIGNALED, signalEventSubscriptionEntity.getActivityId(), eventName,
+                                null, signalEventSubscriptionEntity.getExecutionId(), signalEventSubscriptionEntity.getProcessInstanceId(),
+                                signalEventSubscriptionEntity.getProcessDefinitionId()));
+
+                eventSubscriptionEntityManager.eventReceived(signalEventSubscriptionEntity, null, broadcastConfiguration.isAsync());
+            }
+        }
+    }
+
+}
@@ -0,0 +1,119 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.jobexecutor;
+
+import java.util.Date;
+
+import org.flowable.engine.impl.util.json.JSONObject;
+
+/**
+ * Job handler configuration of a signal broadcast: which subscriptions receive the signal and the range of subscription ids
+ * (ordered by id) that a {@link SignalBroadcastJobHandler} or {@link SignalBroadcastChunkJobHandler} job covers.
+ */
+public class SignalBroadcastConfiguration {
+
+    protected static final String PROPERTY_EVENT_NAME = "eventName";
+    protected static final String PROPERTY_TENANT_ID = "tenantId";
+    protected static final String PROPERTY_CREATED_BEFORE = "createdBefore";
+    protected static final String PROPERTY_GLOBAL_SCOPED_ONLY = "globalScopedOnly";
+    protected static final String PROPERTY_ASYNC = "async";
+    protected static final String PROPERTY_AFTER_ID = "afterId";
+    protected static final String PROPERTY_LAST_ID = "lastId";
+
+    protected String eventName;
+    protected String tenantId;
+    protected Date createdBefore;
+    protected boolean globalScopedOnly;
+    protected boolean async;
+
+    /** Exclusive lower bound of the covered subscription ids, null for the start */
+    protected String afterId;
+
+    /** Inclusive upper bound of the covered subscription ids, null for the end */
+    protected String lastId;
+
+    public SignalBroadcastConfiguration(String eventName, String tenantId, Date createdBefore, boolean globalScopedOnly, boolean async) {
+        this.eventName = eventName;
+        this.tenantId = tenantId;
+        this.createdBefore = createdBefore;
+        this.globalScopedOnly = globalScopedOnly;
+        this.async = async;
+    }
+
+    /**
+     * Returns a copy of this configuration covering the subscription ids after the given id, up to and including the last id.
+     */
+    public SignalBroadcastConfiguration forRange(String afterId, String lastId) {
+        SignalBroadcastConfiguration configuration = new SignalBroadcastConfiguration(eventName, tenantId, createdBefore, globalScopedOnly, async);
+        configuration.afterId = afterId;
+        configuration.lastId = lastId;
+        return configuration;
+    }
+
+    public String toJson() {
+        JSONObject json = new JSONObject();
+        json.put(PROPERTY_EVENT_NAME, eventName);
+        json.put(PROPERTY_TENANT_ID, tenantId);
+        json.put(PROPERTY_CREATED_BEFORE, createdBefore.getTime());
+        json.put(PROPERTY_GLOBAL_SCOPED_ONLY, globalScopedOnly);
+        json.put(PROPERTY_ASYNC, async);
+        json.put(PROPERTY_AFTER_ID, afterId);
+        json.put(PROPERTY_LAST_ID, lastId);
+        return json.toString();
+    }
+
+    public static SignalBroadcastConfiguration fromJson(String jsonString) {
+        JSONObject json = new JSONObject(jsonString);
+        SignalBroadcastConfiguration configuration = new SignalBroadcastConfiguration(json.getString(PROPERTY_EVENT_NAME), getString(json, PROPERTY_TENANT_ID),
+                new Date(json.getLong(PROPERTY_CREATED_BEFORE)), json.optBoolean(PROPERTY_GLOBAL_SCOPED_ONLY), json.optBoolean(PROPERTY_ASYNC));
+        configuration.afterId = getString(json, PROPERTY_AFTER_ID);
+        configuration.lastId = getString(json, PROPERTY_LAST_ID);
+        return configuration;
+    }
+
+    protected static String getString(JSONObject json, String key) {
+        if (json.has(key) && !json.isNull(key)) {
+            return json.getString(key);
+        }
+        return null;
+    }
+
+    public String getEventName() {
+        return eventName;
+    }
+
+    public String getTenantId() {
+        return tenantId;
+    }
+
+    public Date getCreatedBefore() {
+        return createdBefore;
+    }
+
+    public boolean isGlobalScopedOnly() {
+        return globalScopedOnly;
+    }
+
+    public boolean isAsync() {
+        return async;
+    }
+
+    public String getAfterId() {
+        return afterId;
+    }
+
+    public String getLastId() {
+        return lastId;
+    }
+
+}
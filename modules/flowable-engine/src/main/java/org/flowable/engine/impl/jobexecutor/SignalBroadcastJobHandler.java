@@ -0,0 +1,88 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.jobexecutor;
+
+import java.util.List;
+
+import org.flowable.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.persistence.entity.EventSubscriptionEntityManager;
+import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
+import org.flowable.engine.impl.persistence.entity.JobEntity;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Splits a signal broadcast into chunks. Pages through the ids of the subscriptions that receive the signal and schedules a
+ * {@link SignalBroadcastChunkJobHandler} job for every range of chunk size ids. The chunk jobs are not exclusive, so they are executed in parallel
+ * and each one is retried on its own when it fails. To keep this transaction bounded as well, at most {@link #MAX_CHUNKS_PER_JOB} chunks are scheduled
+ * by one job, after which a new broadcast job continues where this one stopped.
+ * 
+ * @see org.flowable.engine.impl.cfg.PerformanceSettings#getSignalBroadcastAsyncChunkSize()
+ */
+public class SignalBroadcastJobHandler implements JobHandler {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SignalBroadcastJobHandler.class);
+
+    public static final String TYPE = "signal-broadcast";
+
+    public static final int DEFAULT_CHUNK_SIZE = 100;
+    public static final int MAX_CHUNKS_PER_JOB = 100;
+
+    public String getType() {
+        return TYPE;
+    }
+
+    public void execute(JobEntity job, String configuration, ExecutionEntity execution, CommandContext commandContext) {
+        SignalBroadcastConfiguration broadcastConfiguration = SignalBroadcastConfiguration.fromJson(configuration);
+        EventSubscriptionEntityManager eventSubscriptionEntityManager = commandContext.getEventSubscriptionEntityManager();
+
+        int chunkSize = commandContext.getProcessEngineConfiguration().getPerformanceSettings().getSignalBroadcastAsyncChunkSize();
+        if (chunkSize <= 0) {
+            chunkSize = DEFAULT_CHUNK_SIZE;
+        }
+
+        String afterId = broadcastConfiguration.getAfterId();
+        for (int i = 0; i < MAX_CHUNKS_PER_JOB; i++) {
+
+            // The last id of the chunk is the chunk size'th id after the previous chunk
+            List<String> lastIds = eventSubscriptionEntityManager.findSignalEventSubscriptionIdsForBroadcast(broadcastConfiguration.getEventName(),
+                    broadcastConfiguration.getTenantId(), broadcastConfiguration.getCreatedBefore(), afterId, chunkSize - 1, 1);
+
+            if (lastIds.isEmpty()) {
+                // Less than a full chunk remaining: the last chunk takes everything that is left
+                scheduleJob(SignalBroadcastChunkJobHandler.TYPE, broadcastConfiguration.forRange(afterId, null), commandContext);
+                LOGGER.debug("Scheduled last chunk of broadcast of signal {}", broadcastConfiguration.getEventName());
+                return;
+            }
+
+            String lastId = lastIds.get(0);
+            scheduleJob(SignalBroadcastChunkJobHandler.TYPE, broadcastConfiguration.forRange(afterId, lastId), commandContext);
+            afterId = lastId;
+        }
+
+        LOGGER.debug("Scheduled {} chunks of broadcast of signal {}, continuing after subscription {}", MAX_CHUNKS_PER_JOB, broadcastConfiguration.getEventName(), afterId);
+        scheduleJob(TYPE, broadcastConfiguration.forRange(afterId, null), commandContext);
+    }
+
+    protected void scheduleJob(String jobHandlerType, SignalBroadcastConfiguration broadcastConfiguration, CommandContext commandContext) {
+        JobEntity job = commandContext.getJobEntityManager().create();
+        job.setJobType(JobEntity.JOB_TYPE_MESSAGE);
+        job.setJobHandlerType(jobHandlerType);
+        job.setJobHandlerConfiguration(broadcastConfiguration.toJson());
+        if (broadcastConfiguration.getTenantId() != null) {
+            job.setTenantId(broadcastConfiguration.getTenantId());
+        }
+        commandContext.getJobManager().scheduleAsyncJob(job);
+    }
+
+}
@@ -0,0 +1,151 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.metrics;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-memory {@link MetricsRegistry} keeping a count, total and maximum per metric name and key. Recording a value only updates a few atomic
+ * counters, so it can be left enabled in production.
+ * 
+ * Counters are kept apart from the recorded values: an increment adds to the total of the counter, but is not a sample of which the maximum
+ * is tracked.
+ */
+public class DefaultMetricsRegistry implements MetricsRegistry {
+
+    protected ConcurrentMap<String, ConcurrentMap<String, Metric>> metrics = new ConcurrentHashMap<String, ConcurrentMap<String, Metric>>();
+    protected ConcurrentMap<String, ConcurrentMap<String, Counter>> counters = new ConcurrentHashMap<String, ConcurrentMap<String, Counter>>();
+
+    public boolean isEnabled() {
+        return true;
+    }
+
+    public void recordDuration(String metricName, String key, long durationInNanos) {
+        getMetric(metricName, key).record(TimeUnit.NANOSECONDS.toMicros(durationInNanos));
+    }
+
+    public void recordValue(String metricName, String key, long value) {
+        getMetric(metricName, key).record(value);
+    }
+
+    public void increment(String metricName, String key, long amount) {
+        getCounter(metricName, key).increment(amount);
+    }
+
+    public Map<String, Map<String, MetricSnapshot>> getMetrics() {
+        Map<String, Map<String, MetricSnapshot>> snapshot = new TreeMap<String, Map<String, MetricSnapshot>>();
+        for (Map.Entry<String, ConcurrentMap<String, Metric>> metricEntry : metrics.entrySet()) {
+            Map<String, MetricSnapshot> keySnapshots = new TreeMap<String, MetricSnapshot>();
+            for (Map.Entry<String, Metric> keyEntry : metricEntry.getValue().entrySet()) {
+                keySnapshots.put(keyEntry.getKey(), keyEntry.getValue().snapshot());
+            }
+            snapshot.put(metricEntry.getKey(), keySnapshots);
+        }
+        for (Map.Entry<String, ConcurrentMap<String, Counter>> counterEntry : counters.entrySet()) {
+            Map<String, MetricSnapshot> keySnapshots = snapshot.get(counterEntry.getKey());
+            if (keySnapshots == null) {
+                keySnapshots = new TreeMap<String, MetricSnapshot>();
+                snapshot.put(counterEntry.getKey(), keySnapshots);
+            }
+            for (Map.Entry<String, Counter> keyEntry : counterEntry.getValue().entrySet()) {
+                keySnapshots.put(keyEntry.getKey(), keyEntry.getValue().snapshot());
+            }
+        }
+        return snapshot;
+    }
+
+    public void reset() {
+        metrics.clear();
+        counters.clear();
+    }
+
+    protected Metric getMetric(String metricName, String key) {
+        ConcurrentMap<String, Metric> keyMetrics = getKeyMap(metrics, metricName);
+        Metric metric = keyMetrics.get(key);
+        if (metric == null) {
+            Metric newMetric = new Metric();
+            metric = keyMetrics.putIfAbsent(key, newMetric);
+            if (metric == null) {
+                metric = newMetric;
+            }
+        }
+        return metric;
+    }
+
+    protected Counter getCounter(String metricName, String key) {
+        ConcurrentMap<String, Counter> keyCounters = getKeyMap(counters, metricName);
+        Counter counter = keyCounters.get(key);
+        if (counter == null) {
+            Counter newCounter = new Counter();
+            counter = keyCounters.putIfAbsent(key, newCounter);
+            if (counter == null) {
+                counter = newCounter;
+            }
+        }
+        return counter;
+    }
+
+    protected <T> ConcurrentMap<String, T> getKeyMap(ConcurrentMap<String, ConcurrentMap<String, T>> map, String metricName) {
+        ConcurrentMap<String, T> keyMap = map.get(metricName);
+        if (keyMap == null) {
+            ConcurrentMap<String, T> newKeyMap = new ConcurrentHashMap<String, T>();
+            keyMap = map.putIfAbsent(metricName, newKeyMap);
+            if (keyMap == null) {
+                keyMap = newKeyMap;
+            }
+        }
+        return keyMap;
+    }
+
+    protected static class Metric {
+
+        protected final AtomicLong count = new AtomicLong();
+        protected final AtomicLong total = new AtomicLong();
+        protected final AtomicLong max = new AtomicLong();
+
+        public void record(long value) {
+            count.incrementAndGet();
+            total.addAndGet(value);
+
+            long currentMax = max.get();
+            while (value > currentMax && !max.compareAndSet(currentMax, value)) {
+                currentMax = max.get();
+            }
+        }
+
+        public MetricSnapshot snapshot() {
+            return new MetricSnapshot(count.get(), total.get(), max.get());
+        }
+    }
+
+    protected static class Counter {
+
+        protected final AtomicLong count = new AtomicLong();
+        protected final AtomicLong total = new AtomicLong();
+
+        public void increment(long amount) {
+            count.incrementAndGet();
+            total.addAndGet(amount);
+        }
+
+        public MetricSnapshot snapshot() {
+            return new MetricSnapshot(count.get(), total.get(), 0L);
+        }
+    }
+
+}
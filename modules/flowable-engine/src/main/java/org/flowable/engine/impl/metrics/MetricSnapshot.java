@@ -0,0 +1,56 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.metrics;
+
+import java.io.Serializable;
+
+/**
+ * The state of a single metric at a point in time: the number of recorded values, their total and their maximum. Durations are expressed in
+ * microseconds. For a counter the count is the number of increments and the total the accumulated amount; no maximum is kept.
+ */
+public class MetricSnapshot implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    protected final long count;
+    protected final long total;
+    protected final long max;
+
+    public MetricSnapshot(long count, long total, long max) {
+        this.count = count;
+        this.total = total;
+        this.max = max;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public long getTotal() {
+        return total;
+    }
+
+    public long getMax() {
+        return max;
+    }
+
+    public double getMean() {
+        return count > 0 ? (double) total / count : 0.0;
+    }
+
+    @Override
+    public String toString() {
+        return "count=" + count + ", total=" + total + ", max=" + max;
+    }
+
+}
@@ -0,0 +1,68 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.metrics;
+
+import java.util.Map;
+
+/**
+ * Collects the timings and counts of the engine hot paths: command execution, statements executed during a flush, agenda operations and
+ * the async executor queue.
+ * 
+ * Every measurement is recorded under a metric name (one of the constants below) and a key, for example the {@link org.flowable.engine.impl.interceptor.Command}
+ * class or the MyBatis statement id. Implementations can bridge to a metrics library of choice. The engine only calls the record methods
+ * when {@link #isEnabled()} returns true, so the default {@link NoOpMetricsRegistry} costs nothing.
+ * 
+ * @see DefaultMetricsRegistry
+ */
+public interface MetricsRegistry {
+
+    /** Duration of a command, keyed by command class. */
+    String COMMAND_DURATION = "command.duration";
+
+    /** Number of entities in the entity cache when the command context is flushed, keyed by command class. */
+    String COMMAND_ENTITY_CACHE_SIZE = "command.entityCacheSize";
+
+    /** Number of variable instances loaded by executions and tasks when the command context is flushed, keyed by command class. */
+    String COMMAND_LOADED_VARIABLES = "command.loadedVariables";
+
+    /** Duration of a statement executed while flushing, keyed by statement id. */
+    String DB_STATEMENT_DURATION = "db.statement.duration";
+
+    /** Number of entities inserted, updated or deleted while flushing, keyed by 'insert', 'update' or 'delete'. */
+    String DB_FLUSH_ENTITIES = "db.flush.entities";
+
+    /** Number of operations planned on the agenda, keyed by operation class. */
+    String AGENDA_OPERATIONS = "agenda.operations";
+
+    /** Size of the async executor queue when a job is offered to it, keyed by async executor class. */
+    String ASYNC_EXECUTOR_QUEUE_SIZE = "asyncExecutor.queueSize";
+
+    /** Number of jobs rejected by the async executor because its queue was full, keyed by async executor class. */
+    String ASYNC_EXECUTOR_REJECTED_JOBS = "asyncExecutor.rejectedJobs";
+
+    boolean isEnabled();
+
+    void recordDuration(String metricName, String key, long durationInNanos);
+
+    void recordValue(String metricName, String key, long value);
+
+    void increment(String metricName, String key, long amount);
+
+    /**
+     * Returns a snapshot of all metrics, by metric name and key.
+     */
+    Map<String, Map<String, MetricSnapshot>> getMetrics();
+
+    void reset();
+
+}
@@ -0,0 +1,47 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.metrics;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * The default {@link MetricsRegistry}, which doesn't record anything.
+ */
+public class NoOpMetricsRegistry implements MetricsRegistry {
+
+    public boolean isEnabled() {
+        return false;
+    }
+
+    public void recordDuration(String metricName, String key, long durationInNanos) {
+
+    }
+
+    public void recordValue(String metricName, String key, long value) {
+
+    }
+
+    public void increment(String metricName, String key, long amount) {
+
+    }
+
+    public Map<String, Map<String, MetricSnapshot>> getMetrics() {
+        return Collections.emptyMap();
+    }
+
+    public void reset() {
+
+    }
+
+}
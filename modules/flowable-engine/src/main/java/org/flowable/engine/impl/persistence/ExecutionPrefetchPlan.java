@@ -0,0 +1,67 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.persistence;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Declares which entities related to the executions of a process instance a command is going to need. When
+ * {@link org.flowable.engine.impl.cfg.PerformanceSettings#isEnableExecutionRelatedEntityPrefetching()} is enabled, each declared relation is fetched for the whole
+ * process instance with one query into the entity cache, after which the lookups per execution or task (e.g. the variables of an execution or the jobs of an
+ * execution) are answered from the cache instead of with a query each.
+ * 
+ * @see org.flowable.engine.impl.persistence.entity.ExecutionEntityManager#prefetchRelatedEntities(String, ExecutionPrefetchPlan)
+ */
+public class ExecutionPrefetchPlan {
+
+    public enum Relation {
+        VARIABLES, TASKS, IDENTITY_LINKS, EVENT_SUBSCRIPTIONS, JOBS, TIMER_JOBS
+    }
+
+    /**
+     * Completing a user task deletes the task with its variables and identity links, and leaving the activity removes the boundary event subscriptions and
+     * timers of the execution.
+     */
+    public static final ExecutionPrefetchPlan TASK_COMPLETION = new ExecutionPrefetchPlan(
+            Relation.VARIABLES, Relation.TASKS, Relation.IDENTITY_LINKS, Relation.EVENT_SUBSCRIPTIONS, Relation.TIMER_JOBS);
+
+    /**
+     * Executing an asynchronous job (e.g. an async service task) typically reads and writes variables and, when leaving the activity, removes the boundary event
+     * subscriptions, jobs and timers of the execution.
+     */
+    public static final ExecutionPrefetchPlan ASYNC_JOB_EXECUTION = new ExecutionPrefetchPlan(
+            Relation.VARIABLES, Relation.EVENT_SUBSCRIPTIONS, Relation.JOBS, Relation.TIMER_JOBS);
+
+    protected final Set<Relation> relations;
+
+    public ExecutionPrefetchPlan(Relation... relations) {
+        EnumSet<Relation> relationSet = EnumSet.noneOf(Relation.class);
+        Collections.addAll(relationSet, relations);
+        if (relationSet.contains(Relation.IDENTITY_LINKS)) {
+            // the identity links of a task can only be answered from the cache when the task itself was fetched
+            relationSet.add(Relation.TASKS);
+        }
+        this.relations = Collections.unmodifiableSet(relationSet);
+    }
+
+    public boolean includes(Relation relation) {
+        return relations.contains(relation);
+    }
+
+    public Set<Relation> getRelations() {
+        return relations;
+    }
+
+}
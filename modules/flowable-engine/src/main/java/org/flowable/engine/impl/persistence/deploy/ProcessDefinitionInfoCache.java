@@ -19,6 +19,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.flowable.engine.common.api.FlowableException;
 import org.flowable.engine.impl.context.Context;
@@ -33,6 +34,10 @@ import org.slf4j.LoggerFactory;
 /**
  * Default cache: keep everything in memory, unless a limit is set.
  * 
+ * By default the revision of a cached entry is checked against the database every time it is retrieved. When a revision check interval is set,
+ * a cached entry is only checked again after a cheap, table wide version stamp has changed. The version stamp is polled at most once per interval,
+ * so changes made by other engines become visible after at most that interval. Changes saved by this engine are visible as soon as they are committed.
+ * 
  * @author Tijs Rademakers
  */
 public class ProcessDefinitionInfoCache {
@@ -42,6 +47,11 @@ public class ProcessDefinitionInfoCache {
     protected Map<String, ProcessDefinitionInfoCacheObject> cache;
     protected CommandExecutor commandExecutor;
 
+    protected long revisionCheckInterval;
+    protected volatile String versionStamp;
+    protected volatile long nextVersionStampCheckTime;
+    protected AtomicLong generation = new AtomicLong();
+
     /** Cache with no limit */
     public ProcessDefinitionInfoCache(CommandExecutor commandExecutor) {
         this.commandExecutor = commandExecutor;
@@ -91,6 +101,15 @@ public class ProcessDefinitionInfoCache {
         cache.put(id, obj);
     }
 
+    public void setRevisionCheckInterval(long revisionCheckInterval) {
+        this.revisionCheckInterval = revisionCheckInterval;
+        this.nextVersionStampCheckTime = 0L;
+    }
+
+    public long getRevisionCheckInterval() {
+        return revisionCheckInterval;
+    }
+
     public void remove(String id) {
         cache.remove(id);
     }
@@ -108,13 +127,21 @@ public class ProcessDefinitionInfoCache {
         ProcessDefinitionInfoEntityManager infoEntityManager = commandContext.getProcessDefinitionInfoEntityManager();
         ObjectMapper objectMapper = commandContext.getProcessEngineConfiguration().getObjectMapper();
 
-        ProcessDefinitionInfoCacheObject cacheObject = null;
-        if (cache.containsKey(processDefinitionId)) {
-            cacheObject = cache.get(processDefinitionId);
-        } else {
+        ProcessDefinitionInfoCacheObject cacheObject = cache.get(processDefinitionId);
+        long checkGeneration = generation.get();
+        if (cacheObject != null && revisionCheckInterval > 0) {
+            checkVersionStamp(infoEntityManager);
+            checkGeneration = generation.get();
+            if (cacheObject.getCheckedGeneration() == checkGeneration) {
+                return cacheObject;
+            }
+        }
+
+        if (cacheObject == null) {
             cacheObject = new ProcessDefinitionInfoCacheObject();
             cacheObject.setRevision(0);
             cacheObject.setInfoNode(objectMapper.createObjectNode());
+            cache.put(processDefinitionId, cacheObject);
         }
 
         ProcessDefinitionInfoEntity infoEntity = infoEntityManager.findProcessDefinitionInfoByProcessDefinitionId(processDefinitionId);
@@ -133,8 +160,27 @@ public class ProcessDefinitionInfoCache {
             cacheObject.setRevision(0);
             cacheObject.setInfoNode(objectMapper.createObjectNode());
         }
+        cacheObject.setCheckedGeneration(checkGeneration);
 
         return cacheObject;
     }
 
+    /**
+     * Polls the version stamp when the revision check interval has passed. When it changed, all cached entries are checked again on their next retrieval.
+     */
+    protected void checkVersionStamp(ProcessDefinitionInfoEntityManager infoEntityManager) {
+        long now = System.currentTimeMillis();
+        if (now < nextVersionStampCheckTime) {
+            return;
+        }
+        nextVersionStampCheckTime = now + revisionCheckInterval;
+
+        String currentVersionStamp = infoEntityManager.findProcessDefinitionInfoVersionStamp();
+        if (!currentVersionStamp.equals(versionStamp)) {
+            LOGGER.debug("Process definition info version stamp changed from {} to {}", versionStamp, currentVersionStamp);
+            versionStamp = currentVersionStamp;
+            generation.incrementAndGet();
+        }
+    }
+
 }
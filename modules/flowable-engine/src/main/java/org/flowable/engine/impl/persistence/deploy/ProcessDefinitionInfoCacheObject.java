@@ -22,6 +22,7 @@ public class ProcessDefinitionInfoCacheObject {
     protected String id;
     protected int revision;
     protected ObjectNode infoNode;
+    protected volatile long checkedGeneration = -1;
 
     public String getId() {
         return id;
@@ -46,4 +47,12 @@ public class ProcessDefinitionInfoCacheObject {
     public void setInfoNode(ObjectNode infoNode) {
         this.infoNode = infoNode;
     }
-}
\ No newline at end of file
+
+    public long getCheckedGeneration() {
+        return checkedGeneration;
+    }
+
+    public void setCheckedGeneration(long checkedGeneration) {
+        this.checkedGeneration = checkedGeneration;
+    }
+}
@@ -34,4 +34,18 @@ public interface ByteArrayEntity extends Entity, HasRevision {
 
     void setBytes(byte[] bytes);
 
+    /**
+     * The number of variables (runtime variables, historic variables and historic details) sharing this byte array, or null when it is not shared.
+     */
+    Integer getReferenceCount();
+
+    void setReferenceCount(Integer referenceCount);
+
+    /**
+     * The content hash of the bytes, only set when this byte array is shared.
+     */
+    String getContentHash();
+
+    void setContentHash(String contentHash);
+
 }
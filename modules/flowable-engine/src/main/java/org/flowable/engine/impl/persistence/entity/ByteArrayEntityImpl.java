@@ -30,6 +30,8 @@ public class ByteArrayEntityImpl extends AbstractEntity implements ByteArrayEnti
     protected String name;
     protected byte[] bytes;
     protected String deploymentId;
+    protected Integer referenceCount;
+    protected String contentHash;
 
     public ByteArrayEntityImpl() {
 
@@ -65,6 +67,22 @@ public class ByteArrayEntityImpl extends AbstractEntity implements ByteArrayEnti
         this.bytes = bytes;
     }
 
+    public Integer getReferenceCount() {
+        return referenceCount;
+    }
+
+    public void setReferenceCount(Integer referenceCount) {
+        this.referenceCount = referenceCount;
+    }
+
+    public String getContentHash() {
+        return contentHash;
+    }
+
+    public void setContentHash(String contentHash) {
+        this.contentHash = contentHash;
+    }
+
     @Override
     public String toString() {
         return "ByteArrayEntity[id=" + id + ", name=" + name + ", size=" + (bytes != null ? bytes.length : 0) + "]";
@@ -32,4 +32,19 @@ public interface ByteArrayEntityManager extends EntityManager<ByteArrayEntity> {
      */
     void deleteByteArrayById(String byteArrayEntityId);
 
+    /**
+     * Registers an additional variable sharing the {@link ByteArrayEntity} with the given id.
+     */
+    void addByteArrayReference(String byteArrayEntityId);
+
+    /**
+     * Unregisters a variable sharing the {@link ByteArrayEntity} with the given id. The byte array is deleted once no variable refers to it anymore.
+     */
+    void removeByteArrayReference(String byteArrayEntityId);
+
+    /**
+     * Returns the content hash of the {@link ByteArrayEntity} with the given id, without fetching its bytes.
+     */
+    String findContentHashById(String byteArrayEntityId);
+
 }
\ No newline at end of file
@@ -15,6 +15,7 @@ package org.flowable.engine.impl.persistence.entity;
 
 import java.util.List;
 
+import org.flowable.engine.common.api.FlowableOptimisticLockingException;
 import org.flowable.engine.common.impl.persistence.entity.data.DataManager;
 import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.flowable.engine.impl.persistence.entity.data.ByteArrayDataManager;
@@ -47,6 +48,48 @@ public class ByteArrayEntityManagerImpl extends AbstractEntityManager<ByteArrayE
         byteArrayDataManager.deleteByteArrayNoRevisionCheck(byteArrayEntityId);
     }
 
+    @Override
+    public void addByteArrayReference(String byteArrayEntityId) {
+        // A byte array inserted in this transaction is not in the database yet, so its reference count is kept on the entity until it is flushed
+        ByteArrayEntity byteArrayEntity = byteArrayDataManager.findInsertedByteArray(byteArrayEntityId);
+        if (byteArrayEntity != null) {
+            byteArrayEntity.setReferenceCount(getReferenceCount(byteArrayEntity) + 1);
+        } else {
+            updateReferenceCount(byteArrayEntityId, 1);
+        }
+    }
+
+    @Override
+    public void removeByteArrayReference(String byteArrayEntityId) {
+        ByteArrayEntity byteArrayEntity = byteArrayDataManager.findInsertedByteArray(byteArrayEntityId);
+        if (byteArrayEntity != null) {
+            int referenceCount = getReferenceCount(byteArrayEntity) - 1;
+            byteArrayEntity.setReferenceCount(referenceCount);
+            if (referenceCount <= 0) {
+                delete(byteArrayEntity, false);
+            }
+        } else {
+            updateReferenceCount(byteArrayEntityId, -1);
+            byteArrayDataManager.deleteUnreferencedByteArray(byteArrayEntityId);
+        }
+    }
+
+    protected void updateReferenceCount(String byteArrayEntityId, int delta) {
+        if (byteArrayDataManager.updateReferenceCount(byteArrayEntityId, delta) == 0) {
+            throw new FlowableOptimisticLockingException("Byte array " + byteArrayEntityId + " was deleted by another transaction concurrently");
+        }
+    }
+
+    protected int getReferenceCount(ByteArrayEntity byteArrayEntity) {
+        // A byte array without a reference count was never shared and thus has exactly one owner
+        return byteArrayEntity.getReferenceCount() != null ? byteArrayEntity.getReferenceCount() : 1;
+    }
+
+    @Override
+    public String findContentHashById(String byteArrayEntityId) {
+        return byteArrayDataManager.findContentHashById(byteArrayEntityId);
+    }
+
     public ByteArrayDataManager getByteArrayDataManager() {
         return byteArrayDataManager;
     }
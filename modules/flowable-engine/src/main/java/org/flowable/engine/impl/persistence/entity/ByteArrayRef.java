@@ -12,8 +12,14 @@
  */
 package org.flowable.engine.impl.persistence.entity;
 
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
 import java.io.Serializable;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 
+import org.flowable.engine.common.api.FlowableException;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.flowable.engine.impl.context.Context;
 
 /**
@@ -53,11 +59,92 @@ public class ByteArrayRef implements Serializable {
         return (entity != null ? entity.getBytes() : null);
     }
 
+    /**
+     * @return a stream over the bytes, or null when there are none. The bytes are only fetched when this method is called.
+     */
+    public InputStream getInputStream() {
+        byte[] bytes = getBytes();
+        return (bytes != null ? new ByteArrayInputStream(bytes) : null);
+    }
+
     public void setValue(String name, byte[] bytes) {
         this.name = name;
         setBytes(bytes);
     }
 
+    /**
+     * Same as {@link #setValue(String, byte[])}, but a referenced byte array that is not fetched yet is deleted and replaced by a new one,
+     * instead of being fetched only to overwrite its bytes. The id of this reference changes in that case, so this is only meant for
+     * owners that store the id of the reference as part of their persistent state.
+     * 
+     * When variable byte arrays are shared, the referenced byte array is never changed in place, as other variables might refer to it: a new byte array
+     * is created instead, unless the bytes have the same content hash as the current ones, in which case nothing changes.
+     */
+    public void replaceValue(String name, byte[] bytes) {
+        if (isByteArraySharingEnabled()) {
+            replaceSharedValue(name, bytes);
+            return;
+        }
+        if (id != null && entity == null) {
+            Context.getCommandContext().getByteArrayEntityManager().deleteByteArrayById(id);
+            id = null;
+        }
+        setValue(name, bytes);
+    }
+
+    protected void replaceSharedValue(String name, byte[] bytes) {
+        String contentHash = (bytes != null ? computeContentHash(bytes) : null);
+        if (id != null) {
+            if (contentHash != null && contentHash.equals(getContentHash())) {
+                return;
+            }
+            release();
+        }
+
+        this.name = name;
+        this.deleted = false;
+        if (bytes != null) {
+            ByteArrayEntityManager byteArrayEntityManager = Context.getCommandContext().getByteArrayEntityManager();
+            entity = byteArrayEntityManager.create();
+            entity.setName(name);
+            entity.setBytes(bytes);
+            entity.setContentHash(contentHash);
+            entity.setReferenceCount(1);
+            byteArrayEntityManager.insert(entity);
+            id = entity.getId();
+        }
+    }
+
+    /**
+     * Makes this reference refer to the same byte array as the given one, releasing the byte array it referred to before. When variable byte arrays
+     * are not shared, the bytes are copied into a new byte array with the given name instead.
+     */
+    public void shareValue(String name, ByteArrayRef byteArrayRef) {
+        if (!isByteArraySharingEnabled()) {
+            replaceValue(name, byteArrayRef.getBytes());
+            return;
+        }
+        if (id != null && id.equals(byteArrayRef.id)) {
+            return;
+        }
+
+        release();
+        this.deleted = false;
+        this.id = byteArrayRef.id;
+        this.name = byteArrayRef.name;
+        this.entity = byteArrayRef.entity;
+        if (id != null) {
+            Context.getCommandContext().getByteArrayEntityManager().addByteArrayReference(id);
+        }
+    }
+
+    protected String getContentHash() {
+        if (entity != null) {
+            return entity.getContentHash();
+        }
+        return Context.getCommandContext().getByteArrayEntityManager().findContentHashById(id);
+    }
+
     private void setBytes(byte[] bytes) {
         if (id == null) {
             if (bytes != null) {
@@ -71,6 +158,7 @@ public class ByteArrayRef implements Serializable {
         } else {
             ensureInitialized();
             entity.setBytes(bytes);
+            entity.setContentHash(null);
         }
     }
 
@@ -94,6 +182,40 @@ public class ByteArrayRef implements Serializable {
         }
     }
 
+    /**
+     * Same as {@link #delete()}, but when variable byte arrays are shared, the referenced byte array is only deleted once no other variable refers to it.
+     */
+    public void release() {
+        if (!isByteArraySharingEnabled()) {
+            delete();
+            return;
+        }
+        if (!deleted && id != null) {
+            Context.getCommandContext().getByteArrayEntityManager().removeByteArrayReference(id);
+            entity = null;
+            id = null;
+            deleted = true;
+        }
+    }
+
+    protected boolean isByteArraySharingEnabled() {
+        ProcessEngineConfigurationImpl processEngineConfiguration = Context.getProcessEngineConfiguration();
+        return processEngineConfiguration != null && processEngineConfiguration.getPerformanceSettings().isEnableVariableByteArraySharing();
+    }
+
+    protected String computeContentHash(byte[] bytes) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(bytes);
+            StringBuilder sb = new StringBuilder(digest.length * 2);
+            for (byte b : digest) {
+                sb.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+            }
+            return sb.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new FlowableException("Could not compute the content hash of byte array " + name, e);
+        }
+    }
+
     private void ensureInitialized() {
         if (id != null && entity == null) {
             entity = Context.getCommandContext().getByteArrayEntityManager().findById(id);
@@ -39,6 +39,8 @@ public interface EventSubscriptionEntity extends EventSubscription, Entity, HasR
 
     void setConfiguration(String configuration);
 
+    void setCorrelationKey(String correlationKey);
+
     void setActivityId(String activityId);
 
     void setCreated(Date created);
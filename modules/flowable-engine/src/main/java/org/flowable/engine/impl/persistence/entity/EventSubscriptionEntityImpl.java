@@ -35,6 +35,7 @@ public abstract class EventSubscriptionEntityImpl extends AbstractEntity impleme
     protected String processInstanceId;
     protected String activityId;
     protected String configuration;
+    protected String correlationKey;
     protected Date created;
     protected String processDefinitionId;
     protected String tenantId;
@@ -54,6 +55,7 @@ public abstract class EventSubscriptionEntityImpl extends AbstractEntity impleme
         persistentState.put("activityId", this.activityId);
         persistentState.put("created", this.created);
         persistentState.put("configuration", this.configuration);
+        persistentState.put("correlationKey", this.correlationKey);
         persistentState.put("tenantId", this.tenantId);
         return persistentState;
     }
@@ -115,6 +117,14 @@ public abstract class EventSubscriptionEntityImpl extends AbstractEntity impleme
         this.configuration = configuration;
     }
 
+    public String getCorrelationKey() {
+        return correlationKey;
+    }
+
+    public void setCorrelationKey(String correlationKey) {
+        this.correlationKey = correlationKey;
+    }
+
     public String getActivityId() {
         return activityId;
     }
@@ -12,6 +12,7 @@
  */
 package org.flowable.engine.impl.persistence.entity;
 
+import java.util.Date;
 import java.util.List;
 
 import org.flowable.bpmn.model.Signal;
@@ -38,6 +39,8 @@ public interface EventSubscriptionEntityManager extends EntityManager<EventSubsc
 
     MessageEventSubscriptionEntity insertMessageEvent(String messageName, ExecutionEntity execution);
 
+    MessageEventSubscriptionEntity insertMessageEvent(String messageName, String correlationKey, ExecutionEntity execution);
+
     CompensateEventSubscriptionEntity insertCompensationEvent(ExecutionEntity execution, String activityId);
 
     /* Update */
@@ -52,8 +55,19 @@ public interface EventSubscriptionEntityManager extends EntityManager<EventSubsc
 
     void eventReceived(EventSubscriptionEntity eventSubscriptionEntity, Object payload, boolean processASync);
 
+    /**
+     * Schedules a job that delivers the signal to all subscriptions with the given name (and tenant) that exist at this moment,
+     * in chunks that are each processed in their own transaction.
+     * 
+     * @param globalScopedOnly when true, subscriptions that are scoped to their process instance are skipped
+     * @param processASync passed to {@link #eventReceived(EventSubscriptionEntity, Object, boolean)} for each subscription
+     */
+    void scheduleSignalBroadcast(String eventName, String tenantId, boolean globalScopedOnly, boolean processASync);
+
     /* Find (generic) */
 
+    List<EventSubscriptionEntity> findEventSubscriptionsByProcessInstanceId(String processInstanceId);
+
     List<EventSubscriptionEntity> findEventSubscriptionsByName(String type, String eventName, String tenantId);
 
     List<EventSubscriptionEntity> findEventSubscriptionsByNameAndExecution(String type, String eventName, String executionId);
@@ -74,6 +88,10 @@ public interface EventSubscriptionEntityManager extends EntityManager<EventSubsc
 
     List<SignalEventSubscriptionEntity> findSignalEventSubscriptionsByEventName(String eventName, String tenantId);
 
+    List<String> findSignalEventSubscriptionIdsForBroadcast(String eventName, String tenantId, Date createdBefore, String afterId, int firstResult, int maxResults);
+
+    List<SignalEventSubscriptionEntity> findSignalEventSubscriptionsForBroadcast(String eventName, String tenantId, Date createdBefore, String afterId, String lastId);
+
     List<SignalEventSubscriptionEntity> findSignalEventSubscriptionsByProcessInstanceAndEventName(String processInstanceId, String eventName);
 
     List<SignalEventSubscriptionEntity> findSignalEventSubscriptionsByNameAndExecution(String name, String executionId);
@@ -84,6 +102,8 @@ public interface EventSubscriptionEntityManager extends EntityManager<EventSubsc
 
     List<MessageEventSubscriptionEntity> findMessageEventSubscriptionsByProcessInstanceAndEventName(String processInstanceId, String eventName);
 
+    List<MessageEventSubscriptionEntity> findMessageEventSubscriptionsByNameAndCorrelationKey(String messageName, String correlationKey, String tenantId);
+
     /* Find (compensation) */
 
     List<CompensateEventSubscriptionEntity> findCompensateEventSubscriptionsByExecutionId(String executionId);
@@ -14,6 +14,7 @@
 package org.flowable.engine.impl.persistence.entity;
 
 import java.util.ArrayList;
+import java.util.Date;
 import java.util.List;
 
 import org.flowable.bpmn.model.Signal;
@@ -23,6 +24,8 @@ import org.flowable.engine.impl.EventSubscriptionQueryImpl;
 import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.flowable.engine.impl.event.EventHandler;
 import org.flowable.engine.impl.jobexecutor.ProcessEventJobHandler;
+import org.flowable.engine.impl.jobexecutor.SignalBroadcastConfiguration;
+import org.flowable.engine.impl.jobexecutor.SignalBroadcastJobHandler;
 import org.flowable.engine.impl.persistence.CountingExecutionEntity;
 import org.flowable.engine.impl.persistence.entity.data.EventSubscriptionDataManager;
 import org.flowable.engine.runtime.EventSubscription;
@@ -85,9 +88,15 @@ public class EventSubscriptionEntityManagerImpl extends AbstractEntityManager<Ev
 
     @Override
     public MessageEventSubscriptionEntity insertMessageEvent(String messageName, ExecutionEntity execution) {
+        return insertMessageEvent(messageName, null, execution);
+    }
+
+    @Override
+    public MessageEventSubscriptionEntity insertMessageEvent(String messageName, String correlationKey, ExecutionEntity execution) {
         MessageEventSubscriptionEntity subscriptionEntity = createMessageEventSubscription();
         subscriptionEntity.setExecution(execution);
         subscriptionEntity.setEventName(messageName);
+        subscriptionEntity.setCorrelationKey(correlationKey);
 
         subscriptionEntity.setActivityId(execution.getCurrentActivityId());
         subscriptionEntity.setProcessDefinitionId(execution.getProcessDefinitionId());
@@ -186,11 +195,26 @@ public class EventSubscriptionEntityManagerImpl extends AbstractEntityManager<Ev
         return eventSubscriptionDataManager.findMessageEventSubscriptionsByProcessInstanceAndEventName(processInstanceId, eventName);
     }
 
+    @Override
+    public List<MessageEventSubscriptionEntity> findMessageEventSubscriptionsByNameAndCorrelationKey(String messageName, String correlationKey, String tenantId) {
+        return eventSubscriptionDataManager.findMessageEventSubscriptionsByNameAndCorrelationKey(messageName, correlationKey, tenantId);
+    }
+
     @Override
     public List<SignalEventSubscriptionEntity> findSignalEventSubscriptionsByEventName(String eventName, String tenantId) {
         return eventSubscriptionDataManager.findSignalEventSubscriptionsByEventName(eventName, tenantId);
     }
 
+    @Override
+    public List<String> findSignalEventSubscriptionIdsForBroadcast(String eventName, String tenantId, Date createdBefore, String afterId, int firstResult, int maxResults) {
+        return eventSubscriptionDataManager.findSignalEventSubscriptionIdsForBroadcast(eventName, tenantId, createdBefore, afterId, firstResult, maxResults);
+    }
+
+    @Override
+    public List<SignalEventSubscriptionEntity> findSignalEventSubscriptionsForBroadcast(String eventName, String tenantId, Date createdBefore, String afterId, String lastId) {
+        return eventSubscriptionDataManager.findSignalEventSubscriptionsForBroadcast(eventName, tenantId, createdBefore, afterId, lastId);
+    }
+
     @Override
     public List<SignalEventSubscriptionEntity> findSignalEventSubscriptionsByProcessInstanceAndEventName(String processInstanceId, String eventName) {
         return eventSubscriptionDataManager.findSignalEventSubscriptionsByProcessInstanceAndEventName(processInstanceId, eventName);
@@ -221,6 +245,11 @@ public class EventSubscriptionEntityManagerImpl extends AbstractEntityManager<Ev
         return eventSubscriptionDataManager.findEventSubscriptionsByTypeAndProcessDefinitionId(type, processDefinitionId, tenantId);
     }
 
+    @Override
+    public List<EventSubscriptionEntity> findEventSubscriptionsByProcessInstanceId(String processInstanceId) {
+        return eventSubscriptionDataManager.findEventSubscriptionsByProcessInstanceId(processInstanceId);
+    }
+
     @Override
     public List<EventSubscriptionEntity> findEventSubscriptionsByName(String type, String eventName, String tenantId) {
         return eventSubscriptionDataManager.findEventSubscriptionsByName(type, eventName, tenantId);
@@ -286,6 +315,22 @@ public class EventSubscriptionEntityManagerImpl extends AbstractEntityManager<Ev
         getJobManager().scheduleAsyncJob(message);
     }
 
+    @Override
+    public void scheduleSignalBroadcast(String eventName, String tenantId, boolean globalScopedOnly, boolean processASync) {
+        SignalBroadcastConfiguration configuration = new SignalBroadcastConfiguration(eventName, tenantId,
+                getClock().getCurrentTime(), globalScopedOnly, processASync);
+
+        JobEntity job = getJobEntityManager().create();
+        job.setJobType(JobEntity.JOB_TYPE_MESSAGE);
+        job.setJobHandlerType(SignalBroadcastJobHandler.TYPE);
+        job.setJobHandlerConfiguration(configuration.toJson());
+        if (tenantId != null) {
+            job.setTenantId(tenantId);
+        }
+
+        getJobManager().scheduleAsyncJob(job);
+    }
+
     protected List<SignalEventSubscriptionEntity> toSignalEventSubscriptionEntityList(List<EventSubscriptionEntity> result) {
         List<SignalEventSubscriptionEntity> signalEventSubscriptionEntities = new ArrayList<SignalEventSubscriptionEntity>(result.size());
         for (EventSubscriptionEntity eventSubscriptionEntity : result) {
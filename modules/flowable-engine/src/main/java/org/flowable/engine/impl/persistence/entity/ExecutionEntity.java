@@ -136,4 +136,22 @@ public interface ExecutionEntity extends DelegateExecution, Execution, ProcessIn
 
     void setStartTime(Date startTime);
 
+    /**
+     * Id of the historic activity instance that was last started for this execution, if any. Allows the history manager to fetch the open activity instance by id, instead of querying for it.
+     */
+    String getActivityInstanceId();
+
+    void setActivityInstanceId(String activityInstanceId);
+
+    /**
+     * Number of executions that have arrived at the joining gateway with the given activity id, for a join in which this execution is the scope.
+     * Only maintained when the parallel gateway join counter is enabled in the performance settings.
+     */
+    int getJoinCount(String activityId);
+
+    /**
+     * Stores the number of executions that have arrived at the joining gateway with the given activity id. Zero removes the counter.
+     */
+    void setJoinCount(String activityId, int joinCount);
+
 }
@@ -109,6 +109,11 @@ public class ExecutionEntityImpl extends VariableScopeImpl implements ExecutionE
     protected String startUserId;
     protected Date startTime;
 
+    protected String activityInstanceId;
+
+    // Arrival counters of joining gateways in this scope, stored as activityId=count pairs separated by a comma
+    protected String joinCounts;
+
     // CountingExecutionEntity
     protected int eventSubscriptionCount;
     protected int taskCount;
@@ -243,6 +248,8 @@ public class ExecutionEntityImpl extends VariableScopeImpl implements ExecutionE
         persistentState.put("startActivityId", this.startActivityId);
         persistentState.put("startTime", this.startTime);
         persistentState.put("startUserId", this.startUserId);
+        persistentState.put("activityInstanceId", this.activityInstanceId);
+        persistentState.put("joinCounts", this.joinCounts);
         persistentState.put("isCountEnabled", this.isCountEnabled);
         persistentState.put("eventSubscriptionCount", eventSubscriptionCount);
         persistentState.put("taskCount", taskCount);
@@ -871,6 +878,55 @@ public class ExecutionEntityImpl extends VariableScopeImpl implements ExecutionE
         this.startTime = startTime;
     }
 
+    public String getActivityInstanceId() {
+        return activityInstanceId;
+    }
+
+    public void setActivityInstanceId(String activityInstanceId) {
+        this.activityInstanceId = activityInstanceId;
+    }
+
+    public String getJoinCounts() {
+        return joinCounts;
+    }
+
+    public void setJoinCounts(String joinCounts) {
+        this.joinCounts = joinCounts;
+    }
+
+    public int getJoinCount(String activityId) {
+        if (joinCounts != null) {
+            for (String joinCount : joinCounts.split(",")) {
+                int separatorIndex = joinCount.lastIndexOf('=');
+                if (joinCount.substring(0, separatorIndex).equals(activityId)) {
+                    return Integer.parseInt(joinCount.substring(separatorIndex + 1));
+                }
+            }
+        }
+        return 0;
+    }
+
+    public void setJoinCount(String activityId, int count) {
+        StringBuilder strb = new StringBuilder();
+        if (joinCounts != null) {
+            for (String joinCount : joinCounts.split(",")) {
+                if (!joinCount.substring(0, joinCount.lastIndexOf('=')).equals(activityId)) {
+                    if (strb.length() > 0) {
+                        strb.append(',');
+                    }
+                    strb.append(joinCount);
+                }
+            }
+        }
+        if (count > 0) {
+            if (strb.length() > 0) {
+                strb.append(',');
+            }
+            strb.append(activityId).append('=').append(count);
+        }
+        this.joinCounts = strb.length() > 0 ? strb.toString() : null;
+    }
+
     public int getEventSubscriptionCount() {
         return eventSubscriptionCount;
     }
@@ -19,6 +19,7 @@ import java.util.Map;
 import org.flowable.engine.common.impl.persistence.entity.EntityManager;
 import org.flowable.engine.impl.ExecutionQueryImpl;
 import org.flowable.engine.impl.ProcessInstanceQueryImpl;
+import org.flowable.engine.impl.persistence.ExecutionPrefetchPlan;
 import org.flowable.engine.repository.ProcessDefinition;
 import org.flowable.engine.runtime.Execution;
 import org.flowable.engine.runtime.ProcessInstance;
@@ -47,6 +48,8 @@ public interface ExecutionEntityManager extends EntityManager<ExecutionEntity> {
 
     List<ExecutionEntity> findChildExecutionsByProcessInstanceId(String processInstanceId);
 
+    List<ExecutionEntity> findExecutionsByIds(Collection<String> executionIds);
+
     List<ExecutionEntity> findExecutionsByParentExecutionAndActivityIds(String parentExecutionId, Collection<String> activityIds);
 
     long findExecutionCountByQueryCriteria(ExecutionQueryImpl executionQuery);
@@ -99,4 +102,11 @@ public interface ExecutionEntityManager extends EntityManager<ExecutionEntity> {
 
     void clearProcessInstanceLockTime(String processInstanceId);
 
+    /**
+     * Fetches the related entities declared by the given plan for all executions of the process instance, with one query per relation, so that the lookups per
+     * execution or task later on in the command are answered from the cache. Does nothing when
+     * {@link org.flowable.engine.impl.cfg.PerformanceSettings#isEnableExecutionRelatedEntityPrefetching()} is disabled.
+     */
+    void prefetchRelatedEntities(String processInstanceId, ExecutionPrefetchPlan prefetchPlan);
+
 }
\ No newline at end of file
@@ -19,8 +19,10 @@ import java.util.Collection;
 import java.util.Date;
 import java.util.GregorianCalendar;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.flowable.bpmn.model.BoundaryEvent;
 import org.flowable.bpmn.model.FlowElement;
@@ -34,7 +36,9 @@ import org.flowable.engine.impl.ProcessInstanceQueryImpl;
 import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.flowable.engine.impl.context.Context;
 import org.flowable.engine.impl.identity.Authentication;
+import org.flowable.engine.impl.interceptor.CommandContext;
 import org.flowable.engine.impl.persistence.CountingExecutionEntity;
+import org.flowable.engine.impl.persistence.ExecutionPrefetchPlan;
 import org.flowable.engine.impl.persistence.entity.data.ExecutionDataManager;
 import org.flowable.engine.repository.ProcessDefinition;
 import org.flowable.engine.runtime.Execution;
@@ -93,6 +97,11 @@ public class ExecutionEntityManagerImpl extends AbstractEntityManager<ExecutionE
         return executionDataManager.findChildExecutionsByProcessInstanceId(processInstanceId);
     }
 
+    @Override
+    public List<ExecutionEntity> findExecutionsByIds(Collection<String> executionIds) {
+        return executionDataManager.findExecutionsByIds(executionIds);
+    }
+
     @Override
     public List<ExecutionEntity> findExecutionsByParentExecutionAndActivityIds(final String parentExecutionId, final Collection<String> activityIds) {
         return executionDataManager.findExecutionsByParentExecutionAndActivityIds(parentExecutionId, activityIds);
@@ -716,6 +725,55 @@ public class ExecutionEntityManagerImpl extends AbstractEntityManager<ExecutionE
         executionDataManager.clearProcessInstanceLockTime(processInstanceId);
     }
 
+    @Override
+    public void prefetchRelatedEntities(String processInstanceId, ExecutionPrefetchPlan prefetchPlan) {
+        if (processInstanceId == null || !getProcessEngineConfiguration().getPerformanceSettings().isEnableExecutionRelatedEntityPrefetching()) {
+            return;
+        }
+
+        CommandContext commandContext = getCommandContext();
+        List<TaskEntity> tasks = null;
+        for (ExecutionPrefetchPlan.Relation relation : prefetchPlan.getRelations()) {
+            if (commandContext.isRelationPrefetched(processInstanceId, relation)) {
+                continue;
+            }
+
+            // The fetched entities end up in the entity cache, the results themselves are not needed here
+            switch (relation) {
+            case VARIABLES:
+                getVariableInstanceEntityManager().findVariableInstancesByProcessInstanceId(processInstanceId);
+                break;
+            case TASKS:
+                tasks = getTaskEntityManager().findTasksByProcessInstanceId(processInstanceId);
+                break;
+            case IDENTITY_LINKS:
+                getIdentityLinkEntityManager().findIdentityLinksByProcessInstanceId(processInstanceId);
+                if (tasks == null) {
+                    tasks = getTaskEntityManager().findTasksByProcessInstanceId(processInstanceId);
+                }
+                if (!tasks.isEmpty()) {
+                    Set<String> taskIds = new HashSet<String>(tasks.size());
+                    for (TaskEntity task : tasks) {
+                        taskIds.add(task.getId());
+                    }
+                    getIdentityLinkEntityManager().findIdentityLinksByTaskIds(taskIds);
+                }
+                break;
+            case EVENT_SUBSCRIPTIONS:
+                getEventSubscriptionEntityManager().findEventSubscriptionsByProcessInstanceId(processInstanceId);
+                break;
+            case JOBS:
+                getJobEntityManager().findJobsByProcessInstanceId(processInstanceId);
+                break;
+            case TIMER_JOBS:
+                getTimerJobEntityManager().findJobsByProcessInstanceId(processInstanceId);
+                break;
+            }
+
+            commandContext.addPrefetchedRelation(processInstanceId, relation);
+        }
+    }
+
     @Override
     public String updateProcessInstanceBusinessKey(ExecutionEntity executionEntity, String businessKey) {
         if (executionEntity.isProcessInstanceType() && businessKey != null) {
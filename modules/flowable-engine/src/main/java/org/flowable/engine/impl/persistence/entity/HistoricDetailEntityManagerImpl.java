@@ -77,8 +77,8 @@ public class HistoricDetailEntityManagerImpl extends AbstractEntityManager<Histo
         historicVariableUpdate.setDoubleValue(variableInstance.getDoubleValue());
         historicVariableUpdate.setLongValue(variableInstance.getLongValue());
 
-        if (variableInstance.getBytes() != null) {
-            historicVariableUpdate.setBytes(variableInstance.getBytes());
+        if (variableInstance.getByteArrayRef() != null && variableInstance.getByteArrayRef().getId() != null) {
+            historicVariableUpdate.shareBytes(variableInstance.getByteArrayRef());
         }
 
         insert(historicVariableUpdate);
@@ -92,7 +92,7 @@ public class HistoricDetailEntityManagerImpl extends AbstractEntityManager<Histo
         if (entity instanceof HistoricDetailVariableInstanceUpdateEntity) {
             HistoricDetailVariableInstanceUpdateEntity historicDetailVariableInstanceUpdateEntity = ((HistoricDetailVariableInstanceUpdateEntity) entity);
             if (historicDetailVariableInstanceUpdateEntity.getByteArrayRef() != null) {
-                historicDetailVariableInstanceUpdateEntity.getByteArrayRef().delete();
+                historicDetailVariableInstanceUpdateEntity.getByteArrayRef().release();
             }
         }
     }
@@ -29,6 +29,11 @@ public interface HistoricDetailVariableInstanceUpdateEntity extends HistoricDeta
 
     ByteArrayRef getByteArrayRef();
 
+    /**
+     * Takes over the value of the given byte array reference of a runtime variable, sharing its byte array when variable byte arrays are shared.
+     */
+    void shareBytes(ByteArrayRef byteArrayRef);
+
     VariableType getVariableType();
 
     void setVariableType(VariableType variableType);
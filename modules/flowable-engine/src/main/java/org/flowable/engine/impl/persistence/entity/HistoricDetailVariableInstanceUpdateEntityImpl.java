@@ -84,6 +84,14 @@ public class HistoricDetailVariableInstanceUpdateEntityImpl extends HistoricDeta
         byteArrayRef.setValue(byteArrayName, bytes);
     }
 
+    @Override
+    public void shareBytes(ByteArrayRef byteArrayRef) {
+        if (this.byteArrayRef == null) {
+            this.byteArrayRef = new ByteArrayRef();
+        }
+        this.byteArrayRef.shareValue("hist.detail.var-" + name, byteArrayRef);
+    }
+
     // getters and setters ////////////////////////////////////////////////////////
 
     public int getRevision() {
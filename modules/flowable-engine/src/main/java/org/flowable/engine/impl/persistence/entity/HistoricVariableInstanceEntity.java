@@ -47,4 +47,9 @@ public interface HistoricVariableInstanceEntity extends ValueFields, HistoricVar
 
     ByteArrayRef getByteArrayRef();
 
+    /**
+     * Takes over the value of the given byte array reference of a runtime variable, sharing its byte array when variable byte arrays are shared.
+     */
+    void shareBytes(ByteArrayRef byteArrayRef);
+
 }
@@ -99,7 +99,15 @@ public class HistoricVariableInstanceEntityImpl extends AbstractEntity implement
         if (byteArrayRef == null) {
             byteArrayRef = new ByteArrayRef();
         }
-        byteArrayRef.setValue("hist.var-" + name, bytes);
+        byteArrayRef.replaceValue("hist.var-" + name, bytes);
+    }
+
+    @Override
+    public void shareBytes(ByteArrayRef byteArrayRef) {
+        if (this.byteArrayRef == null) {
+            this.byteArrayRef = new ByteArrayRef();
+        }
+        this.byteArrayRef.shareValue("hist.var-" + name, byteArrayRef);
     }
 
     // getters and setters //////////////////////////////////////////////////////
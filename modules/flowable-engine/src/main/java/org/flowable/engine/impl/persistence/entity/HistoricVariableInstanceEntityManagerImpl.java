@@ -73,7 +73,7 @@ public class HistoricVariableInstanceEntityManagerImpl extends AbstractEntityMan
 
         historicVariableInstance.setVariableType(variableInstance.getType());
         if (variableInstance.getByteArrayRef() != null) {
-            historicVariableInstance.setBytes(variableInstance.getBytes());
+            historicVariableInstance.shareBytes(variableInstance.getByteArrayRef());
         }
 
         historicVariableInstance.setLastUpdatedTime(getClock().getCurrentTime());
@@ -84,7 +84,7 @@ public class HistoricVariableInstanceEntityManagerImpl extends AbstractEntityMan
         super.delete(entity, fireDeleteEvent);
 
         if (entity.getByteArrayRef() != null) {
-            entity.getByteArrayRef().delete();
+            entity.getByteArrayRef().release();
         }
     }
 
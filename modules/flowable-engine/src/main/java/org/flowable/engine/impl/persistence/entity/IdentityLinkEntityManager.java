@@ -24,6 +24,8 @@ public interface IdentityLinkEntityManager extends EntityManager<IdentityLinkEnt
 
     List<IdentityLinkEntity> findIdentityLinksByTaskId(String taskId);
 
+    List<IdentityLinkEntity> findIdentityLinksByTaskIds(Collection<String> taskIds);
+
     List<IdentityLinkEntity> findIdentityLinksByProcessInstanceId(String processInstanceId);
 
     List<IdentityLinkEntity> findIdentityLinksByProcessDefinitionId(String processDefinitionId);
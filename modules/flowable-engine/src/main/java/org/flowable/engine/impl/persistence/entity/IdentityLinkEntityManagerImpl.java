@@ -93,6 +93,11 @@ public class IdentityLinkEntityManagerImpl extends AbstractEntityManager<Identit
         return identityLinkDataManager.findIdentityLinksByTaskId(taskId);
     }
 
+    @Override
+    public List<IdentityLinkEntity> findIdentityLinksByTaskIds(Collection<String> taskIds) {
+        return identityLinkDataManager.findIdentityLinksByTaskIds(taskIds);
+    }
+
     @Override
     public List<IdentityLinkEntity> findIdentityLinksByProcessInstanceId(String processInstanceId) {
         return identityLinkDataManager.findIdentityLinksByProcessInstanceId(processInstanceId);
@@ -20,4 +20,11 @@ package org.flowable.engine.impl.persistence.entity;
  */
 public interface JobEntity extends JobInfoEntity, AbstractRuntimeJobEntity {
 
+    /**
+     * The shard of the job, derived from its process instance id when the async executor is configured with a number of shards. Null when sharding is disabled or the job has no process instance.
+     */
+    Integer getShard();
+
+    void setShard(Integer shard);
+
 }
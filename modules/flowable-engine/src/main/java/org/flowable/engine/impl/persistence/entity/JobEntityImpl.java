@@ -27,6 +27,7 @@ public class JobEntityImpl extends AbstractJobEntityImpl implements JobEntity {
 
     protected String lockOwner;
     protected Date lockExpirationTime;
+    protected Integer shard;
 
     @SuppressWarnings("unchecked")
     public Object getPersistentState() {
@@ -60,6 +61,14 @@ public class JobEntityImpl extends AbstractJobEntityImpl implements JobEntity {
         this.lockExpirationTime = claimedUntil;
     }
 
+    public Integer getShard() {
+        return shard;
+    }
+
+    public void setShard(Integer shard) {
+        this.shard = shard;
+    }
+
     @Override
     public String toString() {
         return "JobEntity [id=" + id + "]";
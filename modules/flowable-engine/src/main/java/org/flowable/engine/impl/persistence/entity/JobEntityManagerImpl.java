@@ -76,10 +76,40 @@ public class JobEntityManagerImpl extends JobInfoEntityManagerImpl<JobEntity> im
         }
 
         jobEntity.setCreateTime(getProcessEngineConfiguration().getClock().getCurrentTime());
+        if (jobEntity.getShard() == null) {
+            jobEntity.setShard(determineShard(jobEntity));
+        }
         super.insert(jobEntity, fireCreateEvent);
         return true;
     }
 
+    /**
+     * Determines the shard of the job when the async executor is configured with a number of shards.
+     * All jobs of a process instance get the same shard, so they are acquired by the same async executor node.
+     */
+    protected Integer determineShard(JobEntity jobEntity) {
+        int numberOfShards = getProcessEngineConfiguration().getAsyncExecutorNumberOfShards();
+        if (numberOfShards > 0 && jobEntity.getProcessInstanceId() != null) {
+            return getShard(jobEntity.getProcessInstanceId(), numberOfShards);
+        }
+        return null;
+    }
+
+    /**
+     * Maps a process instance id onto one of the given number of shards. The hash code of the id is mixed first:
+     * ids generated by the database id generator are sequential, and the low bits of their string hash codes
+     * alone would put most of them in the same shard.
+     */
+    public static int getShard(String processInstanceId, int numberOfShards) {
+        int hash = processInstanceId.hashCode();
+        hash ^= (hash >>> 16);
+        hash *= 0x85ebca6b;
+        hash ^= (hash >>> 13);
+        hash *= 0xc2b2ae35;
+        hash ^= (hash >>> 16);
+        return (hash & Integer.MAX_VALUE) % numberOfShards;
+    }
+
     @Override
     public List<Job> findJobsByQueryCriteria(JobQueryImpl jobQuery) {
         return jobDataManager.findJobsByQueryCriteria(jobQuery);
@@ -28,6 +28,11 @@ public interface JobInfoEntityManager <T extends JobInfoEntity> extends EntityMa
      */
     List<T> findJobsToExecute(Page page);
 
+    /**
+     * Returns the jobs that are eligible to be executed and that belong to one of the given shards, or to no shard at all. Jobs types that are not sharded ignore the shards.
+     */
+    List<T> findJobsToExecute(List<Integer> shards, Page page);
+
     /**
      * Returns all {@link JobEntity} instances related to on {@link ExecutionEntity}.
      */
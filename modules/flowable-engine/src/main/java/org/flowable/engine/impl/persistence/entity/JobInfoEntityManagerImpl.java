@@ -43,6 +43,11 @@ public abstract class JobInfoEntityManagerImpl<T extends JobInfoEntity> extends
         return jobDataManager.findJobsToExecute(page);
     }
 
+    @Override
+    public List<T> findJobsToExecute(List<Integer> shards, Page page) {
+        return jobDataManager.findJobsToExecute(shards, page);
+    }
+
     @Override
     public List<T> findJobsByExecutionId(String executionId) {
         return jobDataManager.findJobsByExecutionId(executionId);
@@ -0,0 +1,31 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.persistence.entity;
+
+import java.util.Date;
+
+import org.flowable.engine.common.impl.db.HasRevision;
+import org.flowable.engine.common.impl.persistence.entity.Entity;
+
+/**
+ * An async executor node taking part in sharded job acquisition. The id of the node is the lock owner of its async executor.
+ * 
+ * Every node regularly updates its heartbeat time. The shards are divided over the nodes with a recent heartbeat.
+ */
+public interface JobShardNodeEntity extends Entity, HasRevision {
+
+    Date getHeartbeatTime();
+
+    void setHeartbeatTime(Date heartbeatTime);
+
+}
@@ -0,0 +1,50 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.persistence.entity;
+
+import java.io.Serializable;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.flowable.engine.common.impl.persistence.entity.AbstractEntity;
+
+public class JobShardNodeEntityImpl extends AbstractEntity implements JobShardNodeEntity, Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    protected Date heartbeatTime;
+
+    public JobShardNodeEntityImpl() {
+    }
+
+    public Object getPersistentState() {
+        Map<String, Object> persistentState = new HashMap<String, Object>();
+        persistentState.put("heartbeatTime", heartbeatTime);
+        return persistentState;
+    }
+
+    public Date getHeartbeatTime() {
+        return heartbeatTime;
+    }
+
+    public void setHeartbeatTime(Date heartbeatTime) {
+        this.heartbeatTime = heartbeatTime;
+    }
+
+    @Override
+    public String toString() {
+        return "JobShardNodeEntity[id=" + id + ", heartbeatTime=" + heartbeatTime + "]";
+    }
+
+}
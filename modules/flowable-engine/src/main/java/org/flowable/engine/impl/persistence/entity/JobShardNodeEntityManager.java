@@ -0,0 +1,32 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.persistence.entity;
+
+import java.util.Date;
+import java.util.List;
+
+import org.flowable.engine.common.impl.persistence.entity.EntityManager;
+
+public interface JobShardNodeEntityManager extends EntityManager<JobShardNodeEntity> {
+
+    /**
+     * Returns all nodes, ordered by id.
+     */
+    List<JobShardNodeEntity> findAllNodes();
+
+    /**
+     * Deletes all nodes of which the last heartbeat happened before the given time.
+     */
+    void deleteNodesWithHeartbeatBefore(Date heartbeatTime);
+
+}
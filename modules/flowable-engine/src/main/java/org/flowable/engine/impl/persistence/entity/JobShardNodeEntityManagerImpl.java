@@ -0,0 +1,54 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.persistence.entity;
+
+import java.util.Date;
+import java.util.List;
+
+import org.flowable.engine.common.impl.persistence.entity.data.DataManager;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.persistence.entity.data.JobShardNodeDataManager;
+
+public class JobShardNodeEntityManagerImpl extends AbstractEntityManager<JobShardNodeEntity> implements JobShardNodeEntityManager {
+
+    protected JobShardNodeDataManager jobShardNodeDataManager;
+
+    public JobShardNodeEntityManagerImpl(ProcessEngineConfigurationImpl processEngineConfiguration, JobShardNodeDataManager jobShardNodeDataManager) {
+        super(processEngineConfiguration);
+        this.jobShardNodeDataManager = jobShardNodeDataManager;
+    }
+
+    @Override
+    protected DataManager<JobShardNodeEntity> getDataManager() {
+        return jobShardNodeDataManager;
+    }
+
+    @Override
+    public List<JobShardNodeEntity> findAllNodes() {
+        return jobShardNodeDataManager.findAllNodes();
+    }
+
+    @Override
+    public void deleteNodesWithHeartbeatBefore(Date heartbeatTime) {
+        jobShardNodeDataManager.deleteNodesWithHeartbeatBefore(heartbeatTime);
+    }
+
+    public JobShardNodeDataManager getJobShardNodeDataManager() {
+        return jobShardNodeDataManager;
+    }
+
+    public void setJobShardNodeDataManager(JobShardNodeDataManager jobShardNodeDataManager) {
+        this.jobShardNodeDataManager = jobShardNodeDataManager;
+    }
+
+}
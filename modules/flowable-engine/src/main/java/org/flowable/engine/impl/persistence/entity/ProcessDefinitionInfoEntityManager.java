@@ -35,4 +35,9 @@ public interface ProcessDefinitionInfoEntityManager extends EntityManager<Proces
 
     byte[] findInfoJsonById(String infoJsonId);
 
+    /**
+     * Returns a value that changes whenever a process definition info row is inserted, updated or deleted, on any engine using the same database.
+     */
+    String findProcessDefinitionInfoVersionStamp();
+
 }
\ No newline at end of file
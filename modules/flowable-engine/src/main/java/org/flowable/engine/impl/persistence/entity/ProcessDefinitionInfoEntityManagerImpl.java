@@ -61,8 +61,10 @@ public class ProcessDefinitionInfoEntityManagerImpl extends
 
             if (processDefinitionInfo.getInfoJsonId() == null) {
                 processDefinitionInfo.setInfoJsonId(ref.getId());
-                updateProcessDefinitionInfo(processDefinitionInfo);
             }
+
+            // Always update, so the revision changes and the caches of other engines notice the new info json
+            updateProcessDefinitionInfo(processDefinitionInfo);
         }
     }
 
@@ -77,6 +79,10 @@ public class ProcessDefinitionInfoEntityManagerImpl extends
         return processDefinitionInfoDataManager.findProcessDefinitionInfoByProcessDefinitionId(processDefinitionId);
     }
 
+    public String findProcessDefinitionInfoVersionStamp() {
+        return processDefinitionInfoDataManager.findProcessDefinitionInfoVersionStamp();
+    }
+
     public byte[] findInfoJsonById(String infoJsonId) {
         ByteArrayRef ref = new ByteArrayRef(infoJsonId);
         return ref.getBytes();
@@ -586,12 +586,6 @@ public class TaskEntityImpl extends VariableScopeImpl implements TaskEntity, Cou
         return parentTaskId;
     }
 
-    @Override
-    public Map<String, VariableInstanceEntity> getVariableInstanceEntities() {
-        ensureVariableInstancesInitialized();
-        return variableInstances;
-    }
-
     @Override
     public int getSuspensionState() {
         return suspensionState;
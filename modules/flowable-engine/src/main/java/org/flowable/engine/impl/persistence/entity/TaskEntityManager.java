@@ -12,6 +12,7 @@
  */
 package org.flowable.engine.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
@@ -43,6 +44,8 @@ public interface TaskEntityManager extends EntityManager<TaskEntity> {
 
     List<Task> findTasksByParentTaskId(String parentTaskId);
 
+    List<TaskEntity> findTasksByIds(Collection<String> taskIds);
+
     void updateTaskTenantIdForDeployment(String deploymentId, String newTenantId);
 
     void deleteTask(String taskId, String deleteReason, boolean cascade);
@@ -13,6 +13,7 @@
 
 package org.flowable.engine.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
@@ -287,6 +288,11 @@ public class TaskEntityManagerImpl extends AbstractEntityManager<TaskEntity> imp
         return taskDataManager.findTasksByParentTaskId(parentTaskId);
     }
 
+    @Override
+    public List<TaskEntity> findTasksByIds(Collection<String> taskIds) {
+        return taskDataManager.findTasksByIds(taskIds);
+    }
+
     @Override
     public void deleteTask(String taskId, String deleteReason, boolean cascade) {
 
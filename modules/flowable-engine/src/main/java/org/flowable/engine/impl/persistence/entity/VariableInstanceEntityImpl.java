@@ -102,7 +102,7 @@ public class VariableInstanceEntityImpl extends AbstractEntity implements Variab
     @Override
     public void setBytes(byte[] bytes) {
         ensureByteArrayRefInitialized();
-        byteArrayRef.setValue("var-" + name, bytes);
+        byteArrayRef.replaceValue("var-" + name, bytes);
     }
 
     public ByteArrayRef getByteArrayRef() {
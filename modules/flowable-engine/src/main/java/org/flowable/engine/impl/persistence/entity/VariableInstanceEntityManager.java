@@ -34,6 +34,11 @@ public interface VariableInstanceEntityManager extends EntityManager<VariableIns
 
     List<VariableInstanceEntity> findVariableInstancesByExecutionIds(Set<String> executionIds);
 
+    /**
+     * Returns the variables of all executions and tasks of the given process instance.
+     */
+    List<VariableInstanceEntity> findVariableInstancesByProcessInstanceId(String processInstanceId);
+
     VariableInstanceEntity findVariableInstanceByExecutionAndName(String executionId, String variableName);
 
     List<VariableInstanceEntity> findVariableInstancesByExecutionAndNames(String executionId, Collection<String> names);
@@ -95,6 +95,11 @@ public class VariableInstanceEntityManagerImpl extends AbstractEntityManager<Var
         return variableInstanceDataManager.findVariableInstancesByExecutionIds(executionIds);
     }
 
+    @Override
+    public List<VariableInstanceEntity> findVariableInstancesByProcessInstanceId(String processInstanceId) {
+        return variableInstanceDataManager.findVariableInstancesByProcessInstanceId(processInstanceId);
+    }
+
     @Override
     public VariableInstanceEntity findVariableInstanceByExecutionAndName(String executionId, String variableName) {
         return variableInstanceDataManager.findVariableInstanceByExecutionAndName(executionId, variableName);
@@ -120,7 +125,7 @@ public class VariableInstanceEntityManagerImpl extends AbstractEntityManager<Var
         super.delete(entity, false);
         ByteArrayRef byteArrayRef = entity.getByteArrayRef();
         if (byteArrayRef != null) {
-            byteArrayRef.delete();
+            byteArrayRef.release();
         }
         entity.setDeleted(true);
 
@@ -26,6 +26,7 @@ import org.flowable.engine.common.api.FlowableException;
 import org.flowable.engine.common.impl.javax.el.ELContext;
 import org.flowable.engine.common.impl.persistence.entity.AbstractEntity;
 import org.flowable.engine.delegate.VariableScope;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.flowable.engine.impl.context.Context;
 import org.flowable.engine.impl.interceptor.CommandContext;
 import org.flowable.engine.impl.variable.VariableType;
@@ -69,9 +70,58 @@ public abstract class VariableScopeImpl extends AbstractEntity implements Serial
             for (VariableInstanceEntity variableInstance : variableInstancesList) {
                 variableInstances.put(variableInstance.getName(), variableInstance);
             }
+            commandContext.addLoadedVariableInstances(variableInstancesList.size());
         }
     }
 
+    /**
+     * @return false when the selective variable fetching is enabled, in which case the accessors for a single variable only fetch that variable.
+     */
+    protected boolean isFetchAllVariablesByDefault() {
+        ProcessEngineConfigurationImpl processEngineConfiguration = Context.getProcessEngineConfiguration();
+        return processEngineConfiguration == null || !processEngineConfiguration.getPerformanceSettings().isEnableSelectiveVariableFetching();
+    }
+
+    /**
+     * Fetches a variable of this scope by name. A variable deleted earlier in the same transaction is still returned by the entity cache, so it is filtered out here.
+     */
+    protected VariableInstanceEntity fetchSpecificVariable(String variableName) {
+        VariableInstanceEntity variableInstance = getSpecificVariable(variableName);
+        if (variableInstance == null || variableInstance.isDeleted()) {
+            return null;
+        }
+        Context.getCommandContext().addLoadedVariableInstances(1);
+        return variableInstance;
+    }
+
+    /**
+     * Fetches variables of this scope by name. When all variables of this scope were fetched already, they are taken from those instead.
+     */
+    protected List<VariableInstanceEntity> fetchSpecificVariables(Collection<String> variableNames) {
+        List<VariableInstanceEntity> specificVariableInstances = new ArrayList<VariableInstanceEntity>();
+        if (variableNames.isEmpty()) {
+            return specificVariableInstances;
+        }
+
+        if (variableInstances != null) {
+            for (String variableName : variableNames) {
+                VariableInstanceEntity variableInstance = variableInstances.get(variableName);
+                if (variableInstance != null) {
+                    specificVariableInstances.add(variableInstance);
+                }
+            }
+            return specificVariableInstances;
+        }
+
+        for (VariableInstanceEntity variableInstance : getSpecificVariables(variableNames)) {
+            if (!variableInstance.isDeleted()) {
+                specificVariableInstances.add(variableInstance);
+            }
+        }
+        Context.getCommandContext().addLoadedVariableInstances(specificVariableInstances.size());
+        return specificVariableInstances;
+    }
+
     public Map<String, Object> getVariables() {
         return collectVariables(new HashMap<String, Object>());
     }
@@ -81,11 +131,11 @@ public abstract class VariableScopeImpl extends AbstractEntity implements Serial
     }
 
     public Map<String, Object> getVariables(Collection<String> variableNames) {
-        return getVariables(variableNames, true);
+        return getVariables(variableNames, isFetchAllVariablesByDefault());
     }
 
     public Map<String, VariableInstance> getVariableInstances(Collection<String> variableNames) {
-        return getVariableInstances(variableNames, true);
+        return getVariableInstances(variableNames, isFetchAllVariablesByDefault());
     }
 
     public Map<String, Object> getVariables(Collection<String> variableNames, boolean fetchAllVariables) {
@@ -124,7 +174,7 @@ public abstract class VariableScopeImpl extends AbstractEntity implements Serial
             }
 
             // Fetch variables on this scope
-            List<VariableInstanceEntity> variables = getSpecificVariables(variableNamesToFetch);
+            List<VariableInstanceEntity> variables = fetchSpecificVariables(variableNamesToFetch);
             for (VariableInstanceEntity variable : variables) {
                 requestedVariables.put(variable.getName(), variable.getValue());
             }
@@ -170,7 +220,7 @@ public abstract class VariableScopeImpl extends AbstractEntity implements Serial
             }
 
             // Fetch variables on this scope
-            List<VariableInstanceEntity> variables = getSpecificVariables(variableNamesToFetch);
+            List<VariableInstanceEntity> variables = fetchSpecificVariables(variableNamesToFetch);
             for (VariableInstanceEntity variable : variables) {
                 requestedVariables.put(variable.getName(), variable);
             }
@@ -228,11 +278,11 @@ public abstract class VariableScopeImpl extends AbstractEntity implements Serial
     }
 
     public Object getVariable(String variableName) {
-        return getVariable(variableName, true);
+        return getVariable(variableName, isFetchAllVariablesByDefault());
     }
 
     public VariableInstance getVariableInstance(String variableName) {
-        return getVariableInstance(variableName, true);
+        return getVariableInstance(variableName, isFetchAllVariablesByDefault());
     }
 
     /**
@@ -285,7 +335,7 @@ public abstract class VariableScopeImpl extends AbstractEntity implements Serial
                 return variableInstances.get(variableName);
             }
 
-            VariableInstanceEntity variable = getSpecificVariable(variableName);
+            VariableInstanceEntity variable = fetchSpecificVariable(variableName);
             if (variable != null) {
                 usedVariablesCache.put(variableName, variable);
                 return variable;
@@ -305,11 +355,11 @@ public abstract class VariableScopeImpl extends AbstractEntity implements Serial
     protected abstract VariableInstanceEntity getSpecificVariable(String variableName);
 
     public Object getVariableLocal(String variableName) {
-        return getVariableLocal(variableName, true);
+        return getVariableLocal(variableName, isFetchAllVariablesByDefault());
     }
 
     public VariableInstance getVariableInstanceLocal(String variableName) {
-        return getVariableInstanceLocal(variableName, true);
+        return getVariableInstanceLocal(variableName, isFetchAllVariablesByDefault());
     }
 
     public Object getVariableLocal(String variableName, boolean fetchAllVariables) {
@@ -350,7 +400,7 @@ public abstract class VariableScopeImpl extends AbstractEntity implements Serial
                 }
             }
 
-            VariableInstanceEntity variable = getSpecificVariable(variableName);
+            VariableInstanceEntity variable = fetchSpecificVariable(variableName);
             if (variable != null) {
                 usedVariablesCache.put(variableName, variable);
                 return variable;
@@ -399,6 +449,22 @@ public abstract class VariableScopeImpl extends AbstractEntity implements Serial
         if (transientVariabes != null && transientVariabes.containsKey(variableName)) {
             return true;
         }
+
+        if (!isFetchAllVariablesByDefault()) {
+            if (usedVariablesCache.containsKey(variableName)) {
+                return true;
+            }
+            if (variableInstances != null) {
+                return variableInstances.containsKey(variableName);
+            }
+            VariableInstanceEntity variable = fetchSpecificVariable(variableName);
+            if (variable != null) {
+                usedVariablesCache.put(variableName, variable);
+                return true;
+            }
+            return false;
+        }
+
         ensureVariableInstancesInitialized();
         return variableInstances.containsKey(variableName);
     }
@@ -456,11 +522,11 @@ public abstract class VariableScopeImpl extends AbstractEntity implements Serial
     }
 
     public Map<String, Object> getVariablesLocal(Collection<String> variableNames) {
-        return getVariablesLocal(variableNames, true);
+        return getVariablesLocal(variableNames, isFetchAllVariablesByDefault());
     }
 
     public Map<String, VariableInstance> getVariableInstancesLocal(Collection<String> variableNames) {
-        return getVariableInstancesLocal(variableNames, true);
+        return getVariableInstancesLocal(variableNames, isFetchAllVariablesByDefault());
     }
 
     public Map<String, Object> getVariablesLocal(Collection<String> variableNames, boolean fetchAllVariables) {
@@ -487,7 +553,7 @@ public abstract class VariableScopeImpl extends AbstractEntity implements Serial
 
         } else {
 
-            List<VariableInstanceEntity> variables = getSpecificVariables(variableNamesToFetch);
+            List<VariableInstanceEntity> variables = fetchSpecificVariables(variableNamesToFetch);
             for (VariableInstanceEntity variable : variables) {
                 requestedVariables.put(variable.getName(), variable.getValue());
             }
@@ -521,7 +587,7 @@ public abstract class VariableScopeImpl extends AbstractEntity implements Serial
 
         } else {
 
-            List<VariableInstanceEntity> variables = getSpecificVariables(variableNamesToFetch);
+            List<VariableInstanceEntity> variables = fetchSpecificVariables(variableNamesToFetch);
             for (VariableInstanceEntity variable : variables) {
                 requestedVariables.put(variable.getName(), variable);
             }
@@ -545,7 +611,14 @@ public abstract class VariableScopeImpl extends AbstractEntity implements Serial
 
     public Map<String, VariableInstanceEntity> getVariableInstanceEntities() {
         ensureVariableInstancesInitialized();
-        return Collections.unmodifiableMap(variableInstances);
+        if (usedVariablesCache.isEmpty()) {
+            return Collections.unmodifiableMap(variableInstances);
+        }
+
+        // Variables fetched or created by name are not necessarily part of the variables fetched above
+        Map<String, VariableInstanceEntity> variableInstanceEntities = new HashMap<String, VariableInstanceEntity>(variableInstances);
+        variableInstanceEntities.putAll(usedVariablesCache);
+        return Collections.unmodifiableMap(variableInstanceEntities);
     }
 
     public Map<String, VariableInstanceEntity> getUsedVariablesCache() {
@@ -608,7 +681,7 @@ public abstract class VariableScopeImpl extends AbstractEntity implements Serial
     }
 
     public void setVariable(String variableName, Object value) {
-        setVariable(variableName, value, getSourceActivityExecution(), true);
+        setVariable(variableName, value, getSourceActivityExecution(), isFetchAllVariablesByDefault());
     }
 
     /**
@@ -677,7 +750,7 @@ public abstract class VariableScopeImpl extends AbstractEntity implements Serial
 
                 // Not in local cache, check if defined on this scope
                 // Create it if it doesn't exist yet
-                VariableInstanceEntity variable = getSpecificVariable(variableName);
+                VariableInstanceEntity variable = fetchSpecificVariable(variableName);
                 if (variable != null) {
                     updateVariableInstance(variable, value, sourceExecution);
                     usedVariablesCache.put(variableName, variable);
@@ -705,7 +778,7 @@ public abstract class VariableScopeImpl extends AbstractEntity implements Serial
     }
 
     public Object setVariableLocal(String variableName, Object value) {
-        return setVariableLocal(variableName, value, getSourceActivityExecution(), true);
+        return setVariableLocal(variableName, value, getSourceActivityExecution(), isFetchAllVariablesByDefault());
     }
 
     /**
@@ -750,7 +823,7 @@ public abstract class VariableScopeImpl extends AbstractEntity implements Serial
                 updateVariableInstance(variableInstances.get(variableName), value, sourceActivityExecution);
             } else {
 
-                VariableInstanceEntity variable = getSpecificVariable(variableName);
+                VariableInstanceEntity variable = fetchSpecificVariable(variableName);
                 if (variable != null) {
                     updateVariableInstance(variable, value, sourceActivityExecution);
                 } else {
@@ -788,7 +861,7 @@ public abstract class VariableScopeImpl extends AbstractEntity implements Serial
 
     protected void removeVariable(String variableName, ExecutionEntity sourceActivityExecution) {
         ensureVariableInstancesInitialized();
-        if (variableInstances.containsKey(variableName)) {
+        if (variableInstances.containsKey(variableName) || usedVariablesCache.containsKey(variableName)) {
             removeVariableLocal(variableName);
             return;
         }
@@ -813,6 +886,13 @@ public abstract class VariableScopeImpl extends AbstractEntity implements Serial
     protected void removeVariableLocal(String variableName, ExecutionEntity sourceActivityExecution) {
         ensureVariableInstancesInitialized();
         VariableInstanceEntity variableInstance = variableInstances.remove(variableName);
+
+        // A variable fetched or created by name is not necessarily part of the variables fetched above
+        VariableInstanceEntity usedVariableInstance = usedVariablesCache.remove(variableName);
+        if (variableInstance == null) {
+            variableInstance = usedVariableInstance;
+        }
+
         if (variableInstance != null) {
             deleteVariableInstanceForExplicitUserCall(variableInstance, sourceActivityExecution);
         }
@@ -24,9 +24,14 @@ import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.flowable.engine.impl.db.DbSqlSession;
 import org.flowable.engine.impl.persistence.AbstractManager;
 import org.flowable.engine.impl.persistence.CachedEntityMatcher;
+import org.flowable.engine.impl.persistence.ExecutionPrefetchPlan;
 import org.flowable.engine.impl.persistence.SingleCachedEntityMatcher;
 import org.flowable.engine.impl.persistence.cache.CachedEntity;
 import org.flowable.engine.impl.persistence.cache.EntityCache;
+import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
+import org.flowable.engine.impl.persistence.entity.ExecutionEntityImpl;
+import org.flowable.engine.impl.persistence.entity.TaskEntity;
+import org.flowable.engine.impl.persistence.entity.TaskEntityImpl;
 
 /**
  * @author Joram Barrez
@@ -185,7 +190,7 @@ public abstract class AbstractDataManager<EntityImpl extends Entity> extends Abs
 
         DbSqlSession dbSqlSession = getDbSqlSession();
 
-        List<EntityImpl> result = new ArrayList<EntityImpl>(cachedObjects.size());
+        List<EntityImpl> result = new ArrayList<EntityImpl>(cachedObjects != null ? cachedObjects.size() : 1);
         if (cachedObjects != null && entityMatcher != null) {
             for (CachedEntity cachedObject : cachedObjects) {
                 EntityImpl cachedEntity = (EntityImpl) cachedObject.getEntity();
@@ -212,4 +217,31 @@ public abstract class AbstractDataManager<EntityImpl extends Entity> extends Abs
         return result;
     }
 
+    /**
+     * Returns true if the given relation was fetched for the whole process instance of the (cached) execution, in which case the cache holds all of its entities.
+     */
+    protected boolean isPrefetchedForExecution(String executionId, ExecutionPrefetchPlan.Relation relation) {
+        if (executionId == null || !getProcessEngineConfiguration().getPerformanceSettings().isEnableExecutionRelatedEntityPrefetching()) {
+            return false;
+        }
+        ExecutionEntity execution = getEntityCache().findInCache(ExecutionEntityImpl.class, executionId);
+        return execution != null && getCommandContext().isRelationPrefetched(execution.getProcessInstanceId(), relation);
+    }
+
+    /**
+     * Returns true if the given relation was fetched for the whole process instance of the (cached) task, in which case the cache holds all of its entities.
+     */
+    protected boolean isPrefetchedForTask(String taskId, ExecutionPrefetchPlan.Relation relation) {
+        if (taskId == null || !getProcessEngineConfiguration().getPerformanceSettings().isEnableExecutionRelatedEntityPrefetching()) {
+            return false;
+        }
+        TaskEntity task = getEntityCache().findInCache(TaskEntityImpl.class, taskId);
+        return task != null && getCommandContext().isRelationPrefetched(task.getProcessInstanceId(), relation);
+    }
+
+    protected boolean isPrefetchedForProcessInstance(String processInstanceId, ExecutionPrefetchPlan.Relation relation) {
+        return getProcessEngineConfiguration().getPerformanceSettings().isEnableExecutionRelatedEntityPrefetching()
+                && getCommandContext().isRelationPrefetched(processInstanceId, relation);
+    }
+
 }
@@ -26,4 +26,18 @@ public interface ByteArrayDataManager extends DataManager<ByteArrayEntity> {
 
     void deleteByteArrayNoRevisionCheck(String byteArrayEntityId);
 
+    /**
+     * Returns the byte array with the given id if it is inserted in the current transaction and thus not yet in the database, or null otherwise.
+     */
+    ByteArrayEntity findInsertedByteArray(String byteArrayEntityId);
+
+    String findContentHashById(String byteArrayEntityId);
+
+    /**
+     * Adds the given delta to the reference count of the byte array and returns the number of updated rows.
+     */
+    int updateReferenceCount(String byteArrayEntityId, int delta);
+
+    void deleteUnreferencedByteArray(String byteArrayEntityId);
+
 }
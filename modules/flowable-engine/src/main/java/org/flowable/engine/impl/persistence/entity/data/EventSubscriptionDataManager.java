@@ -12,6 +12,7 @@
  */
 package org.flowable.engine.impl.persistence.entity.data;
 
+import java.util.Date;
 import java.util.List;
 
 import org.flowable.engine.common.impl.persistence.entity.data.DataManager;
@@ -39,8 +40,14 @@ public interface EventSubscriptionDataManager extends DataManager<EventSubscript
 
     List<MessageEventSubscriptionEntity> findMessageEventSubscriptionsByProcessInstanceAndEventName(final String processInstanceId, final String eventName);
 
+    List<MessageEventSubscriptionEntity> findMessageEventSubscriptionsByNameAndCorrelationKey(final String eventName, final String correlationKey, final String tenantId);
+
     List<SignalEventSubscriptionEntity> findSignalEventSubscriptionsByEventName(final String eventName, final String tenantId);
 
+    List<String> findSignalEventSubscriptionIdsForBroadcast(String eventName, String tenantId, Date createdBefore, String afterId, int firstResult, int maxResults);
+
+    List<SignalEventSubscriptionEntity> findSignalEventSubscriptionsForBroadcast(String eventName, String tenantId, Date createdBefore, String afterId, String lastId);
+
     List<SignalEventSubscriptionEntity> findSignalEventSubscriptionsByProcessInstanceAndEventName(final String processInstanceId, final String eventName);
 
     List<SignalEventSubscriptionEntity> findSignalEventSubscriptionsByNameAndExecution(final String name, final String executionId);
@@ -53,6 +60,8 @@ public interface EventSubscriptionDataManager extends DataManager<EventSubscript
 
     List<EventSubscriptionEntity> findEventSubscriptionsByTypeAndProcessDefinitionId(String type, String processDefinitionId, String tenantId);
 
+    List<EventSubscriptionEntity> findEventSubscriptionsByProcessInstanceId(final String processInstanceId);
+
     List<EventSubscriptionEntity> findEventSubscriptionsByName(final String type, final String eventName, final String tenantId);
 
     List<EventSubscriptionEntity> findEventSubscriptionsByNameAndExecution(String type, String eventName, String executionId);
@@ -22,6 +22,8 @@ public interface JobInfoDataManager<T extends JobInfoEntity> extends DataManager
 
     List<T> findJobsToExecute(Page page);
 
+    List<T> findJobsToExecute(List<Integer> shards, Page page);
+
     List<T> findJobsByExecutionId(final String executionId);
 
     List<T> findJobsByProcessInstanceId(final String processInstanceId);
@@ -21,4 +21,6 @@ import org.flowable.engine.impl.persistence.entity.ProcessDefinitionInfoEntity;
 public interface ProcessDefinitionInfoDataManager extends DataManager<ProcessDefinitionInfoEntity> {
 
     ProcessDefinitionInfoEntity findProcessDefinitionInfoByProcessDefinitionId(String processDefinitionId);
+
+    String findProcessDefinitionInfoVersionStamp();
 }
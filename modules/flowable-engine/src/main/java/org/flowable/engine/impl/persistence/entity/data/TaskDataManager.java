@@ -12,6 +12,7 @@
  */
 package org.flowable.engine.impl.persistence.entity.data;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
@@ -41,6 +42,8 @@ public interface TaskDataManager extends DataManager<TaskEntity> {
 
     List<Task> findTasksByParentTaskId(String parentTaskId);
 
+    List<TaskEntity> findTasksByIds(Collection<String> taskIds);
+
     void updateTaskTenantIdForDeployment(String deploymentId, String newTenantId);
 
     void updateAllTaskRelatedEntityCountFlags(boolean newValue);
@@ -12,7 +12,9 @@
  */
 package org.flowable.engine.impl.persistence.entity.data.impl;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.flowable.engine.impl.persistence.entity.ByteArrayEntity;
@@ -50,4 +52,31 @@ public class MybatisByteArrayDataManager extends AbstractDataManager<ByteArrayEn
         getDbSqlSession().delete("deleteByteArrayNoRevisionCheck", byteArrayEntityId, ByteArrayEntityImpl.class);
     }
 
+    @Override
+    public ByteArrayEntity findInsertedByteArray(String byteArrayEntityId) {
+        ByteArrayEntity byteArrayEntity = getEntityCache().findInCache(ByteArrayEntityImpl.class, byteArrayEntityId);
+        if (byteArrayEntity != null && getDbSqlSession().isEntityInserted(byteArrayEntity)) {
+            return byteArrayEntity;
+        }
+        return null;
+    }
+
+    @Override
+    public String findContentHashById(String byteArrayEntityId) {
+        return (String) getDbSqlSession().selectOne("selectByteArrayContentHash", byteArrayEntityId);
+    }
+
+    @Override
+    public int updateReferenceCount(String byteArrayEntityId, int delta) {
+        Map<String, Object> params = new HashMap<String, Object>();
+        params.put("id", byteArrayEntityId);
+        params.put("delta", delta);
+        return getDbSqlSession().update("updateByteArrayReferenceCount", params);
+    }
+
+    @Override
+    public void deleteUnreferencedByteArray(String byteArrayEntityId) {
+        getDbSqlSession().delete("deleteUnreferencedByteArray", byteArrayEntityId, ByteArrayEntityImpl.class);
+    }
+
 }
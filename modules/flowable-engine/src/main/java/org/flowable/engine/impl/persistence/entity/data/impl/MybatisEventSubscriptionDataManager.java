@@ -13,14 +13,17 @@
 package org.flowable.engine.impl.persistence.entity.data.impl;
 
 import java.util.ArrayList;
+import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
 import org.flowable.engine.ProcessEngineConfiguration;
+import org.flowable.engine.common.impl.db.ListQueryParameterObject;
 import org.flowable.engine.impl.EventSubscriptionQueryImpl;
 import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.flowable.engine.impl.persistence.CachedEntityMatcher;
+import org.flowable.engine.impl.persistence.ExecutionPrefetchPlan;
 import org.flowable.engine.impl.persistence.entity.CompensateEventSubscriptionEntity;
 import org.flowable.engine.impl.persistence.entity.CompensateEventSubscriptionEntityImpl;
 import org.flowable.engine.impl.persistence.entity.EventSubscriptionEntity;
@@ -35,6 +38,7 @@ import org.flowable.engine.impl.persistence.entity.data.impl.cachematcher.EventS
 import org.flowable.engine.impl.persistence.entity.data.impl.cachematcher.EventSubscriptionsByExecutionIdMatcher;
 import org.flowable.engine.impl.persistence.entity.data.impl.cachematcher.EventSubscriptionsByNameMatcher;
 import org.flowable.engine.impl.persistence.entity.data.impl.cachematcher.EventSubscriptionsByProcInstTypeAndActivityMatcher;
+import org.flowable.engine.impl.persistence.entity.data.impl.cachematcher.MessageEventSubscriptionsByNameAndCorrelationKeyMatcher;
 import org.flowable.engine.impl.persistence.entity.data.impl.cachematcher.MessageEventSubscriptionsByProcInstAndEventNameMatcher;
 import org.flowable.engine.impl.persistence.entity.data.impl.cachematcher.SignalEventSubscriptionByEventNameMatcher;
 import org.flowable.engine.impl.persistence.entity.data.impl.cachematcher.SignalEventSubscriptionByNameAndExecutionMatcher;
@@ -70,6 +74,8 @@ public class MybatisEventSubscriptionDataManager extends AbstractDataManager<Eve
 
     protected CachedEntityMatcher<EventSubscriptionEntity> messageEventSubscriptionsByProcInstAndEventNameMatcher = new MessageEventSubscriptionsByProcInstAndEventNameMatcher();
 
+    protected CachedEntityMatcher<EventSubscriptionEntity> messageEventSubscriptionsByNameAndCorrelationKeyMatcher = new MessageEventSubscriptionsByNameAndCorrelationKeyMatcher();
+
     public MybatisEventSubscriptionDataManager(ProcessEngineConfigurationImpl processEngineConfiguration) {
         super(processEngineConfiguration);
     }
@@ -127,6 +133,18 @@ public class MybatisEventSubscriptionDataManager extends AbstractDataManager<Eve
                 params, messageEventSubscriptionsByProcInstAndEventNameMatcher, true));
     }
 
+    @Override
+    public List<MessageEventSubscriptionEntity> findMessageEventSubscriptionsByNameAndCorrelationKey(final String eventName, final String correlationKey, final String tenantId) {
+        Map<String, String> params = new HashMap<String, String>();
+        params.put("eventName", eventName);
+        params.put("correlationKey", correlationKey);
+        if (tenantId != null && !tenantId.equals(ProcessEngineConfiguration.NO_TENANT_ID)) {
+            params.put("tenantId", tenantId);
+        }
+        return toMessageEventSubscriptionEntityList(getList("selectMessageEventSubscriptionsByNameAndCorrelationKey",
+                params, messageEventSubscriptionsByNameAndCorrelationKeyMatcher, true));
+    }
+
     @Override
     public List<SignalEventSubscriptionEntity> findSignalEventSubscriptionsByEventName(final String eventName, final String tenantId) {
         final String query = "selectSignalEventSubscriptionsByEventName";
@@ -141,6 +159,35 @@ public class MybatisEventSubscriptionDataManager extends AbstractDataManager<Eve
         return toSignalEventSubscriptionEntityList(result);
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<String> findSignalEventSubscriptionIdsForBroadcast(String eventName, String tenantId, Date createdBefore, String afterId, int firstResult, int maxResults) {
+        // Needed for db2/sqlserver (see limitBetween in mssql.properties), otherwise ordering will be incorrect
+        ListQueryParameterObject parameter = new ListQueryParameterObject(createSignalBroadcastParameters(eventName, tenantId, createdBefore, afterId, null), firstResult, maxResults);
+        parameter.setOrderByColumns("RES.ID_ asc");
+        return getDbSqlSession().selectListWithRawParameterNoCacheCheck("selectSignalEventSubscriptionIdsForBroadcast", parameter);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<SignalEventSubscriptionEntity> findSignalEventSubscriptionsForBroadcast(String eventName, String tenantId, Date createdBefore, String afterId, String lastId) {
+        List<EventSubscriptionEntity> result = getDbSqlSession().selectList("selectSignalEventSubscriptionsForBroadcast",
+                createSignalBroadcastParameters(eventName, tenantId, createdBefore, afterId, lastId));
+        return toSignalEventSubscriptionEntityList(result);
+    }
+
+    protected Map<String, Object> createSignalBroadcastParameters(String eventName, String tenantId, Date createdBefore, String afterId, String lastId) {
+        Map<String, Object> params = new HashMap<String, Object>();
+        params.put("eventName", eventName);
+        if (tenantId != null && !tenantId.equals(ProcessEngineConfiguration.NO_TENANT_ID)) {
+            params.put("tenantId", tenantId);
+        }
+        params.put("createdBefore", createdBefore);
+        params.put("afterId", afterId);
+        params.put("lastId", lastId);
+        return params;
+    }
+
     @Override
     public List<SignalEventSubscriptionEntity> findSignalEventSubscriptionsByProcessInstanceAndEventName(final String processInstanceId, final String eventName) {
         final String query = "selectSignalEventSubscriptionsByProcessInstanceAndEventName";
@@ -177,6 +224,9 @@ public class MybatisEventSubscriptionDataManager extends AbstractDataManager<Eve
 
     @Override
     public List<EventSubscriptionEntity> findEventSubscriptionsByExecution(final String executionId) {
+        if (isPrefetchedForExecution(executionId, ExecutionPrefetchPlan.Relation.EVENT_SUBSCRIPTIONS)) {
+            return getListFromCache(eventSubscritionsByExecutionIdMatcher, executionId);
+        }
         return getList("selectEventSubscriptionsByExecution", executionId, eventSubscritionsByExecutionIdMatcher, true);
     }
 
@@ -195,6 +245,12 @@ public class MybatisEventSubscriptionDataManager extends AbstractDataManager<Eve
         return getDbSqlSession().selectList(query, params);
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<EventSubscriptionEntity> findEventSubscriptionsByProcessInstanceId(final String processInstanceId) {
+        return getDbSqlSession().selectList("selectEventSubscriptionsByProcessInstance", processInstanceId);
+    }
+
     @Override
     public List<EventSubscriptionEntity> findEventSubscriptionsByName(final String type, final String eventName, final String tenantId) {
 
@@ -149,6 +149,12 @@ public class MybatisExecutionDataManager extends AbstractDataManager<ExecutionEn
         }
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<ExecutionEntity> findExecutionsByIds(final Collection<String> executionIds) {
+        return getDbSqlSession().selectList("selectExecutionsByIds", executionIds);
+    }
+
     @Override
     public List<ExecutionEntity> findExecutionsByParentExecutionAndActivityIds(final String parentExecutionId, final Collection<String> activityIds) {
         Map<String, Object> parameters = new HashMap<String, Object>(2);
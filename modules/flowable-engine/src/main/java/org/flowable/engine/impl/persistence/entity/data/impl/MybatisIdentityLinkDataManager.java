@@ -12,17 +12,20 @@
  */
 package org.flowable.engine.impl.persistence.entity.data.impl;
 
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
 import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.flowable.engine.impl.persistence.CachedEntityMatcher;
+import org.flowable.engine.impl.persistence.ExecutionPrefetchPlan;
 import org.flowable.engine.impl.persistence.entity.IdentityLinkEntity;
 import org.flowable.engine.impl.persistence.entity.IdentityLinkEntityImpl;
 import org.flowable.engine.impl.persistence.entity.data.AbstractDataManager;
 import org.flowable.engine.impl.persistence.entity.data.IdentityLinkDataManager;
 import org.flowable.engine.impl.persistence.entity.data.impl.cachematcher.IdentityLinksByProcInstMatcher;
+import org.flowable.engine.impl.persistence.entity.data.impl.cachematcher.IdentityLinksByTaskIdMatcher;
 
 /**
  * @author Joram Barrez
@@ -31,6 +34,8 @@ public class MybatisIdentityLinkDataManager extends AbstractDataManager<Identity
 
     protected CachedEntityMatcher<IdentityLinkEntity> identityLinkByProcessInstanceMatcher = new IdentityLinksByProcInstMatcher();
 
+    protected CachedEntityMatcher<IdentityLinkEntity> identityLinksByTaskIdMatcher = new IdentityLinksByTaskIdMatcher();
+
     public MybatisIdentityLinkDataManager(ProcessEngineConfigurationImpl processEngineConfiguration) {
         super(processEngineConfiguration);
     }
@@ -48,12 +53,24 @@ public class MybatisIdentityLinkDataManager extends AbstractDataManager<Identity
     @Override
     @SuppressWarnings("unchecked")
     public List<IdentityLinkEntity> findIdentityLinksByTaskId(String taskId) {
+        if (isPrefetchedForTask(taskId, ExecutionPrefetchPlan.Relation.IDENTITY_LINKS)) {
+            return getListFromCache(identityLinksByTaskIdMatcher, taskId);
+        }
         return getDbSqlSession().selectList("selectIdentityLinksByTask", taskId);
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<IdentityLinkEntity> findIdentityLinksByTaskIds(Collection<String> taskIds) {
+        return getDbSqlSession().selectList("selectIdentityLinksByTaskIds", taskIds);
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public List<IdentityLinkEntity> findIdentityLinksByProcessInstanceId(String processInstanceId) {
+        if (isPrefetchedForProcessInstance(processInstanceId, ExecutionPrefetchPlan.Relation.IDENTITY_LINKS)) {
+            return getListFromCache(identityLinkByProcessInstanceMatcher, processInstanceId);
+        }
         return getList("selectIdentityLinksByProcessInstance", processInstanceId, identityLinkByProcessInstanceMatcher, true);
     }
 
@@ -21,6 +21,7 @@ import org.flowable.engine.common.impl.Page;
 import org.flowable.engine.impl.JobQueryImpl;
 import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.flowable.engine.impl.persistence.CachedEntityMatcher;
+import org.flowable.engine.impl.persistence.ExecutionPrefetchPlan;
 import org.flowable.engine.impl.persistence.entity.JobEntity;
 import org.flowable.engine.impl.persistence.entity.JobEntityImpl;
 import org.flowable.engine.impl.persistence.entity.data.AbstractDataManager;
@@ -56,8 +57,19 @@ public class MybatisJobDataManager extends AbstractDataManager<JobEntity> implem
         return getDbSqlSession().selectList("selectJobsToExecute", null, page);
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<JobEntity> findJobsToExecute(List<Integer> shards, Page page) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("shards", shards);
+        return getDbSqlSession().selectList("selectJobsToExecute", params, page);
+    }
+
     @Override
     public List<JobEntity> findJobsByExecutionId(final String executionId) {
+        if (isPrefetchedForExecution(executionId, ExecutionPrefetchPlan.Relation.JOBS)) {
+            return getListFromCache(jobsByExecutionIdMatcher, executionId);
+        }
         return getList("selectJobsByExecutionId", executionId, jobsByExecutionIdMatcher, true);
     }
 
@@ -0,0 +1,51 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.persistence.entity.data.impl;
+
+import java.util.Date;
+import java.util.List;
+
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.persistence.entity.JobShardNodeEntity;
+import org.flowable.engine.impl.persistence.entity.JobShardNodeEntityImpl;
+import org.flowable.engine.impl.persistence.entity.data.AbstractDataManager;
+import org.flowable.engine.impl.persistence.entity.data.JobShardNodeDataManager;
+
+public class MybatisJobShardNodeDataManager extends AbstractDataManager<JobShardNodeEntity> implements JobShardNodeDataManager {
+
+    public MybatisJobShardNodeDataManager(ProcessEngineConfigurationImpl processEngineConfiguration) {
+        super(processEngineConfiguration);
+    }
+
+    @Override
+    public Class<? extends JobShardNodeEntity> getManagedEntityClass() {
+        return JobShardNodeEntityImpl.class;
+    }
+
+    @Override
+    public JobShardNodeEntity create() {
+        return new JobShardNodeEntityImpl();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<JobShardNodeEntity> findAllNodes() {
+        return getDbSqlSession().selectList("selectJobShardNodes");
+    }
+
+    @Override
+    public void deleteNodesWithHeartbeatBefore(Date heartbeatTime) {
+        getDbSqlSession().delete("deleteJobShardNodesWithHeartbeatBefore", heartbeatTime, JobShardNodeEntityImpl.class);
+    }
+
+}
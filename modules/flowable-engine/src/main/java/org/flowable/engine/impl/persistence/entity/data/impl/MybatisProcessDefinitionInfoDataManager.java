@@ -12,6 +12,8 @@
  */
 package org.flowable.engine.impl.persistence.entity.data.impl;
 
+import java.util.Map;
+
 import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.flowable.engine.impl.persistence.entity.ProcessDefinitionInfoEntity;
 import org.flowable.engine.impl.persistence.entity.ProcessDefinitionInfoEntityImpl;
@@ -41,4 +43,15 @@ public class MybatisProcessDefinitionInfoDataManager extends AbstractDataManager
     public ProcessDefinitionInfoEntity findProcessDefinitionInfoByProcessDefinitionId(String processDefinitionId) {
         return (ProcessDefinitionInfoEntity) getDbSqlSession().selectOne("selectProcessDefinitionInfoByProcessDefinitionId", processDefinitionId);
     }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public String findProcessDefinitionInfoVersionStamp() {
+        // Every insert and update increases the sum of the revisions, every delete decreases the count
+        Map<String, Object> result = (Map<String, Object>) getDbSqlSession().selectOne("selectProcessDefinitionInfoVersionStamp", null);
+        if (result == null) {
+            return "0:0";
+        }
+        return result.get("count") + ":" + result.get("revisionSum");
+    }
 }
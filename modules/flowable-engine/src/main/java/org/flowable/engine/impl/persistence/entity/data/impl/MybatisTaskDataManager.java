@@ -12,6 +12,7 @@
  */
 package org.flowable.engine.impl.persistence.entity.data.impl;
 
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -20,6 +21,7 @@ import java.util.Map;
 import org.flowable.engine.impl.TaskQueryImpl;
 import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.flowable.engine.impl.persistence.CachedEntityMatcher;
+import org.flowable.engine.impl.persistence.ExecutionPrefetchPlan;
 import org.flowable.engine.impl.persistence.entity.TaskEntity;
 import org.flowable.engine.impl.persistence.entity.TaskEntityImpl;
 import org.flowable.engine.impl.persistence.entity.data.AbstractDataManager;
@@ -50,6 +52,9 @@ public class MybatisTaskDataManager extends AbstractDataManager<TaskEntity> impl
 
     @Override
     public List<TaskEntity> findTasksByExecutionId(final String executionId) {
+        if (isPrefetchedForExecution(executionId, ExecutionPrefetchPlan.Relation.TASKS)) {
+            return getListFromCache(tasksByExecutionIdMatcher, executionId);
+        }
         return getList("selectTasksByExecutionId", executionId, tasksByExecutionIdMatcher, true);
     }
 
@@ -124,6 +129,12 @@ public class MybatisTaskDataManager extends AbstractDataManager<TaskEntity> impl
         return getDbSqlSession().selectList("selectTasksByParentTaskId", parentTaskId);
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<TaskEntity> findTasksByIds(Collection<String> taskIds) {
+        return getDbSqlSession().selectList("selectTasksByIds", taskIds);
+    }
+
     @Override
     public void updateTaskTenantIdForDeployment(String deploymentId, String newTenantId) {
         HashMap<String, Object> params = new HashMap<String, Object>();
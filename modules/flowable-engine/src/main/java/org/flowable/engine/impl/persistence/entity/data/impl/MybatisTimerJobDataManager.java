@@ -21,6 +21,7 @@ import org.flowable.engine.common.impl.Page;
 import org.flowable.engine.impl.TimerJobQueryImpl;
 import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.flowable.engine.impl.persistence.CachedEntityMatcher;
+import org.flowable.engine.impl.persistence.ExecutionPrefetchPlan;
 import org.flowable.engine.impl.persistence.entity.TimerJobEntity;
 import org.flowable.engine.impl.persistence.entity.TimerJobEntityImpl;
 import org.flowable.engine.impl.persistence.entity.data.AbstractDataManager;
@@ -81,6 +82,9 @@ public class MybatisTimerJobDataManager extends AbstractDataManager<TimerJobEnti
 
     @Override
     public List<TimerJobEntity> findJobsByExecutionId(final String executionId) {
+        if (isPrefetchedForExecution(executionId, ExecutionPrefetchPlan.Relation.TIMER_JOBS)) {
+            return getListFromCache(timerJobsByExecutionIdMatcher, executionId);
+        }
         return getList("selectTimerJobsByExecutionId", executionId, timerJobsByExecutionIdMatcher, true);
     }
 
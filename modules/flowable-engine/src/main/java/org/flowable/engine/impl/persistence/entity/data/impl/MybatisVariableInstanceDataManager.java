@@ -20,11 +20,14 @@ import java.util.Set;
 
 import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.flowable.engine.impl.persistence.CachedEntityMatcher;
+import org.flowable.engine.impl.persistence.ExecutionPrefetchPlan;
 import org.flowable.engine.impl.persistence.entity.VariableInstanceEntity;
 import org.flowable.engine.impl.persistence.entity.VariableInstanceEntityImpl;
 import org.flowable.engine.impl.persistence.entity.data.AbstractDataManager;
 import org.flowable.engine.impl.persistence.entity.data.VariableInstanceDataManager;
+import org.flowable.engine.impl.persistence.entity.data.impl.cachematcher.ExecutionScopeVariablesByExecutionIdMatcher;
 import org.flowable.engine.impl.persistence.entity.data.impl.cachematcher.VariableByExecutionIdMatcher;
+import org.flowable.engine.impl.persistence.entity.data.impl.cachematcher.VariableByTaskIdMatcher;
 
 /**
  * @author Joram Barrez
@@ -33,6 +36,10 @@ public class MybatisVariableInstanceDataManager extends AbstractDataManager<Vari
 
     protected CachedEntityMatcher<VariableInstanceEntity> variableInstanceEntity = new VariableByExecutionIdMatcher();
 
+    protected CachedEntityMatcher<VariableInstanceEntity> variablesByTaskIdMatcher = new VariableByTaskIdMatcher();
+
+    protected CachedEntityMatcher<VariableInstanceEntity> executionScopeVariablesByExecutionIdMatcher = new ExecutionScopeVariablesByExecutionIdMatcher();
+
     public MybatisVariableInstanceDataManager(ProcessEngineConfigurationImpl processEngineConfiguration) {
         super(processEngineConfiguration);
     }
@@ -52,6 +59,9 @@ public class MybatisVariableInstanceDataManager extends AbstractDataManager<Vari
     @Override
     @SuppressWarnings("unchecked")
     public List<VariableInstanceEntity> findVariableInstancesByTaskId(String taskId) {
+        if (isPrefetchedForTask(taskId, ExecutionPrefetchPlan.Relation.VARIABLES)) {
+            return getListFromCache(variablesByTaskIdMatcher, taskId);
+        }
         return getDbSqlSession().selectList("selectVariablesByTaskId", taskId);
     }
 
@@ -63,9 +73,18 @@ public class MybatisVariableInstanceDataManager extends AbstractDataManager<Vari
 
     @Override
     public List<VariableInstanceEntity> findVariableInstancesByExecutionId(final String executionId) {
+        if (isPrefetchedForExecution(executionId, ExecutionPrefetchPlan.Relation.VARIABLES)) {
+            return getListFromCache(executionScopeVariablesByExecutionIdMatcher, executionId);
+        }
         return getList("selectVariablesByExecutionId", executionId, variableInstanceEntity, true);
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<VariableInstanceEntity> findVariableInstancesByProcessInstanceId(String processInstanceId) {
+        return getDbSqlSession().selectList("selectVariablesByProcessInstanceId", processInstanceId);
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public List<VariableInstanceEntity> findVariableInstancesByExecutionIds(Set<String> executionIds) {
@@ -0,0 +1,113 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.runtime;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.flowable.engine.common.api.FlowableIllegalArgumentException;
+import org.flowable.engine.impl.RuntimeServiceImpl;
+import org.flowable.engine.runtime.BulkProcessInstanceBuilder;
+import org.flowable.engine.runtime.BulkProcessInstanceResult;
+
+public class BulkProcessInstanceBuilderImpl implements BulkProcessInstanceBuilder {
+
+    protected RuntimeServiceImpl runtimeService;
+
+    protected String processDefinitionId;
+    protected String processDefinitionKey;
+    protected String tenantId;
+    protected int chunkSize = DEFAULT_CHUNK_SIZE;
+    protected List<ProcessInstanceStartData> processInstances = new ArrayList<>();
+
+    public BulkProcessInstanceBuilderImpl(RuntimeServiceImpl runtimeService) {
+        this.runtimeService = runtimeService;
+    }
+
+    public BulkProcessInstanceBuilder processDefinitionId(String processDefinitionId) {
+        this.processDefinitionId = processDefinitionId;
+        return this;
+    }
+
+    public BulkProcessInstanceBuilder processDefinitionKey(String processDefinitionKey) {
+        this.processDefinitionKey = processDefinitionKey;
+        return this;
+    }
+
+    public BulkProcessInstanceBuilder tenantId(String tenantId) {
+        this.tenantId = tenantId;
+        return this;
+    }
+
+    public BulkProcessInstanceBuilder chunkSize(int chunkSize) {
+        if (chunkSize < 1) {
+            throw new FlowableIllegalArgumentException("chunkSize must be at least 1");
+        }
+        this.chunkSize = chunkSize;
+        return this;
+    }
+
+    public BulkProcessInstanceBuilder addProcessInstance(String businessKey, Map<String, Object> variables) {
+        processInstances.add(new ProcessInstanceStartData(businessKey, variables));
+        return this;
+    }
+
+    public BulkProcessInstanceBuilder addProcessInstance(Map<String, Object> variables) {
+        return addProcessInstance(null, variables);
+    }
+
+    public BulkProcessInstanceResult start() {
+        return runtimeService.startProcessInstances(this);
+    }
+
+    public String getProcessDefinitionId() {
+        return processDefinitionId;
+    }
+
+    public String getProcessDefinitionKey() {
+        return processDefinitionKey;
+    }
+
+    public String getTenantId() {
+        return tenantId;
+    }
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    public List<ProcessInstanceStartData> getProcessInstances() {
+        return processInstances;
+    }
+
+    public static class ProcessInstanceStartData {
+
+        protected String businessKey;
+        protected Map<String, Object> variables;
+
+        public ProcessInstanceStartData(String businessKey, Map<String, Object> variables) {
+            this.businessKey = businessKey;
+            this.variables = variables;
+        }
+
+        public String getBusinessKey() {
+            return businessKey;
+        }
+
+        public Map<String, Object> getVariables() {
+            return variables;
+        }
+    }
+
+}
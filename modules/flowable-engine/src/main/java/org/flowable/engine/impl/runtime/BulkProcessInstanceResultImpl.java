@@ -0,0 +1,48 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.runtime;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.flowable.engine.runtime.BulkProcessInstanceResult;
+import org.flowable.engine.runtime.ProcessInstance;
+
+public class BulkProcessInstanceResultImpl implements BulkProcessInstanceResult {
+
+    protected List<ProcessInstance> processInstances = new ArrayList<>();
+    protected Map<Integer, RuntimeException> failures = new TreeMap<>();
+
+    public void addProcessInstances(List<ProcessInstance> processInstances) {
+        this.processInstances.addAll(processInstances);
+    }
+
+    public void addProcessInstance(ProcessInstance processInstance) {
+        processInstances.add(processInstance);
+    }
+
+    public void addFailure(int index, RuntimeException exception) {
+        failures.put(index, exception);
+    }
+
+    public List<ProcessInstance> getProcessInstances() {
+        return processInstances;
+    }
+
+    public Map<Integer, RuntimeException> getFailures() {
+        return failures;
+    }
+
+}
@@ -0,0 +1,38 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.util;
+
+import org.apache.commons.lang3.StringUtils;
+import org.flowable.bpmn.model.MessageEventDefinition;
+import org.flowable.engine.delegate.DelegateExecution;
+import org.flowable.engine.delegate.Expression;
+import org.flowable.engine.impl.context.Context;
+
+public class EventSubscriptionUtil {
+
+    /**
+     * Evaluates the correlation key expression of the message event definition for the given execution. Returns null when the event
+     * definition has no correlation key or the expression evaluates to null.
+     */
+    public static String getMessageCorrelationKey(MessageEventDefinition messageEventDefinition, DelegateExecution execution) {
+        if (StringUtils.isEmpty(messageEventDefinition.getCorrelationKey())) {
+            return null;
+        }
+
+        Expression correlationKeyExpression = Context.getProcessEngineConfiguration().getExpressionManager()
+                .createExpression(messageEventDefinition.getCorrelationKey());
+        Object correlationKeyValue = correlationKeyExpression.getValue(execution);
+        return correlationKeyValue != null ? correlationKeyValue.toString() : null;
+    }
+
+}
@@ -0,0 +1,63 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.runtime;
+
+import java.util.Map;
+
+import org.flowable.engine.common.api.FlowableIllegalArgumentException;
+import org.flowable.engine.common.api.FlowableObjectNotFoundException;
+
+/**
+ * Helper for starting many process instances of the same process definition at once.
+ * 
+ * An instance can be obtained through {@link org.flowable.engine.RuntimeService#createBulkProcessInstanceBuilder()}.
+ * 
+ * The process instances are started in chunks of {@link #chunkSize(int)} instances, each chunk in one transaction. When starting a chunk fails,
+ * its instances are started again one per transaction, so a failing instance doesn't prevent the others from being started.
+ */
+public interface BulkProcessInstanceBuilder {
+
+    int DEFAULT_CHUNK_SIZE = 100;
+
+    BulkProcessInstanceBuilder processDefinitionId(String processDefinitionId);
+
+    BulkProcessInstanceBuilder processDefinitionKey(String processDefinitionKey);
+
+    BulkProcessInstanceBuilder tenantId(String tenantId);
+
+    /**
+     * The number of process instances started in one transaction. Default value = {@link #DEFAULT_CHUNK_SIZE}.
+     */
+    BulkProcessInstanceBuilder chunkSize(int chunkSize);
+
+    /**
+     * Adds a process instance to start with the given business key (can be null) and variables (can be null).
+     */
+    BulkProcessInstanceBuilder addProcessInstance(String businessKey, Map<String, Object> variables);
+
+    /**
+     * Adds a process instance to start with the given variables (can be null).
+     */
+    BulkProcessInstanceBuilder addProcessInstance(Map<String, Object> variables);
+
+    /**
+     * Starts all added process instances.
+     * 
+     * @throws FlowableObjectNotFoundException
+     *             when no process definition is deployed for the given id or key.
+     * @throws FlowableIllegalArgumentException
+     *             when neither a process definition id nor key is provided.
+     */
+    BulkProcessInstanceResult start();
+
+}
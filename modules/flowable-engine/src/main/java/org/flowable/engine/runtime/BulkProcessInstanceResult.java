@@ -0,0 +1,34 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.runtime;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The outcome of starting process instances through a {@link BulkProcessInstanceBuilder}.
+ */
+public interface BulkProcessInstanceResult {
+
+    /**
+     * The started process instances, in the order they were added to the builder. Process instances that could not be started are left out,
+     * so when there are failures the position of a process instance in this list is not the index at which it was added to the builder.
+     */
+    List<ProcessInstance> getProcessInstances();
+
+    /**
+     * The exceptions of the process instances that could not be started, mapped by the index at which they were added to the builder.
+     */
+    Map<Integer, RuntimeException> getFailures();
+
+}
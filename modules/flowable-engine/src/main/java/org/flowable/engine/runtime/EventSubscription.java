@@ -61,6 +61,11 @@ public interface EventSubscription {
      */
     String getConfiguration();
 
+    /**
+     * Returns the correlation key of a message event subscription, evaluated from the message event definition when the subscription was created.
+     */
+    String getCorrelationKey();
+
     /**
      * Gets the date/time when this event subscription was created.
      */
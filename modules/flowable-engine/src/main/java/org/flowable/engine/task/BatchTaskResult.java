@@ -0,0 +1,33 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.task;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The outcome of a batch operation on tasks, such as {@link org.flowable.engine.TaskService#claimTasks(java.util.Collection, String)}.
+ */
+public interface BatchTaskResult {
+
+    /**
+     * The ids of the tasks the operation succeeded for.
+     */
+    List<String> getSucceededTaskIds();
+
+    /**
+     * The exceptions of the tasks the operation failed for, mapped by task id.
+     */
+    Map<String, RuntimeException> getFailures();
+
+}
@@ -21,6 +21,8 @@ create table ACT_GE_BYTEARRAY (
     DEPLOYMENT_ID_ varchar(64),
     BYTES_ LONGBLOB,
     GENERATED_ TINYINT,
+    REF_COUNT_ integer,
+    CONTENT_HASH_ varchar(64),
     primary key (ID_)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8 COLLATE utf8_bin;
 
@@ -74,6 +76,8 @@ create table ACT_RU_EXECUTION (
     START_ACT_ID_ varchar(255),
     START_TIME_ datetime(3),
     START_USER_ID_ varchar(255),
+    ACT_INST_ID_ varchar(64),
+    JOIN_COUNTS_ varchar(4000),
     LOCK_TIME_ timestamp(3) NULL,
     IS_COUNT_ENABLED_ TINYINT,
     EVT_SUBSCR_COUNT_ integer, 
@@ -105,6 +109,7 @@ create table ACT_RU_JOB (
     HANDLER_TYPE_ varchar(255),
     HANDLER_CFG_ varchar(4000),
     CREATE_TIME_ timestamp(3) NULL,
+    SHARD_ integer,
     TENANT_ID_ varchar(255) default '',
     primary key (ID_)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8 COLLATE utf8_bin;
@@ -269,6 +274,7 @@ create table ACT_RU_EVENT_SUBSCR (
     PROC_INST_ID_ varchar(64),
     ACTIVITY_ID_ varchar(64),
     CONFIGURATION_ varchar(255),
+    CORRELATION_KEY_ varchar(255),
     CREATED_ timestamp(3) not null DEFAULT CURRENT_TIMESTAMP(3),
     PROC_DEF_ID_ varchar(64),
     TENANT_ID_ varchar(255) default '',
@@ -291,6 +297,13 @@ create table ACT_EVT_LOG (
     primary key (LOG_NR_)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8 COLLATE utf8_bin;
 
+create table ACT_RU_JOB_SHARD_NODE (
+    ID_ varchar(255) NOT NULL,
+    REV_ integer,
+    HEARTBEAT_TIME_ timestamp(3) NULL,
+    primary key (ID_)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8 COLLATE utf8_bin;
+
 create table ACT_PROCDEF_INFO (
 	ID_ varchar(64) not null,
     PROC_DEF_ID_ varchar(64) not null,
@@ -305,6 +318,8 @@ create index ACT_IDX_TASK_CREATE on ACT_RU_TASK(CREATE_TIME_);
 create index ACT_IDX_IDENT_LNK_USER on ACT_RU_IDENTITYLINK(USER_ID_);
 create index ACT_IDX_IDENT_LNK_GROUP on ACT_RU_IDENTITYLINK(GROUP_ID_);
 create index ACT_IDX_EVENT_SUBSCR_CONFIG_ on ACT_RU_EVENT_SUBSCR(CONFIGURATION_);
+create index ACT_IDX_EVENT_SUBSCR_CORR_ on ACT_RU_EVENT_SUBSCR(EVENT_NAME_, CORRELATION_KEY_);
+create index ACT_IDX_JOB_SHARD_ on ACT_RU_JOB(SHARD_);
 create index ACT_IDX_VARIABLE_TASK_ID on ACT_RU_VARIABLE(TASK_ID_);
 create index ACT_IDX_ATHRZ_PROCEDEF on ACT_RU_IDENTITYLINK(PROC_DEF_ID_);
 create index ACT_IDX_INFO_PROCDEF on ACT_PROCDEF_INFO(PROC_DEF_ID_);
@@ -21,6 +21,8 @@ create table ACT_GE_BYTEARRAY (
     DEPLOYMENT_ID_ NVARCHAR2(64),
     BYTES_ BLOB,
     GENERATED_ NUMBER(1,0) CHECK (GENERATED_ IN (1,0)),
+    REF_COUNT_ INTEGER,
+    CONTENT_HASH_ NVARCHAR2(64),
     primary key (ID_)
 );
 
@@ -74,6 +76,8 @@ create table ACT_RU_EXECUTION (
     START_ACT_ID_ NVARCHAR2(255),
     START_TIME_ TIMESTAMP(6),
     START_USER_ID_ NVARCHAR2(255),
+    ACT_INST_ID_ NVARCHAR2(64),
+    JOIN_COUNTS_ NVARCHAR2(2000),
     LOCK_TIME_ TIMESTAMP(6),
     IS_COUNT_ENABLED_ NUMBER(1,0) CHECK (IS_COUNT_ENABLED_ IN (1,0)),
     EVT_SUBSCR_COUNT_ INTEGER, 
@@ -105,6 +109,7 @@ create table ACT_RU_JOB (
     HANDLER_TYPE_ NVARCHAR2(255),
     HANDLER_CFG_ NVARCHAR2(2000),
     CREATE_TIME_ TIMESTAMP(6),
+    SHARD_ INTEGER,
     TENANT_ID_ NVARCHAR2(255) DEFAULT '',
     primary key (ID_)
 );
@@ -269,6 +274,7 @@ create table ACT_RU_EVENT_SUBSCR (
     PROC_INST_ID_ NVARCHAR2(64),
     ACTIVITY_ID_ NVARCHAR2(64),
     CONFIGURATION_ NVARCHAR2(255),
+    CORRELATION_KEY_ NVARCHAR2(255),
     CREATED_ TIMESTAMP(6) not null,
     PROC_DEF_ID_ NVARCHAR2(64),
     TENANT_ID_ NVARCHAR2(255) DEFAULT '',
@@ -291,6 +297,13 @@ create table ACT_EVT_LOG (
     primary key (LOG_NR_)
 );
 
+create table ACT_RU_JOB_SHARD_NODE (
+    ID_ NVARCHAR2(255) NOT NULL,
+    REV_ INTEGER,
+    HEARTBEAT_TIME_ TIMESTAMP(6),
+    primary key (ID_)
+);
+
 create sequence act_evt_log_seq;
 
 create table ACT_PROCDEF_INFO (
@@ -307,6 +320,8 @@ create index ACT_IDX_TASK_CREATE on ACT_RU_TASK(CREATE_TIME_);
 create index ACT_IDX_IDENT_LNK_USER on ACT_RU_IDENTITYLINK(USER_ID_);
 create index ACT_IDX_IDENT_LNK_GROUP on ACT_RU_IDENTITYLINK(GROUP_ID_);
 create index ACT_IDX_EVENT_SUBSCR_CONFIG_ on ACT_RU_EVENT_SUBSCR(CONFIGURATION_);
+create index ACT_IDX_EVENT_SUBSCR_CORR_ on ACT_RU_EVENT_SUBSCR(EVENT_NAME_, CORRELATION_KEY_);
+create index ACT_IDX_JOB_SHARD_ on ACT_RU_JOB(SHARD_);
 create index ACT_IDX_VARIABLE_TASK_ID on ACT_RU_VARIABLE(TASK_ID_);
 
 create index ACT_IDX_BYTEAR_DEPL on ACT_GE_BYTEARRAY(DEPLOYMENT_ID_);
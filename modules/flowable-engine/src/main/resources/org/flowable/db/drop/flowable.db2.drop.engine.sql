@@ -110,6 +110,8 @@ alter table ACT_PROCDEF_INFO
 	drop foreign key ACT_FK_INFO_PROCDEF;
 
 drop index ACT_IDX_EVENT_SUBSCR_CONFIG_;
+drop index ACT_IDX_EVENT_SUBSCR_CORR_;
+drop index ACT_IDX_JOB_SHARD_;
 drop index ACT_IDX_ATHRZ_PROCEDEF;
     
 drop table ACT_GE_PROPERTY;
@@ -128,4 +130,5 @@ drop table ACT_RU_DEADLETTER_JOB;
 drop table ACT_RU_HISTORY_JOB;
 drop table ACT_RU_EVENT_SUBSCR;
 drop table ACT_EVT_LOG;
+drop table ACT_RU_JOB_SHARD_NODE;
 drop table ACT_PROCDEF_INFO;
@@ -112,6 +112,8 @@ alter table ACT_PROCDEF_INFO
     
 drop index ACT_IDX_ATHRZ_PROCEDEF on ACT_RU_IDENTITYLINK;
 drop index ACT_IDX_EVENT_SUBSCR_CONFIG_ on ACT_RU_EVENT_SUBSCR;
+drop index ACT_IDX_EVENT_SUBSCR_CORR_ on ACT_RU_EVENT_SUBSCR;
+drop index ACT_IDX_JOB_SHARD_ on ACT_RU_JOB;
     
 drop table if exists ACT_GE_PROPERTY;
 drop table if exists ACT_RU_VARIABLE;
@@ -129,4 +131,5 @@ drop table if exists ACT_RU_DEADLETTER_JOB;
 drop table if exists ACT_RU_HISTORY_JOB;
 drop table if exists ACT_RU_EVENT_SUBSCR;
 drop table if exists ACT_EVT_LOG;
+drop table if exists ACT_RU_JOB_SHARD_NODE;
 drop table if exists ACT_PROCDEF_INFO;
\ No newline at end of file
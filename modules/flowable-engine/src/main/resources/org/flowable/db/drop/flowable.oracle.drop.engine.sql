@@ -148,6 +148,8 @@ alter table ACT_PROCDEF_INFO
     drop CONSTRAINT ACT_FK_INFO_PROCDEF;
     
 drop index ACT_IDX_EVENT_SUBSCR_CONFIG_;
+drop index ACT_IDX_EVENT_SUBSCR_CORR_;
+drop index ACT_IDX_JOB_SHARD_;
 drop index ACT_IDX_EVENT_SUBSCR;
 drop index ACT_IDX_ATHRZ_PROCEDEF;
 drop index ACT_IDX_PROCDEF_INFO_PROC;
@@ -170,4 +172,5 @@ drop table ACT_RU_EVENT_SUBSCR;
 
 drop sequence act_evt_log_seq;
 drop table ACT_EVT_LOG;
+drop table ACT_RU_JOB_SHARD_NODE;
 drop table ACT_PROCDEF_INFO;
\ No newline at end of file
@@ -9,3 +9,23 @@ update ACT_RU_JOB set CREATE_TIME_=CURRENT_TIMESTAMP;
 update ACT_RU_TIMER_JOB set CREATE_TIME_=CURRENT_TIMESTAMP;
 update ACT_RU_SUSPENDED_JOB set CREATE_TIME_=CURRENT_TIMESTAMP;
 update ACT_RU_DEADLETTER_JOB set CREATE_TIME_=CURRENT_TIMESTAMP;
+
+alter table ACT_RU_EXECUTION add column ACT_INST_ID_ varchar(64);
+
+alter table ACT_RU_EXECUTION add column JOIN_COUNTS_ varchar(4000);
+
+alter table ACT_RU_JOB add column SHARD_ integer;
+create index ACT_IDX_JOB_SHARD_ on ACT_RU_JOB(SHARD_);
+
+create table ACT_RU_JOB_SHARD_NODE (
+    ID_ varchar(255) NOT NULL,
+    REV_ integer,
+    HEARTBEAT_TIME_ timestamp,
+    primary key (ID_)
+);
+
+alter table ACT_RU_EVENT_SUBSCR add column CORRELATION_KEY_ varchar(255);
+create index ACT_IDX_EVENT_SUBSCR_CORR_ on ACT_RU_EVENT_SUBSCR(EVENT_NAME_, CORRELATION_KEY_);
+
+alter table ACT_GE_BYTEARRAY add column REF_COUNT_ integer;
+alter table ACT_GE_BYTEARRAY add column CONTENT_HASH_ varchar(64);
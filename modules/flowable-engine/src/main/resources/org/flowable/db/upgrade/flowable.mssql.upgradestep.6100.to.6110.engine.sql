@@ -9,3 +9,23 @@ update ACT_RU_JOB set CREATE_TIME_=CURRENT_TIMESTAMP;
 update ACT_RU_TIMER_JOB set CREATE_TIME_=CURRENT_TIMESTAMP;
 update ACT_RU_SUSPENDED_JOB set CREATE_TIME_=CURRENT_TIMESTAMP;
 update ACT_RU_DEADLETTER_JOB set CREATE_TIME_=CURRENT_TIMESTAMP;
+
+alter table ACT_RU_EXECUTION add ACT_INST_ID_ nvarchar(64);
+
+alter table ACT_RU_EXECUTION add JOIN_COUNTS_ nvarchar(4000);
+
+alter table ACT_RU_JOB add SHARD_ int;
+create index ACT_IDX_JOB_SHARD_ on ACT_RU_JOB(SHARD_);
+
+create table ACT_RU_JOB_SHARD_NODE (
+    ID_ nvarchar(255) NOT NULL,
+    REV_ int,
+    HEARTBEAT_TIME_ datetime,
+    primary key (ID_)
+);
+
+alter table ACT_RU_EVENT_SUBSCR add CORRELATION_KEY_ nvarchar(255);
+create index ACT_IDX_EVENT_SUBSCR_CORR_ on ACT_RU_EVENT_SUBSCR(CORRELATION_KEY_);
+
+alter table ACT_GE_BYTEARRAY add REF_COUNT_ int;
+alter table ACT_GE_BYTEARRAY add CONTENT_HASH_ nvarchar(64);
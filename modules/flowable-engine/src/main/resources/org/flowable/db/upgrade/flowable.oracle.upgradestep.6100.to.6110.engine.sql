@@ -9,3 +9,23 @@ update ACT_RU_JOB set CREATE_TIME_=CURRENT_TIMESTAMP;
 update ACT_RU_TIMER_JOB set CREATE_TIME_=CURRENT_TIMESTAMP;
 update ACT_RU_SUSPENDED_JOB set CREATE_TIME_=CURRENT_TIMESTAMP;
 update ACT_RU_DEADLETTER_JOB set CREATE_TIME_=CURRENT_TIMESTAMP;
+
+alter table ACT_RU_EXECUTION add ACT_INST_ID_ NVARCHAR2(64);
+
+alter table ACT_RU_EXECUTION add JOIN_COUNTS_ NVARCHAR2(2000);
+
+alter table ACT_RU_JOB add SHARD_ INTEGER;
+create index ACT_IDX_JOB_SHARD_ on ACT_RU_JOB(SHARD_);
+
+create table ACT_RU_JOB_SHARD_NODE (
+    ID_ NVARCHAR2(255) NOT NULL,
+    REV_ INTEGER,
+    HEARTBEAT_TIME_ TIMESTAMP(6),
+    primary key (ID_)
+);
+
+alter table ACT_RU_EVENT_SUBSCR add CORRELATION_KEY_ NVARCHAR2(255);
+create index ACT_IDX_EVENT_SUBSCR_CORR_ on ACT_RU_EVENT_SUBSCR(EVENT_NAME_, CORRELATION_KEY_);
+
+alter table ACT_GE_BYTEARRAY add REF_COUNT_ INTEGER;
+alter table ACT_GE_BYTEARRAY add CONTENT_HASH_ NVARCHAR2(64);
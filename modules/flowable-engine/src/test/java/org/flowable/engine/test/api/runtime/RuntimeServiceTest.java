@@ -29,15 +29,19 @@ import org.flowable.engine.common.api.FlowableException;
 import org.flowable.engine.common.api.FlowableIllegalArgumentException;
 import org.flowable.engine.common.api.FlowableObjectNotFoundException;
 import org.flowable.engine.common.impl.util.CollectionUtil;
+import org.flowable.engine.common.impl.util.IoUtil;
 import org.flowable.engine.history.DeleteReason;
 import org.flowable.engine.history.HistoricDetail;
 import org.flowable.engine.history.HistoricProcessInstance;
 import org.flowable.engine.history.HistoricTaskInstance;
+import org.flowable.engine.history.HistoricVariableInstance;
 import org.flowable.engine.impl.history.HistoryLevel;
 import org.flowable.engine.impl.persistence.entity.HistoricDetailVariableInstanceUpdateEntity;
 import org.flowable.engine.impl.test.HistoryTestHelper;
 import org.flowable.engine.impl.test.PluggableFlowableTestCase;
 import org.flowable.engine.repository.ProcessDefinition;
+import org.flowable.engine.runtime.BulkProcessInstanceBuilder;
+import org.flowable.engine.runtime.BulkProcessInstanceResult;
 import org.flowable.engine.runtime.Execution;
 import org.flowable.engine.runtime.ProcessInstance;
 import org.flowable.engine.runtime.ProcessInstanceBuilder;
@@ -192,6 +196,57 @@ public class RuntimeServiceTest extends PluggableFlowableTestCase {
         assertEquals("101124", processInstance.getBusinessKey());
     }
 
+    @Deployment(resources = { "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml" })
+    public void testStartProcessInstancesInBulk() {
+        BulkProcessInstanceBuilder bulkProcessInstanceBuilder = runtimeService.createBulkProcessInstanceBuilder().processDefinitionKey("oneTaskProcess").chunkSize(3);
+        for (int i = 0; i < 7; i++) {
+            bulkProcessInstanceBuilder.addProcessInstance("key" + i, Collections.<String, Object>singletonMap("var", i));
+        }
+
+        BulkProcessInstanceResult result = bulkProcessInstanceBuilder.start();
+        assertTrue(result.getFailures().isEmpty());
+        assertEquals(7, result.getProcessInstances().size());
+        assertEquals(7, runtimeService.createProcessInstanceQuery().processDefinitionKey("oneTaskProcess").count());
+        assertEquals(7, taskService.createTaskQuery().count());
+
+        for (int i = 0; i < 7; i++) {
+            ProcessInstance processInstance = result.getProcessInstances().get(i);
+            assertEquals("key" + i, processInstance.getBusinessKey());
+            assertEquals(i, runtimeService.getVariable(processInstance.getId(), "var"));
+        }
+    }
+
+    @Deployment
+    public void testStartProcessInstancesInBulkIsolatesFailures() {
+        BulkProcessInstanceResult result = runtimeService.createBulkProcessInstanceBuilder()
+                .processDefinitionKey("failingStartProcess")
+                .chunkSize(2)
+                .addProcessInstance("ok0", Collections.<String, Object>singletonMap("fail", false))
+                .addProcessInstance("failing1", Collections.<String, Object>singletonMap("fail", true))
+                .addProcessInstance("ok2", Collections.<String, Object>singletonMap("fail", false))
+                .addProcessInstance("ok3", null)
+                .addProcessInstance("failing4", Collections.<String, Object>singletonMap("fail", true))
+                .start();
+
+        assertEquals(3, result.getProcessInstances().size());
+        assertEquals(2, result.getFailures().size());
+        assertTrue(result.getFailures().containsKey(1));
+        assertTrue(result.getFailures().containsKey(4));
+
+        assertEquals(3, runtimeService.createProcessInstanceQuery().processDefinitionKey("failingStartProcess").count());
+        assertEquals(0, runtimeService.createProcessInstanceQuery().processInstanceBusinessKey("failing1").count());
+        assertEquals(1, runtimeService.createProcessInstanceQuery().processInstanceBusinessKey("ok3").count());
+    }
+
+    public void testStartProcessInstancesInBulkUnknownProcessDefinition() {
+        try {
+            runtimeService.createBulkProcessInstanceBuilder().processDefinitionKey("unknown").addProcessInstance(null).start();
+            fail();
+        } catch (FlowableObjectNotFoundException e) {
+            // Expected exception
+        }
+    }
+
     @Deployment(resources = { "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml" })
     public void testNonUniqueBusinessKey() {
         runtimeService.startProcessInstanceByKey("oneTaskProcess", "123");
@@ -476,6 +531,43 @@ public class RuntimeServiceTest extends PluggableFlowableTestCase {
         assertNull(variableValue);
     }
 
+    @Deployment(resources = { "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml" })
+    public void testGetVariableAsStream() {
+        Map<String, Object> vars = new HashMap<String, Object>();
+        vars.put("bytesVar", new byte[] { 1, 2, 3 });
+        vars.put("stringVar", "value");
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("oneTaskProcess", vars);
+
+        byte[] bytes = IoUtil.readInputStream(runtimeService.getVariableAsStream(processInstance.getId(), "bytesVar"), "bytesVar");
+        assertTrue(Arrays.equals(new byte[] { 1, 2, 3 }, bytes));
+        assertNull(runtimeService.getVariableAsStream(processInstance.getId(), "unexistingVariable"));
+
+        try {
+            runtimeService.getVariableAsStream(processInstance.getId(), "stringVar");
+            fail("FlowableIllegalArgumentException expected");
+        } catch (FlowableIllegalArgumentException e) {
+            assertTextPresent("is not stored as a byte array", e.getMessage());
+        }
+
+        // The previous byte arrays of the runtime and historic variable are replaced, not kept
+        String byteArrayTable = processEngineConfiguration.getDatabaseTablePrefix() + "ACT_GE_BYTEARRAY";
+        long byteArrayCount = managementService.getTableCount().get(byteArrayTable);
+        runtimeService.setVariable(processInstance.getId(), "bytesVar", new byte[] { 4, 5 });
+
+        long expectedByteArrayCount = byteArrayCount;
+        if (HistoryTestHelper.isHistoryLevelAtLeast(HistoryLevel.FULL, processEngineConfiguration)) {
+            expectedByteArrayCount++; // the historic detail of the update
+        }
+        assertEquals(expectedByteArrayCount, managementService.getTableCount().get(byteArrayTable).longValue());
+        assertTrue(Arrays.equals(new byte[] { 4, 5 }, (byte[]) runtimeService.getVariable(processInstance.getId(), "bytesVar")));
+
+        if (HistoryTestHelper.isHistoryLevelAtLeast(HistoryLevel.ACTIVITY, processEngineConfiguration)) {
+            HistoricVariableInstance historicVariableInstance = historyService.createHistoricVariableInstanceQuery()
+                    .processInstanceId(processInstance.getId()).variableName("bytesVar").singleResult();
+            assertTrue(Arrays.equals(new byte[] { 4, 5 }, (byte[]) historicVariableInstance.getValue()));
+        }
+    }
+
     public void testSetVariableUnexistingExecutionId() {
         try {
             runtimeService.setVariable("unexistingExecutionId", "variableName", "value");
@@ -0,0 +1,125 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.api.task;
+
+import java.util.Date;
+import java.util.List;
+
+import org.flowable.engine.CachingCandidateManager;
+import org.flowable.engine.CandidateManager;
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.task.Task;
+import org.flowable.idm.api.Group;
+import org.flowable.idm.api.User;
+
+public class CandidateGroupsCacheTest extends PluggableFlowableTestCase {
+
+    protected CandidateManager originalCandidateManager;
+    protected CountingCandidateManager countingCandidateManager;
+    protected CachingCandidateManager cachingCandidateManager;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+
+        originalCandidateManager = processEngineConfiguration.getCandidateManager();
+        countingCandidateManager = new CountingCandidateManager(originalCandidateManager);
+        cachingCandidateManager = new CachingCandidateManager(countingCandidateManager, processEngineConfiguration.getClock(), 2, 60000L);
+        processEngineConfiguration.setCandidateManager(cachingCandidateManager);
+
+        User user = identityService.newUser("kermit");
+        identityService.saveUser(user);
+        Group group = identityService.newGroup("muppets");
+        identityService.saveGroup(group);
+    }
+
+    @Override
+    protected void tearDown() throws Exception {
+        processEngineConfiguration.setCandidateManager(originalCandidateManager);
+        processEngineConfiguration.getClock().reset();
+
+        identityService.deleteGroup("muppets");
+        identityService.deleteUser("kermit");
+        for (Task task : taskService.createTaskQuery().list()) {
+            taskService.deleteTask(task.getId(), true);
+        }
+
+        super.tearDown();
+    }
+
+    public void testGroupsCachedBetweenQueries() {
+        identityService.createMembership("kermit", "muppets");
+        Task task = taskService.newTask();
+        taskService.saveTask(task);
+        taskService.addCandidateGroup(task.getId(), "muppets");
+
+        assertEquals(1, taskService.createTaskQuery().taskCandidateUser("kermit").count());
+        assertEquals(1, taskService.createTaskQuery().taskCandidateUser("kermit").list().size());
+        assertEquals(1, taskService.createTaskQuery().taskCandidateOrAssigned("kermit").count());
+        assertEquals(1, countingCandidateManager.getCount());
+    }
+
+    public void testMembershipChangesInvalidateCache() {
+        Task task = taskService.newTask();
+        taskService.saveTask(task);
+        taskService.addCandidateGroup(task.getId(), "muppets");
+
+        assertEquals(0, taskService.createTaskQuery().taskCandidateUser("kermit").count());
+
+        identityService.createMembership("kermit", "muppets");
+        assertEquals(1, taskService.createTaskQuery().taskCandidateUser("kermit").count());
+
+        identityService.deleteMembership("kermit", "muppets");
+        assertEquals(0, taskService.createTaskQuery().taskCandidateUser("kermit").count());
+        assertEquals(3, countingCandidateManager.getCount());
+    }
+
+    public void testCachedEntryExpires() {
+        assertEquals(0, cachingCandidateManager.getGroupsForCandidateUser("kermit").size());
+        assertEquals(0, cachingCandidateManager.getGroupsForCandidateUser("kermit").size());
+        assertEquals(1, countingCandidateManager.getCount());
+
+        processEngineConfiguration.getClock().setCurrentTime(new Date(processEngineConfiguration.getClock().getCurrentTime().getTime() + 61000L));
+        assertEquals(0, cachingCandidateManager.getGroupsForCandidateUser("kermit").size());
+        assertEquals(2, countingCandidateManager.getCount());
+    }
+
+    public void testCacheLimit() {
+        cachingCandidateManager.getGroupsForCandidateUser("kermit");
+        cachingCandidateManager.getGroupsForCandidateUser("gonzo");
+        cachingCandidateManager.getGroupsForCandidateUser("fozzie");
+        assertEquals(2, cachingCandidateManager.size());
+    }
+
+    protected static class CountingCandidateManager implements CandidateManager {
+
+        protected CandidateManager candidateManager;
+        protected int count;
+
+        public CountingCandidateManager(CandidateManager candidateManager) {
+            this.candidateManager = candidateManager;
+        }
+
+        @Override
+        public List<String> getGroupsForCandidateUser(String candidateUser) {
+            count++;
+            return candidateManager.getGroupsForCandidateUser(candidateUser);
+        }
+
+        public int getCount() {
+            return count;
+        }
+
+    }
+
+}
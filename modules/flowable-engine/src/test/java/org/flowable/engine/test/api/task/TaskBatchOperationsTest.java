@@ -0,0 +1,113 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.api.task;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.flowable.engine.FlowableTaskAlreadyClaimedException;
+import org.flowable.engine.common.api.FlowableIllegalArgumentException;
+import org.flowable.engine.common.api.FlowableObjectNotFoundException;
+import org.flowable.engine.impl.cfg.PerformanceSettings;
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.task.BatchTaskResult;
+import org.flowable.engine.task.Task;
+import org.flowable.engine.test.Deployment;
+
+public class TaskBatchOperationsTest extends PluggableFlowableTestCase {
+
+    protected int originalTaskBatchChunkSize;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        originalTaskBatchChunkSize = processEngineConfiguration.getPerformanceSettings().getTaskBatchChunkSize();
+        processEngineConfiguration.getPerformanceSettings().setTaskBatchChunkSize(2);
+    }
+
+    @Override
+    protected void tearDown() throws Exception {
+        processEngineConfiguration.getPerformanceSettings().setTaskBatchChunkSize(originalTaskBatchChunkSize);
+        super.tearDown();
+    }
+
+    @Deployment(resources = { "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml" })
+    public void testClaimTasks() {
+        List<String> taskIds = startProcessInstances(5);
+        taskService.claim(taskIds.get(3), "otherUser");
+
+        List<String> batchTaskIds = new ArrayList<>(taskIds);
+        batchTaskIds.add(2, "unexistingTaskId");
+
+        BatchTaskResult result = taskService.claimTasks(batchTaskIds, "kermit");
+        assertEquals(4, result.getSucceededTaskIds().size());
+        assertEquals(2, result.getFailures().size());
+        assertTrue(result.getFailures().get("unexistingTaskId") instanceof FlowableObjectNotFoundException);
+        assertTrue(result.getFailures().get(taskIds.get(3)) instanceof FlowableTaskAlreadyClaimedException);
+
+        assertEquals(4, taskService.createTaskQuery().taskAssignee("kermit").count());
+        assertEquals(1, taskService.createTaskQuery().taskAssignee("otherUser").count());
+    }
+
+    @Deployment(resources = { "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml" })
+    public void testSetAssigneeForTasks() {
+        List<String> taskIds = startProcessInstances(5);
+        taskService.claim(taskIds.get(3), "otherUser");
+
+        BatchTaskResult result = taskService.setAssigneeForTasks(taskIds, "kermit");
+        assertEquals(taskIds, result.getSucceededTaskIds());
+        assertTrue(result.getFailures().isEmpty());
+        assertEquals(5, taskService.createTaskQuery().taskAssignee("kermit").count());
+        assertEquals(0, taskService.createTaskQuery().taskAssignee("otherUser").count());
+
+        for (String taskId : taskIds) {
+            assertEquals(1, taskService.getIdentityLinksForTask(taskId).size());
+        }
+    }
+
+    @Deployment(resources = { "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml" })
+    public void testCompleteTasks() {
+        List<String> taskIds = startProcessInstances(5);
+        taskService.complete(taskIds.get(1));
+
+        BatchTaskResult result = taskService.completeTasks(taskIds, Collections.<String, Object>singletonMap("outcome", "done"));
+        assertEquals(4, result.getSucceededTaskIds().size());
+        assertEquals(1, result.getFailures().size());
+        assertTrue(result.getFailures().containsKey(taskIds.get(1)));
+
+        assertEquals(0, taskService.createTaskQuery().count());
+        assertEquals(0, runtimeService.createProcessInstanceQuery().count());
+    }
+
+    public void testChunkSizeIsLimited() {
+        try {
+            processEngineConfiguration.getPerformanceSettings().setTaskBatchChunkSize(PerformanceSettings.MAX_TASK_BATCH_CHUNK_SIZE + 1);
+            fail("Expected exception");
+        } catch (FlowableIllegalArgumentException e) {
+            // expected
+        }
+        assertEquals(2, processEngineConfiguration.getPerformanceSettings().getTaskBatchChunkSize());
+    }
+
+    protected List<String> startProcessInstances(int count) {
+        List<String> taskIds = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            String processInstanceId = runtimeService.startProcessInstanceByKey("oneTaskProcess").getId();
+            Task task = taskService.createTaskQuery().processInstanceId(processInstanceId).singleResult();
+            taskIds.add(task.getId());
+        }
+        return taskIds;
+    }
+
+}
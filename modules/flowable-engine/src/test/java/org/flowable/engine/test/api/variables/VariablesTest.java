@@ -23,7 +23,11 @@ import java.util.HashMap;
 import java.util.Map;
 
 import org.flowable.engine.delegate.DelegateExecution;
+import org.flowable.engine.delegate.Expression;
 import org.flowable.engine.delegate.JavaDelegate;
+import org.flowable.engine.impl.interceptor.Command;
+import org.flowable.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.persistence.entity.TaskEntity;
 import org.flowable.engine.impl.test.PluggableFlowableTestCase;
 import org.flowable.engine.repository.Deployment;
 import org.flowable.engine.runtime.ProcessInstance;
@@ -519,6 +523,62 @@ public class VariablesTest extends PluggableFlowableTestCase {
         assertEquals("Override", taskService.getVariables(task.getId(), varNames).get("stringVar1"));
     }
 
+    public void testSelectiveVariableFetching() {
+        final String taskId = taskService.createTaskQuery().taskName("Task 1").singleResult().getId();
+        Command<Long> getVariablesCommand = new Command<Long>() {
+            public Long execute(CommandContext commandContext) {
+                TaskEntity task = commandContext.getTaskEntityManager().findById(taskId);
+                assertEquals("stringVarValue-1", task.getVariable("stringVar1"));
+                assertTrue(task.hasVariable("intVar2"));
+                assertFalse(task.hasVariable("unknownVar"));
+                Expression expression = processEngineConfiguration.getExpressionManager().createExpression("${intVar2 > 100}");
+                assertEquals(Boolean.TRUE, expression.getValue(task));
+                assertEquals(2, task.getVariables(Arrays.asList("intVar3", "intVar4")).size());
+                return commandContext.getLoadedVariableInstanceCount();
+            }
+        };
+
+        // By default, all 70 variables of the process instance are loaded
+        assertEquals(70L, managementService.executeCommand(getVariablesCommand).longValue());
+
+        boolean originalValue = processEngineConfiguration.getPerformanceSettings().isEnableSelectiveVariableFetching();
+        processEngineConfiguration.getPerformanceSettings().setEnableSelectiveVariableFetching(true);
+        try {
+            assertEquals(4L, managementService.executeCommand(getVariablesCommand).longValue());
+
+            // Variables of an already loaded scope are not fetched again
+            assertEquals(70L, managementService.executeCommand(new Command<Long>() {
+                public Long execute(CommandContext commandContext) {
+                    TaskEntity task = commandContext.getTaskEntityManager().findById(taskId);
+                    assertEquals(70, task.getVariables().size());
+                    assertEquals(2, task.getVariables(Arrays.asList("intVar3", "intVar4")).size());
+                    return commandContext.getLoadedVariableInstanceCount();
+                }
+            }).longValue());
+
+            // Updating, removing and recreating variables in one transaction
+            managementService.executeCommand(new Command<Void>() {
+                public Void execute(CommandContext commandContext) {
+                    TaskEntity task = commandContext.getTaskEntityManager().findById(taskId);
+                    task.setVariable("stringVar1", "updated");
+                    assertEquals("updated", task.getVariable("stringVar1"));
+                    task.getExecution().removeVariable("stringVar2");
+                    assertFalse(task.hasVariable("stringVar2"));
+                    assertNull(task.getVariable("stringVar2"));
+                    task.setVariable("stringVar2", "recreated");
+                    return null;
+                }
+            });
+
+        } finally {
+            processEngineConfiguration.getPerformanceSettings().setEnableSelectiveVariableFetching(originalValue);
+        }
+
+        assertEquals("updated", runtimeService.getVariable(processInstanceId, "stringVar1"));
+        assertEquals("recreated", runtimeService.getVariable(processInstanceId, "stringVar2"));
+        assertEquals(70, runtimeService.getVariables(processInstanceId).size());
+    }
+
     public void testLocalDateVariable() {
 
         Calendar todayCal = new GregorianCalendar();
@@ -13,10 +13,12 @@
 
 package org.flowable.engine.test.bpmn.event.message;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import org.flowable.engine.common.api.FlowableException;
 import org.flowable.engine.impl.EventSubscriptionQueryImpl;
 import org.flowable.engine.impl.test.PluggableFlowableTestCase;
 import org.flowable.engine.runtime.EventSubscription;
@@ -135,4 +137,34 @@ public class MessageIntermediateEventTest extends PluggableFlowableTestCase {
     private EventSubscriptionQueryImpl createEventSubscriptionQuery() {
         return new EventSubscriptionQueryImpl(processEngineConfiguration.getCommandExecutor());
     }
+
+    @Deployment
+    public void testCorrelationKey() {
+        ProcessInstance order1 = runtimeService.startProcessInstanceByKey("process", Collections.<String, Object>singletonMap("orderId", "order-1"));
+        ProcessInstance order2 = runtimeService.startProcessInstanceByKey("process", Collections.<String, Object>singletonMap("orderId", "order-2"));
+        ProcessInstance otherOrder2 = runtimeService.startProcessInstanceByKey("process", Collections.<String, Object>singletonMap("orderId", "order-2"));
+
+        EventSubscription eventSubscription = runtimeService.createEventSubscriptionQuery().processInstanceId(order1.getId()).singleResult();
+        assertEquals("orderShippedMessage", eventSubscription.getEventName());
+        assertEquals("order-1", eventSubscription.getCorrelationKey());
+
+        runtimeService.messageEventReceivedByCorrelationKey("orderShippedMessage", "order-1", Collections.<String, Object>singletonMap("carrier", "ups"));
+
+        assertEquals(1, taskService.createTaskQuery().count());
+        assertEquals(order1.getId(), taskService.createTaskQuery().singleResult().getProcessInstanceId());
+        assertEquals("ups", runtimeService.getVariable(order1.getId(), "carrier"));
+
+        runtimeService.messageEventReceivedByCorrelationKey("orderShippedMessage", "order-2", null);
+        assertEquals(1, taskService.createTaskQuery().processInstanceId(order2.getId()).count());
+        assertEquals(1, taskService.createTaskQuery().processInstanceId(otherOrder2.getId()).count());
+        assertEquals(0, runtimeService.createEventSubscriptionQuery().count());
+
+        try {
+            runtimeService.messageEventReceivedByCorrelationKey("orderShippedMessage", "order-2", null);
+            fail("Expected exception, no subscription is left for the correlation key");
+        } catch (FlowableException e) {
+            assertTextPresent("correlation key 'order-2'", e.getMessage());
+        }
+    }
+
 }
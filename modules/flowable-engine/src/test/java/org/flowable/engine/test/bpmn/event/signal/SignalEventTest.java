@@ -22,6 +22,9 @@ import java.util.Map;
 import org.flowable.engine.common.api.FlowableException;
 import org.flowable.engine.common.impl.util.CollectionUtil;
 import org.flowable.engine.impl.EventSubscriptionQueryImpl;
+import org.flowable.engine.impl.jobexecutor.SignalBroadcastChunkJobHandler;
+import org.flowable.engine.impl.jobexecutor.SignalBroadcastJobHandler;
+import org.flowable.engine.impl.persistence.entity.JobEntity;
 import org.flowable.engine.impl.test.PluggableFlowableTestCase;
 import org.flowable.engine.runtime.Execution;
 import org.flowable.engine.runtime.Job;
@@ -49,6 +52,75 @@ public class SignalEventTest extends PluggableFlowableTestCase {
         assertEquals(0, runtimeService.createProcessInstanceQuery().count());
     }
 
+    @Deployment(resources = { "org/flowable/engine/test/bpmn/event/signal/SignalEventTests.catchAlertSignal.bpmn20.xml" })
+    public void testSignalBroadcastInChunks() {
+        int originalChunkSize = processEngineConfiguration.getPerformanceSettings().getSignalBroadcastAsyncChunkSize();
+        processEngineConfiguration.getPerformanceSettings().setSignalBroadcastAsyncChunkSize(3);
+        try {
+            for (int i = 0; i < 8; i++) {
+                runtimeService.startProcessInstanceByKey("catchSignal");
+            }
+
+            runtimeService.signalEventReceived("alert");
+            assertEquals(8, createEventSubscriptionQuery().count());
+            Job broadcastJob = managementService.createJobQuery().singleResult();
+            assertEquals(SignalBroadcastJobHandler.TYPE, ((JobEntity) broadcastJob).getJobHandlerType());
+
+            // Chunks of 3, 3 and 2 subscriptions
+            managementService.executeJob(broadcastJob.getId());
+            List<Job> chunkJobs = managementService.createJobQuery().list();
+            assertEquals(3, chunkJobs.size());
+            for (Job chunkJob : chunkJobs) {
+                assertEquals(SignalBroadcastChunkJobHandler.TYPE, ((JobEntity) chunkJob).getJobHandlerType());
+            }
+
+            // Subscriptions created after the signal was thrown are not part of the broadcast
+            processEngineConfiguration.getClock().setCurrentTime(new Date(processEngineConfiguration.getClock().getCurrentTime().getTime() + 10000));
+            String lateProcessInstanceId = runtimeService.startProcessInstanceByKey("catchSignal").getId();
+
+            for (Job chunkJob : chunkJobs) {
+                managementService.executeJob(chunkJob.getId());
+            }
+            assertEquals(1, createEventSubscriptionQuery().count());
+            assertEquals(1, runtimeService.createProcessInstanceQuery().count());
+            assertEquals(lateProcessInstanceId, runtimeService.createProcessInstanceQuery().singleResult().getId());
+
+            runtimeService.deleteProcessInstance(lateProcessInstanceId, null);
+        } finally {
+            processEngineConfiguration.getPerformanceSettings().setSignalBroadcastAsyncChunkSize(originalChunkSize);
+            processEngineConfiguration.getClock().reset();
+        }
+    }
+
+    @Deployment(resources = { "org/flowable/engine/test/bpmn/event/signal/SignalEventTests.catchAlertSignal.bpmn20.xml",
+            "org/flowable/engine/test/bpmn/event/signal/SignalEventTests.throwAlertSignal.bpmn20.xml" })
+    public void testSignalThrowBroadcastInChunks() {
+        int originalChunkSize = processEngineConfiguration.getPerformanceSettings().getSignalBroadcastAsyncChunkSize();
+        processEngineConfiguration.getPerformanceSettings().setSignalBroadcastAsyncChunkSize(2);
+        try {
+            for (int i = 0; i < 5; i++) {
+                runtimeService.startProcessInstanceByKey("catchSignal");
+            }
+
+            // The throwing process continues right away, the catching processes receive the signal through the jobs
+            runtimeService.startProcessInstanceByKey("throwSignal");
+            assertEquals(5, runtimeService.createProcessInstanceQuery().count());
+
+            List<Job> jobs = managementService.createJobQuery().list();
+            while (!jobs.isEmpty()) {
+                for (Job job : jobs) {
+                    managementService.executeJob(job.getId());
+                }
+                jobs = managementService.createJobQuery().list();
+            }
+
+            assertEquals(0, createEventSubscriptionQuery().count());
+            assertEquals(0, runtimeService.createProcessInstanceQuery().count());
+        } finally {
+            processEngineConfiguration.getPerformanceSettings().setSignalBroadcastAsyncChunkSize(originalChunkSize);
+        }
+    }
+
     @Deployment(resources = { "org/flowable/engine/test/bpmn/event/signal/SignalEventTests.catchAlertSignalExpression.bpmn20.xml",
             "org/flowable/engine/test/bpmn/event/signal/SignalEventTests.throwAlertSignalExpression.bpmn20.xml" })
     public void testSignalCatchIntermediateExpression() {
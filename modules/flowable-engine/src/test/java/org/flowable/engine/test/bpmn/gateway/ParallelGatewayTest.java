@@ -17,6 +17,10 @@ import java.util.List;
 
 import org.flowable.engine.history.HistoricActivityInstance;
 import org.flowable.engine.impl.history.HistoryLevel;
+import org.flowable.engine.impl.interceptor.Command;
+import org.flowable.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
+import org.flowable.engine.impl.persistence.entity.ExecutionEntityImpl;
 import org.flowable.engine.impl.test.HistoryTestHelper;
 import org.flowable.engine.impl.test.PluggableFlowableTestCase;
 import org.flowable.engine.runtime.ProcessInstance;
@@ -67,6 +71,66 @@ public class ParallelGatewayTest extends PluggableFlowableTestCase {
     // ACT-482
     @Deployment
     public void testNestedForkJoin() {
+        checkNestedForkJoin();
+    }
+
+    @Deployment(resources = "org/flowable/engine/test/bpmn/gateway/ParallelGatewayTest.testNestedForkJoin.bpmn20.xml")
+    public void testNestedForkJoinWithJoinCounter() {
+        boolean originalJoinCounter = processEngineConfiguration.getPerformanceSettings().isEnableParallelGatewayJoinCounter();
+        processEngineConfiguration.getPerformanceSettings().setEnableParallelGatewayJoinCounter(true);
+        try {
+            checkNestedForkJoin();
+
+            // The counters are reset once a join activates
+            ExecutionEntityImpl processInstance = (ExecutionEntityImpl) runtimeService.createProcessInstanceQuery().singleResult();
+            assertNull(processInstance.getJoinCounts());
+        } finally {
+            processEngineConfiguration.getPerformanceSettings().setEnableParallelGatewayJoinCounter(originalJoinCounter);
+        }
+    }
+
+    @Deployment(resources = "org/flowable/engine/test/bpmn/gateway/ParallelGatewayTest.testNestedForkJoin.bpmn20.xml")
+    public void testJoinCounterTooHigh() {
+        boolean originalJoinCounter = processEngineConfiguration.getPerformanceSettings().isEnableParallelGatewayJoinCounter();
+        processEngineConfiguration.getPerformanceSettings().setEnableParallelGatewayJoinCounter(true);
+        try {
+            final ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("nestedForkJoin");
+            TaskQuery query = taskService.createTaskQuery().orderByTaskName().asc();
+            taskService.complete(query.singleResult().getId());
+
+            // Simulate an execution that arrived in the join and was removed afterwards without being counted down
+            managementService.executeCommand(new Command<Void>() {
+
+                public Void execute(CommandContext commandContext) {
+                    ExecutionEntity execution = commandContext.getExecutionEntityManager().findById(processInstance.getId());
+                    execution.setJoinCount("Join_AB", 1);
+                    return null;
+                }
+            });
+
+            // Completing task A must not activate the join, as task B has not arrived yet
+            List<Task> tasks = query.list();
+            assertEquals("Task A", tasks.get(0).getName());
+            taskService.complete(tasks.get(0).getId());
+            tasks = query.list();
+            assertEquals(1, tasks.size());
+            assertEquals("Task B", tasks.get(0).getName());
+
+            // The counter was corrected, so the join activates once task B has arrived as well
+            taskService.complete(tasks.get(0).getId());
+            for (Task task : query.list()) {
+                taskService.complete(task.getId());
+            }
+            tasks = query.list();
+            assertEquals(1, tasks.size());
+            assertEquals("Task C", tasks.get(0).getName());
+
+        } finally {
+            processEngineConfiguration.getPerformanceSettings().setEnableParallelGatewayJoinCounter(originalJoinCounter);
+        }
+    }
+
+    protected void checkNestedForkJoin() {
         runtimeService.startProcessInstanceByKey("nestedForkJoin");
 
         // After process starts, only task 0 should be active
@@ -23,6 +23,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicInteger;
 
+import org.flowable.engine.common.api.FlowableException;
 import org.flowable.engine.common.impl.util.CollectionUtil;
 import org.flowable.engine.delegate.DelegateExecution;
 import org.flowable.engine.delegate.DelegateTask;
@@ -256,6 +257,64 @@ public class MultiInstanceTest extends PluggableFlowableTestCase {
         assertProcessEnded(procId);
     }
 
+    @Deployment(resources = "org/flowable/engine/test/bpmn/multiinstance/MultiInstanceTest.testParallelUserTasksBasedOnCollection.bpmn20.xml")
+    public void testParallelUserTasksBasedOnCollectionCreatedInChunks() {
+        int originalChunkSize = processEngineConfiguration.getPerformanceSettings().getParallelMultiInstanceAsyncChunkSize();
+        processEngineConfiguration.getPerformanceSettings().setParallelMultiInstanceAsyncChunkSize(2);
+        try {
+            List<String> assigneeList = Arrays.asList("kermit", "gonzo", "mispiggy", "fozzie", "bubba");
+            String procId = runtimeService.startProcessInstanceByKey("miParallelUserTasksBasedOnCollection", CollectionUtil.singletonMap("assigneeList", assigneeList)).getId();
+
+            List<Task> tasks = taskService.createTaskQuery().orderByTaskAssignee().asc().list();
+            assertEquals(2, tasks.size());
+            assertEquals("gonzo", tasks.get(0).getAssignee());
+            assertEquals("kermit", tasks.get(1).getAssignee());
+            assertEquals(1, managementService.createJobQuery().count());
+
+            taskService.complete(tasks.get(0).getId());
+            taskService.complete(tasks.get(1).getId());
+            assertEquals(0, taskService.createTaskQuery().count());
+
+            managementService.executeJob(managementService.createJobQuery().singleResult().getId());
+            tasks = taskService.createTaskQuery().orderByTaskAssignee().asc().list();
+            assertEquals(2, tasks.size());
+            assertEquals("fozzie", tasks.get(0).getAssignee());
+            assertEquals("mispiggy", tasks.get(1).getAssignee());
+            assertEquals(1, managementService.createJobQuery().count());
+
+            // Completing the third task triggers the completion condition, the pending chunk job is removed with the process instance
+            taskService.complete(tasks.get(0).getId());
+            assertEquals(0, taskService.createTaskQuery().count());
+            assertEquals(0, managementService.createJobQuery().count());
+            assertProcessEnded(procId);
+        } finally {
+            processEngineConfiguration.getPerformanceSettings().setParallelMultiInstanceAsyncChunkSize(originalChunkSize);
+        }
+    }
+
+    @Deployment(resources = "org/flowable/engine/test/bpmn/multiinstance/MultiInstanceTest.testParallelUserTasksBasedOnCollection.bpmn20.xml")
+    public void testParallelUserTasksCreatedInChunksWithChangedCollection() {
+        int originalChunkSize = processEngineConfiguration.getPerformanceSettings().getParallelMultiInstanceAsyncChunkSize();
+        processEngineConfiguration.getPerformanceSettings().setParallelMultiInstanceAsyncChunkSize(2);
+        try {
+            List<String> assigneeList = Arrays.asList("kermit", "gonzo", "mispiggy", "fozzie", "bubba");
+            String procId = runtimeService.startProcessInstanceByKey("miParallelUserTasksBasedOnCollection", CollectionUtil.singletonMap("assigneeList", assigneeList)).getId();
+            assertEquals(2, taskService.createTaskQuery().count());
+
+            // The remaining instances can't be created when the collection no longer matches the number of instances
+            runtimeService.setVariable(procId, "assigneeList", Arrays.asList("kermit", "gonzo", "mispiggy"));
+            try {
+                managementService.executeJob(managementService.createJobQuery().singleResult().getId());
+                fail("Expected exception");
+            } catch (FlowableException e) {
+                assertTextPresent("has 3 elements, but 5 instances are created", e.getCause().getMessage());
+            }
+            assertEquals(2, taskService.createTaskQuery().count());
+        } finally {
+            processEngineConfiguration.getPerformanceSettings().setParallelMultiInstanceAsyncChunkSize(originalChunkSize);
+        }
+    }
+
     @Deployment
     public void testParallelUserTasksCustomExtensions() {
         checkParallelUserTasksCustomExtensions("miParallelUserTasks");
@@ -0,0 +1,105 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.bpmn.usertask;
+
+import org.flowable.engine.impl.interceptor.Command;
+import org.flowable.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.persistence.deploy.ProcessDefinitionInfoCache;
+import org.flowable.engine.impl.persistence.entity.ProcessDefinitionInfoEntity;
+import org.flowable.engine.impl.persistence.entity.ProcessDefinitionInfoEntityManager;
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.engine.task.Task;
+import org.flowable.engine.test.Deployment;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+public class ProcessDefinitionInfoCacheRevisionCheckTest extends PluggableFlowableTestCase {
+
+    protected ProcessDefinitionInfoCache processDefinitionInfoCache;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        processDefinitionInfoCache = processEngineConfiguration.getDeploymentManager().getProcessDefinitionInfoCache();
+        processDefinitionInfoCache.setRevisionCheckInterval(60 * 60 * 1000L);
+    }
+
+    @Override
+    protected void tearDown() throws Exception {
+        processDefinitionInfoCache.setRevisionCheckInterval(0L);
+        super.tearDown();
+    }
+
+    @Deployment(resources = { "org/flowable/engine/test/bpmn/usertask/DynamicUserTaskTest.assignment.bpmn20.xml" })
+    public void testLocalChangeVisibleAfterCommit() {
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("dynamicUserTask");
+        String processDefinitionId = processInstance.getProcessDefinitionId();
+        assertEquals("test", taskService.createTaskQuery().processInstanceId(processInstance.getId()).singleResult().getAssignee());
+
+        ObjectNode infoNode = dynamicBpmnService.changeUserTaskAssignee("task1", "test2");
+        dynamicBpmnService.saveProcessDefinitionInfo(processDefinitionId, infoNode);
+
+        processInstance = runtimeService.startProcessInstanceByKey("dynamicUserTask");
+        assertEquals("test2", taskService.createTaskQuery().processInstanceId(processInstance.getId()).singleResult().getAssignee());
+
+        infoNode = dynamicBpmnService.changeUserTaskAssignee("task1", "test3");
+        dynamicBpmnService.saveProcessDefinitionInfo(processDefinitionId, infoNode);
+
+        processInstance = runtimeService.startProcessInstanceByKey("dynamicUserTask");
+        assertEquals("test3", taskService.createTaskQuery().processInstanceId(processInstance.getId()).singleResult().getAssignee());
+
+        for (Task task : taskService.createTaskQuery().list()) {
+            taskService.complete(task.getId());
+        }
+    }
+
+    @Deployment(resources = { "org/flowable/engine/test/bpmn/usertask/DynamicUserTaskTest.assignment.bpmn20.xml" })
+    public void testChangeOfOtherEngineVisibleAfterVersionStampPoll() {
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("dynamicUserTask");
+        final String processDefinitionId = processInstance.getProcessDefinitionId();
+
+        ObjectNode infoNode = dynamicBpmnService.changeUserTaskAssignee("task1", "test2");
+        dynamicBpmnService.saveProcessDefinitionInfo(processDefinitionId, infoNode);
+        assertEquals("test2", getAssignee(dynamicBpmnService.getProcessDefinitionInfo(processDefinitionId)));
+
+        // Another engine changes the info: the database is updated, but the cache of this engine is not invalidated
+        final ObjectNode otherInfoNode = dynamicBpmnService.changeUserTaskAssignee("task1", "test3");
+        managementService.executeCommand(new Command<Void>() {
+
+            @Override
+            public Void execute(CommandContext commandContext) {
+                ProcessDefinitionInfoEntityManager infoEntityManager = commandContext.getProcessDefinitionInfoEntityManager();
+                ProcessDefinitionInfoEntity infoEntity = infoEntityManager.findProcessDefinitionInfoByProcessDefinitionId(processDefinitionId);
+                infoEntityManager.updateInfoJson(infoEntity.getId(), otherInfoNode.toString().getBytes());
+                return null;
+            }
+        });
+
+        // Within the revision check interval the cached info is used
+        assertEquals("test2", getAssignee(dynamicBpmnService.getProcessDefinitionInfo(processDefinitionId)));
+
+        // Once the version stamp is polled again, the new revision is picked up
+        processDefinitionInfoCache.setRevisionCheckInterval(60 * 60 * 1000L);
+        assertEquals("test3", getAssignee(dynamicBpmnService.getProcessDefinitionInfo(processDefinitionId)));
+
+        for (Task task : taskService.createTaskQuery().list()) {
+            taskService.complete(task.getId());
+        }
+    }
+
+    protected String getAssignee(ObjectNode infoNode) {
+        return dynamicBpmnService.getBpmnElementProperties("task1", infoNode).get("userTaskAssignee").asText();
+    }
+
+}
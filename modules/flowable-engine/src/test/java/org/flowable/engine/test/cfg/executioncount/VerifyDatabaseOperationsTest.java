@@ -42,6 +42,7 @@ public class VerifyDatabaseOperationsTest extends PluggableFlowableTestCase {
     protected boolean oldExecutionRelationshipCountValue;
     protected boolean oldTaskRelationshipCountValue;
     protected boolean oldenableProcessDefinitionInfoCacheValue;
+    protected boolean oldExecutionRelatedEntityPrefetchingValue;
     protected CommandInterceptor oldFirstCommandInterceptor;
     protected DbSqlSessionFactory oldDbSqlSessionFactory;
     protected HistoryLevel oldHistoryLevel;
@@ -55,6 +56,7 @@ public class VerifyDatabaseOperationsTest extends PluggableFlowableTestCase {
         this.oldExecutionRelationshipCountValue = processEngineConfiguration.getPerformanceSettings().isEnableExecutionRelationshipCounts();
         this.oldTaskRelationshipCountValue = processEngineConfiguration.getPerformanceSettings().isEnableTaskRelationshipCounts();
         this.oldenableProcessDefinitionInfoCacheValue = processEngineConfiguration.isEnableProcessDefinitionInfoCache();
+        this.oldExecutionRelatedEntityPrefetchingValue = processEngineConfiguration.getPerformanceSettings().isEnableExecutionRelatedEntityPrefetching();
         oldHistoryLevel = ((AbstractHistoryManager) processEngineConfiguration.getHistoryManager()).getHistoryLevel();
 
         processEngineConfiguration.getPerformanceSettings().setEnableEagerExecutionTreeFetching(true);
@@ -94,6 +96,7 @@ public class VerifyDatabaseOperationsTest extends PluggableFlowableTestCase {
         processEngineConfiguration.getPerformanceSettings().setEnableExecutionRelationshipCounts(oldExecutionRelationshipCountValue);
         processEngineConfiguration.getPerformanceSettings().setEnableTaskRelationshipCounts(oldTaskRelationshipCountValue);
         processEngineConfiguration.setEnableProcessDefinitionInfoCache(oldenableProcessDefinitionInfoCacheValue);
+        processEngineConfiguration.getPerformanceSettings().setEnableExecutionRelatedEntityPrefetching(oldExecutionRelatedEntityPrefetchingValue);
         ((AbstractHistoryManager) processEngineConfiguration.getHistoryManager()).setHistoryLevel(oldHistoryLevel);
 
         ((CommandExecutorImpl) processEngineConfiguration.getCommandExecutor()).setFirst(oldFirstCommandInterceptor);
@@ -264,7 +267,7 @@ public class VerifyDatabaseOperationsTest extends PluggableFlowableTestCase {
                     "selectById org.flowable.engine.impl.persistence.entity.HistoricProcessInstanceEntityImpl", 1L,
                     "selectById org.flowable.engine.impl.persistence.entity.HistoricTaskInstanceEntityImpl", 1L,
                     "selectById org.flowable.engine.impl.persistence.entity.TaskEntityImpl", 1L,
-                    "selectUnfinishedHistoricActivityInstanceExecutionIdAndActivityId", 1L,
+                    "selectById org.flowable.engine.impl.persistence.entity.HistoricActivityInstanceEntityImpl", 1L,
                     "selectTasksByParentTaskId", 1L,
                     "selectExecutionsWithSameRootProcessInstanceId", 1L,
                     "selectTasksByExecutionId", 1L);
@@ -280,6 +283,84 @@ public class VerifyDatabaseOperationsTest extends PluggableFlowableTestCase {
         }
     }
 
+    public void testOneTaskProcessWithRelatedEntityPrefetching() {
+        if (!processEngineConfiguration.isAsyncHistoryEnabled()) {
+            processEngineConfiguration.getPerformanceSettings().setEnableExecutionRelatedEntityPrefetching(true);
+
+            deployStartProcessInstanceAndProfile("process-usertask-01.bpmn20.xml", "process-usertask-01", false);
+            Task task = taskService.createTaskQuery().singleResult();
+            taskService.complete(task.getId());
+            stopProfiling();
+
+            assertExecutedCommands("StartProcessInstanceCmd", "org.flowable.engine.impl.TaskQueryImpl", "CompleteTaskCmd");
+
+            // The per execution lookups are answered from the entities fetched per process instance
+            CommandStats stats = getStats("CompleteTaskCmd");
+            Assert.assertNull(stats.getDbSelects().get("selectTasksByExecutionId"));
+            Assert.assertEquals(Long.valueOf(1L), stats.getDbSelects().get("selectTasksByProcessInstanceId"));
+            Assert.assertEquals(Long.valueOf(1L), stats.getDbSelects().get("selectVariablesByProcessInstanceId"));
+            Assert.assertEquals(Long.valueOf(1L), stats.getDbSelects().get("selectEventSubscriptionsByProcessInstance"));
+
+            assertDatabaseDeletes("CompleteTaskCmd", "TaskEntityImpl", 1L, "ExecutionEntityImpl", 2L);
+
+            Assert.assertEquals(0, runtimeService.createProcessInstanceQuery().count());
+            Assert.assertEquals(1, historyService.createHistoricProcessInstanceQuery().finished().count());
+        }
+    }
+
+    public void testUserTaskAndServiceTaskWithRelatedEntityPrefetching() {
+        if (!processEngineConfiguration.isAsyncHistoryEnabled()) {
+            deploy("process-usertask-servicetask-01.bpmn20.xml");
+
+            // Baseline without prefetching
+            processEngineConfiguration.getPerformanceSettings().setEnableExecutionRelatedEntityPrefetching(false);
+            String baselineProcessInstanceId = startAndCompleteFirstTask();
+            CommandStats baselineStats = getStats("CompleteTaskCmd");
+            FlowableProfiler.getInstance().reset();
+
+            processEngineConfiguration.getPerformanceSettings().setEnableExecutionRelatedEntityPrefetching(true);
+            String processInstanceId = startAndCompleteFirstTask();
+            CommandStats stats = getStats("CompleteTaskCmd");
+
+            // The per execution lookups are answered from the entities fetched per process instance
+            Assert.assertNotNull(baselineStats.getDbSelects().get("selectTasksByExecutionId"));
+            Assert.assertNull(stats.getDbSelects().get("selectTasksByExecutionId"));
+            Assert.assertEquals(Long.valueOf(1L), stats.getDbSelects().get("selectVariablesByProcessInstanceId"));
+
+            // Both runs end in the same state: the completion and service task variables are added to the process instance, the task
+            // local variable of the completed task never was an execution variable
+            Map<String, Object> baselineVariables = runtimeService.getVariables(baselineProcessInstanceId);
+            Map<String, Object> variables = runtimeService.getVariables(processInstanceId);
+            Assert.assertEquals(baselineVariables, variables);
+            Assert.assertEquals(9, variables.size());
+            Assert.assertEquals(Boolean.FALSE, variables.get("taskLocalVisible"));
+            Assert.assertFalse(variables.containsKey("taskLocal"));
+
+            Task baselineTask = taskService.createTaskQuery().processInstanceId(baselineProcessInstanceId).singleResult();
+            Task task = taskService.createTaskQuery().processInstanceId(processInstanceId).singleResult();
+            Assert.assertEquals("secondTask", baselineTask.getTaskDefinitionKey());
+            Assert.assertEquals(baselineTask.getTaskDefinitionKey(), task.getTaskDefinitionKey());
+            Assert.assertEquals(taskService.getVariables(baselineTask.getId()), taskService.getVariables(task.getId()));
+            Assert.assertEquals(historyService.createHistoricVariableInstanceQuery().processInstanceId(baselineProcessInstanceId).count(),
+                    historyService.createHistoricVariableInstanceQuery().processInstanceId(processInstanceId).count());
+
+            taskService.complete(baselineTask.getId());
+            taskService.complete(task.getId());
+            Assert.assertEquals(0, runtimeService.createProcessInstanceQuery().count());
+            Assert.assertEquals(2, historyService.createHistoricProcessInstanceQuery().finished().count());
+        }
+    }
+
+    protected String startAndCompleteFirstTask() {
+        FlowableProfiler.getInstance().startProfileSession("Profiling session");
+        String processInstanceId = runtimeService.startProcessInstanceByKey("process-usertask-servicetask-01", createVariables(3, "start")).getId();
+        Task task = taskService.createTaskQuery().processInstanceId(processInstanceId).singleResult();
+        taskService.setVariableLocal(task.getId(), "taskLocal", "value");
+        taskService.complete(task.getId(), createVariables(1, "complete"));
+        stopProfiling();
+        return processInstanceId;
+    }
+
     public void testRemoveTaskVariables() {
         if (!processEngineConfiguration.isAsyncHistoryEnabled()) {
             // TODO: move to separate class
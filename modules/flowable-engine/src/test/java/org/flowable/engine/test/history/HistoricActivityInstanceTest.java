@@ -21,6 +21,8 @@ import org.flowable.engine.history.HistoricActivityInstance;
 import org.flowable.engine.history.HistoricActivityInstanceQuery;
 import org.flowable.engine.history.HistoricProcessInstance;
 import org.flowable.engine.impl.history.HistoryLevel;
+import org.flowable.engine.impl.interceptor.Command;
+import org.flowable.engine.impl.interceptor.CommandContext;
 import org.flowable.engine.impl.test.HistoryTestHelper;
 import org.flowable.engine.impl.test.PluggableFlowableTestCase;
 import org.flowable.engine.runtime.Execution;
@@ -51,6 +53,32 @@ public class HistoricActivityInstanceTest extends PluggableFlowableTestCase {
         assertTrue(historicActivityInstance.getDurationInMillis() >= 0);
     }
 
+    @Deployment(resources = "org/flowable/engine/test/history/HistoricActivityInstanceTest.testHistoricActivityInstanceReceive.bpmn20.xml")
+    public void testActivityInstanceIdStoredOnExecution() {
+        if (HistoryTestHelper.isHistoryLevelAtLeast(HistoryLevel.ACTIVITY, processEngineConfiguration) && !processEngineConfiguration.isAsyncHistoryEnabled()) {
+            ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("receiveProcess");
+            final Execution execution = runtimeService.createExecutionQuery().onlyChildExecutions().processInstanceId(processInstance.getId()).singleResult();
+
+            String activityInstanceId = managementService.executeCommand(new Command<String>() {
+
+                @Override
+                public String execute(CommandContext commandContext) {
+                    return commandContext.getExecutionEntityManager().findById(execution.getId()).getActivityInstanceId();
+                }
+            });
+
+            HistoricActivityInstance historicActivityInstance = historyService.createHistoricActivityInstanceQuery().activityId("receive").singleResult();
+            assertEquals(historicActivityInstance.getId(), activityInstanceId);
+            assertNull(historicActivityInstance.getEndTime());
+
+            runtimeService.trigger(execution.getId());
+
+            historicActivityInstance = historyService.createHistoricActivityInstanceQuery().activityId("receive").singleResult();
+            assertNotNull(historicActivityInstance.getEndTime());
+            assertTrue(historicActivityInstance.getDurationInMillis() >= 0);
+        }
+    }
+
     @Deployment
     public void testHistoricActivityInstanceReceive() {
         ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("receiveProcess");
@@ -20,12 +20,15 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
+import org.flowable.engine.common.api.FlowableOptimisticLockingException;
 import org.flowable.engine.common.impl.util.CollectionUtil;
 import org.flowable.engine.history.HistoricActivityInstance;
 import org.flowable.engine.history.HistoricDetail;
 import org.flowable.engine.history.HistoricVariableInstance;
 import org.flowable.engine.history.HistoricVariableUpdate;
 import org.flowable.engine.impl.history.HistoryLevel;
+import org.flowable.engine.impl.interceptor.Command;
+import org.flowable.engine.impl.interceptor.CommandContext;
 import org.flowable.engine.impl.persistence.entity.HistoricVariableInstanceEntity;
 import org.flowable.engine.impl.test.HistoryTestHelper;
 import org.flowable.engine.impl.test.PluggableFlowableTestCase;
@@ -673,6 +676,72 @@ public class HistoricVariableInstanceTest extends PluggableFlowableTestCase {
         }
     }
 
+    @Deployment(resources = { "org/flowable/engine/test/history/oneTaskProcess.bpmn20.xml" })
+    public void testSharedVariableByteArrays() {
+        if (HistoryTestHelper.isHistoryLevelAtLeast(HistoryLevel.FULL, processEngineConfiguration) && !processEngineConfiguration.isAsyncHistoryEnabled()) {
+            boolean originalValue = processEngineConfiguration.getPerformanceSettings().isEnableVariableByteArraySharing();
+            processEngineConfiguration.setEnableVariableByteArraySharing(true);
+            try {
+                String byteArrayTable = processEngineConfiguration.getDatabaseTablePrefix() + "ACT_GE_BYTEARRAY";
+                long byteArrayCount = managementService.getTableCount().get(byteArrayTable);
+
+                // The runtime variable, the historic variable and the historic detail share one byte array
+                ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("oneTaskProcess",
+                        CollectionUtil.singletonMap("bytesVar", (Object) new byte[] { 1, 2, 3 }));
+                assertEquals(byteArrayCount + 1, managementService.getTableCount().get(byteArrayTable).longValue());
+
+                // An unchanged value is not written again
+                runtimeService.setVariable(processInstance.getId(), "bytesVar", new byte[] { 1, 2, 3 });
+                assertEquals(byteArrayCount + 1, managementService.getTableCount().get(byteArrayTable).longValue());
+
+                // A changed value gets a new byte array, the old one is kept for the historic details
+                runtimeService.setVariable(processInstance.getId(), "bytesVar", new byte[] { 4, 5 });
+                assertEquals(byteArrayCount + 2, managementService.getTableCount().get(byteArrayTable).longValue());
+                assertTrue(Arrays.equals(new byte[] { 4, 5 }, (byte[]) runtimeService.getVariable(processInstance.getId(), "bytesVar")));
+                assertTrue(Arrays.equals(new byte[] { 4, 5 }, (byte[]) getHistoricVariable("bytesVar").getValue()));
+
+                List<HistoricDetail> historicDetails = historyService.createHistoricDetailQuery().processInstanceId(processInstance.getId()).variableUpdates().list();
+                assertEquals(3, historicDetails.size());
+                int oldValueCount = 0;
+                for (HistoricDetail historicDetail : historicDetails) {
+                    if (Arrays.equals(new byte[] { 1, 2, 3 }, (byte[]) ((HistoricVariableUpdate) historicDetail).getValue())) {
+                        oldValueCount++;
+                    } else {
+                        assertTrue(Arrays.equals(new byte[] { 4, 5 }, (byte[]) ((HistoricVariableUpdate) historicDetail).getValue()));
+                    }
+                }
+                assertEquals(2, oldValueCount);
+
+                // The byte arrays are still referenced by the history when the runtime variable is deleted
+                taskService.complete(taskService.createTaskQuery().processInstanceId(processInstance.getId()).singleResult().getId());
+                assertProcessEnded(processInstance.getId());
+                assertEquals(byteArrayCount + 2, managementService.getTableCount().get(byteArrayTable).longValue());
+                assertTrue(Arrays.equals(new byte[] { 4, 5 }, (byte[]) getHistoricVariable("bytesVar").getValue()));
+
+                // and are deleted together with the last variable referring to them
+                historyService.deleteHistoricProcessInstance(processInstance.getId());
+                assertEquals(byteArrayCount, managementService.getTableCount().get(byteArrayTable).longValue());
+
+            } finally {
+                processEngineConfiguration.setEnableVariableByteArraySharing(originalValue);
+            }
+        }
+    }
+
+    public void testSharedVariableByteArrayDeletedConcurrently() {
+        try {
+            managementService.executeCommand(new Command<Void>() {
+                public Void execute(CommandContext commandContext) {
+                    commandContext.getByteArrayEntityManager().addByteArrayReference("unknown");
+                    return null;
+                }
+            });
+            fail("Expected optimistic locking exception");
+        } catch (FlowableOptimisticLockingException e) {
+            assertTextPresent("unknown", e.getMessage());
+        }
+    }
+
     private HistoricVariableInstance getHistoricVariable(String variableName) {
         return historyService.createHistoricVariableInstanceQuery().variableName(variableName).singleResult();
     }
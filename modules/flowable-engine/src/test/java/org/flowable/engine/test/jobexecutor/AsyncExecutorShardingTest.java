@@ -0,0 +1,102 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.jobexecutor;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+
+import org.flowable.engine.impl.asyncexecutor.AcquiredJobEntities;
+import org.flowable.engine.impl.cmd.AcquireJobsCmd;
+import org.flowable.engine.impl.cmd.HeartbeatJobShardNodeCmd;
+import org.flowable.engine.impl.cmd.ReleaseJobShardNodeCmd;
+import org.flowable.engine.impl.persistence.entity.JobEntity;
+import org.flowable.engine.impl.persistence.entity.JobEntityManagerImpl;
+import org.flowable.engine.impl.persistence.entity.JobInfoEntity;
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.runtime.Job;
+import org.flowable.engine.test.Deployment;
+
+public class AsyncExecutorShardingTest extends PluggableFlowableTestCase {
+
+    @Deployment
+    public void testShardedJobAcquisition() {
+        int originalNumberOfShards = processEngineConfiguration.getAsyncExecutorNumberOfShards();
+        processEngineConfiguration.setAsyncExecutorNumberOfShards(4);
+        try {
+            for (int i = 0; i < 8; i++) {
+                runtimeService.startProcessInstanceByKey("shardedProcess");
+            }
+
+            // All jobs get the shard of their process instance
+            int jobsInEvenShards = 0;
+            List<Job> jobs = managementService.createJobQuery().list();
+            assertEquals(8, jobs.size());
+            for (Job job : jobs) {
+                Integer shard = ((JobEntity) job).getShard();
+                assertEquals(Integer.valueOf(JobEntityManagerImpl.getShard(job.getProcessInstanceId(), 4)), shard);
+                if (shard % 2 == 0) {
+                    jobsInEvenShards++;
+                }
+            }
+
+            // A single node owns all shards, a second node takes over half of them
+            Date startOfTestTime = new Date();
+            processEngineConfiguration.getClock().setCurrentTime(startOfTestTime);
+            assertEquals(Arrays.asList(0, 1, 2, 3), managementService.executeCommand(new HeartbeatJobShardNodeCmd("node-a", 4, 10000)));
+            assertEquals(Arrays.asList(1, 3), managementService.executeCommand(new HeartbeatJobShardNodeCmd("node-b", 4, 10000)));
+            List<Integer> shardsOfNodeA = managementService.executeCommand(new HeartbeatJobShardNodeCmd("node-a", 4, 10000));
+            assertEquals(Arrays.asList(0, 2), shardsOfNodeA);
+            assertEquals(2L, managementService.getTableCount().get("ACT_RU_JOB_SHARD_NODE").longValue());
+
+            // Acquisition only returns the jobs of the owned shards
+            int acquiredJobCount = 0;
+            AcquiredJobEntities acquiredJobs = null;
+            do {
+                acquiredJobs = managementService.executeCommand(new AcquireJobsCmd(processEngineConfiguration.getAsyncExecutor(), Integer.MAX_VALUE,
+                        processEngineConfiguration.getJobEntityManager(), shardsOfNodeA));
+                for (JobInfoEntity job : acquiredJobs.getJobs()) {
+                    assertTrue(shardsOfNodeA.contains(((JobEntity) job).getShard()));
+                    acquiredJobCount++;
+                }
+            } while (acquiredJobs.size() > 0);
+            assertEquals(jobsInEvenShards, acquiredJobCount);
+
+            // When node-a stops sending heartbeats, node-b takes over its shards
+            processEngineConfiguration.getClock().setCurrentTime(new Date(startOfTestTime.getTime() + 20000));
+            assertEquals(Arrays.asList(0, 1, 2, 3), managementService.executeCommand(new HeartbeatJobShardNodeCmd("node-b", 4, 10000)));
+            assertEquals(1L, managementService.getTableCount().get("ACT_RU_JOB_SHARD_NODE").longValue());
+
+            managementService.executeCommand(new ReleaseJobShardNodeCmd("node-b"));
+            assertEquals(0L, managementService.getTableCount().get("ACT_RU_JOB_SHARD_NODE").longValue());
+
+        } finally {
+            processEngineConfiguration.setAsyncExecutorNumberOfShards(originalNumberOfShards);
+        }
+    }
+
+    @Deployment(resources = "org/flowable/engine/test/jobexecutor/AsyncExecutorShardingTest.testShardedJobAcquisition.bpmn20.xml")
+    public void testJobsWithoutShardAreAcquiredByAllNodes() {
+        // Without sharding, jobs get no shard and can be acquired by a node owning no shards
+        runtimeService.startProcessInstanceByKey("shardedProcess");
+        Job job = managementService.createJobQuery().singleResult();
+        assertNull(((JobEntity) job).getShard());
+
+        AcquiredJobEntities acquiredJobs = managementService.executeCommand(new AcquireJobsCmd(processEngineConfiguration.getAsyncExecutor(), Integer.MAX_VALUE,
+                processEngineConfiguration.getJobEntityManager(), Collections.<Integer>emptyList()));
+        assertEquals(1, acquiredJobs.size());
+        assertEquals(job.getId(), acquiredJobs.getJobs().iterator().next().getId());
+    }
+
+}
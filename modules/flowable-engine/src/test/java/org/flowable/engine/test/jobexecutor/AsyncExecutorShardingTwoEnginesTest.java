@@ -0,0 +1,136 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.jobexecutor;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.flowable.engine.ProcessEngine;
+import org.flowable.engine.impl.asyncexecutor.DefaultAsyncJobExecutor;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.cfg.StandaloneInMemProcessEngineConfiguration;
+import org.flowable.engine.impl.cmd.HeartbeatJobShardNodeCmd;
+import org.flowable.engine.impl.interceptor.CommandExecutor;
+import org.flowable.engine.impl.persistence.entity.JobEntity;
+import org.flowable.engine.impl.test.JobTestHelper;
+import org.flowable.engine.runtime.JobInfo;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Runs two engines with sharded job acquisition against the same database and verifies that they split the jobs by shard.
+ */
+public class AsyncExecutorShardingTwoEnginesTest {
+
+    private static final int NUMBER_OF_SHARDS = 2;
+
+    private static final int NUMBER_OF_PROCESS_INSTANCES = 20;
+
+    private static final int NODE_EXPIRATION_TIME = 60000;
+
+    @Test
+    public void testJobsAreSplitBetweenTwoEngines() throws Exception {
+        ProcessEngine firstProcessEngine = null;
+        ProcessEngine secondProcessEngine = null;
+
+        try {
+            firstProcessEngine = createProcessEngine("node-1");
+            secondProcessEngine = createProcessEngine("node-2");
+            firstProcessEngine.getRepositoryService().createDeployment()
+                    .addClasspathResource("org/flowable/engine/test/jobexecutor/AsyncExecutorShardingTest.testShardedJobAcquisition.bpmn20.xml")
+                    .deploy();
+
+            // Register both nodes up front, so neither of them owns all shards when its executor starts
+            CommandExecutor commandExecutor = ((ProcessEngineConfigurationImpl) firstProcessEngine.getProcessEngineConfiguration()).getCommandExecutor();
+            commandExecutor.execute(new HeartbeatJobShardNodeCmd("node-1", NUMBER_OF_SHARDS, NODE_EXPIRATION_TIME));
+            commandExecutor.execute(new HeartbeatJobShardNodeCmd("node-2", NUMBER_OF_SHARDS, NODE_EXPIRATION_TIME));
+
+            // The executors are not running yet, so the jobs are not handed to the executor of the creating engine but
+            // need to be acquired by shard
+            for (int i = 0; i < NUMBER_OF_PROCESS_INSTANCES; i++) {
+                firstProcessEngine.getRuntimeService().startProcessInstanceByKey("shardedProcess");
+            }
+            Assert.assertEquals(NUMBER_OF_PROCESS_INSTANCES, firstProcessEngine.getManagementService().createJobQuery().count());
+
+            secondProcessEngine.getProcessEngineConfiguration().getAsyncExecutor().start();
+            JobTestHelper.waitForJobExecutorToProcessAllJobs(firstProcessEngine.getProcessEngineConfiguration(), firstProcessEngine.getManagementService(), 20000L, 200L);
+            secondProcessEngine.getProcessEngineConfiguration().getAsyncExecutor().shutdown();
+            Assert.assertEquals(NUMBER_OF_PROCESS_INSTANCES, firstProcessEngine.getTaskService().createTaskQuery().count());
+
+            // Both engines executed jobs, each only of its own shards
+            ShardRecordingAsyncExecutor firstAsyncExecutor = (ShardRecordingAsyncExecutor) firstProcessEngine.getProcessEngineConfiguration().getAsyncExecutor();
+            ShardRecordingAsyncExecutor secondAsyncExecutor = (ShardRecordingAsyncExecutor) secondProcessEngine.getProcessEngineConfiguration().getAsyncExecutor();
+            Assert.assertTrue(firstAsyncExecutor.getCounter().get() > 0);
+            Assert.assertTrue(secondAsyncExecutor.getCounter().get() > 0);
+            Assert.assertEquals(NUMBER_OF_PROCESS_INSTANCES, firstAsyncExecutor.getCounter().get() + secondAsyncExecutor.getCounter().get());
+            Assert.assertTrue(Collections.disjoint(firstAsyncExecutor.getShards(), secondAsyncExecutor.getShards()));
+
+        } finally {
+            cleanup(firstProcessEngine);
+            cleanup(secondProcessEngine);
+        }
+    }
+
+    private ProcessEngine createProcessEngine(String lockOwner) {
+        ProcessEngineConfigurationImpl processEngineConfiguration = new StandaloneInMemProcessEngineConfiguration();
+        processEngineConfiguration.setJdbcUrl("jdbc:h2:mem:activiti-AsyncExecutorShardingTest;DB_CLOSE_DELAY=1000");
+        processEngineConfiguration.setDatabaseSchemaUpdate("true");
+        processEngineConfiguration.setAsyncExecutorNumberOfShards(NUMBER_OF_SHARDS);
+
+        ShardRecordingAsyncExecutor asyncExecutor = new ShardRecordingAsyncExecutor();
+        asyncExecutor.setLockOwner(lockOwner);
+        asyncExecutor.setNumberOfShards(NUMBER_OF_SHARDS);
+        asyncExecutor.setShardHeartbeatIntervalInMillis(100);
+        asyncExecutor.setShardNodeExpirationTimeInMillis(NODE_EXPIRATION_TIME);
+        asyncExecutor.setDefaultAsyncJobAcquireWaitTimeInMillis(50);
+        asyncExecutor.setDefaultTimerJobAcquireWaitTimeInMillis(50);
+        processEngineConfiguration.setAsyncExecutor(asyncExecutor);
+
+        return processEngineConfiguration.buildProcessEngine();
+    }
+
+    private void cleanup(ProcessEngine processEngine) {
+        if (processEngine == null) {
+            return;
+        }
+        for (org.flowable.engine.repository.Deployment deployment : processEngine.getRepositoryService().createDeploymentQuery().list()) {
+            processEngine.getRepositoryService().deleteDeployment(deployment.getId(), true);
+        }
+        processEngine.close();
+    }
+
+    static class ShardRecordingAsyncExecutor extends DefaultAsyncJobExecutor {
+
+        private AtomicInteger counter = new AtomicInteger(0);
+
+        private Set<Integer> shards = Collections.synchronizedSet(new HashSet<Integer>());
+
+        @Override
+        public boolean executeAsyncJob(JobInfo job) {
+            counter.incrementAndGet();
+            shards.add(((JobEntity) job).getShard());
+            return super.executeAsyncJob(job);
+        }
+
+        public AtomicInteger getCounter() {
+            return counter;
+        }
+
+        public Set<Integer> getShards() {
+            return shards;
+        }
+    }
+
+}
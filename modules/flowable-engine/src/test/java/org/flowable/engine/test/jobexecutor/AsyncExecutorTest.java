@@ -12,7 +12,9 @@
  */
 package org.flowable.engine.test.jobexecutor;
 
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.List;
 import java.util.concurrent.Callable;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -22,6 +24,8 @@ import org.flowable.engine.impl.asyncexecutor.AsyncExecutor;
 import org.flowable.engine.impl.asyncexecutor.DefaultAsyncJobExecutor;
 import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.flowable.engine.impl.cfg.StandaloneInMemProcessEngineConfiguration;
+import org.flowable.engine.impl.interceptor.Command;
+import org.flowable.engine.impl.interceptor.CommandContext;
 import org.flowable.engine.impl.test.JobTestHelper;
 import org.flowable.engine.runtime.JobInfo;
 import org.flowable.engine.runtime.ProcessInstance;
@@ -212,6 +216,51 @@ public class AsyncExecutorTest {
         }
     }
 
+    @Test
+    public void testExclusiveJobLanes() {
+
+        ProcessEngine processEngine = null;
+
+        try {
+
+            // Deploy
+            processEngine = createProcessEngine(true, null, 2);
+            setClockToCurrentTime(processEngine);
+            deploy(processEngine, "AsyncExecutorTest.testExclusiveJobLanes.bpmn20.xml");
+
+            // Start process instances with four parallel exclusive jobs each. Wait for all jobs to be done
+            List<String> processInstanceIds = new ArrayList<>();
+            for (int i = 0; i < 3; i++) {
+                processInstanceIds.add(processEngine.getRuntimeService().startProcessInstanceByKey("exclusiveJobLanes").getId());
+            }
+            waitForAllJobsBeingExecuted(processEngine);
+
+            // Verify if all is as expected: every job ran once, without optimistic locking failures, and no process instance lock remains
+            Assert.assertEquals(0, processEngine.getManagementService().createJobQuery().count());
+            Assert.assertEquals(0, processEngine.getManagementService().createTimerJobQuery().count());
+            Assert.assertEquals(3, processEngine.getTaskService().createTaskQuery().taskName("Task after join").count());
+            Assert.assertEquals(12, getAsyncExecutorJobCount(processEngine));
+
+            for (final String processInstanceId : processInstanceIds) {
+                Assert.assertEquals(4, processEngine.getRuntimeService().getVariables(processInstanceId).size());
+                Date lockTime = processEngine.getManagementService().executeCommand(new Command<Date>() {
+                    @Override
+                    public Date execute(CommandContext commandContext) {
+                        return commandContext.getExecutionEntityManager().findById(processInstanceId).getLockTime();
+                    }
+                });
+                Assert.assertNull(lockTime);
+            }
+
+        } finally {
+
+            // Clean up
+            cleanup(processEngine);
+
+        }
+
+    }
+
     // Helpers ////////////////////////////////////////////////////////
 
     private ProcessEngine createProcessEngine(boolean enableAsyncExecutor) {
@@ -219,6 +268,10 @@ public class AsyncExecutorTest {
     }
 
     private ProcessEngine createProcessEngine(boolean enableAsyncExecutor, Date time) {
+        return createProcessEngine(enableAsyncExecutor, time, 0);
+    }
+
+    private ProcessEngine createProcessEngine(boolean enableAsyncExecutor, Date time, int exclusiveJobLanes) {
         ProcessEngineConfigurationImpl processEngineConfiguration = new StandaloneInMemProcessEngineConfiguration();
         processEngineConfiguration.setJdbcUrl("jdbc:h2:mem:activiti-AsyncExecutorTest;DB_CLOSE_DELAY=1000");
         processEngineConfiguration.setDatabaseSchemaUpdate("true");
@@ -229,6 +282,7 @@ public class AsyncExecutorTest {
             CountingAsyncExecutor countingAsyncExecutor = new CountingAsyncExecutor();
             countingAsyncExecutor.setDefaultAsyncJobAcquireWaitTimeInMillis(50); // To avoid waiting too long when a retry happens
             countingAsyncExecutor.setDefaultTimerJobAcquireWaitTimeInMillis(50);
+            countingAsyncExecutor.setExclusiveJobLanes(exclusiveJobLanes);
             processEngineConfiguration.setAsyncExecutor(countingAsyncExecutor);
         }
 
@@ -0,0 +1,70 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.standalone.metrics;
+
+import java.util.Collections;
+import java.util.Map;
+
+import org.flowable.engine.impl.agenda.ContinueProcessOperation;
+import org.flowable.engine.impl.cmd.CompleteTaskCmd;
+import org.flowable.engine.impl.cmd.StartProcessInstanceCmd;
+import org.flowable.engine.impl.metrics.DefaultMetricsRegistry;
+import org.flowable.engine.impl.metrics.MetricSnapshot;
+import org.flowable.engine.impl.metrics.MetricsRegistry;
+import org.flowable.engine.impl.test.ResourceFlowableTestCase;
+import org.flowable.engine.task.Task;
+
+public class MetricsTest extends ResourceFlowableTestCase {
+
+    public MetricsTest() {
+        super("org/flowable/standalone/metrics/metrics.flowable.cfg.xml");
+    }
+
+    public void testEngineMetrics() {
+        MetricsRegistry metricsRegistry = processEngineConfiguration.getMetricsRegistry();
+        assertTrue(metricsRegistry instanceof DefaultMetricsRegistry);
+
+        deployOneTaskTestProcess();
+        metricsRegistry.reset();
+
+        runtimeService.startProcessInstanceByKey("oneTaskProcess", Collections.<String, Object>singletonMap("startVar", "start"));
+        Task task = taskService.createTaskQuery().singleResult();
+        taskService.complete(task.getId(), Collections.<String, Object>singletonMap("completeVar", "complete"));
+
+        Map<String, Map<String, MetricSnapshot>> metrics = metricsRegistry.getMetrics();
+
+        Map<String, MetricSnapshot> commandDurations = metrics.get(MetricsRegistry.COMMAND_DURATION);
+        assertEquals(1, commandDurations.get(StartProcessInstanceCmd.class.getName()).getCount());
+        assertEquals(1, commandDurations.get(CompleteTaskCmd.class.getName()).getCount());
+
+        assertTrue(metrics.get(MetricsRegistry.COMMAND_ENTITY_CACHE_SIZE).get(StartProcessInstanceCmd.class.getName()).getMax() > 0);
+        assertTrue(metrics.get(MetricsRegistry.COMMAND_LOADED_VARIABLES).get(CompleteTaskCmd.class.getName()).getMax() > 0);
+        assertTrue(metrics.get(MetricsRegistry.AGENDA_OPERATIONS).get(ContinueProcessOperation.class.getName()).getTotal() > 0);
+
+        Map<String, MetricSnapshot> flushedEntities = metrics.get(MetricsRegistry.DB_FLUSH_ENTITIES);
+        assertTrue(flushedEntities.get("insert").getTotal() > 0);
+        assertTrue(flushedEntities.get("delete").getTotal() > 0);
+
+        boolean executionInserted = false;
+        for (String statement : metrics.get(MetricsRegistry.DB_STATEMENT_DURATION).keySet()) {
+            if (statement.endsWith("nsertExecution")) {
+                executionInserted = true;
+            }
+        }
+        assertTrue(executionInserted);
+
+        metricsRegistry.reset();
+        assertTrue(metricsRegistry.getMetrics().isEmpty());
+    }
+
+}
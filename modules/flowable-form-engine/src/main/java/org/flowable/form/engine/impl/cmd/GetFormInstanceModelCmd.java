@@ -26,7 +26,6 @@ import java.util.List;
 import java.util.Map;
 
 import org.apache.commons.lang3.StringUtils;
-import org.flowable.editor.form.converter.FormJsonConverter;
 import org.flowable.engine.common.api.FlowableException;
 import org.flowable.engine.common.api.FlowableObjectNotFoundException;
 import org.flowable.form.api.FormInstance;
@@ -99,7 +98,7 @@ public class GetFormInstanceModelCmd implements Command<FormInstanceModel>, Seri
         FormDefinitionCacheEntry formDefinitionCacheEntry = resolveFormDefinition(commandContext);
         FormInstance formInstance = resolveFormInstance(commandContext);
         FormInstanceModel formInstanceModel = resolveFormInstanceModel(formDefinitionCacheEntry, formInstance, commandContext);
-        fillFormFieldValues(formInstance, formInstanceModel, commandContext);
+        fillFormFieldValues(formDefinitionCacheEntry, formInstance, formInstanceModel, commandContext);
         return formInstanceModel;
     }
 
@@ -119,7 +118,7 @@ public class GetFormInstanceModelCmd implements Command<FormInstanceModel>, Seri
         }
     }
 
-    protected void fillFormFieldValues(FormInstance formInstance, FormInstanceModel formInstanceModel, CommandContext commandContext) {
+    protected void fillFormFieldValues(FormDefinitionCacheEntry formCacheEntry, FormInstance formInstance, FormInstanceModel formInstanceModel, CommandContext commandContext) {
 
         FormEngineConfiguration formEngineConfiguration = commandContext.getFormEngineConfiguration();
         List<FormField> allFields = formInstanceModel.listAllFields();
@@ -134,7 +133,7 @@ public class GetFormInstanceModelCmd implements Command<FormInstanceModel>, Seri
             for (FormField field : allFields) {
                 if (field instanceof ExpressionFormField) {
                     ExpressionFormField expressionField = (ExpressionFormField) field;
-                    FormExpression formExpression = formEngineConfiguration.getExpressionManager().createExpression(expressionField.getExpression());
+                    FormExpression formExpression = formCacheEntry.getFieldExpression(expressionField.getExpression(), formEngineConfiguration.getExpressionManager());
                     try {
                         field.setValue(formExpression.getValue(variables));
                     } catch (Exception e) {
@@ -324,9 +323,7 @@ public class GetFormInstanceModelCmd implements Command<FormInstanceModel>, Seri
             FormInstance formInstance, CommandContext commandContext) {
 
         FormDefinitionEntity formDefinitionEntity = formCacheEntry.getFormDefinitionEntity();
-        FormJsonConverter formJsonConverter = commandContext.getFormEngineConfiguration().getFormJsonConverter();
-        FormModel formModel = formJsonConverter.convertToFormModel(formCacheEntry.getFormDefinitionJson(),
-                formDefinitionEntity.getId(), formDefinitionEntity.getVersion());
+        FormModel formModel = formCacheEntry.createFormModel();
         FormInstanceModel formInstanceModel = new FormInstanceModel(formModel);
         formInstanceModel.setId(formDefinitionEntity.getId());
         formInstanceModel.setName(formDefinitionEntity.getName());
@@ -14,7 +14,6 @@ package org.flowable.form.engine.impl.cmd;
 
 import java.io.Serializable;
 
-import org.flowable.editor.form.converter.FormJsonConverter;
 import org.flowable.engine.common.api.FlowableObjectNotFoundException;
 import org.flowable.form.engine.FormEngineConfiguration;
 import org.flowable.form.engine.impl.interceptor.Command;
@@ -98,8 +97,6 @@ public class GetFormModelCmd implements Command<FormModel>, Serializable {
         }
 
         FormDefinitionCacheEntry formDefinitionCacheEntry = deploymentManager.resolveFormDefinition(formDefinitionEntity);
-        FormJsonConverter formJsonConverter = commandContext.getFormEngineConfiguration().getFormJsonConverter();
-        return formJsonConverter.convertToFormModel(formDefinitionCacheEntry.getFormDefinitionJson(),
-                formDefinitionEntity.getId(), formDefinitionEntity.getVersion());
+        return formDefinitionCacheEntry.createFormModel();
     }
 }
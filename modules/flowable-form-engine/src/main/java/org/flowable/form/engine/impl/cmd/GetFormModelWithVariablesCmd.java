@@ -24,7 +24,6 @@ import java.util.List;
 import java.util.Map;
 
 import org.apache.commons.lang3.StringUtils;
-import org.flowable.editor.form.converter.FormJsonConverter;
 import org.flowable.engine.common.api.FlowableException;
 import org.flowable.engine.common.api.FlowableObjectNotFoundException;
 import org.flowable.form.api.FormInstance;
@@ -87,7 +86,7 @@ public class GetFormModelWithVariablesCmd implements Command<FormModel>, Seriali
         FormDefinitionCacheEntry formCacheEntry = resolveFormDefinition(commandContext);
         FormInstance formInstance = resolveFormInstance(formCacheEntry, commandContext);
         FormModel formModel = resolveFormModel(formCacheEntry, commandContext);
-        fillFormFieldValues(formInstance, formModel, commandContext);
+        fillFormFieldValues(formCacheEntry, formInstance, formModel, commandContext);
         return formModel;
     }
 
@@ -102,7 +101,7 @@ public class GetFormModelWithVariablesCmd implements Command<FormModel>, Seriali
         }
     }
 
-    protected void fillFormFieldValues(FormInstance formInstance, FormModel formDefinition, CommandContext commandContext) {
+    protected void fillFormFieldValues(FormDefinitionCacheEntry formCacheEntry, FormInstance formInstance, FormModel formDefinition, CommandContext commandContext) {
 
         FormEngineConfiguration formEngineConfiguration = commandContext.getFormEngineConfiguration();
         List<FormField> allFields = formDefinition.listAllFields();
@@ -117,7 +116,7 @@ public class GetFormModelWithVariablesCmd implements Command<FormModel>, Seriali
             for (FormField field : allFields) {
                 if (field instanceof ExpressionFormField) {
                     ExpressionFormField expressionField = (ExpressionFormField) field;
-                    FormExpression formExpression = formEngineConfiguration.getExpressionManager().createExpression(expressionField.getExpression());
+                    FormExpression formExpression = formCacheEntry.getFieldExpression(expressionField.getExpression(), formEngineConfiguration.getExpressionManager());
                     try {
                         field.setValue(formExpression.getValue(variables));
                     } catch (Exception e) {
@@ -274,8 +273,7 @@ public class GetFormModelWithVariablesCmd implements Command<FormModel>, Seriali
 
     protected FormModel resolveFormModel(FormDefinitionCacheEntry formCacheEntry, CommandContext commandContext) {
         FormDefinitionEntity formEntity = formCacheEntry.getFormDefinitionEntity();
-        FormJsonConverter formJsonConverter = commandContext.getFormEngineConfiguration().getFormJsonConverter();
-        FormModel formDefinition = formJsonConverter.convertToFormModel(formCacheEntry.getFormDefinitionJson(), formEntity.getId(), formEntity.getVersion());
+        FormModel formDefinition = formCacheEntry.createFormModel();
         formDefinition.setId(formEntity.getId());
         formDefinition.setName(formEntity.getName());
         formDefinition.setKey(formEntity.getKey());
@@ -39,7 +39,8 @@ public class CachingAndArtifactsManager {
         for (FormDefinitionEntity formDefinition : parsedDeployment.getAllFormDefinitions()) {
             FormModel formModel = parsedDeployment.getFormModelForFormDefinition(formDefinition);
             formModel.setId(formDefinition.getId());
-            FormDefinitionCacheEntry cacheEntry = new FormDefinitionCacheEntry(formDefinition, formJsonConverter.convertToJson(formModel));
+            String formDefinitionJson = formJsonConverter.convertToJson(formModel);
+            FormDefinitionCacheEntry cacheEntry = new FormDefinitionCacheEntry(formDefinition, formDefinitionJson, formEngineConfiguration.getFormJsonConverter());
             formDefinitionCache.add(formDefinition.getId(), cacheEntry);
 
             // Add to deployment for further usage
@@ -13,8 +13,14 @@
 package org.flowable.form.engine.impl.persistence.deploy;
 
 import java.io.Serializable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
+import org.flowable.editor.form.converter.FormJsonConverter;
+import org.flowable.form.engine.FormExpression;
+import org.flowable.form.engine.impl.el.ExpressionManager;
 import org.flowable.form.engine.impl.persistence.entity.FormDefinitionEntity;
+import org.flowable.form.model.FormModel;
 
 /**
  * @author Tijs Rademakers
@@ -26,9 +32,45 @@ public class FormDefinitionCacheEntry implements Serializable {
     protected FormDefinitionEntity formDefinitionEntity;
     protected String formDefinitionJson;
 
-    public FormDefinitionCacheEntry(FormDefinitionEntity formDefinitionEntity, String formDefinitionJson) {
+    /**
+     * The parsed form model, never handed out directly. Every request gets its own copy through {@link #createFormModel()}, so the
+     * values filled in for one request are never visible to another.
+     */
+    protected FormModel formModelTemplate;
+
+    /**
+     * The expressions of the expression fields, created on first use and shared between requests.
+     */
+    protected ConcurrentMap<String, FormExpression> fieldExpressions = new ConcurrentHashMap<String, FormExpression>();
+
+    public FormDefinitionCacheEntry(FormDefinitionEntity formDefinitionEntity, String formDefinitionJson, FormJsonConverter formJsonConverter) {
+        this(formDefinitionEntity, formDefinitionJson, formJsonConverter.convertToFormModel(formDefinitionJson,
+                formDefinitionEntity.getId(), formDefinitionEntity.getVersion()));
+    }
+
+    public FormDefinitionCacheEntry(FormDefinitionEntity formDefinitionEntity, String formDefinitionJson, FormModel formModelTemplate) {
         this.formDefinitionEntity = formDefinitionEntity;
         this.formDefinitionJson = formDefinitionJson;
+        this.formModelTemplate = formModelTemplate;
+    }
+
+    /**
+     * Returns a new copy of the parsed form model of this form definition.
+     */
+    public FormModel createFormModel() {
+        return formModelTemplate.copy();
+    }
+
+    /**
+     * Returns the expression for the given expression text, creating it when it's used for the first time.
+     */
+    public FormExpression getFieldExpression(String expressionText, ExpressionManager expressionManager) {
+        FormExpression formExpression = fieldExpressions.get(expressionText);
+        if (formExpression == null) {
+            formExpression = expressionManager.createExpression(expressionText);
+            fieldExpressions.putIfAbsent(expressionText, formExpression);
+        }
+        return formExpression;
     }
 
     public FormDefinitionEntity getFormDefinitionEntity() {
@@ -46,4 +88,12 @@ public class FormDefinitionCacheEntry implements Serializable {
     public void setFormDefinitionJson(String formDefinitionJson) {
         this.formDefinitionJson = formDefinitionJson;
     }
+
+    public FormModel getFormModelTemplate() {
+        return formModelTemplate;
+    }
+
+    public void setFormModelTemplate(FormModel formModelTemplate) {
+        this.formModelTemplate = formModelTemplate;
+    }
 }
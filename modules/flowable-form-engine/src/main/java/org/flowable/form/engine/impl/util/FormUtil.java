@@ -54,16 +54,14 @@ public class FormUtil {
         // This will check the cache in the findDeployedFormDefinitionById and resolveFormDefinition method
         FormDefinitionEntity formDefinitionEntity = deploymentManager.findDeployedFormDefinitionById(formDefinitionId);
         FormDefinitionCacheEntry cacheEntry = deploymentManager.resolveFormDefinition(formDefinitionEntity);
-        return formEngineConfiguration.getFormJsonConverter().convertToFormModel(cacheEntry.getFormDefinitionJson(),
-                cacheEntry.getFormDefinitionEntity().getId(), cacheEntry.getFormDefinitionEntity().getVersion());
+        return cacheEntry.createFormModel();
     }
 
     public static FormModel getFormDefinitionFromCache(String formId) {
         FormEngineConfiguration formEngineConfiguration = Context.getFormEngineConfiguration();
         FormDefinitionCacheEntry cacheEntry = formEngineConfiguration.getFormDefinitionCache().get(formId);
         if (cacheEntry != null) {
-            return formEngineConfiguration.getFormJsonConverter().convertToFormModel(cacheEntry.getFormDefinitionJson(),
-                    cacheEntry.getFormDefinitionEntity().getId(), cacheEntry.getFormDefinitionEntity().getVersion());
+            return cacheEntry.createFormModel();
         }
         return null;
     }
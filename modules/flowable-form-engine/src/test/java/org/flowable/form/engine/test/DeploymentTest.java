@@ -14,6 +14,7 @@ package org.flowable.form.engine.test;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
 
 import java.util.List;
 
@@ -35,6 +36,20 @@ public class DeploymentTest extends AbstractFlowableFormTest {
         assertEquals("form1", formDefinition.getKey());
     }
 
+    @Test
+    @FormDeploymentAnnotation(resources = "org/flowable/form/engine/test/deployment/simple.form")
+    public void getFormModelReturnsCopy() {
+        FormModel formModel = repositoryService.getFormModelByKey("form1");
+        formModel.getFields().get(0).setValue("changed");
+        formModel.getFields().get(0).setName("Changed");
+
+        FormModel otherFormModel = repositoryService.getFormModelByKey("form1");
+        assertNotSame(formModel, otherFormModel);
+        assertNotSame(formModel.getFields().get(0), otherFormModel.getFields().get(0));
+        assertEquals("Input1", otherFormModel.getFields().get(0).getName());
+        assertEquals(null, otherFormModel.getFields().get(0).getValue());
+    }
+
     @Test
     @FormDeploymentAnnotation(resources = "org/flowable/form/engine/test/deployment/simple.form")
     public void redeploySingleForm() {
@@ -29,4 +29,19 @@ public class ExpressionFormField extends FormField {
     public void setExpression(String expression) {
         this.expression = expression;
     }
+
+    @Override
+    public ExpressionFormField copy() {
+        ExpressionFormField copy = new ExpressionFormField();
+        copy.setValues(this);
+        return copy;
+    }
+
+    @Override
+    public void setValues(FormField otherField) {
+        super.setValues(otherField);
+        if (otherField instanceof ExpressionFormField) {
+            setExpression(((ExpressionFormField) otherField).getExpression());
+        }
+    }
 }
\ No newline at end of file
@@ -32,4 +32,27 @@ public class FormContainer extends FormField {
     public void setFields(List<List<FormField>> fields) {
         this.fields = fields;
     }
+
+    @Override
+    public FormContainer copy() {
+        FormContainer copy = new FormContainer();
+        copy.setValues(this);
+        return copy;
+    }
+
+    @Override
+    public void setValues(FormField otherField) {
+        super.setValues(otherField);
+        if (otherField instanceof FormContainer) {
+            List<List<FormField>> otherFields = ((FormContainer) otherField).getFields();
+            if (otherFields != null) {
+                fields = new ArrayList<List<FormField>>(otherFields.size());
+                for (List<FormField> otherRow : otherFields) {
+                    fields.add(FormModel.copyFields(otherRow));
+                }
+            } else {
+                fields = null;
+            }
+        }
+    }
 }
\ No newline at end of file
@@ -13,6 +13,7 @@
 package org.flowable.form.model;
 
 import java.io.Serializable;
+import java.util.HashMap;
 import java.util.Map;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
@@ -133,4 +134,31 @@ public class FormField implements Serializable {
         }
         return null;
     }
+
+    /**
+     * Creates a copy of this field, which can be filled with a value without changing this field.
+     */
+    public FormField copy() {
+        FormField copy = new FormField();
+        copy.setValues(this);
+        return copy;
+    }
+
+    @JsonIgnore
+    public void setValues(FormField otherField) {
+        setId(otherField.getId());
+        setName(otherField.getName());
+        setType(otherField.getType());
+        setValue(otherField.getValue());
+        setRequired(otherField.isRequired());
+        setReadOnly(otherField.isReadOnly());
+        setOverrideId(otherField.isOverrideId());
+        setPlaceholder(otherField.getPlaceholder());
+        setLayout(otherField.getLayout());
+        if (otherField.getParams() != null) {
+            setParams(new HashMap<String, Object>(otherField.getParams()));
+        } else {
+            setParams(null);
+        }
+    }
 }
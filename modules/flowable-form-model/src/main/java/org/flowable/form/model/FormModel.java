@@ -18,6 +18,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonInclude.Include;
 
@@ -109,6 +110,43 @@ public class FormModel implements Serializable {
         this.outcomeVariableName = outcomeVariableName;
     }
 
+    /**
+     * Creates a copy of this form model, which can be filled with values without changing this form model. The fields are copied, the
+     * outcomes are shared.
+     */
+    public FormModel copy() {
+        FormModel copy = new FormModel();
+        copy.setValues(this);
+        return copy;
+    }
+
+    @JsonIgnore
+    public void setValues(FormModel otherModel) {
+        setId(otherModel.getId());
+        setName(otherModel.getName());
+        setDescription(otherModel.getDescription());
+        setKey(otherModel.getKey());
+        setVersion(otherModel.getVersion());
+        setOutcomeVariableName(otherModel.getOutcomeVariableName());
+        setFields(copyFields(otherModel.getFields()));
+        if (otherModel.getOutcomes() != null) {
+            setOutcomes(new ArrayList<FormOutcome>(otherModel.getOutcomes()));
+        } else {
+            setOutcomes(null);
+        }
+    }
+
+    protected static List<FormField> copyFields(List<FormField> fields) {
+        if (fields == null) {
+            return null;
+        }
+        List<FormField> copiedFields = new ArrayList<FormField>(fields.size());
+        for (FormField field : fields) {
+            copiedFields.add(field != null ? field.copy() : null);
+        }
+        return copiedFields;
+    }
+
     /*
      * Helper methods
      */
@@ -12,6 +12,7 @@
  */
 package org.flowable.form.model;
 
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -48,4 +49,26 @@ public class OptionFormField extends FormField {
     public void setOptions(List<Option> options) {
         this.options = options;
     }
+
+    @Override
+    public OptionFormField copy() {
+        OptionFormField copy = new OptionFormField();
+        copy.setValues(this);
+        return copy;
+    }
+
+    @Override
+    public void setValues(FormField otherField) {
+        super.setValues(otherField);
+        if (otherField instanceof OptionFormField) {
+            OptionFormField otherOptionField = (OptionFormField) otherField;
+            setOptionType(otherOptionField.getOptionType());
+            setHasEmptyValue(otherOptionField.getHasEmptyValue());
+            if (otherOptionField.getOptions() != null) {
+                setOptions(new ArrayList<Option>(otherOptionField.getOptions()));
+            } else {
+                setOptions(null);
+            }
+        }
+    }
 }
@@ -48,6 +48,10 @@ public abstract class HttpActivityBehavior extends AbstractBpmnActivityBehavior
     public static final String HTTP_TASK_REQUEST_HEADERS_INVALID = "requestHeaders are invalid";
     public static final String HTTP_TASK_REQUEST_FIELD_INVALID = "request fields are invalid";
 
+    // Transient variable holding the response (or exception) of a non-blocking request when the execution is triggered.
+    // When the result is delivered by a job, it is stored in a local variable with the same name until the job runs.
+    public static final String HTTP_TASK_NON_BLOCKING_RESULT = "httpTaskNonBlockingResult";
+
     // HttpRequest method (GET,POST,PUT etc)
     protected Expression requestMethod;
     // HttpRequest URL (http://flowable.org)
@@ -74,12 +78,76 @@ public abstract class HttpActivityBehavior extends AbstractBpmnActivityBehavior
     protected Expression responseVariableName;
     // Prefix for the execution variable names (Optional)
     protected Expression resultVariablePrefix;
+    // Flag to send the request without blocking the thread, the execution is triggered when the response arrives. default is false (Optional)
+    protected Expression nonBlocking;
     // Exception mapping
     protected List<MapExceptionEntry> mapExceptions;
 
     @Override
     public void execute(DelegateExecution execution) {
 
+        HttpRequest request = createRequest(execution, true);
+
+        if (getBooleanFromField(nonBlocking, execution)) {
+            // the execution waits here, until the response triggers it
+            performNonBlocking(execution, request);
+            return;
+        }
+
+        try {
+            HttpResponse response = perform(execution, request);
+            if (!handleResponse(execution, request, response)) {
+                return;
+            }
+
+        } catch (Exception e) {
+            if (!handleException(execution, request, e)) {
+                return;
+            }
+        }
+
+        leave(execution);
+    }
+
+    /**
+     * Continues a non-blocking HTTP task once the request is done. The response, or the exception that occurred while executing the request,
+     * is passed in the {@link #HTTP_TASK_NON_BLOCKING_RESULT} transient variable, or in the local variable of that name when the result
+     * was delivered by a job.
+     */
+    @Override
+    public void trigger(DelegateExecution execution, String signalName, Object signalData) {
+        Object result = execution.getTransientVariable(HTTP_TASK_NON_BLOCKING_RESULT);
+        if (result == null && execution.hasVariableLocal(HTTP_TASK_NON_BLOCKING_RESULT)) {
+            result = execution.getVariableLocal(HTTP_TASK_NON_BLOCKING_RESULT);
+            execution.removeVariableLocal(HTTP_TASK_NON_BLOCKING_RESULT);
+        }
+        if (result == null) {
+            super.trigger(execution, signalName, signalData);
+            return;
+        }
+
+        HttpRequest request = createRequest(execution, false);
+        try {
+            if (result instanceof Exception) {
+                throw (Exception) result;
+            }
+
+            HttpResponse response = (HttpResponse) result;
+            handleNonBlockingResponse(execution, request, response);
+            if (!handleResponse(execution, request, response)) {
+                return;
+            }
+
+        } catch (Exception e) {
+            if (!handleException(execution, request, e)) {
+                return;
+            }
+        }
+
+        leave(execution);
+    }
+
+    protected HttpRequest createRequest(DelegateExecution execution, boolean saveVariables) {
         HttpRequest request = new HttpRequest();
 
         try {
@@ -111,7 +179,7 @@ public abstract class HttpActivityBehavior extends AbstractBpmnActivityBehavior
             }
 
             // Save request fields
-            if (request.isSaveRequest()) {
+            if (saveVariables && request.isSaveRequest()) {
                 execution.setVariable(request.getPrefix() + ".requestMethod", request.getMethod());
                 execution.setVariable(request.getPrefix() + ".requestUrl", request.getUrl());
                 execution.setVariable(request.getPrefix() + ".requestHeaders", request.getHeaders());
@@ -133,77 +201,89 @@ public abstract class HttpActivityBehavior extends AbstractBpmnActivityBehavior
             }
         }
 
-        try {
-            HttpResponse response = perform(execution, request);
-            // Save response fields
-            if (response != null) {
-                // Save response body only by default
-                if (request.isSaveResponse()) {
-                    execution.setVariable(request.getPrefix() + ".responseProtocol", response.getProtocol());
-                    execution.setVariable(request.getPrefix() + ".responseStatusCode", response.getStatusCode());
-                    execution.setVariable(request.getPrefix() + ".responseReason", response.getReason());
-                    execution.setVariable(request.getPrefix() + ".responseHeaders", response.getHeaders());
+        return request;
+    }
+
+    /**
+     * Saves the response fields and handles the HTTP status codes.
+     *
+     * @return false when an error was propagated, meaning the execution must not leave the activity
+     */
+    protected boolean handleResponse(DelegateExecution execution, HttpRequest request, HttpResponse response) {
+        // Save response fields
+        if (response != null) {
+            // Save response body only by default
+            if (request.isSaveResponse()) {
+                execution.setVariable(request.getPrefix() + ".responseProtocol", response.getProtocol());
+                execution.setVariable(request.getPrefix() + ".responseStatusCode", response.getStatusCode());
+                execution.setVariable(request.getPrefix() + ".responseReason", response.getReason());
+                execution.setVariable(request.getPrefix() + ".responseHeaders", response.getHeaders());
+            }
+
+            if (!response.isBodyResponseHandled()) {
+                String responseVariableValue = getStringFromField(responseVariableName, execution);
+                if (StringUtils.isNotEmpty(responseVariableValue)) {
+                    execution.setVariable(responseVariableValue, response.getBody());
+                } else {
+                    execution.setVariable(request.getPrefix() + ".responseBody", response.getBody());
                 }
-                
-                if (!response.isBodyResponseHandled()) {
-                    String responseVariableValue = getStringFromField(responseVariableName, execution);
-                    if (StringUtils.isNotEmpty(responseVariableValue)) {
-                        execution.setVariable(responseVariableValue, response.getBody());
-                    } else {
-                        execution.setVariable(request.getPrefix() + ".responseBody", response.getBody());
+            }
+
+            // Handle http status codes
+            if ((request.isNoRedirects() && response.getStatusCode() >= 300) || response.getStatusCode() >= 400) {
+
+                String code = Integer.toString(response.statusCode);
+
+                Set<String> handleCodes = request.getHandleCodes();
+                if (handleCodes != null && !handleCodes.isEmpty()) {
+                    if (handleCodes.contains(code)
+                            || (code.startsWith("5") && handleCodes.contains("5XX"))
+                            || (code.startsWith("4") && handleCodes.contains("4XX"))
+                            || (code.startsWith("3") && handleCodes.contains("3XX"))) {
+
+                        ErrorPropagation.propagateError("HTTP" + code, execution);
+                        return false;
                     }
                 }
 
-                // Handle http status codes
-                if ((request.isNoRedirects() && response.getStatusCode() >= 300) || response.getStatusCode() >= 400) {
-
-                    String code = Integer.toString(response.statusCode);
-
-                    Set<String> handleCodes = request.getHandleCodes();
-                    if (handleCodes != null && !handleCodes.isEmpty()) {
-                        if (handleCodes.contains(code)
-                                || (code.startsWith("5") && handleCodes.contains("5XX"))
-                                || (code.startsWith("4") && handleCodes.contains("4XX"))
-                                || (code.startsWith("3") && handleCodes.contains("3XX"))) {
-                            
-                            ErrorPropagation.propagateError("HTTP" + code, execution);
-                            return;
-                        }
-                    }
+                Set<String> failCodes = request.getFailCodes();
+                if (failCodes != null && !failCodes.isEmpty()) {
+                    if (failCodes.contains(code)
+                            || (code.startsWith("5") && failCodes.contains("5XX"))
+                            || (code.startsWith("4") && failCodes.contains("4XX"))
+                            || (code.startsWith("3") && failCodes.contains("3XX"))) {
 
-                    Set<String> failCodes = request.getFailCodes();
-                    if (failCodes != null && !failCodes.isEmpty()) {
-                        if (failCodes.contains(code)
-                                || (code.startsWith("5") && failCodes.contains("5XX"))
-                                || (code.startsWith("4") && failCodes.contains("4XX"))
-                                || (code.startsWith("3") && failCodes.contains("3XX"))) {
-                            
-                            throw new FlowableException("HTTP" + code);
-                        }
+                        throw new FlowableException("HTTP" + code);
                     }
                 }
             }
-            
-        } catch (Exception e) {
-            if (request.isIgnoreErrors()) {
-                LOGGER.info("Error ignored while processing http task in execution {}", execution.getId(), e);
-                execution.setVariable(request.getPrefix() + ".errorMessage", e.getMessage());
-                
+        }
+        return true;
+    }
+
+    /**
+     * Ignores, maps or rethrows an exception that occurred while performing the request or handling the response.
+     *
+     * @return true when the exception is ignored and the execution can leave the activity
+     */
+    protected boolean handleException(DelegateExecution execution, HttpRequest request, Exception e) {
+        if (request.isIgnoreErrors()) {
+            LOGGER.info("Error ignored while processing http task in execution {}", execution.getId(), e);
+            execution.setVariable(request.getPrefix() + ".errorMessage", e.getMessage());
+            return true;
+
+        } else {
+            if (ErrorPropagation.mapException(e, (ExecutionEntity) execution, mapExceptions)) {
+                return false;
+
             } else {
-                if (ErrorPropagation.mapException(e, (ExecutionEntity) execution, mapExceptions)) {
-                    return;
-                    
+                if (e instanceof FlowableException) {
+                    throw (FlowableException) e;
                 } else {
-                    if (e instanceof FlowableException) {
-                        throw (FlowableException) e;
-                    } else {
-                        throw new FlowableException("Error occurred while processing http task in execution " + execution.getId(), e);
-                    }
+                    throw new FlowableException("Error occurred while processing http task in execution " + execution.getId(), e);
                 }
             }
         }
-
-        leave(execution);
     }
 
     /**
@@ -214,6 +294,28 @@ public abstract class HttpActivityBehavior extends AbstractBpmnActivityBehavior
      * @return
      */
     protected abstract HttpResponse perform(final DelegateExecution execution, final HttpRequest request);
+
+    /**
+     * Sends the request without waiting for the response, used when the nonBlocking field is true. Implementations must trigger the
+     * execution with the {@link HttpResponse} or the exception in the {@link #HTTP_TASK_NON_BLOCKING_RESULT} transient variable once the
+     * request is done.
+     *
+     * @param execution
+     * @param request
+     */
+    protected void performNonBlocking(final DelegateExecution execution, final HttpRequest request) {
+        throw new FlowableException("Non-blocking HTTP requests are not supported by " + getClass().getName());
+    }
+
+    /**
+     * Called when a non-blocking HTTP task is triggered with the response, before the response fields are saved.
+     *
+     * @param execution
+     * @param request
+     * @param response
+     */
+    protected void handleNonBlockingResponse(final DelegateExecution execution, final HttpRequest request, final HttpResponse response) {
+    }
     
     protected int getIntFromField(Expression expression, DelegateExecution execution) {
         if (expression != null) {
@@ -370,6 +472,14 @@ public abstract class HttpActivityBehavior extends AbstractBpmnActivityBehavior
         this.resultVariablePrefix = resultVariablePrefix;
     }
 
+    public Expression getNonBlocking() {
+        return nonBlocking;
+    }
+
+    public void setNonBlocking(Expression nonBlocking) {
+        this.nonBlocking = nonBlocking;
+    }
+
     public List<MapExceptionEntry> getMapExceptions() {
         return mapExceptions;
     }
@@ -12,11 +12,15 @@
  */
 package org.flowable.http;
 
+import java.io.Serializable;
+
 /**
  * @author Harsha Teja Kanna.
  */
-public class HttpResponse {
-    
+public class HttpResponse implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
     protected int statusCode;
     protected String protocol;
     protected String reason;
@@ -13,13 +13,19 @@
 package org.flowable.http.impl;
 
 import java.io.BufferedReader;
+import java.io.Closeable;
 import java.io.IOException;
 import java.io.StringReader;
 import java.net.URISyntaxException;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Timer;
-import java.util.TimerTask;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import javax.net.ssl.HostnameVerifier;
 import javax.net.ssl.SSLSession;
@@ -36,12 +42,15 @@ import org.apache.http.client.methods.HttpPost;
 import org.apache.http.client.methods.HttpPut;
 import org.apache.http.client.methods.HttpRequestBase;
 import org.apache.http.client.utils.URIBuilder;
+import org.apache.http.conn.ConnectionKeepAliveStrategy;
 import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
 import org.apache.http.conn.ssl.TrustSelfSignedStrategy;
 import org.apache.http.entity.StringEntity;
 import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
 import org.apache.http.impl.client.DefaultHttpRequestRetryHandler;
 import org.apache.http.impl.client.HttpClientBuilder;
+import org.apache.http.protocol.HttpContext;
 import org.apache.http.ssl.SSLContextBuilder;
 import org.apache.http.util.EntityUtils;
 import org.flowable.bpmn.model.FieldExtension;
@@ -52,12 +61,17 @@ import org.flowable.bpmn.model.ImplementationType;
 import org.flowable.bpmn.model.ServiceTask;
 import org.flowable.engine.cfg.HttpClientConfig;
 import org.flowable.engine.common.api.FlowableException;
+import org.flowable.engine.common.impl.cfg.TransactionState;
 import org.flowable.engine.delegate.DelegateExecution;
 import org.flowable.engine.delegate.Expression;
 import org.flowable.engine.impl.bpmn.parser.FieldDeclaration;
 import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.cfg.TransactionContext;
+import org.flowable.engine.impl.cfg.TransactionListener;
 import org.flowable.engine.impl.context.Context;
 import org.flowable.engine.impl.el.FixedValue;
+import org.flowable.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.interceptor.CommandExecutor;
 import org.flowable.http.HttpActivityBehavior;
 import org.flowable.http.HttpRequest;
 import org.flowable.http.HttpResponse;
@@ -77,14 +91,35 @@ public class HttpActivityBehaviorImpl extends HttpActivityBehavior {
 
     private static final long serialVersionUID = 1L;
     private static final Logger LOGGER = LoggerFactory.getLogger(HttpActivityBehaviorImpl.class);
-    
+
     protected HttpServiceTask httpServiceTask;
 
-    protected final Timer timer = new Timer(true);
+    protected final HttpClientConfig config;
+    protected final HttpClientHolder clientHolder;
     protected final CloseableHttpClient client;
 
-    public HttpActivityBehaviorImpl() {  
-        HttpClientConfig config = Context.getProcessEngineConfiguration().getHttpClientConfig();
+    public HttpActivityBehaviorImpl() {
+        config = Context.getProcessEngineConfiguration().getHttpClientConfig();
+        clientHolder = getHttpClientHolder(config);
+        client = clientHolder.getClient();
+    }
+
+    /**
+     * Returns the client shared by all http tasks of the process engine. It is kept in the {@link HttpClientConfig} of the process engine,
+     * which closes it when the process engine is closed.
+     */
+    protected static HttpClientHolder getHttpClientHolder(HttpClientConfig config) {
+        synchronized (config) {
+            HttpClientHolder holder = (HttpClientHolder) config.getHttpClient();
+            if (holder == null) {
+                holder = new HttpClientHolder(createHttpClient(config), config.getNonBlockingThreadPoolSize());
+                config.setHttpClient(holder);
+            }
+            return holder;
+        }
+    }
+
+    protected static CloseableHttpClient createHttpClient(HttpClientConfig config) {
         HttpClientBuilder httpClientBuilder = HttpClientBuilder.create();
 
         // https settings
@@ -111,34 +146,100 @@ public class HttpActivityBehaviorImpl extends HttpActivityBehavior {
         }
         httpClientBuilder.setRetryHandler(new DefaultHttpRequestRetryHandler(retryCount, false));
 
+        // connection pool settings
+        httpClientBuilder.setMaxConnTotal(config.getMaxConnectionsTotal());
+        httpClientBuilder.setMaxConnPerRoute(config.getMaxConnectionsPerRoute());
+
+        final long keepAliveTime = config.getConnectionKeepAliveTime();
+        if (keepAliveTime >= 0) {
+            httpClientBuilder.setKeepAliveStrategy(new ConnectionKeepAliveStrategy() {
+
+                @Override
+                public long getKeepAliveDuration(org.apache.http.HttpResponse response, HttpContext context) {
+                    long serverKeepAliveTime = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+                    return serverKeepAliveTime > 0 ? Math.min(serverKeepAliveTime, keepAliveTime) : keepAliveTime;
+                }
+            });
+        }
+
         // Build http client
-        client = httpClientBuilder.build();
+        CloseableHttpClient client = httpClientBuilder.build();
         LOGGER.info("HTTP client is initialized");
+        return client;
+    }
+
+    @Override
+    public HttpResponse perform(final DelegateExecution execution, final HttpRequest requestInfo) {
+        ProcessEngineConfigurationImpl processEngineConfiguration = Context.getProcessEngineConfiguration();
+
+        invokeRequestHandler(execution, requestInfo, processEngineConfiguration);
+
+        HttpResponse responseInfo = executeRequest(requestInfo);
+
+        invokeResponseHandler(execution, responseInfo, processEngineConfiguration);
+
+        return responseInfo;
+    }
+
+    /**
+     * Sends the request from a thread of the shared pool once the current transaction is committed, so the job executor thread is
+     * released. The execution is triggered with the response in a new transaction.
+     */
+    @Override
+    protected void performNonBlocking(final DelegateExecution execution, final HttpRequest requestInfo) {
+        ProcessEngineConfigurationImpl processEngineConfiguration = Context.getProcessEngineConfiguration();
+
+        invokeRequestHandler(execution, requestInfo, processEngineConfiguration);
+
+        final String executionId = execution.getId();
+        final String activityId = execution.getCurrentActivityId();
+        final CommandExecutor commandExecutor = processEngineConfiguration.getCommandExecutor();
+        final Runnable requestRunnable = new Runnable() {
 
-        // Shutdown hook to close the http client
-        Runtime.getRuntime().addShutdownHook(new Thread() {
             @Override
             public void run() {
-                if (client != null) {
+                Object result;
+                try {
+                    result = executeRequest(requestInfo);
+                } catch (Exception e) {
+                    result = e;
+                }
+
+                try {
+                    commandExecutor.execute(new TriggerNonBlockingHttpTaskCmd(executionId, activityId, result));
+
+                } catch (Exception e) {
+                    // Hand the result over to a job, which is retried when it fails again
+                    LOGGER.warn("Could not trigger execution {} with the http response, delivering it with a job", executionId, e);
                     try {
-                        client.close();
-                        LOGGER.info("HTTP client is closed");
-                    } catch (Throwable e) {
-                        LOGGER.error("Could not close http client", e);
+                        commandExecutor.execute(new ScheduleNonBlockingHttpTaskTriggerCmd(executionId, activityId, result));
+                    } catch (Exception scheduleException) {
+                        LOGGER.error("Could not deliver the http response to execution {}", executionId, scheduleException);
                     }
                 }
             }
-        });
+        };
+
+        TransactionContext transactionContext = Context.getTransactionContext();
+        if (transactionContext != null) {
+            transactionContext.addTransactionListener(TransactionState.COMMITTED, new TransactionListener() {
+
+                @Override
+                public void execute(CommandContext commandContext) {
+                    clientHolder.getExecutorService().execute(requestRunnable);
+                }
+            });
+        } else {
+            clientHolder.getExecutorService().execute(requestRunnable);
+        }
     }
 
     @Override
-    public HttpResponse perform(final DelegateExecution execution, final HttpRequest requestInfo) {
+    protected void handleNonBlockingResponse(DelegateExecution execution, HttpRequest request, HttpResponse response) {
+        invokeResponseHandler(execution, response, Context.getProcessEngineConfiguration());
+    }
 
-        HttpRequestBase request = null;
-        CloseableHttpResponse response = null;
-        
-        ProcessEngineConfigurationImpl processEngineConfiguration = Context.getProcessEngineConfiguration();
-        
+    protected void invokeRequestHandler(DelegateExecution execution, HttpRequest requestInfo, ProcessEngineConfigurationImpl processEngineConfiguration) {
         try {
             if (httpServiceTask.getHttpRequestHandler() != null) {
                 HttpRequestHandler httpRequestHandler = createHttpRequestHandler(httpServiceTask.getHttpRequestHandler(), processEngineConfiguration);
@@ -147,7 +248,27 @@ public class HttpActivityBehaviorImpl extends HttpActivityBehavior {
         } catch (Exception e) {
             throw new FlowableException("Exception while invoking HttpRequestHandler: " + e.getMessage(), e);
         }
-        
+    }
+
+    protected void invokeResponseHandler(DelegateExecution execution, HttpResponse responseInfo, ProcessEngineConfigurationImpl processEngineConfiguration) {
+        try {
+            if (httpServiceTask.getHttpResponseHandler() != null) {
+                HttpResponseHandler httpResponseHandler = createHttpResponseHandler(httpServiceTask.getHttpResponseHandler(), processEngineConfiguration);
+                httpResponseHandler.handleHttpResponse(execution, responseInfo);
+            }
+        } catch (Exception e) {
+            throw new FlowableException("Exception while invoking HttpResponseHandler: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Executes the request with the shared client. Doesn't use the execution nor the command context, so it can be called from any thread.
+     */
+    protected HttpResponse executeRequest(final HttpRequest requestInfo) {
+        HttpRequestBase request = null;
+        CloseableHttpResponse response = null;
+        ScheduledFuture<?> timeoutFuture = null;
+
         try {
             URIBuilder uri = new URIBuilder(requestInfo.getUrl());
             switch (requestInfo.getMethod()) {
@@ -181,10 +302,10 @@ public class HttpActivityBehaviorImpl extends HttpActivityBehavior {
                 setHeaders(request, requestInfo.getHeaders());
             }
 
-            setConfig(request, requestInfo, Context.getProcessEngineConfiguration().getHttpClientConfig());
+            setConfig(request, requestInfo, config);
 
             if (requestInfo.getTimeout() > 0) {
-                timer.schedule(new TimeoutTask(request), requestInfo.getTimeout());
+                timeoutFuture = clientHolder.getTimeoutExecutor().schedule(new TimeoutTask(request), requestInfo.getTimeout(), TimeUnit.MILLISECONDS);
             }
 
             response = client.execute(request);
@@ -204,15 +325,6 @@ public class HttpActivityBehaviorImpl extends HttpActivityBehavior {
             if (response.getEntity() != null) {
                 responseInfo.setBody(EntityUtils.toString(response.getEntity()));
             }
-            
-            try {
-                if (httpServiceTask.getHttpResponseHandler() != null) {
-                    HttpResponseHandler httpResponseHandler = createHttpResponseHandler(httpServiceTask.getHttpResponseHandler(), processEngineConfiguration);
-                    httpResponseHandler.handleHttpResponse(execution, responseInfo);
-                }
-            } catch (Exception e) {
-                throw new FlowableException("Exception while invoking HttpResponseHandler: " + e.getMessage(), e);
-            }
 
             return responseInfo;
 
@@ -225,6 +337,9 @@ public class HttpActivityBehaviorImpl extends HttpActivityBehavior {
         } catch (final FlowableException e) {
             throw e;
         } finally {
+            if (timeoutFuture != null) {
+                timeoutFuture.cancel(false);
+            }
             if (response != null) {
                 try {
                     response.close();
@@ -313,7 +428,77 @@ public class HttpActivityBehaviorImpl extends HttpActivityBehavior {
         return fieldDeclarations;
     }
 
-    protected static class TimeoutTask extends TimerTask {
+    /**
+     * The shared client of a process engine, with the thread pool used for non-blocking requests and the scheduler aborting requests that
+     * run longer than their request timeout, both created when needed.
+     */
+    protected static class HttpClientHolder implements Closeable {
+
+        protected final CloseableHttpClient client;
+        protected final int nonBlockingThreadPoolSize;
+        protected ExecutorService executorService;
+        protected ScheduledThreadPoolExecutor timeoutExecutor;
+
+        public HttpClientHolder(CloseableHttpClient client, int nonBlockingThreadPoolSize) {
+            this.client = client;
+            this.nonBlockingThreadPoolSize = nonBlockingThreadPoolSize;
+        }
+
+        public CloseableHttpClient getClient() {
+            return client;
+        }
+
+        public synchronized ExecutorService getExecutorService() {
+            if (executorService == null) {
+                final AtomicInteger threadNumber = new AtomicInteger();
+                executorService = Executors.newFixedThreadPool(Math.max(1, nonBlockingThreadPoolSize), new ThreadFactory() {
+
+                    @Override
+                    public Thread newThread(Runnable runnable) {
+                        Thread thread = new Thread(runnable, "flowable-http-non-blocking-" + threadNumber.incrementAndGet());
+                        thread.setDaemon(true);
+                        return thread;
+                    }
+                });
+            }
+            return executorService;
+        }
+
+        public synchronized ScheduledThreadPoolExecutor getTimeoutExecutor() {
+            if (timeoutExecutor == null) {
+                timeoutExecutor = new ScheduledThreadPoolExecutor(1, new ThreadFactory() {
+
+                    @Override
+                    public Thread newThread(Runnable runnable) {
+                        Thread thread = new Thread(runnable, "flowable-http-request-timeout");
+                        thread.setDaemon(true);
+                        return thread;
+                    }
+                });
+                // Most requests finish before their timeout, don't keep their cancelled timeouts in the queue
+                timeoutExecutor.setRemoveOnCancelPolicy(true);
+            }
+            return timeoutExecutor;
+        }
+
+        @Override
+        public synchronized void close() {
+            if (executorService != null) {
+                executorService.shutdownNow();
+            }
+            if (timeoutExecutor != null) {
+                timeoutExecutor.shutdownNow();
+            }
+            try {
+                client.close();
+                LOGGER.info("HTTP client is closed");
+            } catch (Throwable e) {
+                LOGGER.error("Could not close http client", e);
+            }
+        }
+    }
+
+    protected static class TimeoutTask implements Runnable {
         private HttpRequestBase request;
 
         public TimeoutTask(HttpRequestBase request) {
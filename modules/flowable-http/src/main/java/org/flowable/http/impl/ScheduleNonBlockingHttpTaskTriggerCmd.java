@@ -0,0 +1,67 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.http.impl;
+
+import org.flowable.engine.impl.asyncexecutor.JobManager;
+import org.flowable.engine.impl.cmd.NeedsActiveExecutionCmd;
+import org.flowable.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
+import org.flowable.engine.impl.persistence.entity.JobEntity;
+import org.flowable.http.HttpActivityBehavior;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Delivers the result of a non-blocking http request with a job, used when triggering the execution directly with
+ * {@link TriggerNonBlockingHttpTaskCmd} failed. The result is stored in a local variable of the execution and a
+ * {@link TriggerNonBlockingHttpTaskJobHandler} job continues the http task, so a failing trigger is retried and ends up as a dead letter
+ * job instead of leaving the execution waiting.
+ */
+public class ScheduleNonBlockingHttpTaskTriggerCmd extends NeedsActiveExecutionCmd<Void> {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ScheduleNonBlockingHttpTaskTriggerCmd.class);
+
+    protected String activityId;
+    protected transient Object result;
+
+    public ScheduleNonBlockingHttpTaskTriggerCmd(String executionId, String activityId, Object result) {
+        super(executionId);
+        this.activityId = activityId;
+        this.result = result;
+    }
+
+    @Override
+    protected Void execute(CommandContext commandContext, ExecutionEntity execution) {
+        if (TriggerNonBlockingHttpTaskCmd.getWaitingHttpActivityBehavior(execution, activityId) == null) {
+            LOGGER.debug("Execution {} is no longer waiting in http task {}, dropping the http response", executionId, activityId);
+            return null;
+        }
+
+        execution.setVariableLocal(HttpActivityBehavior.HTTP_TASK_NON_BLOCKING_RESULT, result);
+
+        JobManager jobManager = commandContext.getJobManager();
+        JobEntity job = jobManager.createAsyncJob(execution, true);
+        job.setJobHandlerType(TriggerNonBlockingHttpTaskJobHandler.TYPE);
+        job.setJobHandlerConfiguration(activityId);
+        jobManager.scheduleAsyncJob(job);
+        return null;
+    }
+
+    @Override
+    protected String getSuspendedExceptionMessage() {
+        return "Cannot complete the http task of execution " + executionId + ", the execution is suspended";
+    }
+
+}
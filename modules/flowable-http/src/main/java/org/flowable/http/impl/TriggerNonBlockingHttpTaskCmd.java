@@ -0,0 +1,80 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.http.impl;
+
+import org.flowable.bpmn.model.FlowElement;
+import org.flowable.bpmn.model.FlowNode;
+import org.flowable.engine.impl.cmd.NeedsActiveExecutionCmd;
+import org.flowable.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
+import org.flowable.http.HttpActivityBehavior;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Continues the execution waiting in a non-blocking http task with the result of the request: the {@link org.flowable.http.HttpResponse}
+ * or the exception that occurred.
+ * 
+ * The behavior is triggered directly, as the activity instance started when the request was sent is still the active one. When the
+ * execution has left the http task that sent the request in the meantime, for example because it was triggered manually or by a boundary
+ * event, the result is dropped.
+ */
+public class TriggerNonBlockingHttpTaskCmd extends NeedsActiveExecutionCmd<Void> {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TriggerNonBlockingHttpTaskCmd.class);
+
+    protected String activityId;
+    protected transient Object result;
+
+    public TriggerNonBlockingHttpTaskCmd(String executionId, String activityId, Object result) {
+        super(executionId);
+        this.activityId = activityId;
+        this.result = result;
+    }
+
+    @Override
+    protected Void execute(CommandContext commandContext, ExecutionEntity execution) {
+        HttpActivityBehavior httpActivityBehavior = getWaitingHttpActivityBehavior(execution, activityId);
+        if (httpActivityBehavior == null) {
+            LOGGER.debug("Execution {} is no longer waiting in http task {}, dropping the http response", executionId, activityId);
+            return null;
+        }
+
+        execution.setTransientVariable(HttpActivityBehavior.HTTP_TASK_NON_BLOCKING_RESULT, result);
+        httpActivityBehavior.trigger(execution, null, null);
+        return null;
+    }
+
+    /**
+     * Returns the behavior of the http task with the given id when the execution is waiting in it, or null otherwise.
+     */
+    protected static HttpActivityBehavior getWaitingHttpActivityBehavior(ExecutionEntity execution, String activityId) {
+        if (activityId == null || !activityId.equals(execution.getCurrentActivityId())) {
+            return null;
+        }
+
+        FlowElement currentFlowElement = execution.getCurrentFlowElement();
+        if (currentFlowElement instanceof FlowNode && ((FlowNode) currentFlowElement).getBehavior() instanceof HttpActivityBehavior) {
+            return (HttpActivityBehavior) ((FlowNode) currentFlowElement).getBehavior();
+        }
+        return null;
+    }
+
+    @Override
+    protected String getSuspendedExceptionMessage() {
+        return "Cannot complete the http task of execution " + executionId + ", the execution is suspended";
+    }
+
+}
@@ -0,0 +1,50 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.http.impl;
+
+import org.flowable.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.jobexecutor.JobHandler;
+import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
+import org.flowable.engine.impl.persistence.entity.JobEntity;
+import org.flowable.http.HttpActivityBehavior;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Continues a non-blocking http task with the result stored in a local variable of the execution, used when triggering the execution
+ * directly failed. The job handler configuration is the id of the http task that sent the request. When the execution has left that
+ * activity in the meantime, the result is dropped.
+ *
+ * The behavior is triggered directly, so no new activity instance is started.
+ */
+public class TriggerNonBlockingHttpTaskJobHandler implements JobHandler {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TriggerNonBlockingHttpTaskJobHandler.class);
+
+    public static final String TYPE = "trigger-http-task";
+
+    public String getType() {
+        return TYPE;
+    }
+
+    public void execute(JobEntity job, String configuration, ExecutionEntity execution, CommandContext commandContext) {
+        HttpActivityBehavior httpActivityBehavior = TriggerNonBlockingHttpTaskCmd.getWaitingHttpActivityBehavior(execution, configuration);
+        if (httpActivityBehavior == null) {
+            LOGGER.debug("Execution {} is no longer waiting in http task {}, dropping the http response", execution.getId(), configuration);
+            return;
+        }
+
+        httpActivityBehavior.trigger(execution, null, null);
+    }
+
+}
@@ -0,0 +1,37 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.http;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.flowable.engine.delegate.DelegateExecution;
+import org.flowable.http.delegate.HttpResponseHandler;
+
+/**
+ * Fails the first time it handles a response, so the execution can't be triggered directly.
+ */
+public class FailingOnceHttpResponseHandler implements HttpResponseHandler {
+
+    private static final long serialVersionUID = 1L;
+
+    public static final AtomicBoolean FAILED = new AtomicBoolean();
+
+    @Override
+    public void handleHttpResponse(DelegateExecution execution, HttpResponse httpResponse) {
+        if (FAILED.compareAndSet(false, true)) {
+            throw new RuntimeException("failing the first response");
+        }
+        execution.setVariable("statusCode", httpResponse.getStatusCode());
+    }
+
+}
@@ -25,6 +25,7 @@ import org.flowable.engine.RuntimeService;
 import org.flowable.engine.common.api.FlowableException;
 import org.flowable.engine.history.HistoricVariableInstance;
 import org.flowable.engine.runtime.Execution;
+import org.flowable.engine.runtime.Job;
 import org.flowable.engine.runtime.ProcessInstance;
 import org.flowable.engine.test.Deployment;
 import org.slf4j.Logger;
@@ -159,6 +160,86 @@ public class HttpServiceTaskTest extends HttpServiceTaskTestCase {
         assertProcessEnded(procId);
     }
 
+    @Deployment
+    public void testNonBlockingGet() throws Exception {
+        String procId = runtimeService.startProcessInstanceByKey("nonBlockingGet").getId();
+        waitForProcessInstanceToEnd(procId, 10000L);
+
+        List<HistoricVariableInstance> variables = historyService.createHistoricVariableInstanceQuery().processInstanceId(procId).list();
+        assertEquals(1, variables.size());
+        assertEquals("httpGet.responseBody", variables.get(0).getVariableName());
+        String variableValue = variables.get(0).getValue().toString();
+        assertTrue(variableValue.contains("firstName") && variableValue.contains("John"));
+    }
+
+    @Deployment
+    public void testNonBlockingIgnoreException() throws Exception {
+        String procId = runtimeService.startProcessInstanceByKey("nonBlockingIgnoreException").getId();
+        waitForProcessInstanceToEnd(procId, 10000L);
+
+        HistoricVariableInstance errorMessage = historyService.createHistoricVariableInstanceQuery().processInstanceId(procId)
+                .variableName("httpGet.errorMessage").singleResult();
+        assertNotNull(errorMessage);
+    }
+
+    @Deployment
+    public void testNonBlockingTriggerRetry() throws Exception {
+        FailingOnceHttpResponseHandler.FAILED.set(false);
+        String procId = runtimeService.startProcessInstanceByKey("nonBlockingTriggerRetry").getId();
+
+        // Triggering the execution with the response fails once, the response is then delivered by a job
+        Job job = waitForJob(procId, 10000L);
+        assertTrue(FailingOnceHttpResponseHandler.FAILED.get());
+
+        managementService.executeJob(job.getId());
+        assertProcessEnded(procId);
+
+        HistoricVariableInstance statusCode = historyService.createHistoricVariableInstanceQuery().processInstanceId(procId)
+                .variableName("statusCode").singleResult();
+        assertEquals(200, statusCode.getValue());
+        assertEquals(0, historyService.createHistoricVariableInstanceQuery().processInstanceId(procId)
+                .variableName(HttpActivityBehavior.HTTP_TASK_NON_BLOCKING_RESULT).count());
+    }
+
+    @Deployment
+    public void testNonBlockingLateResponse() throws Exception {
+        FailingOnceHttpResponseHandler.FAILED.set(false);
+        String procId = runtimeService.startProcessInstanceByKey("nonBlockingLateResponse").getId();
+        Job job = waitForJob(procId, 10000L);
+
+        // The execution is moved on before the response is delivered, the response must not complete the user task
+        Execution execution = runtimeService.createExecutionQuery().processInstanceId(procId).activityId("httpGet").singleResult();
+        runtimeService.trigger(execution.getId());
+        assertEquals("afterHttpGet", taskService.createTaskQuery().processInstanceId(procId).singleResult().getTaskDefinitionKey());
+
+        managementService.executeJob(job.getId());
+        assertEquals("afterHttpGet", taskService.createTaskQuery().processInstanceId(procId).singleResult().getTaskDefinitionKey());
+        assertEquals(0, managementService.createJobQuery().processInstanceId(procId).count());
+    }
+
+    protected Job waitForJob(String processInstanceId, long maxMillisToWait) throws InterruptedException {
+        long end = System.currentTimeMillis() + maxMillisToWait;
+        Job job = managementService.createJobQuery().processInstanceId(processInstanceId).singleResult();
+        while (job == null) {
+            if (System.currentTimeMillis() > end) {
+                fail("The http response was not delivered with a job");
+            }
+            Thread.sleep(100L);
+            job = managementService.createJobQuery().processInstanceId(processInstanceId).singleResult();
+        }
+        return job;
+    }
+
+    protected void waitForProcessInstanceToEnd(String processInstanceId, long maxMillisToWait) throws InterruptedException {
+        long end = System.currentTimeMillis() + maxMillisToWait;
+        while (runtimeService.createProcessInstanceQuery().processInstanceId(processInstanceId).count() > 0) {
+            if (System.currentTimeMillis() > end) {
+                fail("Process instance " + processInstanceId + " did not end within " + maxMillisToWait + " ms");
+            }
+            Thread.sleep(100L);
+        }
+    }
+
     @Deployment
     public void testMapException() {
         String procId = runtimeService.startProcessInstanceByKey("mapException").getId();
@@ -0,0 +1,297 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.image.impl;
+
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.geom.RoundRectangle2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.WeakHashMap;
+
+import javax.imageio.ImageIO;
+import javax.xml.bind.DatatypeConverter;
+
+import org.flowable.bpmn.model.BpmnModel;
+import org.flowable.bpmn.model.FlowElement;
+import org.flowable.bpmn.model.FlowNode;
+import org.flowable.bpmn.model.GraphicInfo;
+import org.flowable.bpmn.model.Process;
+import org.flowable.image.exception.FlowableImageException;
+
+/**
+ * {@link DefaultProcessDiagramGenerator} that renders the diagram of a {@link BpmnModel} once, without any highlighting, and keeps that
+ * image for as long as the {@link BpmnModel} instance itself is in use (typically as long as the process definition is in the
+ * process definition cache). Highlighted activities are drawn on a copy of the cached image.
+ * 
+ * Highlighted sequence flows are part of the flow rendering itself, so requests with highlighted flows are rendered completely.
+ * 
+ * The encoded PNG and SVG diagrams are cached as well, per {@link BpmnModel} and set of highlighted elements, so repeated requests for a
+ * process instance that didn't move on are served without drawing or encoding anything. At most {@link #getEncodedDiagramCacheLimit()}
+ * encoded diagrams are kept per model, the least recently used ones are removed first.
+ */
+public class CachingProcessDiagramGenerator extends DefaultProcessDiagramGenerator {
+
+    protected static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    protected static final int DEFAULT_ENCODED_DIAGRAM_CACHE_LIMIT = 100;
+
+    protected Map<BpmnModel, Map<String, BufferedImage>> diagramCache = Collections.synchronizedMap(new WeakHashMap<BpmnModel, Map<String, BufferedImage>>());
+
+    protected Map<BpmnModel, Map<String, byte[]>> encodedDiagramCache = Collections.synchronizedMap(new WeakHashMap<BpmnModel, Map<String, byte[]>>());
+
+    protected int encodedDiagramCacheLimit = DEFAULT_ENCODED_DIAGRAM_CACHE_LIMIT;
+
+    public CachingProcessDiagramGenerator() {
+        super();
+    }
+
+    public CachingProcessDiagramGenerator(double scaleFactor) {
+        super(scaleFactor);
+    }
+
+    @Override
+    public InputStream generateDiagram(BpmnModel bpmnModel, String imageType, List<String> highLightedActivities, List<String> highLightedFlows,
+            String activityFontName, String labelFontName, String annotationFontName, ClassLoader customClassLoader, double scaleFactor) {
+
+        String cacheKey = getCacheKey(imageType, activityFontName, labelFontName, annotationFontName, scaleFactor)
+                + "|" + getHighLightKey(highLightedActivities) + "|" + getHighLightKey(highLightedFlows);
+        byte[] encodedDiagram = getEncodedDiagram(bpmnModel, cacheKey);
+        if (encodedDiagram == null) {
+            encodedDiagram = renderDiagram(bpmnModel, imageType, highLightedActivities, highLightedFlows,
+                    activityFontName, labelFontName, annotationFontName, customClassLoader, scaleFactor);
+            putEncodedDiagram(bpmnModel, cacheKey, encodedDiagram);
+        }
+        return new ByteArrayInputStream(encodedDiagram);
+    }
+
+    /**
+     * Generates an SVG document containing the (cached) PNG diagram and a rectangle for every drawn flow node. The rectangles have the id of
+     * the flow node as 'data-element-id' attribute and the 'highlighted' class when the flow node is one of the given highlighted activities,
+     * so clients can restyle or add highlights without requesting a new diagram.
+     */
+    public InputStream generateSvgDiagram(BpmnModel bpmnModel, List<String> highLightedActivities,
+            String activityFontName, String labelFontName, String annotationFontName, ClassLoader customClassLoader, double scaleFactor) {
+
+        String cacheKey = "svg|" + getCacheKey("png", activityFontName, labelFontName, annotationFontName, scaleFactor)
+                + "|" + getHighLightKey(highLightedActivities);
+        byte[] encodedDiagram = getEncodedDiagram(bpmnModel, cacheKey);
+        if (encodedDiagram == null) {
+            encodedDiagram = renderSvgDiagram(bpmnModel, highLightedActivities, activityFontName, labelFontName, annotationFontName,
+                    customClassLoader, scaleFactor);
+            putEncodedDiagram(bpmnModel, cacheKey, encodedDiagram);
+        }
+        return new ByteArrayInputStream(encodedDiagram);
+    }
+
+    /**
+     * Removes the cached diagrams of the given model.
+     */
+    public void removeFromCache(BpmnModel bpmnModel) {
+        diagramCache.remove(bpmnModel);
+        encodedDiagramCache.remove(bpmnModel);
+    }
+
+    public void clearCache() {
+        diagramCache.clear();
+        encodedDiagramCache.clear();
+    }
+
+    protected byte[] renderDiagram(BpmnModel bpmnModel, String imageType, List<String> highLightedActivities, List<String> highLightedFlows,
+            String activityFontName, String labelFontName, String annotationFontName, ClassLoader customClassLoader, double scaleFactor) {
+
+        if (highLightedFlows != null && !highLightedFlows.isEmpty()) {
+            DefaultProcessDiagramCanvas processDiagramCanvas = generateProcessDiagram(bpmnModel, imageType, highLightedActivities, highLightedFlows,
+                    activityFontName, labelFontName, annotationFontName, customClassLoader, scaleFactor);
+            try {
+                return writeImage(processDiagramCanvas.processDiagram, imageType);
+            } finally {
+                processDiagramCanvas.close();
+            }
+        }
+
+        BufferedImage diagram = getDiagram(bpmnModel, imageType, activityFontName, labelFontName, annotationFontName, customClassLoader, scaleFactor);
+        if (highLightedActivities != null && !highLightedActivities.isEmpty()) {
+            diagram = drawHighLights(bpmnModel, diagram, highLightedActivities);
+        }
+        return writeImage(diagram, imageType);
+    }
+
+    protected byte[] renderSvgDiagram(BpmnModel bpmnModel, List<String> highLightedActivities,
+            String activityFontName, String labelFontName, String annotationFontName, ClassLoader customClassLoader, double scaleFactor) {
+
+        BufferedImage diagram = getDiagram(bpmnModel, "png", activityFontName, labelFontName, annotationFontName, customClassLoader, scaleFactor);
+
+        StringBuilder svg = new StringBuilder();
+        svg.append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n");
+        svg.append("<svg xmlns=\"http://www.w3.org/2000/svg\" xmlns:xlink=\"http://www.w3.org/1999/xlink\" width=\"").append(diagram.getWidth())
+                .append("\" height=\"").append(diagram.getHeight()).append("\">\n");
+        svg.append("<style>rect.flow-node { fill: none; stroke: none; } rect.flow-node.highlighted { stroke: red; stroke-width: 3; }</style>\n");
+        svg.append("<image width=\"").append(diagram.getWidth()).append("\" height=\"").append(diagram.getHeight())
+                .append("\" xlink:href=\"data:image/png;base64,").append(DatatypeConverter.printBase64Binary(writeImage(diagram, "png"))).append("\"/>\n");
+
+        for (Process process : bpmnModel.getProcesses()) {
+            for (FlowNode flowNode : process.findFlowElementsOfType(FlowNode.class, true)) {
+                GraphicInfo graphicInfo = bpmnModel.getGraphicInfo(flowNode.getId());
+                if (graphicInfo == null || !isDrawn(bpmnModel, flowNode)) {
+                    continue;
+                }
+
+                boolean highLighted = highLightedActivities != null && highLightedActivities.contains(flowNode.getId());
+                svg.append("<rect class=\"flow-node").append(highLighted ? " highlighted" : "")
+                        .append("\" data-element-id=\"").append(escapeXml(flowNode.getId()))
+                        .append("\" x=\"").append((int) graphicInfo.getX()).append("\" y=\"").append((int) graphicInfo.getY())
+                        .append("\" width=\"").append((int) graphicInfo.getWidth()).append("\" height=\"").append((int) graphicInfo.getHeight())
+                        .append("\" rx=\"10\" ry=\"10\"/>\n");
+            }
+        }
+        svg.append("</svg>\n");
+
+        return svg.toString().getBytes(UTF_8);
+    }
+
+    protected BufferedImage getDiagram(BpmnModel bpmnModel, String imageType, String activityFontName, String labelFontName,
+            String annotationFontName, ClassLoader customClassLoader, double scaleFactor) {
+
+        String cacheKey = getCacheKey(imageType, activityFontName, labelFontName, annotationFontName, scaleFactor);
+
+        Map<String, BufferedImage> modelDiagrams;
+        synchronized (diagramCache) {
+            modelDiagrams = diagramCache.get(bpmnModel);
+            if (modelDiagrams == null) {
+                modelDiagrams = Collections.synchronizedMap(new HashMap<String, BufferedImage>());
+                diagramCache.put(bpmnModel, modelDiagrams);
+            }
+        }
+
+        BufferedImage diagram = modelDiagrams.get(cacheKey);
+        if (diagram == null) {
+            DefaultProcessDiagramCanvas processDiagramCanvas = generateProcessDiagram(bpmnModel, imageType, Collections.<String>emptyList(),
+                    Collections.<String>emptyList(), activityFontName, labelFontName, annotationFontName, customClassLoader, scaleFactor);
+            diagram = processDiagramCanvas.processDiagram;
+            processDiagramCanvas.close();
+            modelDiagrams.put(cacheKey, diagram);
+        }
+        return diagram;
+    }
+
+    protected byte[] getEncodedDiagram(BpmnModel bpmnModel, String cacheKey) {
+        Map<String, byte[]> modelDiagrams = encodedDiagramCache.get(bpmnModel);
+        return modelDiagrams != null ? modelDiagrams.get(cacheKey) : null;
+    }
+
+    protected void putEncodedDiagram(BpmnModel bpmnModel, String cacheKey, byte[] encodedDiagram) {
+        Map<String, byte[]> modelDiagrams;
+        synchronized (encodedDiagramCache) {
+            modelDiagrams = encodedDiagramCache.get(bpmnModel);
+            if (modelDiagrams == null) {
+                final int limit = encodedDiagramCacheLimit;
+                modelDiagrams = Collections.synchronizedMap(new LinkedHashMap<String, byte[]>(16, 0.75f, true) {
+
+                    private static final long serialVersionUID = 1L;
+
+                    @Override
+                    protected boolean removeEldestEntry(Map.Entry<String, byte[]> eldest) {
+                        return size() > limit;
+                    }
+                });
+                encodedDiagramCache.put(bpmnModel, modelDiagrams);
+            }
+        }
+        modelDiagrams.put(cacheKey, encodedDiagram);
+    }
+
+    protected String getCacheKey(String imageType, String activityFontName, String labelFontName, String annotationFontName, double scaleFactor) {
+        return imageType.toLowerCase() + "|" + scaleFactor + "|" + activityFontName + "|" + labelFontName + "|" + annotationFontName;
+    }
+
+    /**
+     * Returns the highlighted ids in a fixed order, so the same set of highlighted elements always uses the same cached diagram.
+     */
+    protected String getHighLightKey(List<String> highLightedIds) {
+        if (highLightedIds == null || highLightedIds.isEmpty()) {
+            return "";
+        }
+        StringBuilder highLightKey = new StringBuilder();
+        for (String highLightedId : new TreeSet<String>(highLightedIds)) {
+            if (highLightKey.length() > 0) {
+                highLightKey.append(',');
+            }
+            highLightKey.append(highLightedId);
+        }
+        return highLightKey.toString();
+    }
+
+    protected BufferedImage drawHighLights(BpmnModel bpmnModel, BufferedImage diagram, List<String> highLightedActivities) {
+        BufferedImage image = new BufferedImage(diagram.getWidth(), diagram.getHeight(), diagram.getType());
+        Graphics2D g = image.createGraphics();
+        try {
+            g.drawImage(diagram, 0, 0, null);
+            g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            g.setPaint(DefaultProcessDiagramCanvas.HIGHLIGHT_COLOR);
+            g.setStroke(DefaultProcessDiagramCanvas.THICK_TASK_BORDER_STROKE);
+
+            for (String activityId : highLightedActivities) {
+                FlowElement flowElement = bpmnModel.getFlowElement(activityId);
+                GraphicInfo graphicInfo = bpmnModel.getGraphicInfo(activityId);
+                if (flowElement instanceof FlowNode && graphicInfo != null && isDrawn(bpmnModel, flowElement)) {
+                    g.draw(new RoundRectangle2D.Double((int) graphicInfo.getX(), (int) graphicInfo.getY(),
+                            (int) graphicInfo.getWidth(), (int) graphicInfo.getHeight(), 20, 20));
+                }
+            }
+        } finally {
+            g.dispose();
+        }
+        return image;
+    }
+
+    protected boolean isDrawn(BpmnModel bpmnModel, FlowElement flowElement) {
+        return activityDrawInstructions.containsKey(flowElement.getClass()) && !isPartOfCollapsedSubProcess(flowElement, bpmnModel);
+    }
+
+    protected byte[] writeImage(BufferedImage image, String imageType) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try {
+            ImageIO.write(image, imageType, out);
+        } catch (IOException e) {
+            throw new FlowableImageException("Error while generating process image", e);
+        }
+        return out.toByteArray();
+    }
+
+    protected String escapeXml(String value) {
+        return value.replace("&", "&amp;").replace("\"", "&quot;").replace("<", "&lt;").replace(">", "&gt;");
+    }
+
+    public int getEncodedDiagramCacheLimit() {
+        return encodedDiagramCacheLimit;
+    }
+
+    /**
+     * Sets the maximum number of encoded diagrams cached per {@link BpmnModel}. Only applies to models that have no cached diagrams yet.
+     */
+    public void setEncodedDiagramCacheLimit(int encodedDiagramCacheLimit) {
+        this.encodedDiagramCacheLimit = encodedDiagramCacheLimit;
+    }
+
+}
@@ -0,0 +1,219 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.image.impl;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.flowable.bpmn.model.BpmnModel;
+import org.flowable.bpmn.model.EndEvent;
+import org.flowable.bpmn.model.FlowNode;
+import org.flowable.bpmn.model.GraphicInfo;
+import org.flowable.bpmn.model.Process;
+import org.flowable.bpmn.model.SequenceFlow;
+import org.flowable.bpmn.model.StartEvent;
+import org.flowable.bpmn.model.UserTask;
+import org.junit.Before;
+import org.junit.Test;
+
+public class CachingProcessDiagramGeneratorTest {
+
+    protected CountingProcessDiagramGenerator diagramGenerator;
+    protected BpmnModel bpmnModel;
+
+    @Before
+    public void setUp() {
+        diagramGenerator = new CountingProcessDiagramGenerator();
+        bpmnModel = createBpmnModel();
+    }
+
+    @Test
+    public void testDiagramIsRenderedOnce() throws Exception {
+        byte[] diagram = generateDiagram(Collections.<String>emptyList(), Collections.<String>emptyList());
+        assertTrue(diagram.length > 0);
+        assertArrayEquals(diagram, generateDiagram(Collections.<String>emptyList(), Collections.<String>emptyList()));
+        assertEquals(1, diagramGenerator.renderCount);
+        assertEquals(1, diagramGenerator.encodeCount);
+    }
+
+    @Test
+    public void testEncodedDiagramIsCachedPerHighLightSet() throws Exception {
+        byte[] diagram = generateDiagram(Collections.<String>emptyList(), Collections.<String>emptyList());
+        byte[] highLightedDiagram = generateDiagram(Arrays.asList("task", "start"), Collections.<String>emptyList());
+        assertFalse(Arrays.equals(diagram, highLightedDiagram));
+        assertEquals(2, diagramGenerator.encodeCount);
+
+        // The same highlighted activities in another order use the cached diagram
+        assertArrayEquals(highLightedDiagram, generateDiagram(Arrays.asList("start", "task"), Collections.<String>emptyList()));
+        assertEquals(2, diagramGenerator.encodeCount);
+
+        // The activity highlights are drawn on the cached diagram
+        assertEquals(1, diagramGenerator.renderCount);
+
+        // Highlighted flows need a complete rendering, which is cached as well
+        byte[] highLightedFlowDiagram = generateDiagram(Arrays.asList("task"), Arrays.asList("flow1"));
+        assertArrayEquals(highLightedFlowDiagram, generateDiagram(Arrays.asList("task"), Arrays.asList("flow1")));
+        assertEquals(2, diagramGenerator.renderCount);
+        assertEquals(3, diagramGenerator.encodeCount);
+    }
+
+    @Test
+    public void testSvgDiagramIsCachedPerHighLightSet() throws Exception {
+        String svg = new String(generateSvgDiagram(Arrays.asList("task")), "UTF-8");
+        assertTrue(svg.contains("class=\"flow-node highlighted\" data-element-id=\"task\""));
+        assertTrue(svg.contains("class=\"flow-node\" data-element-id=\"start\""));
+
+        generateSvgDiagram(Arrays.asList("task"));
+        assertEquals(1, diagramGenerator.encodeCount);
+
+        generateSvgDiagram(Arrays.asList("start"));
+        assertEquals(2, diagramGenerator.encodeCount);
+        assertEquals(1, diagramGenerator.renderCount);
+    }
+
+    @Test
+    public void testLeastRecentlyUsedDiagramIsRemoved() throws Exception {
+        diagramGenerator.setEncodedDiagramCacheLimit(2);
+
+        generateDiagram(Collections.<String>emptyList(), Collections.<String>emptyList());
+        generateDiagram(Arrays.asList("start"), Collections.<String>emptyList());
+        generateDiagram(Collections.<String>emptyList(), Collections.<String>emptyList());
+        generateDiagram(Arrays.asList("task"), Collections.<String>emptyList());
+        assertEquals(3, diagramGenerator.encodeCount);
+
+        // The diagram without highlights was used most recently, so the one highlighting the start event was removed
+        generateDiagram(Collections.<String>emptyList(), Collections.<String>emptyList());
+        assertEquals(3, diagramGenerator.encodeCount);
+        generateDiagram(Arrays.asList("start"), Collections.<String>emptyList());
+        assertEquals(4, diagramGenerator.encodeCount);
+    }
+
+    @Test
+    public void testRemoveFromCache() throws Exception {
+        generateDiagram(Collections.<String>emptyList(), Collections.<String>emptyList());
+        diagramGenerator.removeFromCache(bpmnModel);
+        generateDiagram(Collections.<String>emptyList(), Collections.<String>emptyList());
+        assertEquals(2, diagramGenerator.renderCount);
+        assertEquals(2, diagramGenerator.encodeCount);
+    }
+
+    protected byte[] generateDiagram(List<String> highLightedActivities, List<String> highLightedFlows) throws IOException {
+        return read(diagramGenerator.generateDiagram(bpmnModel, "png", highLightedActivities, highLightedFlows));
+    }
+
+    protected byte[] generateSvgDiagram(List<String> highLightedActivities) throws IOException {
+        return read(diagramGenerator.generateSvgDiagram(bpmnModel, highLightedActivities, null, null, null, null, 1.0));
+    }
+
+    protected byte[] read(InputStream inputStream) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buffer = new byte[4096];
+        int read;
+        while ((read = inputStream.read(buffer)) != -1) {
+            out.write(buffer, 0, read);
+        }
+        return out.toByteArray();
+    }
+
+    protected BpmnModel createBpmnModel() {
+        BpmnModel model = new BpmnModel();
+        Process process = new Process();
+        process.setId("process");
+        model.addProcess(process);
+
+        StartEvent start = new StartEvent();
+        addFlowNode(model, process, start, "start", 0, 15, 30, 30);
+        UserTask task = new UserTask();
+        task.setName("Task");
+        addFlowNode(model, process, task, "task", 80, 0, 100, 60);
+        EndEvent end = new EndEvent();
+        addFlowNode(model, process, end, "end", 230, 16, 28, 28);
+
+        addSequenceFlow(model, process, "flow1", start, task);
+        addSequenceFlow(model, process, "flow2", task, end);
+        return model;
+    }
+
+    protected void addFlowNode(BpmnModel model, Process process, FlowNode flowNode, String id, double x, double y, double width, double height) {
+        flowNode.setId(id);
+        process.addFlowElement(flowNode);
+        model.addGraphicInfo(id, createGraphicInfo(x, y, width, height));
+    }
+
+    protected void addSequenceFlow(BpmnModel model, Process process, String id, FlowNode source, FlowNode target) {
+        SequenceFlow sequenceFlow = new SequenceFlow(source.getId(), target.getId());
+        sequenceFlow.setId(id);
+        process.addFlowElement(sequenceFlow);
+        source.getOutgoingFlows().add(sequenceFlow);
+        target.getIncomingFlows().add(sequenceFlow);
+
+        GraphicInfo sourceInfo = model.getGraphicInfo(source.getId());
+        GraphicInfo targetInfo = model.getGraphicInfo(target.getId());
+        double y = sourceInfo.getY() + sourceInfo.getHeight() / 2;
+        model.addFlowGraphicInfoList(id, Arrays.asList(createGraphicInfo(sourceInfo.getX() + sourceInfo.getWidth(), y, 0, 0),
+                createGraphicInfo(targetInfo.getX(), y, 0, 0)));
+    }
+
+    protected GraphicInfo createGraphicInfo(double x, double y, double width, double height) {
+        GraphicInfo graphicInfo = new GraphicInfo();
+        graphicInfo.setX(x);
+        graphicInfo.setY(y);
+        graphicInfo.setWidth(width);
+        graphicInfo.setHeight(height);
+        return graphicInfo;
+    }
+
+    protected static class CountingProcessDiagramGenerator extends CachingProcessDiagramGenerator {
+
+        protected int renderCount;
+        protected int encodeCount;
+
+        @Override
+        protected DefaultProcessDiagramCanvas generateProcessDiagram(BpmnModel bpmnModel, String imageType, List<String> highLightedActivities,
+                List<String> highLightedFlows, String activityFontName, String labelFontName, String annotationFontName,
+                ClassLoader customClassLoader, double scaleFactor) {
+
+            renderCount++;
+            return super.generateProcessDiagram(bpmnModel, imageType, highLightedActivities, highLightedFlows,
+                    activityFontName, labelFontName, annotationFontName, customClassLoader, scaleFactor);
+        }
+
+        @Override
+        protected byte[] renderDiagram(BpmnModel bpmnModel, String imageType, List<String> highLightedActivities, List<String> highLightedFlows,
+                String activityFontName, String labelFontName, String annotationFontName, ClassLoader customClassLoader, double scaleFactor) {
+
+            encodeCount++;
+            return super.renderDiagram(bpmnModel, imageType, highLightedActivities, highLightedFlows,
+                    activityFontName, labelFontName, annotationFontName, customClassLoader, scaleFactor);
+        }
+
+        @Override
+        protected byte[] renderSvgDiagram(BpmnModel bpmnModel, List<String> highLightedActivities, String activityFontName,
+                String labelFontName, String annotationFontName, ClassLoader customClassLoader, double scaleFactor) {
+
+            encodeCount++;
+            return super.renderSvgDiagram(bpmnModel, highLightedActivities, activityFontName, labelFontName, annotationFontName,
+                    customClassLoader, scaleFactor);
+        }
+    }
+
+}
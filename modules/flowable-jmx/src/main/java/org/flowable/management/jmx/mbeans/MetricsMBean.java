@@ -0,0 +1,83 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.management.jmx.mbeans;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.flowable.engine.ProcessEngineConfiguration;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.metrics.MetricSnapshot;
+import org.flowable.engine.impl.metrics.MetricsRegistry;
+import org.flowable.management.jmx.annotations.ManagedAttribute;
+import org.flowable.management.jmx.annotations.ManagedOperation;
+import org.flowable.management.jmx.annotations.ManagedResource;
+
+/**
+ * Exposes the engine metrics collected by the {@link MetricsRegistry}.
+ */
+@ManagedResource(description = "Engine metrics MBean")
+public class MetricsMBean {
+
+    ProcessEngineConfiguration processEngineConfig;
+
+    public MetricsMBean(ProcessEngineConfiguration processEngineConfig) {
+        this.processEngineConfig = processEngineConfig;
+    }
+
+    @ManagedAttribute(description = "check if engine metrics are collected")
+    public boolean isMetricsEnabled() {
+        MetricsRegistry metricsRegistry = getMetricsRegistry();
+        return metricsRegistry != null && metricsRegistry.isEnabled();
+    }
+
+    @ManagedAttribute(description = "List of metrics (name, key, count, total, max)")
+    public List<List<String>> getMetrics() {
+        MetricsRegistry metricsRegistry = getMetricsRegistry();
+        if (metricsRegistry == null) {
+            return Collections.emptyList();
+        }
+
+        List<List<String>> result = new ArrayList<List<String>>();
+        for (Map.Entry<String, Map<String, MetricSnapshot>> metricEntry : metricsRegistry.getMetrics().entrySet()) {
+            for (Map.Entry<String, MetricSnapshot> keyEntry : metricEntry.getValue().entrySet()) {
+                List<String> item = new ArrayList<String>(5);
+                item.add(metricEntry.getKey());
+                item.add(keyEntry.getKey());
+                item.add(Long.toString(keyEntry.getValue().getCount()));
+                item.add(Long.toString(keyEntry.getValue().getTotal()));
+                item.add(Long.toString(keyEntry.getValue().getMax()));
+                result.add(item);
+            }
+        }
+        return result;
+    }
+
+    @ManagedOperation(description = "reset the engine metrics")
+    public void resetMetrics() {
+        MetricsRegistry metricsRegistry = getMetricsRegistry();
+        if (metricsRegistry != null) {
+            metricsRegistry.reset();
+        }
+    }
+
+    protected MetricsRegistry getMetricsRegistry() {
+        if (processEngineConfig instanceof ProcessEngineConfigurationImpl) {
+            return ((ProcessEngineConfigurationImpl) processEngineConfig).getMetricsRegistry();
+        }
+        return null;
+    }
+
+}
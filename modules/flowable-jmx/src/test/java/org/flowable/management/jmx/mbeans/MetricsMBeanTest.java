@@ -0,0 +1,88 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.management.jmx.mbeans;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.List;
+
+import javax.management.JMException;
+import javax.management.MBeanInfo;
+import javax.management.MalformedObjectNameException;
+import javax.management.ObjectName;
+import javax.management.modelmbean.ModelMBean;
+
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.metrics.DefaultMetricsRegistry;
+import org.flowable.engine.impl.metrics.MetricsRegistry;
+import org.flowable.engine.impl.metrics.NoOpMetricsRegistry;
+import org.flowable.management.jmx.DefaultManagementMBeanAssembler;
+import org.flowable.management.jmx.ManagementMBeanAssembler;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+public class MetricsMBeanTest {
+
+    protected MetricsMBean metricsMBean;
+
+    @Mock
+    protected ProcessEngineConfigurationImpl processEngineConfiguration;
+
+    @Before
+    public void initMocks() {
+        MockitoAnnotations.initMocks(this);
+        metricsMBean = new MetricsMBean(processEngineConfiguration);
+    }
+
+    @Test
+    public void testMetricsDisabled() {
+        when(processEngineConfiguration.getMetricsRegistry()).thenReturn(new NoOpMetricsRegistry());
+        assertFalse(metricsMBean.isMetricsEnabled());
+        assertTrue(metricsMBean.getMetrics().isEmpty());
+    }
+
+    @Test
+    public void testGetAndResetMetrics() {
+        MetricsRegistry metricsRegistry = new DefaultMetricsRegistry();
+        metricsRegistry.increment(MetricsRegistry.AGENDA_OPERATIONS, "operation", 2);
+        metricsRegistry.increment(MetricsRegistry.AGENDA_OPERATIONS, "operation", 3);
+        when(processEngineConfiguration.getMetricsRegistry()).thenReturn(metricsRegistry);
+
+        assertTrue(metricsMBean.isMetricsEnabled());
+        List<List<String>> metrics = metricsMBean.getMetrics();
+        assertEquals(1, metrics.size());
+        assertEquals(Arrays.asList(MetricsRegistry.AGENDA_OPERATIONS, "operation", "2", "5", "0"), metrics.get(0));
+
+        metricsMBean.resetMetrics();
+        assertTrue(metricsMBean.getMetrics().isEmpty());
+    }
+
+    ManagementMBeanAssembler assembler = new DefaultManagementMBeanAssembler();
+
+    @Test
+    public void testAnnotations() throws MalformedObjectNameException, JMException {
+        ModelMBean modelBean = assembler.assemble(metricsMBean, new ObjectName("domain", "key", "value"));
+        assertNotNull(modelBean);
+        MBeanInfo beanInfo = modelBean.getMBeanInfo();
+        assertNotNull(beanInfo);
+        assertEquals(2, beanInfo.getAttributes().length);
+    }
+
+}
@@ -16,14 +16,14 @@ package org.flowable.rest.service.api.repository;
 import java.io.InputStream;
 import java.util.List;
 
+import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
-import org.apache.commons.io.IOUtils;
 import org.flowable.engine.RepositoryService;
-import org.flowable.engine.common.api.FlowableException;
 import org.flowable.engine.common.api.FlowableIllegalArgumentException;
 import org.flowable.engine.common.api.FlowableObjectNotFoundException;
 import org.flowable.engine.repository.Deployment;
+import org.flowable.rest.api.ContentStreamUtil;
 import org.flowable.rest.application.ContentTypeResolver;
 import org.springframework.beans.factory.annotation.Autowired;
 
@@ -38,7 +38,7 @@ public class BaseDeploymentResourceDataResource {
     @Autowired
     protected RepositoryService repositoryService;
 
-    protected byte[] getDeploymentResourceData(String deploymentId, String resourceName, HttpServletResponse response) {
+    protected void writeDeploymentResourceData(String deploymentId, String resourceName, HttpServletRequest request, HttpServletResponse response) {
 
         if (deploymentId == null) {
             throw new FlowableIllegalArgumentException("No deployment id provided");
@@ -60,11 +60,11 @@ public class BaseDeploymentResourceDataResource {
 
             String contentType = contentTypeResolver.resolveContentType(resourceName);
             response.setContentType(contentType);
-            try {
-                return IOUtils.toByteArray(resourceStream);
-            } catch (Exception e) {
-                throw new FlowableException("Error converting resource stream", e);
-            }
+
+            // deployed resources never change
+            String eTag = deploymentId + "-" + Integer.toHexString(resourceName.hashCode());
+            ContentStreamUtil.writeContent(request, response, resourceStream, -1, eTag, deployment.getDeploymentTime());
+
         } else {
             // Resource not found in deployment
             throw new FlowableObjectNotFoundException("Could not find a resource with name '" + resourceName + "' in deployment '" + deploymentId + "'.", String.class);
@@ -24,9 +24,9 @@ import org.flowable.engine.repository.ProcessDefinition;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
-import org.springframework.web.bind.annotation.ResponseBody;
 import org.springframework.web.bind.annotation.RestController;
 
+import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
 /**
@@ -42,10 +42,10 @@ public class ProcessDefinitionResourceDataResource extends BaseDeploymentResourc
             @ApiResponse(code = 404, message = "Indicates the requested process definition was not found or there is no resource with the given id present in the process definition. The status-description contains additional information.")
     })
     @ApiOperation(value = "Get a process definition resource content", tags = { "Process Definitions" })
-    @ResponseBody
-    public byte[] getProcessDefinitionResource(@ApiParam(name = "processDefinitionId") @PathVariable String processDefinitionId, HttpServletResponse response) {
+    public void getProcessDefinitionResource(@ApiParam(name = "processDefinitionId") @PathVariable String processDefinitionId,
+            HttpServletRequest request, HttpServletResponse response) {
         ProcessDefinition processDefinition = getProcessDefinitionFromRequest(processDefinitionId);
-        return getDeploymentResourceData(processDefinition.getDeploymentId(), processDefinition.getResourceName(), response);
+        writeDeploymentResourceData(processDefinition.getDeploymentId(), processDefinition.getResourceName(), request, response);
     }
 
     /**
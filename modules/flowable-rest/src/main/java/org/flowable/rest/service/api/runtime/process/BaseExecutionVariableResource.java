@@ -13,6 +13,7 @@
 
 package org.flowable.rest.service.api.runtime.process;
 
+import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.ObjectInputStream;
@@ -20,6 +21,7 @@ import java.io.ObjectOutputStream;
 import java.util.Map;
 
 import javax.annotation.PostConstruct;
+import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
 import org.apache.commons.io.IOUtils;
@@ -30,6 +32,7 @@ import org.flowable.engine.common.api.FlowableObjectNotFoundException;
 import org.flowable.engine.impl.persistence.entity.VariableInstanceEntity;
 import org.flowable.engine.runtime.Execution;
 import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.rest.api.ContentStreamUtil;
 import org.flowable.rest.exception.FlowableContentNotSupportedException;
 import org.flowable.rest.service.api.RestResponseFactory;
 import org.flowable.rest.service.api.engine.variable.RestVariable;
@@ -89,6 +92,11 @@ public class BaseExecutionVariableResource {
         }
     }
 
+    protected void writeVariableData(Execution execution, String variableName, String scope, HttpServletRequest request, HttpServletResponse response) {
+        byte[] variableData = getVariableDataByteArray(execution, variableName, scope, response);
+        ContentStreamUtil.writeContent(request, response, new ByteArrayInputStream(variableData), variableData.length, null, null);
+    }
+
     protected RestVariable setBinaryVariable(MultipartHttpServletRequest request, Execution execution, int responseVariableType, boolean isNew) {
 
         // Validate input and set defaults
@@ -27,6 +27,7 @@ import org.flowable.engine.common.api.FlowableIllegalArgumentException;
 import org.flowable.engine.repository.ProcessDefinition;
 import org.flowable.engine.runtime.ProcessInstance;
 import org.flowable.image.ProcessDiagramGenerator;
+import org.flowable.image.impl.CachingProcessDiagramGenerator;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
@@ -34,11 +35,13 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import javax.servlet.http.HttpServletResponse;
 import java.io.InputStream;
 import java.util.Collections;
+import java.util.List;
 
 /**
  * @author Frederik Heremans
@@ -56,11 +59,13 @@ public class ProcessInstanceDiagramResource extends BaseProcessInstanceResource
     @ApiOperation(value = "Get diagram for a process instance", tags = { "Process Instances" })
     @ApiResponses(value = {
             @ApiResponse(code = 200, message = "Indicates the process instance was found and the diagram was returned."),
-            @ApiResponse(code = 400, message = "Indicates the requested process instance was not found but the process doesn’t contain any graphical information (BPMN:DI) and no diagram can be created."),
+            @ApiResponse(code = 400, message = "Indicates the requested process instance was not found but the process doesn’t contain any graphical information (BPMN:DI) and no diagram can be created, or an SVG diagram was requested but the engine doesn't use the caching diagram generator."),
             @ApiResponse(code = 404, message = "Indicates the requested process instance was not found.")
     })
     @RequestMapping(value = "/runtime/process-instances/{processInstanceId}/diagram", method = RequestMethod.GET)
-    public ResponseEntity<byte[]> getProcessInstanceDiagram(@ApiParam(name = "processInstanceId") @PathVariable String processInstanceId, HttpServletResponse response) {
+    public ResponseEntity<byte[]> getProcessInstanceDiagram(@ApiParam(name = "processInstanceId") @PathVariable String processInstanceId,
+            @ApiParam(name = "format", value = "The format of the diagram, 'png' (default) or 'svg'. An SVG diagram contains the PNG diagram and a rectangle for every flow node, marking the active ones. It is only available when the process diagram cache is enabled.") @RequestParam(value = "format", required = false) String format,
+            HttpServletResponse response) {
         ProcessInstance processInstance = getProcessInstanceFromRequest(processInstanceId);
 
         ProcessDefinition pde = repositoryService.getProcessDefinition(processInstance.getProcessDefinitionId());
@@ -68,12 +73,27 @@ public class ProcessInstanceDiagramResource extends BaseProcessInstanceResource
         if (pde != null && pde.hasGraphicalNotation()) {
             BpmnModel bpmnModel = repositoryService.getBpmnModel(pde.getId());
             ProcessDiagramGenerator diagramGenerator = processEngineConfiguration.getProcessDiagramGenerator();
-            InputStream resource = diagramGenerator.generateDiagram(bpmnModel, "png", runtimeService.getActiveActivityIds(processInstance.getId()), Collections.<String>emptyList(),
-                    processEngineConfiguration.getActivityFontName(), processEngineConfiguration.getLabelFontName(),
-                    processEngineConfiguration.getAnnotationFontName(), processEngineConfiguration.getClassLoader(), 1.0);
+            List<String> activeActivityIds = runtimeService.getActiveActivityIds(processInstance.getId());
 
+            InputStream resource = null;
             HttpHeaders responseHeaders = new HttpHeaders();
-            responseHeaders.set("Content-Type", "image/png");
+            if ("svg".equalsIgnoreCase(format)) {
+                if (!(diagramGenerator instanceof CachingProcessDiagramGenerator)) {
+                    throw new FlowableIllegalArgumentException("SVG diagrams are only available when the process diagram cache is enabled.");
+                }
+
+                resource = ((CachingProcessDiagramGenerator) diagramGenerator).generateSvgDiagram(bpmnModel, activeActivityIds,
+                        processEngineConfiguration.getActivityFontName(), processEngineConfiguration.getLabelFontName(),
+                        processEngineConfiguration.getAnnotationFontName(), processEngineConfiguration.getClassLoader(), 1.0);
+                responseHeaders.set("Content-Type", "image/svg+xml");
+
+            } else {
+                resource = diagramGenerator.generateDiagram(bpmnModel, "png", activeActivityIds, Collections.<String>emptyList(),
+                        processEngineConfiguration.getActivityFontName(), processEngineConfiguration.getLabelFontName(),
+                        processEngineConfiguration.getAnnotationFontName(), processEngineConfiguration.getClassLoader(), 1.0);
+                responseHeaders.set("Content-Type", "image/png");
+            }
+
             try {
                 return new ResponseEntity<byte[]>(IOUtils.toByteArray(resource), responseHeaders, HttpStatus.OK);
             } catch (Exception e) {
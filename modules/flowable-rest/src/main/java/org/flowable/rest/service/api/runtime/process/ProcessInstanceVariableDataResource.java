@@ -24,7 +24,6 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
 import org.springframework.web.bind.annotation.RequestParam;
-import org.springframework.web.bind.annotation.ResponseBody;
 import org.springframework.web.bind.annotation.RestController;
 
 import javax.servlet.http.HttpServletRequest;
@@ -43,12 +42,11 @@ public class ProcessInstanceVariableDataResource extends BaseExecutionVariableRe
             @ApiResponse(code = 404, message = "Indicates the requested task was not found or the task doesn’t have a variable with the given name (in the given scope). Status message provides additional information.")
     })
     @ApiOperation(value = "Get the binary data for a variable", tags = { "Process Instances" }, nickname = "getProcessInstanceVariableData")
-    @ResponseBody
-    public byte[] getVariableData(@ApiParam(name = "processInstanceId") @PathVariable("processInstanceId") String processInstanceId, @ApiParam(name = "variableName") @PathVariable("variableName") String variableName,
+    public void getVariableData(@ApiParam(name = "processInstanceId") @PathVariable("processInstanceId") String processInstanceId, @ApiParam(name = "variableName") @PathVariable("variableName") String variableName,
             @RequestParam(value = "scope", required = false) String scope,
             HttpServletRequest request, HttpServletResponse response) {
 
         Execution execution = getProcessInstanceFromRequest(processInstanceId);
-        return getVariableDataByteArray(execution, variableName, scope, response);
+        writeVariableData(execution, variableName, scope, request, response);
     }
 }
@@ -19,20 +19,17 @@ import io.swagger.annotations.ApiParam;
 import io.swagger.annotations.ApiResponse;
 import io.swagger.annotations.ApiResponses;
 import io.swagger.annotations.Authorization;
-import org.apache.commons.io.IOUtils;
-import org.flowable.engine.common.api.FlowableException;
 import org.flowable.engine.common.api.FlowableObjectNotFoundException;
 import org.flowable.engine.history.HistoricTaskInstance;
 import org.flowable.engine.task.Attachment;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.HttpStatus;
+import org.flowable.rest.api.ContentStreamUtil;
 import org.springframework.http.MediaType;
-import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
 import org.springframework.web.bind.annotation.RestController;
 
+import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import java.io.InputStream;
 
@@ -47,10 +44,13 @@ public class TaskAttachmentContentResource extends TaskBaseResource {
             "Tasks" }, notes = "The response body contains the binary content. By default, the content-type of the response is set to application/octet-stream unless the attachment type contains a valid Content-type.")
     @ApiResponses(value = {
             @ApiResponse(code = 200, message = "Indicates the task and attachment was found and the requested content is returned."),
+            @ApiResponse(code = 206, message = "Indicates the task and attachment was found and the requested range of the content is returned."),
+            @ApiResponse(code = 304, message = "Indicates the attachment content didn't change since the version known to the client."),
             @ApiResponse(code = 404, message = "Indicates the requested task was not found or the task doesn’t have an attachment with the given id or the attachment doesn’t have a binary stream available. Status message provides additional information.")
     })
     @RequestMapping(value = "/runtime/tasks/{taskId}/attachments/{attachmentId}/content", method = RequestMethod.GET)
-    public ResponseEntity<byte[]> getAttachmentContent(@ApiParam(name = "taskId") @PathVariable("taskId") String taskId, @ApiParam(name = "attachmentId") @PathVariable("attachmentId") String attachmentId, HttpServletResponse response) {
+    public void getAttachmentContent(@ApiParam(name = "taskId") @PathVariable("taskId") String taskId, @ApiParam(name = "attachmentId") @PathVariable("attachmentId") String attachmentId,
+            HttpServletRequest request, HttpServletResponse response) {
 
         HistoricTaskInstance task = getHistoricTaskFromRequest(taskId);
         Attachment attachment = taskService.getAttachment(attachmentId);
@@ -64,25 +64,21 @@ public class TaskAttachmentContentResource extends TaskBaseResource {
             throw new FlowableObjectNotFoundException("Attachment with id '" + attachmentId + "' doesn't have content associated with it.", Attachment.class);
         }
 
-        HttpHeaders responseHeaders = new HttpHeaders();
         MediaType mediaType = null;
         if (attachment.getType() != null) {
             try {
                 mediaType = MediaType.valueOf(attachment.getType());
-                responseHeaders.set("Content-Type", attachment.getType());
+                response.setContentType(attachment.getType());
             } catch (Exception e) {
                 // ignore if unknown media type
             }
         }
 
         if (mediaType == null) {
-            responseHeaders.set("Content-Type", "application/octet-stream");
+            response.setContentType("application/octet-stream");
         }
 
-        try {
-            return new ResponseEntity<byte[]>(IOUtils.toByteArray(attachmentStream), responseHeaders, HttpStatus.OK);
-        } catch (Exception e) {
-            throw new FlowableException("Error creating attachment data", e);
-        }
+        // the content of an attachment can't be changed, so its id identifies the content
+        ContentStreamUtil.writeContent(request, response, attachmentStream, -1, attachment.getId(), attachment.getTime());
     }
 }
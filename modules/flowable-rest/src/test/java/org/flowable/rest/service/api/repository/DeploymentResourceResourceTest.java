@@ -106,4 +106,43 @@ public class DeploymentResourceResourceTest extends BaseSpringRestTestCase {
             }
         }
     }
+
+    /**
+     * Test getting a range of a single resource content and a conditional request for it. GET repository/deployments/{deploymentId}/resourcedata/{resourceId}
+     */
+    public void testGetDeploymentResourceContentRange() throws Exception {
+        try {
+            Deployment deployment = repositoryService.createDeployment().name("Deployment 1").addInputStream("test.txt", new ByteArrayInputStream("Test content".getBytes())).deploy();
+            String url = SERVER_URL_PREFIX + RestUrls.createRelativeResourceUrl(RestUrls.URL_DEPLOYMENT_RESOURCE_CONTENT, deployment.getId(), "test.txt");
+
+            HttpGet httpGet = new HttpGet(url);
+            httpGet.addHeader(new BasicHeader(HttpHeaders.RANGE, "bytes=5-8"));
+            CloseableHttpResponse response = executeRequest(httpGet, HttpStatus.SC_PARTIAL_CONTENT);
+            assertEquals("bytes 5-8/12", response.getFirstHeader(HttpHeaders.CONTENT_RANGE).getValue());
+            assertEquals("cont", IOUtils.toString(response.getEntity().getContent()));
+            String eTag = response.getFirstHeader(HttpHeaders.ETAG).getValue();
+            closeResponse(response);
+
+            httpGet = new HttpGet(url);
+            httpGet.addHeader(new BasicHeader(HttpHeaders.RANGE, "bytes=-7"));
+            response = executeRequest(httpGet, HttpStatus.SC_PARTIAL_CONTENT);
+            assertEquals("content", IOUtils.toString(response.getEntity().getContent()));
+            closeResponse(response);
+
+            httpGet = new HttpGet(url);
+            httpGet.addHeader(new BasicHeader(HttpHeaders.RANGE, "bytes=20-"));
+            closeResponse(executeRequest(httpGet, HttpStatus.SC_REQUESTED_RANGE_NOT_SATISFIABLE));
+
+            httpGet = new HttpGet(url);
+            httpGet.addHeader(new BasicHeader(HttpHeaders.IF_NONE_MATCH, eTag));
+            closeResponse(executeRequest(httpGet, HttpStatus.SC_NOT_MODIFIED));
+
+        } finally {
+            // Always cleanup any created deployments, even if the test failed
+            List<Deployment> deployments = repositoryService.createDeploymentQuery().list();
+            for (Deployment deployment : deployments) {
+                repositoryService.deleteDeployment(deployment.getId(), true);
+            }
+        }
+    }
 }
@@ -13,11 +13,16 @@
 
 package org.flowable.rest.service.api.runtime;
 
+import javax.imageio.ImageIO;
+
+import org.apache.commons.io.IOUtils;
 import org.apache.http.HttpStatus;
 import org.apache.http.client.methods.CloseableHttpResponse;
 import org.apache.http.client.methods.HttpGet;
 import org.flowable.engine.runtime.ProcessInstance;
 import org.flowable.engine.test.Deployment;
+import org.flowable.image.ProcessDiagramGenerator;
+import org.flowable.image.impl.CachingProcessDiagramGenerator;
 import org.flowable.rest.service.BaseSpringRestTestCase;
 import org.flowable.rest.service.api.RestUrls;
 
@@ -37,6 +42,40 @@ public class ProcessInstanceDiagramResourceTest extends BaseSpringRestTestCase {
         closeResponse(response);
     }
 
+    @Deployment(resources = { "org/flowable/rest/service/api/runtime/ProcessInstanceDiagramResourceTest.testGetProcessDiagram.bpmn20.xml" })
+    public void testGetProcessDiagramWithDiagramCache() throws Exception {
+        ProcessDiagramGenerator originalDiagramGenerator = processEngineConfiguration.getProcessDiagramGenerator();
+        processEngineConfiguration.setProcessDiagramGenerator(new CachingProcessDiagramGenerator());
+        try {
+            ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("simpleProcess");
+            String url = SERVER_URL_PREFIX + RestUrls.createRelativeResourceUrl(RestUrls.URL_PROCESS_INSTANCE_DIAGRAM, processInstance.getId());
+
+            for (int i = 0; i < 2; i++) {
+                CloseableHttpResponse response = executeRequest(new HttpGet(url), HttpStatus.SC_OK);
+                assertEquals("image/png", response.getEntity().getContentType().getValue());
+                assertNotNull(ImageIO.read(response.getEntity().getContent()));
+                closeResponse(response);
+            }
+
+            CloseableHttpResponse response = executeRequest(new HttpGet(url + "?format=svg"), HttpStatus.SC_OK);
+            assertEquals("image/svg+xml", response.getEntity().getContentType().getValue());
+            String svg = IOUtils.toString(response.getEntity().getContent());
+            closeResponse(response);
+            assertTrue(svg.contains("<rect class=\"flow-node highlighted\" data-element-id=\"task\""));
+            assertTrue(svg.contains("<rect class=\"flow-node\" data-element-id=\"start\""));
+
+        } finally {
+            processEngineConfiguration.setProcessDiagramGenerator(originalDiagramGenerator);
+        }
+    }
+
+    @Deployment(resources = { "org/flowable/rest/service/api/runtime/ProcessInstanceDiagramResourceTest.testGetProcessDiagram.bpmn20.xml" })
+    public void testGetSvgProcessDiagramWithoutDiagramCache() throws Exception {
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("simpleProcess");
+        closeResponse(executeRequest(new HttpGet(SERVER_URL_PREFIX + RestUrls.createRelativeResourceUrl(RestUrls.URL_PROCESS_INSTANCE_DIAGRAM, processInstance.getId()) + "?format=svg"),
+                HttpStatus.SC_BAD_REQUEST));
+    }
+
     @Deployment
     public void testGetProcessDiagramWithoutDiagram() throws Exception {
         ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("oneTaskProcess");
@@ -98,6 +98,8 @@ public abstract class AbstractProcessEngineAutoConfiguration
 
         conf.setHistoryLevel(flowableProperties.getHistoryLevel());
 
+        conf.setEnableMetrics(flowableProperties.isMetricsEnabled());
+
         if (flowableProperties.getCustomMybatisMappers() != null) {
             conf.setCustomMybatisMappers(getCustomMybatisMapperClasses(flowableProperties.getCustomMybatisMappers()));
         }
@@ -46,6 +46,7 @@ public class FlowableProperties {
     private String restApiMapping = "/api/*";
     private String restApiServletName = "flowableRestApi";
     private boolean jpaEnabled = true; // true by default
+    private boolean metricsEnabled;
     private List<String> customMybatisMappers;
     private List<String> customMybatisXMLMappers;
 
@@ -73,6 +74,14 @@ public class FlowableProperties {
         this.jpaEnabled = jpaEnabled;
     }
 
+    public boolean isMetricsEnabled() {
+        return metricsEnabled;
+    }
+
+    public void setMetricsEnabled(boolean metricsEnabled) {
+        this.metricsEnabled = metricsEnabled;
+    }
+
     public String getRestApiMapping() {
         return restApiMapping;
     }
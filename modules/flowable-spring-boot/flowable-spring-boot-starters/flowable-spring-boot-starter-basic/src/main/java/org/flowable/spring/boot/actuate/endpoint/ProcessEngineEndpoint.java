@@ -20,6 +20,7 @@ import java.util.Map;
 
 import org.flowable.engine.ProcessEngine;
 import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.metrics.MetricsRegistry;
 import org.flowable.engine.impl.persistence.deploy.DefaultDeploymentCache;
 import org.flowable.engine.impl.persistence.deploy.DeploymentCache;
 import org.flowable.engine.impl.persistence.deploy.ProcessDefinitionCacheEntry;
@@ -88,6 +89,12 @@ public class ProcessEngineEndpoint extends AbstractEndpoint<Map<String, Object>>
         if (deploymentCache instanceof DefaultDeploymentCache) {
             metrics.put("cachedProcessDefinitionCount", ((DefaultDeploymentCache) deploymentCache).size());
         }
+
+        // Engine metrics (command, statement and agenda timings), when enabled
+        MetricsRegistry metricsRegistry = ((ProcessEngineConfigurationImpl) processEngine.getProcessEngineConfiguration()).getMetricsRegistry();
+        if (metricsRegistry != null && metricsRegistry.isEnabled()) {
+            metrics.put("engineMetrics", metricsRegistry.getMetrics());
+        }
         return metrics;
     }
 
@@ -12,6 +12,7 @@
  */
 package org.flowable.app.service.idm;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.app.model.common.RemoteGroup;
@@ -26,6 +27,8 @@ public interface RemoteIdmService {
 
     RemoteUser getUser(String userId);
 
+    List<RemoteUser> getUsers(Collection<String> userIds);
+
     List<RemoteUser> findUsersByNameFilter(String filter);
     
     List<RemoteUser> findUsersByGroup(String groupId);
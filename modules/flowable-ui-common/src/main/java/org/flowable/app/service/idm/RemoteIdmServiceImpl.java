@@ -20,6 +20,7 @@ import java.io.IOException;
 import java.net.URLEncoder;
 import java.nio.charset.Charset;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 
 import javax.annotation.PostConstruct;
@@ -52,6 +53,9 @@ public class RemoteIdmServiceImpl implements RemoteIdmService {
     private static final String PROPERTY_ADMIN_USER = "idm.admin.user";
     private static final String PROPERTY_ADMIN_PASSWORD = "idm.admin.password";
 
+    // maximum number of user ids sent in one request, to keep the request url short
+    protected static final int MAX_USER_IDS_PER_REQUEST = 50;
+
     @Autowired
     protected Environment environment;
 
@@ -100,6 +104,32 @@ public class RemoteIdmServiceImpl implements RemoteIdmService {
         return null;
     }
 
+    @Override
+    public List<RemoteUser> getUsers(Collection<String> userIds) {
+        if (userIds == null || userIds.isEmpty()) {
+            return new ArrayList<RemoteUser>();
+        }
+
+        List<RemoteUser> users = new ArrayList<RemoteUser>();
+        List<String> userIdList = new ArrayList<String>(userIds);
+        for (int fromIndex = 0; fromIndex < userIdList.size(); fromIndex += MAX_USER_IDS_PER_REQUEST) {
+            List<String> userIdChunk = userIdList.subList(fromIndex, Math.min(fromIndex + MAX_USER_IDS_PER_REQUEST, userIdList.size()));
+            StringBuilder idsParameter = new StringBuilder();
+            for (String userId : userIdChunk) {
+                if (idsParameter.length() > 0) {
+                    idsParameter.append(',');
+                }
+                idsParameter.append(userId);
+            }
+
+            JsonNode json = callRemoteIdmService(url + "/api/idm/users?ids=" + encode(idsParameter.toString()), adminUser, adminPassword);
+            if (json != null) {
+                users.addAll(parseUsersInfo(json));
+            }
+        }
+        return users;
+    }
+
     @Override
     public List<RemoteUser> findUsersByNameFilter(String filter) {
         JsonNode json = callRemoteIdmService(url + "/api/idm/users?filter=" + encode(filter), adminUser, adminPassword);
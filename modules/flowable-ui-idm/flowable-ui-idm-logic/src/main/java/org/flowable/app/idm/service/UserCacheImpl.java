@@ -41,6 +41,9 @@ import com.google.common.util.concurrent.UncheckedExecutionException;
  * 
  * TODO: This could probably be made more efficient with bulk getting. The Google cache impl allows this: override loadAll and use getAll() to fetch multiple entities.
  * 
+ * Besides the idle expiry (cache.users.max.age), an absolute time to live can be set with cache.users.ttl (in seconds),
+ * so privilege changes eventually become visible for users that are looked up continuously.
+ * 
  * @author Frederik Heremans
  * @author Joram Barrez
  */
@@ -62,32 +65,38 @@ public class UserCacheImpl implements UserCache {
     protected void initCache() {
         Long userCacheMaxSize = environment.getProperty("cache.users.max.size", Long.class);
         Long userCacheMaxAge = environment.getProperty("cache.users.max.age", Long.class);
+        Long userCacheTtl = environment.getProperty("cache.users.ttl", Long.class);
 
-        userCache = CacheBuilder.newBuilder().maximumSize(userCacheMaxSize != null ? userCacheMaxSize : 2048)
-                .expireAfterAccess(userCacheMaxAge != null ? userCacheMaxAge : (24 * 60 * 60), TimeUnit.SECONDS).recordStats().build(new CacheLoader<String, CachedUser>() {
-
-                    public CachedUser load(final String userId) throws Exception {
-                        User userFromDatabase = null;
-                        if (!environment.getProperty("ldap.enabled", Boolean.class, false)) {
-                            userFromDatabase = identityService.createUserQuery().userIdIgnoreCase(userId.toLowerCase()).singleResult();
-                        } else {
-                            userFromDatabase = identityService.createUserQuery().userId(userId).singleResult();
-                        }
-                        
-                        if (userFromDatabase == null) {
-                            throw new UsernameNotFoundException("User " + userId + " was not found in the database");
-                        }
-
-                        Collection<GrantedAuthority> grantedAuthorities = new ArrayList<GrantedAuthority>();
-                        UserInformation userInformation = userService.getUserInformation(userFromDatabase.getId());
-                        for (String privilege : userInformation.getPrivileges()) {
-                            grantedAuthorities.add(new SimpleGrantedAuthority(privilege));
-                        }
-
-                        return new CachedUser(userFromDatabase, grantedAuthorities);
-                    }
+        CacheBuilder<Object, Object> cacheBuilder = CacheBuilder.newBuilder().maximumSize(userCacheMaxSize != null ? userCacheMaxSize : 2048)
+                .expireAfterAccess(userCacheMaxAge != null ? userCacheMaxAge : (24 * 60 * 60), TimeUnit.SECONDS).recordStats();
+        if (userCacheTtl != null && userCacheTtl > 0) {
+            cacheBuilder.expireAfterWrite(userCacheTtl, TimeUnit.SECONDS);
+        }
+
+        userCache = cacheBuilder.build(new CacheLoader<String, CachedUser>() {
+
+            public CachedUser load(final String userId) throws Exception {
+                User userFromDatabase = null;
+                if (!environment.getProperty("ldap.enabled", Boolean.class, false)) {
+                    userFromDatabase = identityService.createUserQuery().userIdIgnoreCase(userId.toLowerCase()).singleResult();
+                } else {
+                    userFromDatabase = identityService.createUserQuery().userId(userId).singleResult();
+                }
+                
+                if (userFromDatabase == null) {
+                    throw new UsernameNotFoundException("User " + userId + " was not found in the database");
+                }
+
+                Collection<GrantedAuthority> grantedAuthorities = new ArrayList<GrantedAuthority>();
+                UserInformation userInformation = userService.getUserInformation(userFromDatabase.getId());
+                for (String privilege : userInformation.getPrivileges()) {
+                    grantedAuthorities.add(new SimpleGrantedAuthority(privilege));
+                }
+
+                return new CachedUser(userFromDatabase, grantedAuthorities);
+            }
 
-                });
+        });
     }
 
     public void putUser(String userId, CachedUser cachedUser) {
@@ -24,6 +24,8 @@ public interface UserService {
 
     List<User> getUsers(String filter, String sort, Integer start);
 
+    List<User> getUsersByIds(List<String> userIds);
+
     long getUserCount(String filter, String sort, Integer start, String groupId);
 
     void updateUserDetails(String userId, String firstName, String lastName, String email);
@@ -44,6 +44,13 @@ public class UserServiceImpl extends AbstractIdmService implements UserService {
         return createUserQuery(filter, sort).listPage(startValue, (size != null && size > 0) ? size : MAX_USER_SIZE);
     }
 
+    public List<User> getUsersByIds(List<String> userIds) {
+        if (userIds == null || userIds.isEmpty()) {
+            return new ArrayList<User>();
+        }
+        return identityService.createUserQuery().userIds(userIds).list();
+    }
+
     public long getUserCount(String filter, String sort, Integer start, String groupId) {
         return createUserQuery(filter, sort).count();
     }
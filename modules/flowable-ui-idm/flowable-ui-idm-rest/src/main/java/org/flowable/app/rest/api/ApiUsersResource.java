@@ -57,8 +57,16 @@ public class ApiUsersResource {
     }
 
     @RequestMapping(value = "/idm/users", method = RequestMethod.GET, produces = { "application/json" })
-    public List<UserRepresentation> findUsersByFilter(@RequestParam("filter") String filter) {
-        List<User> users = userService.getUsers(filter, null, null);
+    public List<UserRepresentation> findUsersByFilter(@RequestParam(value = "filter", required = false) String filter,
+            @RequestParam(value = "ids", required = false) List<String> ids) {
+
+        List<User> users = null;
+        if (ids != null && !ids.isEmpty()) {
+            users = userService.getUsersByIds(ids);
+        } else {
+            users = userService.getUsers(filter, null, null);
+        }
+
         List<UserRepresentation> result = new ArrayList<UserRepresentation>();
         for (User user : users) {
             result.add(new UserRepresentation(user));
@@ -13,6 +13,7 @@
 package org.flowable.app.service.api;
 
 import java.util.Collection;
+import java.util.Map;
 
 import org.flowable.idm.api.User;
 import org.springframework.security.core.GrantedAuthority;
@@ -28,6 +29,12 @@ public interface UserCache {
 
     CachedUser getUser(String userId, boolean throwExceptionOnNotFound, boolean throwExceptionOnInactive, boolean checkValidity);
 
+    /**
+     * Returns the cached users for the given ids, fetching all users that are not cached yet with one remote call.
+     * Users that cannot be found are not part of the returned map.
+     */
+    Map<String, CachedUser> getUsers(Collection<String> userIds);
+
     void putUser(String userId, CachedUser cachedUser);
 
     void invalidate(String userId);
@@ -14,6 +14,11 @@ package org.flowable.app.service.idm;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 
@@ -28,15 +33,18 @@ import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
+import com.google.common.base.Ticker;
 import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.CacheLoader;
 import com.google.common.cache.LoadingCache;
 import com.google.common.util.concurrent.UncheckedExecutionException;
 
 /**
- * Cache containing User objects to prevent too much DB-traffic (users exist separately from the Flowable tables, they need to be fetched afterward one by one to join with those entities).
+ * Cache containing User objects to prevent too much DB-traffic (users exist separately from the Flowable tables, they need to be fetched afterward to join with those entities).
  * 
- * TODO: This could probably be made more efficient with bulk getting. The Google cache impl allows this: override loadAll and use getAll() to fetch multiple entities.
+ * Use {@link #getUsers(Collection)} when rendering lists: all users missing from the cache are then fetched with one remote call.
+ * Besides the idle expiry (cache.users.max.age), an absolute time to live can be set with cache.users.ttl (in seconds),
+ * so changes made in the IDM app eventually become visible for users that are looked up continuously.
  * 
  * @author Frederik Heremans
  * @author Joram Barrez
@@ -52,26 +60,35 @@ public class UserCacheImpl implements UserCache {
 
     protected LoadingCache<String, CachedUser> userCache;
 
+    // source of the time used for the expiry of cached users
+    protected Ticker ticker = Ticker.systemTicker();
+
     @PostConstruct
     protected void initCache() {
         Long userCacheMaxSize = environment.getProperty("cache.users.max.size", Long.class);
         Long userCacheMaxAge = environment.getProperty("cache.users.max.age", Long.class);
+        Long userCacheTtl = environment.getProperty("cache.users.ttl", Long.class);
 
-        userCache = CacheBuilder.newBuilder().maximumSize(userCacheMaxSize != null ? userCacheMaxSize : 2048)
-                .expireAfterAccess(userCacheMaxAge != null ? userCacheMaxAge : (24 * 60 * 60), TimeUnit.SECONDS).recordStats().build(new CacheLoader<String, CachedUser>() {
+        CacheBuilder<Object, Object> cacheBuilder = CacheBuilder.newBuilder().maximumSize(userCacheMaxSize != null ? userCacheMaxSize : 2048)
+                .expireAfterAccess(userCacheMaxAge != null ? userCacheMaxAge : (24 * 60 * 60), TimeUnit.SECONDS).ticker(ticker).recordStats();
+        if (userCacheTtl != null && userCacheTtl > 0) {
+            cacheBuilder.expireAfterWrite(userCacheTtl, TimeUnit.SECONDS);
+        }
 
-                    public CachedUser load(final String userId) throws Exception {
-                        User user = remoteIdmService.getUser(userId);
-                        if (user == null) {
-                            throw new UsernameNotFoundException("User " + userId + " was not found in the database");
-                        }
+        userCache = cacheBuilder.build(new CacheLoader<String, CachedUser>() {
 
-                        Collection<GrantedAuthority> grantedAuthorities = new ArrayList<GrantedAuthority>();
+            public CachedUser load(final String userId) throws Exception {
+                User user = remoteIdmService.getUser(userId);
+                if (user == null) {
+                    throw new UsernameNotFoundException("User " + userId + " was not found in the database");
+                }
 
-                        return new CachedUser(user, grantedAuthorities);
-                    }
+                Collection<GrantedAuthority> grantedAuthorities = new ArrayList<GrantedAuthority>();
 
-                });
+                return new CachedUser(user, grantedAuthorities);
+            }
+
+        });
     }
 
     public void putUser(String userId, CachedUser cachedUser) {
@@ -119,6 +136,30 @@ public class UserCacheImpl implements UserCache {
         }
     }
 
+    public Map<String, CachedUser> getUsers(Collection<String> userIds) {
+        Map<String, CachedUser> result = new HashMap<String, CachedUser>();
+        if (userIds == null || userIds.isEmpty()) {
+            return result;
+        }
+
+        Set<String> distinctUserIds = new HashSet<String>(userIds);
+        result.putAll(userCache.getAllPresent(distinctUserIds));
+
+        if (result.size() < distinctUserIds.size()) {
+            Set<String> missingUserIds = new HashSet<String>(distinctUserIds);
+            missingUserIds.removeAll(result.keySet());
+
+            List<? extends User> users = remoteIdmService.getUsers(missingUserIds);
+            for (User user : users) {
+                CachedUser cachedUser = new CachedUser(user, new ArrayList<GrantedAuthority>());
+                userCache.put(user.getId(), cachedUser);
+                result.put(user.getId(), cachedUser);
+            }
+        }
+
+        return result;
+    }
+
     @Override
     public void invalidate(String userId) {
         userCache.invalidate(userId);
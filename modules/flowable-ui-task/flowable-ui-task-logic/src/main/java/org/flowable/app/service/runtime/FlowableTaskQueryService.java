@@ -43,6 +43,7 @@ import org.flowable.engine.history.HistoricProcessInstance;
 import org.flowable.engine.history.HistoricTaskInstanceQuery;
 import org.flowable.engine.impl.persistence.entity.ProcessDefinitionEntity;
 import org.flowable.engine.repository.Deployment;
+import org.flowable.engine.repository.ProcessDefinition;
 import org.flowable.engine.runtime.ProcessInstance;
 import org.flowable.engine.task.TaskInfo;
 import org.flowable.engine.task.TaskInfoQueryWrapper;
@@ -306,15 +307,31 @@ public class FlowableTaskQueryService {
     protected List<TaskRepresentation> convertTaskInfoList(List<? extends TaskInfo> tasks, Map<String, String> processInstanceNames) {
         List<TaskRepresentation> result = new ArrayList<TaskRepresentation>();
         if (CollectionUtils.isNotEmpty(tasks)) {
+
+            // Resolve the process definitions and assignees of the whole page up front, instead of one lookup per task
+            Set<String> processDefinitionIds = new HashSet<String>();
+            Set<String> assigneeIds = new HashSet<String>();
+            for (TaskInfo task : tasks) {
+                if (task.getProcessDefinitionId() != null) {
+                    processDefinitionIds.add(task.getProcessDefinitionId());
+                }
+                if (StringUtils.isNotEmpty(task.getAssignee())) {
+                    assigneeIds.add(task.getAssignee());
+                }
+            }
+
+            Map<String, ProcessDefinitionEntity> processDefinitions = getProcessDefinitions(processDefinitionIds);
+            Map<String, CachedUser> assignees = userCache.getUsers(assigneeIds);
+
             for (TaskInfo task : tasks) {
                 ProcessDefinitionEntity processDefinition = null;
                 if (task.getProcessDefinitionId() != null) {
-                    processDefinition = (ProcessDefinitionEntity) repositoryService.getProcessDefinition(task.getProcessDefinitionId());
+                    processDefinition = processDefinitions.get(task.getProcessDefinitionId());
                 }
                 TaskRepresentation representation = new TaskRepresentation(task, processDefinition, processInstanceNames.get(task.getProcessInstanceId()));
 
                 if (StringUtils.isNotEmpty(task.getAssignee())) {
-                    CachedUser cachedUser = userCache.getUser(task.getAssignee());
+                    CachedUser cachedUser = assignees.get(task.getAssignee());
                     if (cachedUser != null && cachedUser.getUser() != null) {
                         User assignee = cachedUser.getUser();
                         representation.setAssignee(new UserRepresentation(assignee));
@@ -326,4 +343,15 @@ public class FlowableTaskQueryService {
         }
         return result;
     }
+
+    protected Map<String, ProcessDefinitionEntity> getProcessDefinitions(Set<String> processDefinitionIds) {
+        Map<String, ProcessDefinitionEntity> processDefinitions = new HashMap<String, ProcessDefinitionEntity>();
+        if (CollectionUtils.isNotEmpty(processDefinitionIds)) {
+            List<ProcessDefinition> processDefinitionList = repositoryService.createProcessDefinitionQuery().processDefinitionIds(processDefinitionIds).list();
+            for (ProcessDefinition processDefinition : processDefinitionList) {
+                processDefinitions.put(processDefinition.getId(), (ProcessDefinitionEntity) processDefinition);
+            }
+        }
+        return processDefinitions;
+    }
 }
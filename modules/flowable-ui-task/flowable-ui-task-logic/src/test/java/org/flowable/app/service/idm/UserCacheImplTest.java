@@ -0,0 +1,118 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.app.service.idm;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.flowable.app.model.common.RemoteUser;
+import org.flowable.app.service.api.UserCache.CachedUser;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.core.env.Environment;
+import org.springframework.security.core.GrantedAuthority;
+
+import com.google.common.base.Ticker;
+
+public class UserCacheImplTest {
+
+    protected UserCacheImpl userCache;
+    protected RemoteIdmService remoteIdmService;
+    protected FakeTicker ticker;
+
+    @Before
+    public void setUp() {
+        Environment environment = mock(Environment.class);
+        when(environment.getProperty("cache.users.ttl", Long.class)).thenReturn(60L);
+        remoteIdmService = mock(RemoteIdmService.class);
+        ticker = new FakeTicker();
+
+        userCache = new UserCacheImpl();
+        userCache.environment = environment;
+        userCache.remoteIdmService = remoteIdmService;
+        userCache.ticker = ticker;
+        userCache.initCache();
+    }
+
+    @Test
+    public void testGetUsersFetchesMissingUsersWithOneCall() {
+        userCache.putUser("kermit", new CachedUser(createUser("kermit"), new ArrayList<GrantedAuthority>()));
+        when(remoteIdmService.getUsers(anyCollection())).thenReturn(Arrays.asList(createUser("gonzo")));
+
+        Map<String, CachedUser> users = userCache.getUsers(Arrays.asList("kermit", "gonzo", "fozzie", "gonzo"));
+        assertEquals(2, users.size());
+        assertEquals("kermit", users.get("kermit").getUser().getId());
+        assertEquals("gonzo", users.get("gonzo").getUser().getId());
+        verify(remoteIdmService, times(1)).getUsers(new HashSet<String>(Arrays.asList("gonzo", "fozzie")));
+
+        // The fetched user is cached now
+        users = userCache.getUsers(Collections.singletonList("gonzo"));
+        assertEquals("gonzo", users.get("gonzo").getUser().getId());
+        verify(remoteIdmService, times(1)).getUsers(anyCollection());
+    }
+
+    @Test
+    public void testGetUsersWithoutIds() {
+        assertTrue(userCache.getUsers(Collections.<String>emptyList()).isEmpty());
+        verify(remoteIdmService, times(0)).getUsers(anyCollection());
+    }
+
+    @Test
+    public void testCachedUserExpiresAfterTtl() {
+        when(remoteIdmService.getUsers(anyCollection())).thenReturn(Arrays.asList(createUser("kermit")));
+        userCache.getUsers(Collections.singletonList("kermit"));
+
+        // Accessing the user does not extend the time to live
+        ticker.advance(40, TimeUnit.SECONDS);
+        userCache.getUsers(Collections.singletonList("kermit"));
+        verify(remoteIdmService, times(1)).getUsers(anyCollection());
+
+        ticker.advance(30, TimeUnit.SECONDS);
+        userCache.getUsers(Collections.singletonList("kermit"));
+        verify(remoteIdmService, times(2)).getUsers(anyCollection());
+    }
+
+    protected RemoteUser createUser(String id) {
+        RemoteUser user = new RemoteUser();
+        user.setId(id);
+        return user;
+    }
+
+    protected static class FakeTicker extends Ticker {
+
+        protected AtomicLong nanos = new AtomicLong();
+
+        public void advance(long time, TimeUnit timeUnit) {
+            nanos.addAndGet(timeUnit.toNanos(time));
+        }
+
+        @Override
+        public long read() {
+            return nanos.get();
+        }
+    }
+
+}